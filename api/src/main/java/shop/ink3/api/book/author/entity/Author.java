@@ -2,22 +2,31 @@ package shop.ink3.api.book.author.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import shop.ink3.api.common.httpcache.CatalogEntityListener;
 
 @Builder
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Getter
-@Table(name = "authors")
+@EntityListeners(CatalogEntityListener.class)
+@Table(
+        name = "authors",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_author_name", columnNames = "name"),
+        }
+)
 public class Author {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import shop.ink3.api.book.author.dto.AuthorCreateRequest;
+import shop.ink3.api.book.dictionary.service.BookDictionaryService;
 import shop.ink3.api.book.author.dto.AuthorResponse;
 import shop.ink3.api.book.author.dto.AuthorUpdateRequest;
 import shop.ink3.api.book.author.entity.Author;
@@ -18,6 +19,7 @@ import shop.ink3.api.common.dto.PageResponse;
 @Service
 public class AuthorService {
     private final AuthorRepository authorRepository;
+    private final BookDictionaryService bookDictionaryService;
 
     @Transactional(readOnly = true)
     public AuthorResponse getAuthor(Long authorId) {
@@ -38,12 +40,14 @@ public class AuthorService {
 
     public AuthorResponse updateAuthor(Long authorId, AuthorUpdateRequest request) {
         Author author = authorRepository.findById(authorId).orElseThrow(() -> new AuthorNotFoundException(authorId));
+        bookDictionaryService.evictAuthor(author.getName());
         author.update(request.name());
         return AuthorResponse.from(authorRepository.save(author));
     }
 
     public void deleteAuthor(Long authorId) {
         Author author = authorRepository.findById(authorId).orElseThrow(() -> new AuthorNotFoundException(authorId));
+        bookDictionaryService.evictAuthor(author.getName());
         authorRepository.delete(author);
     }
 }
@@ -0,0 +1,31 @@
+package shop.ink3.api.book.book.controller;
+
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import shop.ink3.api.book.book.dto.BookBulkUpdateReport;
+import shop.ink3.api.book.book.enums.BookBulkFormat;
+import shop.ink3.api.book.book.service.BookBulkUpdateService;
+import shop.ink3.api.common.dto.CommonResponse;
+
+@RequestMapping("/books/admin/bulk")
+@RequiredArgsConstructor
+@RestController
+public class BookBulkController {
+    private final BookBulkUpdateService bookBulkUpdateService;
+
+    // 가격/재고/상태 일괄 수정. 본문은 CSV(text/csv) 또는 NDJSON(application/x-ndjson)을 그대로 스트리밍
+    @PatchMapping(consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<CommonResponse<BookBulkUpdateReport>> updateBooks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+        return ResponseEntity.ok(CommonResponse.update(
+                bookBulkUpdateService.update(body, BookBulkFormat.from(contentType))));
+    }
+}
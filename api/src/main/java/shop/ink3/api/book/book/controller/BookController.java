@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import shop.ink3.api.book.book.dto.AdminBookResponse;
 import shop.ink3.api.book.book.dto.BookCreateRequest;
@@ -26,6 +27,7 @@ import shop.ink3.api.book.book.enums.SortType;
 import shop.ink3.api.book.book.service.BookService;
 import shop.ink3.api.common.dto.CommonResponse;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.httpcache.CatalogHttpCache;
 import shop.ink3.api.elastic.repository.BookSearchRedisRepository;
 
 @RequestMapping("/books")
@@ -35,16 +37,20 @@ public class BookController {
     private final BookService bookService;
     private final ObjectMapper objectMapper;
     private final BookSearchRedisRepository bookSearchRedisRepository;
+    private final CatalogHttpCache catalogHttpCache;
 
     @GetMapping("/{bookId}")
-    public ResponseEntity<CommonResponse<BookDetailResponse>> getBookByIdWithParentCategory(@PathVariable Long bookId) {
-        return ResponseEntity.ok(CommonResponse.success(bookService.getBookDetail(bookId)));
+    public ResponseEntity<CommonResponse<BookDetailResponse>> getBookByIdWithParentCategory(
+            @PathVariable Long bookId, WebRequest request) {
+        return catalogHttpCache.bookDetail(request, bookId,
+                versionTag -> CommonResponse.success(bookService.getBookDetail(bookId, versionTag)));
     }
 
     // 전체 도서 목록 조회
     @GetMapping
-    public ResponseEntity<CommonResponse<PageResponse<BookPreviewResponse>>> getBooks(Pageable pageable) {
-        return ResponseEntity.ok(CommonResponse.success(bookService.getBooks(pageable)));
+    public ResponseEntity<CommonResponse<PageResponse<BookPreviewResponse>>> getBooks(
+            Pageable pageable, WebRequest request) {
+        return catalogHttpCache.bookList(request, () -> CommonResponse.success(bookService.getBooks(pageable)));
     }
 
     @GetMapping("/admin")
@@ -53,39 +59,44 @@ public class BookController {
     }
 
     @GetMapping("/bestseller")
-    public ResponseEntity<CommonResponse<PageResponse<BookPreviewResponse>>> getTop5BestsellerBooks() {
-        return ResponseEntity.ok(
-                CommonResponse.success(bookService.getBestSellerBooks(SortType.REVIEW, PageRequest.of(0, 5))));
+    public ResponseEntity<CommonResponse<PageResponse<BookPreviewResponse>>> getTop5BestsellerBooks(
+            WebRequest request) {
+        return catalogHttpCache.ranking(request, versionTag -> CommonResponse.success(
+                bookService.getBestSellerBooks(SortType.REVIEW, PageRequest.of(0, 5), versionTag)));
     }
 
     @GetMapping("/bestseller-all")
     public ResponseEntity<CommonResponse<PageResponse<BookPreviewResponse>>> getAllBestsellerBooks(
-            @RequestParam(defaultValue = "REVIEW") SortType sortType, Pageable pageable) {
-        return ResponseEntity.ok(CommonResponse.success(bookService.getBestSellerBooks(sortType, pageable)));
+            @RequestParam(defaultValue = "REVIEW") SortType sortType, Pageable pageable, WebRequest request) {
+        return catalogHttpCache.ranking(request, versionTag ->
+                CommonResponse.success(bookService.getBestSellerBooks(sortType, pageable, versionTag)));
     }
 
     @GetMapping("/new")
-    public ResponseEntity<CommonResponse<PageResponse<BookPreviewResponse>>> getTop5NewBooks() {
-        return ResponseEntity.ok(
+    public ResponseEntity<CommonResponse<PageResponse<BookPreviewResponse>>> getTop5NewBooks(WebRequest request) {
+        return catalogHttpCache.bookList(request, () ->
                 CommonResponse.success(bookService.getAllNewBooks(SortType.REVIEW, PageRequest.of(0, 5))));
     }
 
     @GetMapping("/new-all")
     public ResponseEntity<CommonResponse<PageResponse<BookPreviewResponse>>> getAllNewBooks(
-            @RequestParam(defaultValue = "REVIEW") SortType sortType, Pageable pageable) {
-        return ResponseEntity.ok(CommonResponse.success(bookService.getAllNewBooks(sortType, pageable)));
+            @RequestParam(defaultValue = "REVIEW") SortType sortType, Pageable pageable, WebRequest request) {
+        return catalogHttpCache.bookList(request, () ->
+                CommonResponse.success(bookService.getAllNewBooks(sortType, pageable)));
     }
 
     @GetMapping("/recommend")
-    public ResponseEntity<CommonResponse<PageResponse<BookPreviewResponse>>> getTop5RecommendedBooks() {
-        return ResponseEntity.ok(
+    public ResponseEntity<CommonResponse<PageResponse<BookPreviewResponse>>> getTop5RecommendedBooks(
+            WebRequest request) {
+        return catalogHttpCache.bookList(request, () ->
                 CommonResponse.success(bookService.getAllRecommendedBooks(SortType.REVIEW, PageRequest.of(0, 5))));
     }
 
     @GetMapping("/recommend-all")
     public ResponseEntity<CommonResponse<PageResponse<BookPreviewResponse>>> getAllRecommendedBooks(
-            @RequestParam(defaultValue = "REVIEW") SortType sortType, Pageable pageable) {
-        return ResponseEntity.ok(CommonResponse.success(bookService.getAllRecommendedBooks(sortType, pageable)));
+            @RequestParam(defaultValue = "REVIEW") SortType sortType, Pageable pageable, WebRequest request) {
+        return catalogHttpCache.bookList(request, () ->
+                CommonResponse.success(bookService.getAllRecommendedBooks(sortType, pageable)));
     }
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -0,0 +1,13 @@
+package shop.ink3.api.book.book.dto;
+
+import shop.ink3.api.book.book.entity.BookStatus;
+
+// 일괄 수정 검증에 필요한 현재 값만 읽기 위한 projection
+public record BookBulkTarget(
+        Long id,
+        String isbn,
+        Integer originalPrice,
+        Integer salePrice,
+        BookStatus status
+) {
+}
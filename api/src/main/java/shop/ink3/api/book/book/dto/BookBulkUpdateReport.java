@@ -0,0 +1,30 @@
+package shop.ink3.api.book.book.dto;
+
+import java.util.List;
+import shop.ink3.api.book.book.enums.BookBulkRowStatus;
+
+public record BookBulkUpdateReport(
+        int total,
+        int updated,
+        int notFound,
+        int invalid,
+        int indexFailed,
+        long elapsedMillis,
+        List<BookBulkUpdateResult> results
+) {
+    public static BookBulkUpdateReport of(List<BookBulkUpdateResult> results, int indexFailed, long elapsedMillis) {
+        return new BookBulkUpdateReport(
+                results.size(),
+                count(results, BookBulkRowStatus.UPDATED),
+                count(results, BookBulkRowStatus.NOT_FOUND),
+                count(results, BookBulkRowStatus.INVALID),
+                indexFailed,
+                elapsedMillis,
+                results
+        );
+    }
+
+    private static int count(List<BookBulkUpdateResult> results, BookBulkRowStatus status) {
+        return (int) results.stream().filter(result -> result.status() == status).count();
+    }
+}
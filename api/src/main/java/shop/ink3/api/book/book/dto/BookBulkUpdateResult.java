@@ -0,0 +1,24 @@
+package shop.ink3.api.book.book.dto;
+
+import shop.ink3.api.book.book.enums.BookBulkRowStatus;
+
+public record BookBulkUpdateResult(
+        int line,
+        Long bookId,
+        String isbn,
+        BookBulkRowStatus status,
+        String message
+) {
+    public static BookBulkUpdateResult updated(BookBulkUpdateRow row) {
+        return new BookBulkUpdateResult(row.line(), row.bookId(), row.isbn(), BookBulkRowStatus.UPDATED, null);
+    }
+
+    public static BookBulkUpdateResult notFound(BookBulkUpdateRow row) {
+        return new BookBulkUpdateResult(
+                row.line(), row.bookId(), row.isbn(), BookBulkRowStatus.NOT_FOUND, "도서를 찾을 수 없습니다.");
+    }
+
+    public static BookBulkUpdateResult invalid(BookBulkUpdateRow row, String message) {
+        return new BookBulkUpdateResult(row.line(), row.bookId(), row.isbn(), BookBulkRowStatus.INVALID, message);
+    }
+}
@@ -0,0 +1,27 @@
+package shop.ink3.api.book.book.dto;
+
+import shop.ink3.api.book.book.entity.BookStatus;
+
+// 일괄 수정 파일의 한 줄. 비어 있는 값은 변경하지 않는다. 읽는 중 오류가 나면 error에 사유를 담는다
+public record BookBulkUpdateRow(
+        int line,
+        Long bookId,
+        String isbn,
+        Integer originalPrice,
+        Integer salePrice,
+        Integer quantity,
+        BookStatus status,
+        String error
+) {
+    public static BookBulkUpdateRow invalid(int line, String error) {
+        return new BookBulkUpdateRow(line, null, null, null, null, null, null, error);
+    }
+
+    public BookBulkUpdateRow withBookId(Long bookId) {
+        return new BookBulkUpdateRow(line, bookId, isbn, originalPrice, salePrice, quantity, status, error);
+    }
+
+    public boolean hasChanges() {
+        return originalPrice != null || salePrice != null || quantity != null || status != null;
+    }
+}
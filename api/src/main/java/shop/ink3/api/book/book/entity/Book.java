@@ -2,6 +2,7 @@ package shop.ink3.api.book.book.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -10,24 +11,37 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import shop.ink3.api.book.publisher.entity.Publisher;
+import shop.ink3.api.common.httpcache.CatalogEntityListener;
 
 @Builder
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Getter
+@EntityListeners(CatalogEntityListener.class)
 @Table(name = "books")
 public class Book {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "books_seq")
+    @SequenceGenerator(name = "books_seq", sequenceName = "books_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 20)
@@ -77,7 +91,58 @@ public class Book {
     @Column(nullable = false, length = 20)
     private BookStatus status;
 
+    // 검색 색인 증분 동기화 기준 시각
+    private LocalDateTime updatedAt;
+
+    // 목록/랭킹 ETag에 반영되는 필드의 마지막 flush 시점 값. 재고/좋아요/리뷰 수만 바뀐 갱신을 가려낸다
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private List<Object> catalogSnapshot;
+
+    @PrePersist
+    public void touchUpdatedAt() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 재고/좋아요 수만 바뀐 flush는 증분 재색인 대상으로 만들지 않는다 (평점/리뷰 수는 ReviewService가 색인에 직접 반영)
+    @PreUpdate
+    void touchUpdatedAtIfCatalogChanged() {
+        if (isCatalogChanged()) {
+            touchUpdatedAt();
+        }
+    }
+
+    // 엔티티 리스너의 @PostUpdate가 먼저 불린 뒤에 다시 찍는다
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    public void snapshotCatalogFields() {
+        this.catalogSnapshot = catalogFields();
+    }
+
+    // 카테고리/저자/태그 연결처럼 엔티티 필드 밖의 변경도 목록 버전에 반영되게 한다
+    public void markCatalogChanged() {
+        this.updatedAt = LocalDateTime.now();
+        this.catalogSnapshot = null;
+    }
+
+    public boolean isCatalogChanged() {
+        return catalogSnapshot == null || !catalogSnapshot.equals(catalogFields());
+    }
+
+    private List<Object> catalogFields() {
+        return Arrays.asList(
+                isbn, title, contents, description, publisher == null ? null : publisher.getId(),
+                publishedAt, originalPrice, salePrice, isPackable, thumbnailUrl, status
+        );
+    }
+
     public int getDiscountRate() {
+        return discountRate(originalPrice, salePrice);
+    }
+
+    // 검색 결과처럼 엔티티 없이 가격만 있는 곳도 같은 할인율을 쓰도록 공개한다
+    public static int discountRate(int originalPrice, int salePrice) {
         if (originalPrice <= 0 || salePrice >= originalPrice) {
             return 0;
         }
@@ -0,0 +1,25 @@
+package shop.ink3.api.book.book.enums;
+
+import org.springframework.http.MediaType;
+import shop.ink3.api.book.book.exception.InvalidBulkFileException;
+
+public enum BookBulkFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    BookBulkFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static BookBulkFormat from(String contentType) {
+        MediaType type = MediaType.parseMediaType(contentType);
+        for (BookBulkFormat format : values()) {
+            if (MediaType.parseMediaType(format.mediaType).includes(type)) {
+                return format;
+            }
+        }
+        throw new InvalidBulkFileException("지원하지 않는 형식입니다: " + contentType);
+    }
+}
@@ -0,0 +1,7 @@
+package shop.ink3.api.book.book.enums;
+
+public enum BookBulkRowStatus {
+    UPDATED,
+    NOT_FOUND,
+    INVALID
+}
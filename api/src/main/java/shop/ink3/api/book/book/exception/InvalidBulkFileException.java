@@ -0,0 +1,9 @@
+package shop.ink3.api.book.book.exception;
+
+import shop.ink3.api.common.exception.BadRequestException;
+
+public class InvalidBulkFileException extends BadRequestException {
+    public InvalidBulkFileException(String message) {
+        super(message);
+    }
+}
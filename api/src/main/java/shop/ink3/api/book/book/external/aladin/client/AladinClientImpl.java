@@ -1,33 +1,39 @@
 package shop.ink3.api.book.book.external.aladin.client;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.ArrayList;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import shop.ink3.api.book.book.exception.AladinBookNotFoundException;
 import shop.ink3.api.book.book.exception.AladinParsingException;
 import shop.ink3.api.book.book.external.aladin.dto.AladinBookResponse;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.resilience.Bulkhead;
+import shop.ink3.api.common.resilience.BulkheadFullException;
 
 @Component
-@RequiredArgsConstructor
 public class AladinClientImpl implements AladinClient {
 
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final AladinResponseParser responseParser;
+    private final Bulkhead aladinBulkhead;
     @Value("${aladin.ttb-key}")
     private String ttbKey;
     private static final String LOOKUP_URL = "https://www.aladin.co.kr/ttb/api/ItemLookUp.aspx";
     private static final String SEARCH_URL = "https://www.aladin.co.kr/ttb/api/ItemSearch.aspx";
 
+    public AladinClientImpl(RestTemplate restTemplate, ObjectMapper objectMapper, Bulkhead aladinBulkhead) {
+        this.restTemplate = restTemplate;
+        this.responseParser = new AladinResponseParser(objectMapper.getFactory());
+        this.aladinBulkhead = aladinBulkhead;
+    }
+
     @Override
     public AladinBookResponse fetchBookByIsbn(String isbn13) {
         String url = LOOKUP_URL +
@@ -38,34 +44,11 @@ public class AladinClientImpl implements AladinClient {
                 "&Version=20131101" +
                 "&OptResult=toc,fulldescription";
 
-        String response = restTemplate.getForObject(url, String.class);
-
-        try {
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode items = root.path("item");
-
-            if (!items.isArray() || items.size() == 0) {
-                throw new AladinBookNotFoundException(isbn13);
-            }
-
-            JsonNode item = items.get(0);
-
-            return new AladinBookResponse(
-                    item.path("title").asText(),
-                    item.path("description").asText(),
-                    item.path("author").asText(),
-                    item.path("publisher").asText(),
-                    item.path("pubDate").asText(),
-                    item.path("isbn13").asText(),
-                    item.path("priceStandard").asInt(),
-                    item.path("cover").asText(),
-                    item.path("categoryName").asText()
-            );
-        } catch (AladinBookNotFoundException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new AladinParsingException(e);
+        List<AladinBookResponse> items = fetch(url).items();
+        if (items.isEmpty()) {
+            throw new AladinBookNotFoundException(isbn13);
         }
+        return items.getFirst();
     }
 
     @Override
@@ -84,32 +67,35 @@ public class AladinClientImpl implements AladinClient {
                 "&output=JS" +
                 "&Version=20131101";
 
-        String response = restTemplate.getForObject(url, String.class);
+        AladinResponseParser.Result result = fetch(url);
+        List<AladinBookResponse> books = result.items().stream()
+                .map(item -> new AladinBookResponse(
+                        item.title(),
+                        item.description(),
+                        item.author(),
+                        item.publisher(),
+                        item.pubDate(),
+                        item.isbn13(),
+                        item.priceStandard(),
+                        item.cover().replace("coversum", "cover500"),
+                        item.categoryName()
+                ))
+                .toList();
+
+        // 알라딘 api에서 가져오는 도서는 200개 제한
+        int total = Math.min(result.totalResults() >= 0 ? result.totalResults() : 200, 200);
+        Page<AladinBookResponse> page = new PageImpl<>(books, PageRequest.of(pageNumber, pageSize), total);
+
+        return PageResponse.from(page);
+    }
 
+    // 응답 본문을 문자열로 모으지 않고 스트림에서 바로 파싱
+    private AladinResponseParser.Result fetch(String url) {
         try {
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode items = root.path("item");
-
-            List<AladinBookResponse> books = new ArrayList<>();
-            for (JsonNode item : items) {
-                books.add(new AladinBookResponse(
-                        item.path("title").asText(),
-                        item.path("description").asText(),
-                        item.path("author").asText(),
-                        item.path("publisher").asText(),
-                        item.path("pubDate").asText(),
-                        item.path("isbn13").asText(),
-                        item.path("priceStandard").asInt(),
-                        item.path("cover").asText().replace("coversum", "cover500"),
-                        item.path("categoryName").asText()
-                ));
-            }
-            // 알라딘 api에서 가져오는 도서는 200개 제한
-            int total = Math.min(root.path("totalResults").asInt(200), 200);
-            Page<AladinBookResponse> page = new PageImpl<>(books, PageRequest.of(pageNumber, pageSize), total);
-
-            return PageResponse.from(page);
-
+            return aladinBulkhead.execute(() -> restTemplate.execute(url, HttpMethod.GET, null,
+                    response -> responseParser.parse(response.getBody())));
+        } catch (BulkheadFullException e) {
+            throw e;
         } catch (Exception e) {
             throw new AladinParsingException(e);
         }
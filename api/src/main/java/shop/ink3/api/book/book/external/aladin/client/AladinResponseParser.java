@@ -0,0 +1,83 @@
+package shop.ink3.api.book.book.external.aladin.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import shop.ink3.api.book.book.external.aladin.dto.AladinBookResponse;
+
+/**
+ * 알라딘 응답을 JsonNode 트리로 만들지 않고 스트리밍으로 읽는다.
+ * item 배열에서 필요한 필드만 꺼내고 나머지(목차, 전체 설명의 하위 객체 등)는 건너뛴다.
+ */
+public class AladinResponseParser {
+    private final JsonFactory jsonFactory;
+
+    public AladinResponseParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    public record Result(List<AladinBookResponse> items, int totalResults) {
+    }
+
+    public Result parse(InputStream in) throws IOException {
+        List<AladinBookResponse> items = new ArrayList<>();
+        int totalResults = -1;
+
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Unexpected Aladin response");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("item".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        items.add(readItem(parser));
+                    }
+                } else if ("totalResults".equals(field)) {
+                    totalResults = parser.getValueAsInt(-1);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return new Result(items, totalResults);
+    }
+
+    private AladinBookResponse readItem(JsonParser parser) throws IOException {
+        String title = "";
+        String description = "";
+        String author = "";
+        String publisher = "";
+        String pubDate = "";
+        String isbn13 = "";
+        int priceStandard = 0;
+        String cover = "";
+        String categoryName = "";
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "title" -> title = parser.getValueAsString("");
+                case "description" -> description = parser.getValueAsString("");
+                case "author" -> author = parser.getValueAsString("");
+                case "publisher" -> publisher = parser.getValueAsString("");
+                case "pubDate" -> pubDate = parser.getValueAsString("");
+                case "isbn13" -> isbn13 = parser.getValueAsString("");
+                case "priceStandard" -> priceStandard = parser.getValueAsInt(0);
+                case "cover" -> cover = parser.getValueAsString("");
+                case "categoryName" -> categoryName = parser.getValueAsString("");
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new AladinBookResponse(
+                title, description, author, publisher, pubDate, isbn13, priceStandard, cover, categoryName
+        );
+    }
+}
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -14,6 +15,9 @@ import shop.ink3.api.book.book.dto.BookDetailResponse;
 import shop.ink3.api.book.book.dto.BookRegisterRequest;
 import shop.ink3.api.book.book.external.aladin.client.AladinClient;
 import shop.ink3.api.book.book.external.aladin.dto.AladinBookResponse;
+import shop.ink3.api.book.book.external.aladin.dto.AladinBulkImportRequest;
+import shop.ink3.api.book.book.external.aladin.dto.AladinImportProgress;
+import shop.ink3.api.book.book.external.aladin.service.AladinBulkImportService;
 import shop.ink3.api.book.book.service.BookService;
 import shop.ink3.api.common.dto.CommonResponse;
 import shop.ink3.api.common.dto.PageResponse;
@@ -25,6 +29,7 @@ public class AladinController {
 
     private final BookService bookService;
     private final AladinClient aladinClient;
+    private final AladinBulkImportService aladinBulkImportService;
 
     // Keyword로 알라딘 API의 도서 리스트 조회, /aladin?keyword=도서
     @GetMapping
@@ -39,4 +44,16 @@ public class AladinController {
             @RequestBody @Valid BookRegisterRequest request) {
         return ResponseEntity.ok(CommonResponse.success(bookService.registerBookByAladin(request)));
     }
+
+    // ISBN 목록으로 알라딘 도서를 일괄 등록, 작업은 백그라운드로 진행되고 진행 상황을 즉시 반환
+    @PostMapping("/bulk-import")
+    public ResponseEntity<CommonResponse<AladinImportProgress>> startBulkImport(
+            @RequestBody @Valid AladinBulkImportRequest request) {
+        return ResponseEntity.accepted().body(CommonResponse.success(aladinBulkImportService.startImport(request)));
+    }
+
+    @GetMapping("/bulk-import/{jobId}")
+    public ResponseEntity<CommonResponse<AladinImportProgress>> getBulkImportProgress(@PathVariable String jobId) {
+        return ResponseEntity.ok(CommonResponse.success(aladinBulkImportService.getProgress(jobId)));
+    }
 }
@@ -0,0 +1,19 @@
+package shop.ink3.api.book.book.external.aladin.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.List;
+import shop.ink3.api.book.book.entity.BookStatus;
+
+// 알라딘에서 조회한 정보 외에 일괄 등록되는 모든 도서에 공통으로 적용할 값
+public record AladinBulkImportRequest(
+        @NotEmpty List<String> isbns,
+        @NotNull @PositiveOrZero Integer quantity,
+        @NotNull BookStatus status,
+        @NotNull @PositiveOrZero @Max(100) Integer discountRate,
+        Boolean isPackable,
+        List<String> tags
+) {
+}
@@ -0,0 +1,16 @@
+package shop.ink3.api.book.book.external.aladin.dto;
+
+public record AladinImportProgress(
+        String jobId,
+        int total,
+        int fetched,
+        int cacheHits,
+        int notFound,
+        int registered,
+        int skipped,
+        int failed,
+        long elapsedMillis,
+        double booksPerSecond,
+        boolean done
+) {
+}
@@ -0,0 +1,146 @@
+package shop.ink3.api.book.book.external.aladin.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shop.ink3.api.book.book.dto.BookAuthorDto;
+import shop.ink3.api.book.book.dto.BookDetailResponse;
+import shop.ink3.api.book.book.entity.Book;
+import shop.ink3.api.book.book.external.aladin.dto.AladinBookResponse;
+import shop.ink3.api.book.book.external.aladin.dto.AladinBulkImportRequest;
+import shop.ink3.api.book.book.repository.BookAssociationJdbcRepository;
+import shop.ink3.api.book.book.repository.BookAssociationJdbcRepository.BookAuthorLink;
+import shop.ink3.api.book.book.repository.BookAssociationJdbcRepository.BookLink;
+import shop.ink3.api.book.book.repository.BookRepository;
+import shop.ink3.api.book.book.service.BookService;
+import shop.ink3.api.book.category.dto.CategoryFlatDto;
+import shop.ink3.api.book.category.service.CategoryService;
+import shop.ink3.api.book.dictionary.service.BookDictionaryService;
+import shop.ink3.api.book.publisher.entity.Publisher;
+import shop.ink3.api.elastic.model.BookDocument;
+
+/**
+ * 알라딘에서 조회한 도서 묶음을 한 트랜잭션으로 등록한다.
+ * 출판사/저자/태그는 묶음 전체의 이름을 사전 서비스로 한 번에 id로 바꾸고, 연결 행은 JDBC 배치로 넣는다.
+ */
+@Transactional
+@RequiredArgsConstructor
+@Service
+public class AladinBookBatchRegistrar {
+    private final BookRepository bookRepository;
+    private final BookAssociationJdbcRepository bookAssociationJdbcRepository;
+    private final BookDictionaryService bookDictionaryService;
+    private final CategoryService categoryService;
+    private final BookService bookService;
+
+    public record Result(List<BookDocument> documents, int skipped, int invalid) {
+    }
+
+    public Result registerBatch(List<AladinBookResponse> items, AladinBulkImportRequest request) {
+        // 같은 묶음 안의 중복과 이미 등록된 ISBN 제외
+        Map<String, AladinBookResponse> byIsbn = new LinkedHashMap<>();
+        items.forEach(item -> byIsbn.putIfAbsent(item.isbn13(), item));
+        Set<String> existing = new HashSet<>(bookRepository.findIsbnsByIsbnIn(byIsbn.keySet()));
+        int skipped = items.size() - byIsbn.size() + existing.size();
+        existing.forEach(byIsbn::remove);
+
+        List<AladinBookResponse> valid = byIsbn.values().stream().filter(this::isValid).toList();
+        int invalid = byIsbn.size() - valid.size();
+        if (valid.isEmpty()) {
+            return new Result(List.of(), skipped, invalid);
+        }
+
+        List<String> tagNames = request.tags() != null ? request.tags().stream().distinct().toList() : List.of();
+        Map<String, Long> publisherIds = bookDictionaryService.resolvePublisherIds(
+                valid.stream().map(AladinBookResponse::publisher).collect(Collectors.toSet()));
+        Map<AladinBookResponse, List<BookAuthorDto>> authorsByItem = valid.stream()
+                .collect(Collectors.toMap(Function.identity(), item -> bookService.parseAuthors(item.author())));
+        Map<String, Long> authorIds = bookDictionaryService.resolveAuthorIds(authorsByItem.values().stream()
+                .flatMap(List::stream)
+                .map(BookAuthorDto::name)
+                .collect(Collectors.toSet()));
+        List<Long> tagIds = tagNames.isEmpty()
+                ? List.of()
+                : List.copyOf(bookDictionaryService.resolveTagIds(tagNames).values());
+        Map<String, List<List<CategoryFlatDto>>> categoriesByPath = new HashMap<>();
+
+        List<Book> books = bookRepository.saveAll(valid.stream()
+                .map(item -> toBook(item, publisherIds.get(item.publisher()), request))
+                .toList());
+
+        List<BookAuthorLink> bookAuthors = new ArrayList<>();
+        List<BookLink> bookCategories = new ArrayList<>();
+        List<BookLink> bookTags = new ArrayList<>();
+        List<BookDocument> documents = new ArrayList<>();
+        for (int i = 0; i < books.size(); i++) {
+            Book book = books.get(i);
+            AladinBookResponse item = valid.get(i);
+
+            List<BookAuthorDto> bookAuthorDtos = authorsByItem.get(item);
+            bookAuthorDtos.forEach(dto ->
+                    bookAuthors.add(new BookAuthorLink(book.getId(), authorIds.get(dto.name()), dto.role())));
+
+            List<List<CategoryFlatDto>> categories = categoriesByPath.computeIfAbsent(
+                    item.categoryName(), categoryService::createCategoryHierarchy);
+            categories.stream()
+                    .map(List::getLast)
+                    .filter(category -> category.depth() >= 1)
+                    .forEach(category -> bookCategories.add(new BookLink(book.getId(), category.id())));
+
+            tagIds.forEach(tagId -> bookTags.add(new BookLink(book.getId(), tagId)));
+
+            BookDetailResponse response = BookDetailResponse.from(
+                    book, book.getThumbnailUrl(), categories, bookAuthorDtos, tagNames);
+            documents.add(new BookDocument(response, book.getThumbnailUrl()));
+        }
+
+        bookAssociationJdbcRepository.insertBookAuthors(bookAuthors);
+        bookAssociationJdbcRepository.insertBookCategories(bookCategories);
+        bookAssociationJdbcRepository.insertBookTags(bookTags);
+        return new Result(documents, skipped, invalid);
+    }
+
+    private boolean isValid(AladinBookResponse item) {
+        if (item.isbn13() == null || item.isbn13().isBlank() || item.categoryName() == null) {
+            return false;
+        }
+        try {
+            LocalDate.parse(item.pubDate());
+            return true;
+        } catch (DateTimeParseException | NullPointerException e) {
+            return false;
+        }
+    }
+
+    private Book toBook(AladinBookResponse item, Long publisherId, AladinBulkImportRequest request) {
+        int salePrice = item.priceStandard() - item.priceStandard() * request.discountRate() / 100;
+        return Book.builder()
+                .isbn(item.isbn13())
+                .title(item.title())
+                .contents("")
+                .description(item.description())
+                .publisher(Publisher.builder().id(publisherId).name(item.publisher()).build())
+                .publishedAt(LocalDate.parse(item.pubDate()))
+                .originalPrice(item.priceStandard())
+                .salePrice(salePrice)
+                .quantity(request.quantity())
+                .isPackable(Boolean.TRUE.equals(request.isPackable()))
+                .totalRating(0L)
+                .reviewCount(0L)
+                .likeCount(0L)
+                .thumbnailUrl(item.cover())
+                .status(request.status())
+                .build();
+    }
+}
@@ -0,0 +1,189 @@
+package shop.ink3.api.book.book.external.aladin.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import shop.ink3.api.book.book.exception.AladinBookNotFoundException;
+import shop.ink3.api.book.book.external.aladin.client.AladinClient;
+import shop.ink3.api.book.book.external.aladin.dto.AladinBookResponse;
+import shop.ink3.api.book.book.external.aladin.dto.AladinBulkImportRequest;
+import shop.ink3.api.book.book.external.aladin.dto.AladinImportProgress;
+import shop.ink3.api.book.book.repository.BookRepository;
+import shop.ink3.api.common.cache.LruCache;
+import shop.ink3.api.common.exception.NotFoundException;
+import shop.ink3.api.common.resilience.RateLimiter;
+import shop.ink3.api.elastic.service.BookSearchService;
+
+/**
+ * ISBN 목록을 받아 알라딘 조회 -> 묶음 등록 -> 묶음 색인을 백그라운드로 수행한다.
+ *
+ * <p>조회는 가상 스레드로 펼치되 동시 호출 수(Semaphore)와 초당 호출 수(RateLimiter)를 제한한다.
+ * 조회된 도서는 큐에 모였다가 batch-size 단위로 등록되므로, 등록 중에도 다음 도서의 조회가 계속된다.
+ * 조회 결과는 ISBN 기준으로 캐시해 같은 ISBN을 다시 가져올 때 알라딘을 호출하지 않는다.
+ * 없는 ISBN은 나중에 알라딘에 등록될 수 있으므로 짧은 시간만 기억한다.
+ */
+@Slf4j
+@Service
+public class AladinBulkImportService {
+    private static final int MAX_CACHED_ISBNS = 20_000;
+    private static final int MAX_TRACKED_JOBS = 100;
+    private static final int EXISTING_CHECK_CHUNK = 1_000;
+    private static final Duration NOT_FOUND_TTL = Duration.ofMinutes(10);
+
+    private final AladinClient aladinClient;
+    private final AladinBookBatchRegistrar registrar;
+    private final BookRepository bookRepository;
+    private final BookSearchService bookSearchService;
+
+    private final LruCache<String, CachedLookup> isbnCache = new LruCache<>(MAX_CACHED_ISBNS);
+    private final LruCache<String, AladinImportJob> jobs = new LruCache<>(MAX_TRACKED_JOBS);
+    private final Semaphore lookupPermits;
+    private final RateLimiter rateLimiter;
+    private final int batchSize;
+
+    public AladinBulkImportService(
+            AladinClient aladinClient,
+            AladinBookBatchRegistrar registrar,
+            BookRepository bookRepository,
+            BookSearchService bookSearchService,
+            @Value("${aladin.import.concurrency:16}") int concurrency,
+            @Value("${aladin.import.requests-per-second:10}") double requestsPerSecond,
+            @Value("${aladin.import.batch-size:100}") int batchSize
+    ) {
+        this.aladinClient = aladinClient;
+        this.registrar = registrar;
+        this.bookRepository = bookRepository;
+        this.bookSearchService = bookSearchService;
+        this.lookupPermits = new Semaphore(concurrency);
+        this.rateLimiter = new RateLimiter(requestsPerSecond);
+        this.batchSize = batchSize;
+    }
+
+    public AladinImportProgress startImport(AladinBulkImportRequest request) {
+        Set<String> isbns = new LinkedHashSet<>();
+        request.isbns().stream().map(String::strip).filter(isbn -> !isbn.isEmpty()).forEach(isbns::add);
+
+        AladinImportJob job = new AladinImportJob(UUID.randomUUID().toString(), isbns.size());
+        jobs.put(job.getId(), job);
+        Thread.ofVirtual().name("aladin-import-" + job.getId()).start(() -> run(job, List.copyOf(isbns), request));
+        return job.toProgress();
+    }
+
+    public AladinImportProgress getProgress(String jobId) {
+        AladinImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new NotFoundException("Aladin import job not found. ID: %s".formatted(jobId));
+        }
+        return job.toProgress();
+    }
+
+    void run(AladinImportJob job, List<String> isbns, AladinBulkImportRequest request) {
+        try {
+            List<String> pending = excludeRegistered(job, isbns);
+            BlockingQueue<AladinBookResponse> found = new LinkedBlockingQueue<>();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                CompletableFuture<Void> lookups = CompletableFuture.allOf(pending.stream()
+                        .map(isbn -> CompletableFuture.runAsync(() -> lookup(job, isbn).ifPresent(found::add), executor))
+                        .toArray(CompletableFuture[]::new));
+
+                List<AladinBookResponse> batch = new ArrayList<>(batchSize);
+                while (!lookups.isDone() || !found.isEmpty()) {
+                    AladinBookResponse item = found.poll(200, TimeUnit.MILLISECONDS);
+                    if (item != null) {
+                        batch.add(item);
+                    }
+                    if (batch.size() >= batchSize) {
+                        register(job, batch, request);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    register(job, batch, request);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("[ALADIN-IMPORT] job {} aborted", job.getId(), e);
+        } finally {
+            job.finish();
+            log.info("[ALADIN-IMPORT] {}", job.toProgress());
+        }
+    }
+
+    private List<String> excludeRegistered(AladinImportJob job, List<String> isbns) {
+        Set<String> registered = new LinkedHashSet<>();
+        for (int from = 0; from < isbns.size(); from += EXISTING_CHECK_CHUNK) {
+            List<String> chunk = isbns.subList(from, Math.min(from + EXISTING_CHECK_CHUNK, isbns.size()));
+            registered.addAll(bookRepository.findIsbnsByIsbnIn(chunk));
+        }
+        job.skipped.addAndGet(registered.size());
+        return isbns.stream().filter(isbn -> !registered.contains(isbn)).toList();
+    }
+
+    private Optional<AladinBookResponse> lookup(AladinImportJob job, String isbn) {
+        CachedLookup cached = isbnCache.get(isbn);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            job.cacheHits.incrementAndGet();
+            if (cached.result().isEmpty()) {
+                job.notFound.incrementAndGet();
+            }
+            return cached.result();
+        }
+
+        lookupPermits.acquireUninterruptibly();
+        try {
+            rateLimiter.acquire();
+            AladinBookResponse response = aladinClient.fetchBookByIsbn(isbn);
+            isbnCache.put(isbn, new CachedLookup(Optional.of(response), Long.MAX_VALUE));
+            job.fetched.incrementAndGet();
+            return Optional.of(response);
+        } catch (AladinBookNotFoundException e) {
+            long expiresAt = System.currentTimeMillis() + NOT_FOUND_TTL.toMillis();
+            isbnCache.put(isbn, new CachedLookup(Optional.empty(), expiresAt));
+            job.notFound.incrementAndGet();
+        } catch (RuntimeException e) {
+            job.failed.incrementAndGet();
+            log.warn("[ALADIN-IMPORT] lookup failed. isbn={}: {}", isbn, e.getMessage());
+        } finally {
+            lookupPermits.release();
+        }
+        return Optional.empty();
+    }
+
+    private void register(AladinImportJob job, List<AladinBookResponse> batch, AladinBulkImportRequest request) {
+        try {
+            AladinBookBatchRegistrar.Result result = registrar.registerBatch(batch, request);
+            job.registered.addAndGet(result.documents().size());
+            job.skipped.addAndGet(result.skipped());
+            job.failed.addAndGet(result.invalid());
+
+            // 색인 실패는 DB 등록을 되돌리지 않고 재색인으로 복구
+            int indexFailed = bookSearchService.indexBooks(result.documents());
+            if (indexFailed > 0) {
+                log.warn("[ALADIN-IMPORT] {} documents failed to index", indexFailed);
+            }
+        } catch (RuntimeException e) {
+            job.failed.addAndGet(batch.size());
+            log.warn("[ALADIN-IMPORT] batch of {} failed: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private record CachedLookup(Optional<AladinBookResponse> result, long expiresAt) {
+    }
+}
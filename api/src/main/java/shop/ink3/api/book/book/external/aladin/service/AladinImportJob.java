@@ -0,0 +1,53 @@
+package shop.ink3.api.book.book.external.aladin.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import shop.ink3.api.book.book.external.aladin.dto.AladinImportProgress;
+
+/**
+ * 일괄 등록 작업 하나의 진행 상황. 조회/등록 스레드가 동시에 갱신하므로 카운터는 모두 원자적으로 다룬다.
+ */
+class AladinImportJob {
+    @Getter
+    private final String id;
+    private final int total;
+    private final long startedAt = System.nanoTime();
+
+    final AtomicInteger fetched = new AtomicInteger();
+    final AtomicInteger cacheHits = new AtomicInteger();
+    final AtomicInteger notFound = new AtomicInteger();
+    final AtomicInteger registered = new AtomicInteger();
+    final AtomicInteger skipped = new AtomicInteger();
+    final AtomicInteger failed = new AtomicInteger();
+
+    private volatile long finishedAt = -1;
+
+    AladinImportJob(String id, int total) {
+        this.id = id;
+        this.total = total;
+    }
+
+    void finish() {
+        finishedAt = System.nanoTime();
+    }
+
+    AladinImportProgress toProgress() {
+        boolean done = finishedAt >= 0;
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis((done ? finishedAt : System.nanoTime()) - startedAt);
+        double booksPerSecond = elapsedMillis == 0 ? 0 : registered.get() * 1000.0 / elapsedMillis;
+        return new AladinImportProgress(
+                id,
+                total,
+                fetched.get(),
+                cacheHits.get(),
+                notFound.get(),
+                registered.get(),
+                skipped.get(),
+                failed.get(),
+                elapsedMillis,
+                booksPerSecond,
+                done
+        );
+    }
+}
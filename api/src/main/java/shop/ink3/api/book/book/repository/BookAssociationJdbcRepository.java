@@ -0,0 +1,50 @@
+package shop.ink3.api.book.book.repository;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 도서-카테고리/저자/태그 연결 행을 JDBC 배치로 넣는다.
+ * 연결 엔티티는 IDENTITY 전략이라 JPA saveAll로는 행마다 INSERT가 따로 나가기 때문에 따로 둔다.
+ * 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 지운 연결이 있다면 먼저 flush해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookAssociationJdbcRepository {
+    private static final String INSERT_BOOK_CATEGORY = "INSERT INTO book_categories (book_id, category_id) VALUES (?, ?)";
+    private static final String INSERT_BOOK_TAG = "INSERT INTO book_tags (book_id, tag_id) VALUES (?, ?)";
+    private static final String INSERT_BOOK_AUTHOR = "INSERT INTO book_authors (book_id, author_id, role) VALUES (?, ?, ?)";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record BookLink(long bookId, long targetId) {
+    }
+
+    public record BookAuthorLink(long bookId, long authorId, String role) {
+    }
+
+    public void insertBookCategories(List<BookLink> links) {
+        jdbcTemplate.batchUpdate(INSERT_BOOK_CATEGORY, links, BATCH_SIZE, (ps, link) -> {
+            ps.setLong(1, link.bookId());
+            ps.setLong(2, link.targetId());
+        });
+    }
+
+    public void insertBookTags(List<BookLink> links) {
+        jdbcTemplate.batchUpdate(INSERT_BOOK_TAG, links, BATCH_SIZE, (ps, link) -> {
+            ps.setLong(1, link.bookId());
+            ps.setLong(2, link.targetId());
+        });
+    }
+
+    public void insertBookAuthors(List<BookAuthorLink> links) {
+        jdbcTemplate.batchUpdate(INSERT_BOOK_AUTHOR, links, BATCH_SIZE, (ps, link) -> {
+            ps.setLong(1, link.bookId());
+            ps.setLong(2, link.authorId());
+            ps.setString(3, link.role());
+        });
+    }
+}
@@ -0,0 +1,59 @@
+package shop.ink3.api.book.book.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import shop.ink3.api.book.book.dto.BookBulkUpdateRow;
+
+/**
+ * 가격/재고/상태 일괄 수정. 한 문장을 JDBC 배치로 보내며, 비어 있는 값은 COALESCE로 기존 값을 유지한다.
+ * updated_at도 함께 갱신해 증분 재색인 대상에 포함되게 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookBulkUpdateJdbcRepository {
+    private static final String UPDATE_BOOK = """
+            UPDATE books
+               SET original_price = COALESCE(?, original_price),
+                   sale_price = COALESCE(?, sale_price),
+                   quantity = COALESCE(?, quantity),
+                   status = COALESCE(?, status),
+                   updated_at = ?
+             WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void updateAll(List<BookBulkUpdateRow> rows, LocalDateTime updatedAt) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        jdbcTemplate.batchUpdate(UPDATE_BOOK, rows, rows.size(), (ps, row) -> {
+            setInteger(ps, 1, row.originalPrice());
+            setInteger(ps, 2, row.salePrice());
+            setInteger(ps, 3, row.quantity());
+            if (row.status() != null) {
+                ps.setString(4, row.status().name());
+            } else {
+                ps.setNull(4, Types.VARCHAR);
+            }
+            ps.setTimestamp(5, timestamp);
+            ps.setLong(6, row.bookId());
+        });
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+}
@@ -1,15 +1,57 @@
 package shop.ink3.api.book.book.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import shop.ink3.api.book.book.dto.BookBulkTarget;
 import shop.ink3.api.book.book.entity.Book;
+import shop.ink3.api.elastic.model.BookOverlay;
 
 public interface BookRepository extends JpaRepository<Book, Long>, BookQuerydslRepository {
 
     boolean existsByIsbn(String isbn);
 
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    List<String> findIsbnsByIsbnIn(@Param("isbns") Collection<String> isbns);
+
+    @Query("SELECT new shop.ink3.api.book.book.dto.BookBulkTarget(b.id, b.isbn, b.originalPrice, b.salePrice, b.status)"
+            + " FROM Book b WHERE b.id IN :ids")
+    List<BookBulkTarget> findBulkTargetsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new shop.ink3.api.book.book.dto.BookBulkTarget(b.id, b.isbn, b.originalPrice, b.salePrice, b.status)"
+            + " FROM Book b WHERE b.isbn IN :isbns")
+    List<BookBulkTarget> findBulkTargetsByIsbnIn(@Param("isbns") Collection<String> isbns);
+
+    @Query("""
+                SELECT new shop.ink3.api.elastic.model.BookOverlay(
+                    b.id, b.originalPrice, b.salePrice, b.status, b.likeCount
+                )
+                FROM Book b
+                WHERE b.id IN :ids
+            """)
+    List<BookOverlay> findOverlaysByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT b FROM Book b JOIN FETCH b.publisher WHERE b.id > :lastId ORDER BY b.id")
+    List<Book> findChunkAfter(@Param("lastId") long lastId, Pageable pageable);
+
+    @Query("""
+                SELECT b
+                FROM Book b
+                JOIN FETCH b.publisher
+                WHERE b.updatedAt > :since AND b.id > :lastId
+                ORDER BY b.id
+            """)
+    List<Book> findChangedChunkAfter(
+            @Param("since") LocalDateTime since,
+            @Param("lastId") long lastId,
+            Pageable pageable
+    );
+
     @Query("""
                 SELECT b
                 FROM Book b
@@ -0,0 +1,156 @@
+package shop.ink3.api.book.book.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import shop.ink3.api.book.book.dto.BookBulkUpdateRow;
+import shop.ink3.api.book.book.entity.BookStatus;
+import shop.ink3.api.book.book.enums.BookBulkFormat;
+import shop.ink3.api.book.book.exception.InvalidBulkFileException;
+
+/**
+ * 일괄 수정 파일을 한 줄씩 읽어 chunk 단위로 돌려준다. 파일 전체를 메모리에 올리지 않는다.
+ *
+ * <p>CSV는 첫 줄이 헤더(bookId,isbn,originalPrice,salePrice,quantity,status 중 필요한 것)이고,
+ * NDJSON은 한 줄에 같은 이름의 필드를 가진 JSON 객체 하나다.
+ */
+public class BookBulkUpdateReader implements Closeable {
+    private static final List<String> COLUMNS =
+            List.of("bookid", "isbn", "originalprice", "saleprice", "quantity", "status");
+
+    private final BufferedReader reader;
+    private final BookBulkFormat format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> csvColumns;
+    private int line;
+
+    public BookBulkUpdateReader(InputStream in, BookBulkFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    // 더 읽을 줄이 없으면 빈 목록
+    public List<BookBulkUpdateRow> nextChunk(int size) throws IOException {
+        if (format == BookBulkFormat.CSV && csvColumns == null) {
+            readCsvHeader();
+        }
+        List<BookBulkUpdateRow> rows = new ArrayList<>(size);
+        String text;
+        while (rows.size() < size && (text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            rows.add(format == BookBulkFormat.CSV ? parseCsv(text) : parseJson(text));
+        }
+        return rows;
+    }
+
+    private void readCsvHeader() throws IOException {
+        String header = reader.readLine();
+        line++;
+        if (header == null) {
+            throw new InvalidBulkFileException("CSV 헤더가 없습니다.");
+        }
+        csvColumns = new HashMap<>();
+        String[] names = header.strip().replace("\uFEFF", "").split(",");
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i].strip().toLowerCase(Locale.ROOT);
+            if (!COLUMNS.contains(name)) {
+                throw new InvalidBulkFileException("알 수 없는 컬럼입니다: " + names[i]);
+            }
+            csvColumns.put(name, i);
+        }
+        if (!csvColumns.containsKey("bookid") && !csvColumns.containsKey("isbn")) {
+            throw new InvalidBulkFileException("bookId 또는 isbn 컬럼이 필요합니다.");
+        }
+    }
+
+    private BookBulkUpdateRow parseCsv(String text) {
+        String[] cells = text.split(",", -1);
+        Function<String, String> cell = column -> {
+            Integer index = csvColumns.get(column);
+            if (index == null || index >= cells.length || cells[index].isBlank()) {
+                return null;
+            }
+            return cells[index].strip();
+        };
+        try {
+            return new BookBulkUpdateRow(
+                    line,
+                    toLong(cell.apply("bookid")),
+                    cell.apply("isbn"),
+                    toInteger(cell.apply("originalprice")),
+                    toInteger(cell.apply("saleprice")),
+                    toInteger(cell.apply("quantity")),
+                    toStatus(cell.apply("status")),
+                    null
+            );
+        } catch (IllegalArgumentException e) {
+            return BookBulkUpdateRow.invalid(line, e.getMessage());
+        }
+    }
+
+    private BookBulkUpdateRow parseJson(String text) {
+        try {
+            JsonNode node = objectMapper.readTree(text);
+            Function<String, String> field = name -> node.hasNonNull(name) ? node.get(name).asText() : null;
+            return new BookBulkUpdateRow(
+                    line,
+                    toLong(field.apply("bookId")),
+                    field.apply("isbn"),
+                    toInteger(field.apply("originalPrice")),
+                    toInteger(field.apply("salePrice")),
+                    toInteger(field.apply("quantity")),
+                    toStatus(field.apply("status")),
+                    null
+            );
+        } catch (JsonProcessingException e) {
+            return BookBulkUpdateRow.invalid(line, "JSON 형식이 올바르지 않습니다.");
+        } catch (IllegalArgumentException e) {
+            return BookBulkUpdateRow.invalid(line, e.getMessage());
+        }
+    }
+
+    private static Long toLong(String value) {
+        try {
+            return value == null ? null : Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static Integer toInteger(String value) {
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static BookStatus toStatus(String value) {
+        try {
+            return value == null ? null : BookStatus.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 상태입니다: " + value);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
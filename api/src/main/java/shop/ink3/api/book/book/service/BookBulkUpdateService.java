@@ -0,0 +1,188 @@
+package shop.ink3.api.book.book.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.ink3.api.book.book.dto.BookBulkTarget;
+import shop.ink3.api.book.book.dto.BookBulkUpdateReport;
+import shop.ink3.api.book.book.dto.BookBulkUpdateResult;
+import shop.ink3.api.book.book.dto.BookBulkUpdateRow;
+import shop.ink3.api.book.book.entity.BookStatus;
+import shop.ink3.api.book.book.enums.BookBulkFormat;
+import shop.ink3.api.book.book.repository.BookBulkUpdateJdbcRepository;
+import shop.ink3.api.book.book.repository.BookRepository;
+import shop.ink3.api.common.httpcache.CatalogVersionService;
+import shop.ink3.api.elastic.service.BookSearchService;
+
+/**
+ * 가격/재고/상태 일괄 수정. 파일을 chunk 단위로 읽어 chunk마다 한 트랜잭션에서 검증 -> 배치 UPDATE를 하고,
+ * 커밋 후 바뀐 색인 필드를 _bulk 한 번으로 반영한다. 한 줄의 오류는 그 줄만 결과에 남기고 나머지는 계속 진행한다.
+ */
+@Slf4j
+@Service
+public class BookBulkUpdateService {
+    private final BookRepository bookRepository;
+    private final BookBulkUpdateJdbcRepository bookBulkUpdateJdbcRepository;
+    private final BookSearchService bookSearchService;
+    private final CatalogVersionService catalogVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public BookBulkUpdateService(
+            BookRepository bookRepository,
+            BookBulkUpdateJdbcRepository bookBulkUpdateJdbcRepository,
+            BookSearchService bookSearchService,
+            CatalogVersionService catalogVersionService,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            @Value("${book.bulk.chunk-size:1000}") int chunkSize
+    ) {
+        this.bookRepository = bookRepository;
+        this.bookBulkUpdateJdbcRepository = bookBulkUpdateJdbcRepository;
+        this.bookSearchService = bookSearchService;
+        this.catalogVersionService = catalogVersionService;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    private record ChunkResult(List<BookBulkUpdateResult> results, Map<Long, Map<String, Object>> indexChanges) {
+    }
+
+    public BookBulkUpdateReport update(InputStream in, BookBulkFormat format) {
+        long startedAt = System.nanoTime();
+        List<BookBulkUpdateResult> results = new ArrayList<>();
+        int indexFailed = 0;
+
+        try (BookBulkUpdateReader reader = new BookBulkUpdateReader(in, format, objectMapper)) {
+            List<BookBulkUpdateRow> chunk;
+            while (!(chunk = reader.nextChunk(chunkSize)).isEmpty()) {
+                List<BookBulkUpdateRow> rows = chunk;
+                ChunkResult chunkResult = Objects.requireNonNull(transactionTemplate.execute(status -> applyChunk(rows)));
+                results.addAll(chunkResult.results());
+                indexFailed += bookSearchService.updateBooksFields(chunkResult.indexChanges());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        BookBulkUpdateReport report = BookBulkUpdateReport.of(
+                results, indexFailed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        log.info("[BOOK-BULK] total={} updated={} notFound={} invalid={} indexFailed={} elapsed={}ms",
+                report.total(), report.updated(), report.notFound(), report.invalid(),
+                report.indexFailed(), report.elapsedMillis());
+        return report;
+    }
+
+    private ChunkResult applyChunk(List<BookBulkUpdateRow> rows) {
+        Map<Long, BookBulkTarget> byId = new HashMap<>();
+        Map<String, BookBulkTarget> byIsbn = new HashMap<>();
+        List<Long> ids = rows.stream().map(BookBulkUpdateRow::bookId).filter(Objects::nonNull).distinct().toList();
+        List<String> isbns = rows.stream()
+                .filter(row -> row.bookId() == null)
+                .map(BookBulkUpdateRow::isbn)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (!ids.isEmpty()) {
+            bookRepository.findBulkTargetsByIdIn(ids).forEach(target -> byId.put(target.id(), target));
+        }
+        if (!isbns.isEmpty()) {
+            byIsbn.putAll(bookRepository.findBulkTargetsByIsbnIn(isbns).stream()
+                    .collect(Collectors.toMap(BookBulkTarget::isbn, Function.identity(), (a, b) -> a)));
+        }
+
+        List<BookBulkUpdateResult> results = new ArrayList<>(rows.size());
+        List<BookBulkUpdateRow> updates = new ArrayList<>();
+        Map<Long, Map<String, Object>> indexChanges = new LinkedHashMap<>();
+        for (BookBulkUpdateRow row : rows) {
+            if (row.error() != null) {
+                results.add(BookBulkUpdateResult.invalid(row, row.error()));
+                continue;
+            }
+            String error = validate(row);
+            if (error != null) {
+                results.add(BookBulkUpdateResult.invalid(row, error));
+                continue;
+            }
+
+            BookBulkTarget target = row.bookId() != null ? byId.get(row.bookId()) : byIsbn.get(row.isbn());
+            if (target == null || target.status() == BookStatus.DELETED) {
+                results.add(BookBulkUpdateResult.notFound(row));
+                continue;
+            }
+
+            int originalPrice = Objects.requireNonNullElse(row.originalPrice(), target.originalPrice());
+            int salePrice = Objects.requireNonNullElse(row.salePrice(), target.salePrice());
+            if (salePrice > originalPrice) {
+                results.add(BookBulkUpdateResult.invalid(row, "판매가는 정가보다 클 수 없습니다."));
+                continue;
+            }
+
+            BookBulkUpdateRow resolved = row.withBookId(target.id());
+            updates.add(resolved);
+            results.add(BookBulkUpdateResult.updated(resolved));
+
+            // 같은 chunk 안에서 같은 도서가 여러 번 나오면 마지막 값이 반영되므로 검증 기준도 갱신
+            BookBulkTarget updated = new BookBulkTarget(
+                    target.id(), target.isbn(), originalPrice, salePrice,
+                    Objects.requireNonNullElse(row.status(), target.status()));
+            byId.put(target.id(), updated);
+            byIsbn.put(target.isbn(), updated);
+
+            Map<String, Object> fields = indexChanges.computeIfAbsent(target.id(), id -> new HashMap<>());
+            if (row.originalPrice() != null) {
+                fields.put("originalPrice", row.originalPrice());
+            }
+            if (row.salePrice() != null) {
+                fields.put("price", row.salePrice());
+            }
+            if (row.status() != null) {
+                fields.put("status", row.status());
+            }
+        }
+
+        bookBulkUpdateJdbcRepository.updateAll(updates, LocalDateTime.now());
+        // JDBC 배치는 엔티티 리스너를 거치지 않으므로 ETag 버전을 직접 올린다
+        catalogVersionService.booksChanged(updates.stream().map(BookBulkUpdateRow::bookId).distinct().toList());
+        // 재고만 바뀐 도서는 색인할 필드가 없음
+        indexChanges.values().removeIf(Map::isEmpty);
+        return new ChunkResult(results, indexChanges);
+    }
+
+    private String validate(BookBulkUpdateRow row) {
+        if (row.bookId() == null && (row.isbn() == null || row.isbn().isBlank())) {
+            return "bookId 또는 isbn이 필요합니다.";
+        }
+        if (!row.hasChanges()) {
+            return "변경할 값이 없습니다.";
+        }
+        if (isNegative(row.originalPrice()) || isNegative(row.salePrice()) || isNegative(row.quantity())) {
+            return "가격과 재고는 0 이상이어야 합니다.";
+        }
+        if (row.status() == BookStatus.DELETED) {
+            return "삭제는 일괄 수정으로 할 수 없습니다.";
+        }
+        return null;
+    }
+
+    private static boolean isNegative(Integer value) {
+        return value != null && value < 0;
+    }
+}
@@ -3,18 +3,23 @@ package shop.ink3.api.book.book.service;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import shop.ink3.api.book.author.entity.Author;
-import shop.ink3.api.book.author.repository.AuthorRepository;
 import shop.ink3.api.book.book.dto.AdminBookResponse;
 import shop.ink3.api.book.book.dto.BookAuthorDto;
 import shop.ink3.api.book.book.dto.BookCreateRequest;
@@ -28,6 +33,9 @@ import shop.ink3.api.book.book.exception.BookNotFoundException;
 import shop.ink3.api.book.book.exception.DuplicateIsbnException;
 import shop.ink3.api.book.book.exception.InvalidCategorySelectionException;
 import shop.ink3.api.book.book.external.aladin.dto.AladinBookResponse;
+import shop.ink3.api.book.book.repository.BookAssociationJdbcRepository;
+import shop.ink3.api.book.book.repository.BookAssociationJdbcRepository.BookAuthorLink;
+import shop.ink3.api.book.book.repository.BookAssociationJdbcRepository.BookLink;
 import shop.ink3.api.book.book.repository.BookRepository;
 import shop.ink3.api.book.bookauthor.entity.BookAuthor;
 import shop.ink3.api.book.bookauthor.repository.BookAuthorRepository;
@@ -37,13 +45,11 @@ import shop.ink3.api.book.booktag.entity.BookTag;
 import shop.ink3.api.book.booktag.repository.BookTagRepository;
 import shop.ink3.api.book.category.dto.CategoryFlatDto;
 import shop.ink3.api.book.category.entity.Category;
-import shop.ink3.api.book.category.exception.CategoryNotFoundException;
 import shop.ink3.api.book.category.repository.CategoryRepository;
 import shop.ink3.api.book.category.service.CategoryService;
+import shop.ink3.api.book.dictionary.service.BookDictionaryService;
 import shop.ink3.api.book.publisher.entity.Publisher;
-import shop.ink3.api.book.publisher.repository.PublisherRepository;
-import shop.ink3.api.book.tag.entity.Tag;
-import shop.ink3.api.book.tag.repository.TagRepository;
+import shop.ink3.api.common.cache.CacheNames;
 import shop.ink3.api.common.dto.PageResponse;
 import shop.ink3.api.common.uploader.MinioService;
 import shop.ink3.api.elastic.model.BookDocument;
@@ -55,12 +61,11 @@ import shop.ink3.api.elastic.service.BookSearchService;
 public class BookService {
     private final BookRepository bookRepository;
     private final CategoryRepository categoryRepository;
-    private final AuthorRepository authorRepository;
-    private final PublisherRepository publisherRepository;
-    private final TagRepository tagRepository;
     private final BookTagRepository bookTagRepository;
     private final BookAuthorRepository bookAuthorRepository;
     private final BookCategoryRepository bookCategoryRepository;
+    private final BookAssociationJdbcRepository bookAssociationJdbcRepository;
+    private final BookDictionaryService bookDictionaryService;
     private final MinioService minioService;
     private final CategoryService categoryService;
     private final BookSearchService bookSearchService;
@@ -68,8 +73,16 @@ public class BookService {
     @Value("${minio.book-bucket}")
     private String bucket;
 
+    // 키에 카탈로그 버전(ETag)을 넣어 도서/카테고리/사전이 바뀌면 새 키로 읽는다.
+    // 버전은 응답 ETag를 만들 때 읽은 값을 그대로 받아 요청마다 한 번만 조회한다. 버전을 못 읽었으면 캐시하지 않는다
     @Transactional(readOnly = true)
-    public BookDetailResponse getBookDetail(Long bookId) {
+    @Cacheable(
+            value = CacheNames.BOOK_DETAIL,
+            key = "#bookId + ':' + #versionTag",
+            condition = "#versionTag != null",
+            sync = true
+    )
+    public BookDetailResponse getBookDetail(Long bookId, String versionTag) {
         Book book = bookRepository.findById(bookId).orElseThrow(() -> new BookNotFoundException(bookId));
         List<List<CategoryFlatDto>> categories = getBookCategories(bookId);
         List<BookAuthorDto> authors = getBookAuthors(bookId);
@@ -96,8 +109,20 @@ public class BookService {
         return PageResponse.from(books.map(b -> AdminBookResponse.from(b, getThumbnailUrl(b))));
     }
 
+    // 랭킹 ETag와 같은 버전을 키에 넣어, 새 ETag로 나간 응답이 이전 랭킹 본문을 담지 않게 한다
     @Transactional(readOnly = true)
-    public PageResponse<BookPreviewResponse> getBestSellerBooks(SortType sortType, Pageable pageable) {
+    @Cacheable(
+            value = CacheNames.BOOK_RANKING,
+            key = "#versionTag + ':' + #sortType + ':' + #pageable.pageNumber + ':' + #pageable.pageSize + ':'"
+                    + " + #pageable.sort",
+            condition = "#versionTag != null",
+            sync = true
+    )
+    public PageResponse<BookPreviewResponse> getBestSellerBooks(
+            SortType sortType,
+            Pageable pageable,
+            String versionTag
+    ) {
         Page<Book> bestSellerBooks = bookRepository.findSortedBestSellerBooks(sortType, pageable);
         Page<BookPreviewResponse> response = mapToBookPreviewResponse(bestSellerBooks);
         return PageResponse.from(response);
@@ -132,8 +157,7 @@ public class BookService {
             throw new InvalidCategorySelectionException("카테고리는 최대 10개까지만 선택할 수 있습니다.");
         }
 
-        Publisher publisher = publisherRepository.findByName(request.publisher())
-                .orElseGet(() -> publisherRepository.save(Publisher.builder().name(request.publisher()).build()));
+        Publisher publisher = resolvePublisher(request.publisher());
 
         Book book = Book.builder()
                 .isbn(request.isbn())
@@ -155,17 +179,9 @@ public class BookService {
 
         book = bookRepository.save(book);
 
-        for (Category category : categoryRepository.findAllById(request.categoryIds())) {
-            addCategoryToBook(book.getId(), category.getId());
-        }
-
-        for (BookAuthorDto author : request.authors()) {
-            addAuthorToBook(book.getId(), author);
-        }
-
-        for (String tag : request.tags()) {
-            addTagToBook(book.getId(), tag);
-        }
+        addCategoriesToBook(book.getId(), selectableCategoryIds(request.categoryIds()));
+        addAuthorsToBook(book.getId(), request.authors());
+        addTagsToBook(book.getId(), request.tags());
 
         List<List<CategoryFlatDto>> categories = getBookCategories(book.getId());
 
@@ -177,7 +193,7 @@ public class BookService {
                 request.tags()
         );
 
-        bookSearchService.indexBook(new BookDocument(response));
+        bookSearchService.indexBook(new BookDocument(response, book.getThumbnailUrl()));
 
         return response;
     }
@@ -200,8 +216,14 @@ public class BookService {
             throw new DuplicateIsbnException(request.isbn());
         }
 
-        Publisher publisher = publisherRepository.findByName(request.publisher())
-                .orElseGet(() -> publisherRepository.save(Publisher.builder().name(request.publisher()).build()));
+        Publisher publisher = book.getPublisher().getName().equals(request.publisher())
+                ? book.getPublisher()
+                : resolvePublisher(request.publisher());
+
+        List<BookCategory> currentCategories = bookCategoryRepository.findAllByBookId(book.getId());
+        List<BookAuthor> currentAuthors = bookAuthorRepository.findAllByBookId(book.getId());
+        List<BookTag> currentTags = bookTagRepository.findAllByBookId(book.getId());
+        BookDocument before = searchSnapshot(book, currentAuthors, currentTags);
 
         // 입력받은 이미지 파일이 없으면 기존 imageUrl로 유지
         String imageUrl = book.getThumbnailUrl();
@@ -225,14 +247,13 @@ public class BookService {
                 publisher
         );
 
-        bookCategoryRepository.deleteAllByBookId(book.getId());
-        bookAuthorRepository.deleteAllByBookId(book.getId());
-        bookTagRepository.deleteAllByBookId(book.getId());
-
-        categoryRepository.findAllById(request.categoryIds())
-                .forEach(category -> addCategoryToBook(book.getId(), category.getId()));
-        request.authors().forEach(author -> addAuthorToBook(book.getId(), author));
-        request.tags().forEach(tag -> addTagToBook(book.getId(), tag));
+        // 전부 지우고 다시 넣지 않고 바뀐 연결만 추가/삭제
+        boolean categoriesChanged = syncCategories(
+                book.getId(), currentCategories, selectableCategoryIds(request.categoryIds()));
+        syncAuthors(book.getId(), currentAuthors, request.authors());
+        syncTags(book.getId(), currentTags, request.tags());
+        // 연결만 바뀌어도 도서 변경으로 기록되어 재색인/ETag 버전에 반영되게 한다
+        book.markCatalogChanged();
 
         List<List<CategoryFlatDto>> categories = getBookCategories(book.getId());
 
@@ -240,11 +261,16 @@ public class BookService {
                 book,
                 getThumbnailUrl(book),
                 categories,
-                request.authors(),
+                request.authors() == null ? List.of() : request.authors(),
                 request.tags()
         );
 
-        bookSearchService.updateBook(response);
+        BookDocument after = new BookDocument(response, book.getThumbnailUrl());
+        Map<String, Object> changedFields = after.changedFieldsFrom(before);
+        if (!categoriesChanged) {
+            changedFields.remove("categories");
+        }
+        bookSearchService.updateBookFields(after, changedFields);
 
         return response;
     }
@@ -265,14 +291,90 @@ public class BookService {
         return categories;
     }
 
-    private void addCategoryToBook(Long bookId, Long categoryId) {
-        Book book = bookRepository.findById(bookId).orElseThrow(() -> new BookNotFoundException(bookId));
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new CategoryNotFoundException(categoryId));
-        if (category.getDepth() < 1) {
-            return;
+    // 최상위(depth 0) 카테고리에는 도서를 직접 연결하지 않음
+    private List<Long> selectableCategoryIds(Collection<Long> categoryIds) {
+        return categoryRepository.findAllById(categoryIds).stream()
+                .filter(category -> category.getDepth() >= 1)
+                .map(Category::getId)
+                .toList();
+    }
+
+    private void addCategoriesToBook(Long bookId, List<Long> categoryIds) {
+        bookAssociationJdbcRepository.insertBookCategories(categoryIds.stream()
+                .distinct()
+                .map(categoryId -> new BookLink(bookId, categoryId))
+                .toList());
+    }
+
+    private boolean syncCategories(Long bookId, List<BookCategory> current, List<Long> requested) {
+        Set<Long> currentIds = current.stream()
+                .map(bc -> bc.getCategory().getId())
+                .collect(Collectors.toSet());
+        Set<Long> requestedIds = new LinkedHashSet<>(requested);
+
+        List<Long> removed = currentIds.stream().filter(id -> !requestedIds.contains(id)).toList();
+        List<Long> added = requestedIds.stream().filter(id -> !currentIds.contains(id)).toList();
+        if (!removed.isEmpty()) {
+            bookCategoryRepository.deleteAllByBookIdAndCategoryIdIn(bookId, removed);
+        }
+        addCategoriesToBook(bookId, added);
+        return !removed.isEmpty() || !added.isEmpty();
+    }
+
+    // 저자는 (이름, 역할) 단위로 비교
+    private void syncAuthors(Long bookId, List<BookAuthor> current, List<BookAuthorDto> requested) {
+        Set<BookAuthorDto> requestedAuthors = requested == null ? Set.of() : new LinkedHashSet<>(requested);
+        Set<BookAuthorDto> kept = new HashSet<>();
+        List<Long> removedIds = new ArrayList<>();
+        for (BookAuthor bookAuthor : current) {
+            BookAuthorDto dto = new BookAuthorDto(bookAuthor.getAuthor().getName(), bookAuthor.getRole());
+            if (requestedAuthors.contains(dto) && kept.add(dto)) {
+                continue;
+            }
+            removedIds.add(bookAuthor.getId());
+        }
+
+        if (!removedIds.isEmpty()) {
+            bookAuthorRepository.deleteAllByIdIn(removedIds);
         }
-        bookCategoryRepository.save(new BookCategory(book, category));
+        addAuthorsToBook(bookId, requestedAuthors.stream().filter(dto -> !kept.contains(dto)).toList());
+    }
+
+    private void syncTags(Long bookId, List<BookTag> current, List<String> requested) {
+        Set<String> requestedNames = requested == null ? Set.of() : new LinkedHashSet<>(requested);
+        Set<String> currentNames = current.stream()
+                .map(bt -> bt.getTag().getName())
+                .collect(Collectors.toSet());
+
+        List<Long> removedTagIds = current.stream()
+                .filter(bt -> !requestedNames.contains(bt.getTag().getName()))
+                .map(bt -> bt.getTag().getId())
+                .toList();
+        if (!removedTagIds.isEmpty()) {
+            bookTagRepository.deleteAllByBookIdAndTagIdIn(bookId, removedTagIds);
+        }
+        addTagsToBook(bookId, requestedNames.stream().filter(name -> !currentNames.contains(name)).toList());
+    }
+
+    // 수정 전 색인 필드 값. 카테고리는 id 집합 비교로 따로 판단한다
+    private BookDocument searchSnapshot(Book book, List<BookAuthor> authors, List<BookTag> tags) {
+        return BookDocument.builder()
+                .id(book.getId())
+                .isbn(book.getIsbn())
+                .title(book.getTitle())
+                .description(book.getDescription())
+                .authors(authors.stream().map(ba -> ba.getAuthor().getName()).toList())
+                .authorDisplays(authors.stream()
+                        .map(ba -> "%s (%s)".formatted(ba.getAuthor().getName(), ba.getRole()))
+                        .toList())
+                .publisher(book.getPublisher().getName())
+                .publishedAt(book.getPublishedAt())
+                .tags(tags.stream().map(bt -> bt.getTag().getName()).toList())
+                .price(book.getSalePrice())
+                .originalPrice(book.getOriginalPrice())
+                .status(book.getStatus())
+                .thumbnailKey(book.getThumbnailUrl())
+                .build();
     }
 
     private List<BookAuthorDto> getBookAuthors(long bookId) {
@@ -281,13 +383,12 @@ public class BookService {
                 .toList();
     }
 
-    private void addAuthorToBook(Long bookId, BookAuthorDto dto) {
-        Book book = bookRepository.findById(bookId).orElseThrow(() -> new BookNotFoundException(bookId));
-        Author author = authorRepository.findByName(dto.name())
-                .orElseGet(() -> authorRepository.save(Author.builder().name(dto.name()).build()));
-
-        BookAuthor bookAuthor = new BookAuthor(book, author, dto.role());
-        bookAuthorRepository.save(bookAuthor);
+    private void addAuthorsToBook(Long bookId, List<BookAuthorDto> authors) {
+        Map<String, Long> authorIds = bookDictionaryService.resolveAuthorIds(
+                authors.stream().map(BookAuthorDto::name).toList());
+        bookAssociationJdbcRepository.insertBookAuthors(authors.stream()
+                .map(author -> new BookAuthorLink(bookId, authorIds.get(author.name()), author.role()))
+                .toList());
     }
 
     private List<String> getBookTags(long bookId) {
@@ -296,13 +397,23 @@ public class BookService {
                 .toList();
     }
 
-    private void addTagToBook(Long bookId, String tagName) {
-        Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new BookNotFoundException(bookId));
-        Tag tag = tagRepository.findByName(tagName)
-                .orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build()));
-        BookTag bookTag = new BookTag(book, tag);
-        bookTagRepository.save(bookTag);
+    private void addTagsToBook(Long bookId, List<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return;
+        }
+        Map<String, Long> tagIds = bookDictionaryService.resolveTagIds(tags);
+        bookAssociationJdbcRepository.insertBookTags(tags.stream()
+                .distinct()
+                .map(tag -> new BookLink(bookId, tagIds.get(tag)))
+                .toList());
+    }
+
+    // 새 출판사는 별도 트랜잭션에서 커밋되므로 다시 읽지 않고 id만 가진 참조로 연결
+    private Publisher resolvePublisher(String name) {
+        return Publisher.builder()
+                .id(bookDictionaryService.resolvePublisherId(name))
+                .name(name)
+                .build();
     }
 
     // 알라딘 api + 자체적으로 조정할 내용 입력하여 도서 등록
@@ -312,8 +423,7 @@ public class BookService {
             throw new DuplicateIsbnException(dto.isbn13());
         }
 
-        Publisher publisher = publisherRepository.findByName(dto.publisher())
-                .orElseGet(() -> publisherRepository.save(Publisher.builder().name(dto.publisher()).build()));
+        Publisher publisher = resolvePublisher(dto.publisher());
 
         Book book = Book.builder()
                 .isbn(dto.isbn13())
@@ -336,17 +446,15 @@ public class BookService {
         bookRepository.save(book); // 먼저 저장해서 ID 확보
 
         List<List<CategoryFlatDto>> categories = categoryService.createCategoryHierarchy(dto.categoryName());
-        for (List<CategoryFlatDto> path : categories) {
-            CategoryFlatDto selectedCategory = path.getLast();
-            addCategoryToBook(book.getId(), selectedCategory.id());
-        }
+        addCategoriesToBook(book.getId(), categories.stream()
+                .map(List::getLast)
+                .filter(category -> category.depth() >= 1)
+                .map(CategoryFlatDto::id)
+                .toList());
 
         List<BookAuthorDto> authors = parseAuthors(dto.author());
-        authors.forEach(author -> addAuthorToBook(book.getId(), author));
-
-        if (request.tags() != null) {
-            request.tags().forEach(tag -> addTagToBook(book.getId(), tag));
-        }
+        addAuthorsToBook(book.getId(), authors);
+        addTagsToBook(book.getId(), request.tags());
 
         BookDetailResponse response = BookDetailResponse.from(
                 book,
@@ -356,7 +464,7 @@ public class BookService {
                 request.tags()
         );
 
-        bookSearchService.indexBook(new BookDocument(response));
+        bookSearchService.indexBook(new BookDocument(response, book.getThumbnailUrl()));
 
         return response;
     }
@@ -1,5 +1,6 @@
 package shop.ink3.api.book.bookauthor.repository;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Modifying;
@@ -13,8 +14,16 @@ public interface BookAuthorRepository extends CrudRepository<BookAuthor, Long> {
     @EntityGraph(attributePaths = "author")
     List<BookAuthor> findAllByBookId(Long bookId);
 
+    @EntityGraph(attributePaths = "author")
+    List<BookAuthor> findAllByBookIdIn(Collection<Long> bookIds);
+
     @Transactional
     @Modifying
     @Query("DELETE FROM BookAuthor ba WHERE ba.book.id = :bookId")
     void deleteAllByBookId(@Param("bookId") Long bookId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BookAuthor ba WHERE ba.id IN :ids")
+    void deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
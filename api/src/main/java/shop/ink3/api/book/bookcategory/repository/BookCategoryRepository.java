@@ -1,5 +1,6 @@
 package shop.ink3.api.book.bookcategory.repository;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,8 +16,19 @@ public interface BookCategoryRepository extends JpaRepository<BookCategory, Long
     @EntityGraph(attributePaths = "category")
     List<BookCategory> findAllByBookId(long bookId);
 
+    @EntityGraph(attributePaths = "category")
+    List<BookCategory> findAllByBookIdIn(Collection<Long> bookIds);
+
     @Transactional
     @Modifying
     @Query("DELETE FROM BookCategory bc WHERE bc.book.id = :bookId")
     void deleteAllByBookId(@Param("bookId") long bookId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BookCategory bc WHERE bc.book.id = :bookId AND bc.category.id IN :categoryIds")
+    void deleteAllByBookIdAndCategoryIdIn(
+            @Param("bookId") long bookId,
+            @Param("categoryIds") Collection<Long> categoryIds
+    );
 }
@@ -1,5 +1,6 @@
 package shop.ink3.api.book.booktag.repository;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,8 +14,16 @@ public interface BookTagRepository extends JpaRepository<BookTag, Long> {
     @EntityGraph(attributePaths = "tag")
     List<BookTag> findAllByBookId(long bookId);
 
+    @EntityGraph(attributePaths = "tag")
+    List<BookTag> findAllByBookIdIn(Collection<Long> bookIds);
+
     @Transactional
     @Modifying
     @Query("DELETE FROM BookTag bt WHERE bt.book.id = :bookId")
     void deleteAllByBookId(@Param("bookId") Long bookId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BookTag bt WHERE bt.book.id = :bookId AND bt.tag.id IN :tagIds")
+    void deleteAllByBookIdAndTagIdIn(@Param("bookId") Long bookId, @Param("tagIds") Collection<Long> tagIds);
 }
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import shop.ink3.api.book.category.dto.CategoryChangeParentRequest;
 import shop.ink3.api.book.category.dto.CategoryCreateRequest;
 import shop.ink3.api.book.category.dto.CategoryFlatDto;
@@ -20,31 +21,36 @@ import shop.ink3.api.book.category.dto.CategoryTreeDto;
 import shop.ink3.api.book.category.dto.CategoryUpdateNameRequest;
 import shop.ink3.api.book.category.service.CategoryService;
 import shop.ink3.api.common.dto.CommonResponse;
+import shop.ink3.api.common.httpcache.CatalogHttpCache;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/categories")
 public class CategoryController {
     private final CategoryService categoryService;
+    private final CatalogHttpCache catalogHttpCache;
 
     @GetMapping("/tree")
-    public ResponseEntity<CommonResponse<List<CategoryTreeDto>>> getAllCategoriesTree() {
-        return ResponseEntity.ok(CommonResponse.success(categoryService.getCategoriesTree()));
+    public ResponseEntity<CommonResponse<List<CategoryTreeDto>>> getAllCategoriesTree(WebRequest request) {
+        return catalogHttpCache.categories(request, () -> CommonResponse.success(categoryService.getCategoriesTree()));
     }
 
     @GetMapping("/flat")
-    public ResponseEntity<CommonResponse<List<CategoryFlatDto>>> getAllCategoriesFlat() {
-        return ResponseEntity.ok(CommonResponse.success(categoryService.getCategoriesFlat()));
+    public ResponseEntity<CommonResponse<List<CategoryFlatDto>>> getAllCategoriesFlat(WebRequest request) {
+        return catalogHttpCache.categories(request, () -> CommonResponse.success(categoryService.getCategoriesFlat()));
     }
 
     @GetMapping("/{id}/descendants")
-    public ResponseEntity<CommonResponse<CategoryTreeDto>> getAllDescendants(@PathVariable Long id) {
-        return ResponseEntity.ok(CommonResponse.success(categoryService.getAllDescendants(id)));
+    public ResponseEntity<CommonResponse<CategoryTreeDto>> getAllDescendants(
+            @PathVariable Long id, WebRequest request) {
+        return catalogHttpCache.categories(request, () ->
+                CommonResponse.success(categoryService.getAllDescendants(id)));
     }
 
     @GetMapping("/{id}/ancestor")
-    public ResponseEntity<CommonResponse<List<CategoryFlatDto>>> getAllAncestors(@PathVariable Long id) {
-        return ResponseEntity.ok(CommonResponse.success(categoryService.getAllAncestors(id)));
+    public ResponseEntity<CommonResponse<List<CategoryFlatDto>>> getAllAncestors(
+            @PathVariable Long id, WebRequest request) {
+        return catalogHttpCache.categories(request, () -> CommonResponse.success(categoryService.getAllAncestors(id)));
     }
 
     @PostMapping
@@ -27,6 +27,7 @@ import shop.ink3.api.book.category.exception.CategoryHierarchyCycleException;
 import shop.ink3.api.book.category.exception.CategoryNotFoundException;
 import shop.ink3.api.book.category.exception.SelfParentingCategoryException;
 import shop.ink3.api.book.category.repository.CategoryRepository;
+import shop.ink3.api.common.cache.CacheNames;
 
 @Transactional
 @RequiredArgsConstructor
@@ -35,7 +36,7 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "categories")
+    @Cacheable(value = CacheNames.CATEGORIES, sync = true)
     public List<CategoryTreeDto> getCategoriesTree() {
         List<Category> categories = categoryRepository.findAll(Sort.by(Direction.ASC, "path"));
         return buildTree(categories);
@@ -84,7 +85,7 @@ public class CategoryService {
         return ancestors;
     }
 
-    @CacheEvict(value = "categories", allEntries = true)
+    @CacheEvict(value = CacheNames.CATEGORIES, allEntries = true)
     public CategoryTreeDto createCategory(CategoryCreateRequest request) {
         if (categoryRepository.existsByName(request.name())) {
             throw new CategoryAlreadyExistsException(request.name());
@@ -105,7 +106,7 @@ public class CategoryService {
         return new CategoryTreeDto(category.getId(), category.getName(), new ArrayList<>());
     }
 
-    @CacheEvict(value = "categories", allEntries = true)
+    @CacheEvict(value = CacheNames.CATEGORIES, allEntries = true)
     public List<List<CategoryFlatDto>> createCategoryHierarchy(String categoryPath) {
         List<Category> categories = new ArrayList<>();
         String[] categoryNames = categoryPath.split(">");
@@ -125,13 +126,13 @@ public class CategoryService {
         return List.of(categories.stream().map(CategoryFlatDto::from).toList());
     }
 
-    @CacheEvict(value = "categories", allEntries = true)
+    @CacheEvict(value = CacheNames.CATEGORIES, allEntries = true)
     public void updateCategoryName(long id, CategoryUpdateNameRequest request) {
         Category category = categoryRepository.findById(id).orElseThrow(() -> new CategoryNotFoundException(id));
         category.updateName(request.name());
     }
 
-    @CacheEvict(value = "categories", allEntries = true)
+    @CacheEvict(value = CacheNames.CATEGORIES, allEntries = true)
     public void changeParent(long id, CategoryChangeParentRequest request) {
         if (id == request.parentId()) {
             throw new SelfParentingCategoryException(id);
@@ -159,7 +160,7 @@ public class CategoryService {
         });
     }
 
-    @CacheEvict(value = "categories", allEntries = true)
+    @CacheEvict(value = CacheNames.CATEGORIES, allEntries = true)
     public void deleteCategory(long id) {
         Category category = categoryRepository.findById(id).orElseThrow(() -> new CategoryNotFoundException(id));
 
@@ -0,0 +1,9 @@
+package shop.ink3.api.book.dictionary.exception;
+
+import java.util.Collection;
+
+public class DictionaryNameUnresolvedException extends RuntimeException {
+    public DictionaryNameUnresolvedException(String type, Collection<String> names, Throwable cause) {
+        super("Could not resolve %s names. NAMES: %s".formatted(type, names), cause);
+    }
+}
@@ -0,0 +1,237 @@
+package shop.ink3.api.book.dictionary.service;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.ink3.api.book.author.entity.Author;
+import shop.ink3.api.book.author.repository.AuthorRepository;
+import shop.ink3.api.book.dictionary.exception.DictionaryNameUnresolvedException;
+import shop.ink3.api.book.publisher.entity.Publisher;
+import shop.ink3.api.book.publisher.repository.PublisherRepository;
+import shop.ink3.api.book.tag.entity.Tag;
+import shop.ink3.api.book.tag.repository.TagRepository;
+import shop.ink3.api.common.cache.LruCache;
+
+/**
+ * 출판사/저자/태그 이름을 id로 바꿔 준다. 없는 이름은 그 자리에서 만든다.
+ *
+ * <p>캐시에 없는 이름만 IN 쿼리 한 번으로 찾고, 그래도 없는 이름은 별도 트랜잭션에서 한 번에 추가한다.
+ * 이름에는 유니크 키가 걸려 있어 다른 요청이 같은 이름을 먼저 넣었다면 추가가 실패하고,
+ * 이때는 먼저 들어간 행을 다시 읽어 그 id를 쓴다.
+ *
+ * <p>이름 비교는 DB 정렬 규칙(utf8mb4_0900_ai_ci)처럼 대소문자와 악센트를 무시한다.
+ * "Java"를 요청했는데 "java" 행이 돌아와도 같은 이름으로 보고, 둘을 따로 추가하지 않는다.
+ *
+ * <p>이름이 바뀌거나 삭제되면 각 서비스에서 evict를 호출하지만 이는 그 노드의 캐시만 비우므로,
+ * 다른 노드의 캐시는 cache-ttl이 지나면 다시 읽는다.
+ *
+ * <p>추가는 REQUIRES_NEW로 따로 커밋하므로, 바깥 트랜잭션 안에서 호출되면 커넥션을 하나 더 잡는다.
+ */
+@Service
+public class BookDictionaryService {
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final Dictionary publishers;
+    private final Dictionary authors;
+    private final Dictionary tags;
+    private final TransactionTemplate newTransaction;
+
+    public BookDictionaryService(
+            PublisherRepository publisherRepository,
+            AuthorRepository authorRepository,
+            TagRepository tagRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${book.dictionary.cache-size:10000}") int cacheSize,
+            @Value("${book.dictionary.cache-ttl:1m}") Duration cacheTtl
+    ) {
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.publishers = new Dictionary(
+                "publisher",
+                cacheSize,
+                cacheTtl,
+                names -> toIdMap(publisherRepository.findAllByNameIn(names), Publisher::getName, Publisher::getId),
+                names -> toIdMap(
+                        publisherRepository.saveAll(names.stream()
+                                .map(name -> Publisher.builder().name(name).build())
+                                .toList()),
+                        Publisher::getName, Publisher::getId)
+        );
+        this.authors = new Dictionary(
+                "author",
+                cacheSize,
+                cacheTtl,
+                names -> toIdMap(authorRepository.findAllByNameIn(names), Author::getName, Author::getId),
+                names -> toIdMap(
+                        authorRepository.saveAll(names.stream()
+                                .map(name -> Author.builder().name(name).build())
+                                .toList()),
+                        Author::getName, Author::getId)
+        );
+        this.tags = new Dictionary(
+                "tag",
+                cacheSize,
+                cacheTtl,
+                names -> toIdMap(tagRepository.findAllByNameIn(List.copyOf(names)), Tag::getName, Tag::getId),
+                names -> toIdMap(
+                        tagRepository.saveAll(names.stream()
+                                .map(name -> Tag.builder().name(name).build())
+                                .toList()),
+                        Tag::getName, Tag::getId)
+        );
+    }
+
+    public Map<String, Long> resolvePublisherIds(Collection<String> names) {
+        return resolve(publishers, names);
+    }
+
+    public Long resolvePublisherId(String name) {
+        return resolvePublisherIds(List.of(name)).get(name);
+    }
+
+    public Map<String, Long> resolveAuthorIds(Collection<String> names) {
+        return resolve(authors, names);
+    }
+
+    public Map<String, Long> resolveTagIds(Collection<String> names) {
+        return resolve(tags, names);
+    }
+
+    public void evictPublisher(String name) {
+        publishers.cache.remove(nameKey(name));
+    }
+
+    public void evictAuthor(String name) {
+        authors.cache.remove(nameKey(name));
+    }
+
+    public void evictTag(String name) {
+        tags.cache.remove(nameKey(name));
+    }
+
+    private Map<String, Long> resolve(Dictionary dictionary, Collection<String> names) {
+        // 정렬 규칙상 같은 이름은 키 하나로 묶어 한 번만 찾고 한 번만 추가한다
+        Map<String, Long> ids = new HashMap<>();
+        Map<String, String> missing = new LinkedHashMap<>();
+        for (String name : names) {
+            String key = nameKey(name);
+            Long id = dictionary.get(key);
+            if (id != null) {
+                ids.put(key, id);
+            } else {
+                missing.putIfAbsent(key, name);
+            }
+        }
+
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS && !missing.isEmpty(); attempt++) {
+            // 재조회는 새 트랜잭션에서 해야 다른 요청이 방금 커밋한 행이 보인다
+            List<String> toFind = List.copyOf(missing.values());
+            Map<String, Long> found = attempt == 1
+                    ? dictionary.finder.apply(toFind)
+                    : newTransaction.execute(status -> dictionary.finder.apply(toFind));
+            accept(dictionary, Objects.requireNonNull(found), ids, missing);
+            if (missing.isEmpty()) {
+                break;
+            }
+
+            // 실패하면 바깥 트랜잭션까지 rollback-only가 되지 않도록 추가는 따로 커밋
+            List<String> toInsert = List.copyOf(missing.values());
+            try {
+                Map<String, Long> inserted = newTransaction.execute(status -> dictionary.inserter.apply(toInsert));
+                accept(dictionary, Objects.requireNonNull(inserted), ids, missing);
+            } catch (DataIntegrityViolationException e) {
+                // 동시에 같은 이름이 추가됨, 다시 조회
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw new DictionaryNameUnresolvedException(dictionary.type, missing.values(), e);
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new DictionaryNameUnresolvedException(dictionary.type, missing.values(), null);
+        }
+
+        Map<String, Long> resolved = new HashMap<>();
+        for (String name : names) {
+            resolved.put(name, ids.get(nameKey(name)));
+        }
+        return resolved;
+    }
+
+    private static void accept(
+            Dictionary dictionary,
+            Map<String, Long> rows,
+            Map<String, Long> ids,
+            Map<String, String> missing
+    ) {
+        rows.forEach((name, id) -> {
+            String key = nameKey(name);
+            dictionary.put(key, id);
+            ids.put(key, id);
+            missing.remove(key);
+        });
+    }
+
+    // 대소문자와 악센트를 무시하는 DB 정렬 규칙에 맞춘 비교 키
+    private static String nameKey(String name) {
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static <T> Map<String, Long> toIdMap(List<T> entities, Function<T, String> name, Function<T, Long> id) {
+        return entities.stream().collect(Collectors.toMap(name, id, (a, b) -> a));
+    }
+
+    private static final class Dictionary {
+        private final String type;
+        private final LruCache<String, CachedId> cache;
+        private final long ttlMillis;
+        private final Function<Collection<String>, Map<String, Long>> finder;
+        private final Function<List<String>, Map<String, Long>> inserter;
+
+        private Dictionary(
+                String type,
+                int cacheSize,
+                Duration ttl,
+                Function<Collection<String>, Map<String, Long>> finder,
+                Function<List<String>, Map<String, Long>> inserter
+        ) {
+            this.type = type;
+            this.cache = new LruCache<>(cacheSize);
+            this.ttlMillis = ttl.toMillis();
+            this.finder = finder;
+            this.inserter = inserter;
+        }
+
+        private Long get(String key) {
+            CachedId cached = cache.get(key);
+            if (cached == null || cached.expiresAt() < System.currentTimeMillis()) {
+                return null;
+            }
+            return cached.id();
+        }
+
+        private void put(String key, Long id) {
+            cache.put(key, new CachedId(id, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    private record CachedId(Long id, long expiresAt) {
+    }
+}
@@ -1,10 +1,12 @@
 package shop.ink3.api.book.publisher.entity;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -12,13 +14,20 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.validator.constraints.Length;
+import shop.ink3.api.common.httpcache.CatalogEntityListener;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 @Getter
-@Table(name = "publishers")
+@EntityListeners(CatalogEntityListener.class)
+@Table(
+        name = "publishers",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_publisher_name", columnNames = "name"),
+        }
+)
 public class Publisher {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
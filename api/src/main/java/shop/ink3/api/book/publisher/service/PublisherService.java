@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import shop.ink3.api.book.dictionary.service.BookDictionaryService;
 import shop.ink3.api.book.publisher.dto.PublisherCreateRequest;
 import shop.ink3.api.book.publisher.dto.PublisherResponse;
 import shop.ink3.api.book.publisher.dto.PublisherUpdateRequest;
@@ -20,6 +21,7 @@ import shop.ink3.api.common.dto.PageResponse;
 public class PublisherService {
 
     private final PublisherRepository publisherRepository;
+    private final BookDictionaryService bookDictionaryService;
 
     @Transactional(readOnly = true)
     public PageResponse<PublisherResponse> getPublishers(Pageable pageable) {
@@ -56,12 +58,14 @@ public class PublisherService {
             throw new PublisherAlreadyExistsException(publisherName);
         }
 
+        bookDictionaryService.evictPublisher(publisher.getName());
         publisher.updatePublisherName(publisherName);
         return PublisherResponse.from(publisherRepository.save(publisher));
     }
 
     public void deletePublisher(Long publisherId) {
         Publisher publisher = publisherRepository.findById(publisherId).orElseThrow(() -> new PublisherNotFoundException(publisherId));
+        bookDictionaryService.evictPublisher(publisher.getName());
         publisherRepository.delete(publisher);
     }
 }
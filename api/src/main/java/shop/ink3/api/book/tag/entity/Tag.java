@@ -2,11 +2,13 @@ package shop.ink3.api.book.tag.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
 import java.util.ArrayList;
 import java.util.List;
@@ -17,13 +19,20 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.validator.constraints.Length;
 import shop.ink3.api.book.booktag.entity.BookTag;
+import shop.ink3.api.common.httpcache.CatalogEntityListener;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 @Getter
-@Table(name = "tags")
+@EntityListeners(CatalogEntityListener.class)
+@Table(
+        name = "tags",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_tag_name", columnNames = "name"),
+        }
+)
 public class Tag {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
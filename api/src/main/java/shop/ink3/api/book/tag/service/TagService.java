@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import shop.ink3.api.book.dictionary.service.BookDictionaryService;
 import shop.ink3.api.book.tag.dto.TagCreateRequest;
 import shop.ink3.api.book.tag.dto.TagResponse;
 import shop.ink3.api.book.tag.dto.TagUpdateRequest;
@@ -19,6 +20,7 @@ import shop.ink3.api.common.dto.PageResponse;
 @Service
 public class TagService {
     private final TagRepository tagRepository;
+    private final BookDictionaryService bookDictionaryService;
 
     @Transactional(readOnly = true)
     public PageResponse<TagResponse> getTags(Pageable pageable) {
@@ -56,12 +58,14 @@ public class TagService {
             throw new TagAlreadyExistsException(tagName);
         }
 
+        bookDictionaryService.evictTag(tag.getName());
         tag.updateTagName(tagName);
         return TagResponse.from(tagRepository.save(tag));
     }
 
     public void deleteTag(Long tagId) {
         Tag tag = tagRepository.findById(tagId).orElseThrow(() -> new TagNotFoundException(tagId));
+        bookDictionaryService.evictTag(tag.getName());
         tagRepository.delete(tag);
     }
 }
@@ -15,6 +15,7 @@ import shop.ink3.api.common.dto.CommonResponse;
 import shop.ink3.api.common.exception.AlreadyExistsException;
 import shop.ink3.api.common.exception.BadRequestException;
 import shop.ink3.api.common.exception.NotFoundException;
+import shop.ink3.api.common.resilience.BulkheadFullException;
 import shop.ink3.api.coupon.store.exception.CouponInvalidPeriodException;
 import shop.ink3.api.order.order.exception.InsufficientBookStockException;
 import shop.ink3.api.payment.exception.PaymentParserFailException;
@@ -124,6 +125,14 @@ public class GlobalExceptionHandler {
                         e.getMessage()));
     }
 
+    // 외부 시스템 동시 호출 한도를 넘은 요청은 잠시 후 재시도하도록 503으로 응답한다
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<CommonResponse<Void>> handleBulkheadFullException(BulkheadFullException e) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(CommonResponse.error(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), null));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<CommonResponse<Void>> handleException(Exception e) {
         return ResponseEntity.internalServerError()
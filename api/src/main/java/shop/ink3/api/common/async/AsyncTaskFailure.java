@@ -0,0 +1,104 @@
+package shop.ink3.api.common.async;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 실패한 @Async 작업 기록. 호출한 메서드와 인자(JSON 배열)를 남겨 AsyncTaskReplayWorker가 다시 실행한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@Builder
+@Entity
+@Table(
+        name = "async_task_failures",
+        indexes = @Index(name = "idx_async_task_failures_status", columnList = "status, next_attempt_at")
+)
+public class AsyncTaskFailure {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 선언 클래스#메서드 이름
+    @Column(nullable = false, length = 200)
+    private String taskName;
+
+    @Column(nullable = false, length = 500)
+    private String parameterTypes;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private AsyncTaskFailureStatus status;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime claimedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public static AsyncTaskFailure of(
+            String taskName,
+            String parameterTypes,
+            String payload,
+            Throwable error,
+            LocalDateTime nextAttemptAt
+    ) {
+        return AsyncTaskFailure.builder()
+                .taskName(taskName)
+                .parameterTypes(parameterTypes)
+                .payload(payload)
+                .attempts(0)
+                .status(AsyncTaskFailureStatus.PENDING)
+                .lastError(describe(error))
+                .nextAttemptAt(nextAttemptAt)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, Throwable error) {
+        this.status = AsyncTaskFailureStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = describe(error);
+        this.claimedAt = null;
+    }
+
+    public void dead(Throwable error) {
+        this.status = AsyncTaskFailureStatus.DEAD;
+        this.lastError = describe(error);
+        this.claimedAt = null;
+    }
+
+    private static String describe(Throwable error) {
+        String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
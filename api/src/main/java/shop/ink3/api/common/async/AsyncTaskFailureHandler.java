@@ -0,0 +1,181 @@
+package shop.ink3.api.common.async;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * @Async 작업에서 빠져나온 예외를 async_task_failures에 남긴다.
+ * 재실행 중인 작업이면 새 행을 만들지 않고 해당 행의 다음 시도 시각을 미루거나 DEAD로 바꾼다.
+ *
+ * <p>재실행 여부는 워커 스레드의 ThreadLocal에 두고, 실행기 TaskDecorator로 작업 스레드까지 넘긴다.
+ */
+@Slf4j
+@Component
+public class AsyncTaskFailureHandler implements AsyncUncaughtExceptionHandler, TaskDecorator {
+    private static final ThreadLocal<ReplayAttempt> CURRENT_REPLAY = new ThreadLocal<>();
+
+    private final AsyncTaskFailureRepository asyncTaskFailureRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public AsyncTaskFailureHandler(
+            AsyncTaskFailureRepository asyncTaskFailureRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${async.retry.max-attempts:5}") int maxAttempts,
+            @Value("${async.retry.initial-backoff:1m}") Duration initialBackoff,
+            @Value("${async.retry.max-backoff:1h}") Duration maxBackoff
+    ) {
+        this.asyncTaskFailureRepository = asyncTaskFailureRepository;
+        this.objectMapper = objectMapper;
+        // 실패한 작업의 트랜잭션과 무관하게 기록되도록 항상 새 트랜잭션을 쓴다
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Override
+    public void handleUncaughtException(Throwable ex, Method method, Object... params) {
+        String taskName = method.getDeclaringClass().getName() + "#" + method.getName();
+        meterRegistry.counter("async.task.failures", "task", method.getName()).increment();
+
+        ReplayAttempt replay = CURRENT_REPLAY.get();
+        if (replay != null) {
+            replay.failed = true;
+            reschedule(replay.failureId, ex);
+            return;
+        }
+
+        try {
+            String payload = objectMapper.writeValueAsString(params);
+            String parameterTypes = Arrays.stream(method.getParameterTypes())
+                    .map(Class::getName)
+                    .collect(Collectors.joining(","));
+            transactionTemplate.executeWithoutResult(status -> asyncTaskFailureRepository.save(AsyncTaskFailure.of(
+                    taskName, parameterTypes, payload, ex, LocalDateTime.now().plus(initialBackoff))));
+            log.warn("[ASYNC] {} failed, saved for replay: {}", taskName, ex.getMessage());
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 기록까지 실패하면 인자라도 로그에 남긴다
+            log.error("[ASYNC] {} failed and could not be saved. params={}", taskName, Arrays.toString(params), ex);
+        }
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        ReplayAttempt replay = CURRENT_REPLAY.get();
+        if (replay == null) {
+            return runnable;
+        }
+        replay.dispatched = true;
+        return () -> {
+            CURRENT_REPLAY.set(replay);
+            try {
+                runnable.run();
+            } finally {
+                CURRENT_REPLAY.remove();
+                complete(replay);
+            }
+        };
+    }
+
+    /**
+     * 선점한 실패 행의 작업을 다시 호출한다. @Async 메서드면 실행기로 넘어가고, 결과는 작업 스레드에서 반영된다.
+     */
+    public void replay(long failureId, Invocation invocation) {
+        ReplayAttempt replay = new ReplayAttempt(failureId);
+        CURRENT_REPLAY.set(replay);
+        try {
+            invocation.invoke();
+        } catch (Exception e) {
+            replay.failed = true;
+            reschedule(failureId, e instanceof InvocationTargetException ite && ite.getCause() != null
+                    ? ite.getCause() : e);
+        } finally {
+            CURRENT_REPLAY.remove();
+        }
+        if (!replay.dispatched) {
+            complete(replay);
+        }
+    }
+
+    public void markDead(long failureId, Throwable error) {
+        transactionTemplate.executeWithoutResult(status -> asyncTaskFailureRepository.findById(failureId)
+                .ifPresent(failure -> failure.dead(error)));
+        meterRegistry.counter("async.task.replays", "result", "dead").increment();
+        log.error("[ASYNC] failure {} cannot be replayed: {}", failureId, error.getMessage());
+    }
+
+    private void complete(ReplayAttempt replay) {
+        if (replay.failed) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> asyncTaskFailureRepository.deleteById(replay.failureId));
+        meterRegistry.counter("async.task.replays", "result", "success").increment();
+    }
+
+    private void reschedule(long failureId, Throwable error) {
+        AsyncTaskFailure failure = transactionTemplate.execute(status -> asyncTaskFailureRepository.findById(failureId)
+                .map(found -> {
+                    if (found.getAttempts() >= maxAttempts) {
+                        found.dead(error);
+                    } else {
+                        found.retryAt(LocalDateTime.now().plus(backoff(found.getAttempts())), error);
+                    }
+                    return found;
+                })
+                .orElse(null));
+        if (failure == null) {
+            return;
+        }
+        boolean dead = failure.getStatus() == AsyncTaskFailureStatus.DEAD;
+        meterRegistry.counter("async.task.replays", "result", dead ? "dead" : "retry").increment();
+        if (dead) {
+            log.error("[ASYNC] {} gave up after {} attempts: {}",
+                    failure.getTaskName(), failure.getAttempts(), error.getMessage());
+        }
+    }
+
+    // initialBackoff에서 시도마다 두 배씩, maxBackoff까지
+    Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    @FunctionalInterface
+    public interface Invocation {
+        void invoke() throws Exception;
+    }
+
+    private static final class ReplayAttempt {
+        private final long failureId;
+        private volatile boolean dispatched;
+        private volatile boolean failed;
+
+        private ReplayAttempt(long failureId) {
+            this.failureId = failureId;
+        }
+    }
+}
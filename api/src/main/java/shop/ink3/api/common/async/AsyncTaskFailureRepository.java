@@ -0,0 +1,39 @@
+package shop.ink3.api.common.async;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AsyncTaskFailureRepository extends JpaRepository<AsyncTaskFailure, Long> {
+    List<AsyncTaskFailure> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            AsyncTaskFailureStatus status, LocalDateTime now, Pageable pageable);
+
+    // 여러 노드가 같은 행을 동시에 재실행하지 않도록 PENDING인 행만 선점한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                UPDATE AsyncTaskFailure f
+                SET f.status = shop.ink3.api.common.async.AsyncTaskFailureStatus.REPLAYING,
+                    f.attempts = f.attempts + 1,
+                    f.claimedAt = :now
+                WHERE f.id = :id
+                  AND f.status = shop.ink3.api.common.async.AsyncTaskFailureStatus.PENDING
+            """)
+    int claim(@Param("id") long id, @Param("now") LocalDateTime now);
+
+    // 재실행 중에 노드가 내려가 REPLAYING으로 남은 행을 되돌린다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                UPDATE AsyncTaskFailure f
+                SET f.status = shop.ink3.api.common.async.AsyncTaskFailureStatus.PENDING,
+                    f.claimedAt = NULL
+                WHERE f.status = shop.ink3.api.common.async.AsyncTaskFailureStatus.REPLAYING
+                  AND f.claimedAt < :staleBefore
+            """)
+    int releaseStale(@Param("staleBefore") LocalDateTime staleBefore);
+
+    long countByStatus(AsyncTaskFailureStatus status);
+}
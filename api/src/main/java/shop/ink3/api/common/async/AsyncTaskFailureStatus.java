@@ -0,0 +1,7 @@
+package shop.ink3.api.common.async;
+
+public enum AsyncTaskFailureStatus {
+    PENDING,
+    REPLAYING,
+    DEAD
+}
@@ -0,0 +1,129 @@
+package shop.ink3.api.common.async;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 다음 시도 시각이 지난 실패 작업을 선점해 원래 빈의 @Async 메서드를 같은 인자로 다시 호출한다.
+ * 선점은 조건부 UPDATE로 하므로 여러 노드에서 돌아도 한 행은 한 번만 재실행된다.
+ */
+@Slf4j
+@Component
+public class AsyncTaskReplayWorker {
+    private final AsyncTaskFailureRepository asyncTaskFailureRepository;
+    private final AsyncTaskFailureHandler asyncTaskFailureHandler;
+    private final ApplicationContext applicationContext;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration staleTimeout;
+
+    public AsyncTaskReplayWorker(
+            AsyncTaskFailureRepository asyncTaskFailureRepository,
+            AsyncTaskFailureHandler asyncTaskFailureHandler,
+            ApplicationContext applicationContext,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${async.retry.batch-size:50}") int batchSize,
+            @Value("${async.retry.stale-timeout:10m}") Duration staleTimeout
+    ) {
+        this.asyncTaskFailureRepository = asyncTaskFailureRepository;
+        this.asyncTaskFailureHandler = asyncTaskFailureHandler;
+        this.applicationContext = applicationContext;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.staleTimeout = staleTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${async.retry.replay-interval:60000}")
+    public void replayDue() {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.execute(status -> asyncTaskFailureRepository.releaseStale(now.minus(staleTimeout)));
+
+        List<AsyncTaskFailure> due = asyncTaskFailureRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                AsyncTaskFailureStatus.PENDING, now, PageRequest.of(0, batchSize));
+        int replayed = 0;
+        for (AsyncTaskFailure failure : due) {
+            Integer claimed = transactionTemplate.execute(status ->
+                    asyncTaskFailureRepository.claim(failure.getId(), now));
+            if (claimed == null || claimed == 0) {
+                continue;
+            }
+            replay(failure);
+            replayed++;
+        }
+        if (replayed > 0) {
+            log.info("[ASYNC] replayed {} failed task(s)", replayed);
+        }
+    }
+
+    void replay(AsyncTaskFailure failure) {
+        ResolvedTask task;
+        try {
+            task = resolve(failure);
+        } catch (ClassNotFoundException | IOException | RuntimeException e) {
+            asyncTaskFailureHandler.markDead(failure.getId(), e);
+            return;
+        }
+        asyncTaskFailureHandler.replay(failure.getId(), () -> task.method().invoke(task.bean(), task.args()));
+    }
+
+    private ResolvedTask resolve(AsyncTaskFailure failure) throws ClassNotFoundException, IOException {
+        Class<?> type = ClassUtils.forName(className(failure), applicationContext.getClassLoader());
+        Class<?>[] parameterTypes = parameterTypes(failure);
+        Method method = ReflectionUtils.findMethod(type, methodName(failure), parameterTypes);
+        // 기록된 이름으로 임의 메서드를 부르지 않도록 @Async 메서드만 재실행한다
+        if (method == null || !AnnotatedElementUtils.hasAnnotation(method, Async.class)) {
+            throw new IllegalStateException("Not a replayable @Async method: " + failure.getTaskName());
+        }
+        return new ResolvedTask(applicationContext.getBean(type), method, arguments(failure, parameterTypes));
+    }
+
+    private Object[] arguments(AsyncTaskFailure failure, Class<?>[] parameterTypes) throws IOException {
+        JsonNode payload = objectMapper.readTree(failure.getPayload());
+        Object[] args = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            args[i] = objectMapper.treeToValue(payload.get(i), parameterTypes[i]);
+        }
+        return args;
+    }
+
+    private Class<?>[] parameterTypes(AsyncTaskFailure failure) {
+        if (failure.getParameterTypes().isEmpty()) {
+            return new Class<?>[0];
+        }
+        return Arrays.stream(failure.getParameterTypes().split(","))
+                .map(name -> ClassUtils.resolveClassName(name, applicationContext.getClassLoader()))
+                .toArray(Class<?>[]::new);
+    }
+
+    private static String className(AsyncTaskFailure failure) {
+        return failure.getTaskName().substring(0, failure.getTaskName().indexOf('#'));
+    }
+
+    private static String methodName(AsyncTaskFailure failure) {
+        return failure.getTaskName().substring(failure.getTaskName().indexOf('#') + 1);
+    }
+
+    private record ResolvedTask(Object bean, Method method, Object[] args) {
+    }
+}
@@ -0,0 +1,15 @@
+package shop.ink3.api.common.cache;
+
+/**
+ * Redis 캐시 이름. RedisConfig의 캐시별 설정과 @Cacheable/@CacheEvict, CacheManager 조회가 같은 이름을 쓴다.
+ */
+public final class CacheNames {
+    public static final String CATEGORIES = "categories";
+    public static final String BOOK_DETAIL = "bookDetail";
+    public static final String BOOK_RANKING = "bookRanking";
+    public static final String BOOK_SEARCH = "bookSearch";
+    public static final String BOOK_SUGGEST = "bookSuggest";
+
+    private CacheNames() {
+    }
+}
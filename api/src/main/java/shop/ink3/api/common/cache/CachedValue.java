@@ -0,0 +1,11 @@
+package shop.ink3.api.common.cache;
+
+/**
+ * {@link SingleFlightCache}가 저장하는 값. 만료 시각과 값을 읽는 데 걸린 시간을 함께 두어
+ * 만료 전에 미리 갱신할지 정하는 데 쓴다.
+ *
+ * @param expiresAt 만료 시각 (epoch millis)
+ * @param loadMillis loader 실행에 걸린 시간. 직접 put한 값은 0이라 미리 갱신하지 않는다
+ */
+public record CachedValue<T>(T value, long expiresAt, long loadMillis) {
+}
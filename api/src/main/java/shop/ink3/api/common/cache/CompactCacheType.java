@@ -0,0 +1,24 @@
+package shop.ink3.api.common.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis에 저장되는 compact 포맷 값의 타입 식별자.
+ * 클래스명 대신 1바이트 id와 스키마 버전을 저장하며, 필드 구조가 호환되지 않게 바뀌면 version을 올린다.
+ * id는 한 번 배정되면 재사용하지 않는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CompactCacheType {
+    CART_RESPONSE(1, 1),
+    // v2: SingleFlightCache의 CachedValue로 감싸 저장
+    CATEGORY_TREE(2, 2),
+    SEARCH_PAGE(3, 1),
+    BOOK_SUGGESTIONS(4, 1),
+    BOOK_DETAIL(5, 1),
+    BOOK_RANKING(6, 1);
+
+    private final int id;
+    private final int version;
+}
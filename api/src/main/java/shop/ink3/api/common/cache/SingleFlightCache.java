@@ -0,0 +1,291 @@
+package shop.ink3.api.common.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import shop.ink3.api.common.lock.RedisLock;
+
+/**
+ * 만료된 항목을 동시에 들어온 요청들이 각자 다시 읽지 않게 하는 캐시 데코레이터.
+ * {@code @Cacheable(sync = true)}가 부르는 {@link #get(Object, Callable)}에서 다음을 처리한다.
+ * <ul>
+ *     <li>노드 안: 키마다 한 요청만 loader를 실행하고, 나머지는 그 결과를 기다린다.</li>
+ *     <li>노드 간: redis-lock이 켜져 있으면 짧은 Redis 락을 잡은 노드만 읽고, 못 잡은 노드는 캐시가 채워지기를 잠깐 기다린다.
+ *     락이 값 없이 풀리거나 기다려도 채워지지 않으면 직접 읽는다.</li>
+ *     <li>만료 전: 읽는 데 오래 걸린 값일수록, 만료가 가까울수록 높은 확률로 한 요청이 미리 다시 읽는다(XFetch).
+ *     그동안 다른 요청은 기존 값을 그대로 쓴다.</li>
+ * </ul>
+ * Redis를 읽거나 쓰지 못하면 캐시 miss로 보고 DB에서 읽는다.
+ */
+@Slf4j
+public class SingleFlightCache implements Cache {
+    private static final String LOCK_PREFIX = "cache:lock:";
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    /**
+     * @param redisLock 노드 간에도 한 번만 읽을지 여부
+     * @param lockTtl 락 유지 시간. loader가 이보다 오래 걸리면 다른 노드도 읽을 수 있다
+     * @param lockWait 락을 못 잡은 노드가 캐시가 채워지기를 기다리는 최대 시간
+     * @param earlyRefreshBeta 미리 갱신하는 정도. 0이면 만료 전에 갱신하지 않고, 클수록 일찍 갱신한다
+     */
+    public record Options(boolean redisLock, Duration lockTtl, Duration lockWait, double earlyRefreshBeta) {
+    }
+
+    private final Cache delegate;
+    private final Duration ttl;
+    private final Options options;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlightCache(
+            Cache delegate,
+            Duration ttl,
+            Options options,
+            RedisTemplate<String, String> redisTemplate
+    ) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.options = options;
+        this.redisTemplate = redisTemplate;
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CachedValue<?> cached = read(key);
+        return cached != null ? new SimpleValueWrapper(cached.value()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        CachedValue<?> cached = read(key);
+        if (cached == null || cached.value() == null) {
+            return null;
+        }
+        if (type != null && !type.isInstance(cached.value())) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + cached.value());
+        }
+        return (T) cached.value();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CachedValue<T> cached = (CachedValue<T>) read(key);
+        if (cached != null && !shouldRefreshEarly(cached)) {
+            return cached.value();
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            // 같은 노드의 다른 요청이 읽는 중이다. 기존 값이 있으면 그대로 쓰고, 없으면 그 결과를 기다린다
+            return cached != null ? cached.value() : (T) await(running);
+        }
+
+        try {
+            T value = loadOnce(key, valueLoader, cached);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            if (cached != null) {
+                // 미리 갱신하다 실패하면 아직 만료되지 않은 기존 값을 쓴다
+                log.warn("[CACHE] early refresh of {}::{} failed: {}", getName(), key, e.getMessage());
+                flight.complete(cached.value());
+                return cached.value();
+            }
+            flight.completeExceptionally(e);
+            throw e;
+        } catch (Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        write(key, value, 0);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, wrap(value, 0));
+        if (existing != null && existing.get() instanceof CachedValue<?> cached) {
+            return new SimpleValueWrapper(cached.value());
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private <T> T loadOnce(Object key, Callable<T> valueLoader, CachedValue<T> cached) {
+        if (!options.redisLock()) {
+            return load(key, valueLoader);
+        }
+        String lockKey = LOCK_PREFIX + getName() + "::" + key;
+        Optional<RedisLock> lock;
+        try {
+            lock = RedisLock.tryAcquire(redisTemplate, lockKey, options.lockTtl());
+        } catch (DataAccessException e) {
+            // 락을 못 쓰면 노드 안에서만 합친다
+            log.warn("[CACHE] failed to acquire {}: {}", lockKey, e.getMessage());
+            return load(key, valueLoader);
+        }
+        if (lock.isPresent()) {
+            try {
+                return load(key, valueLoader);
+            } finally {
+                unlock(lock.get());
+            }
+        }
+        if (cached != null) {
+            // 다른 노드가 미리 갱신하는 중이다
+            return cached.value();
+        }
+        CachedValue<T> loaded = awaitOtherNode(key, lockKey);
+        return loaded != null ? loaded.value() : load(key, valueLoader);
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        long started = System.nanoTime();
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        write(key, value, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return value;
+    }
+
+    // 만료까지 남은 시간이 (읽는 데 걸린 시간 x beta x 지수분포 난수)보다 짧으면 갱신한다
+    private boolean shouldRefreshEarly(CachedValue<?> cached) {
+        if (options.earlyRefreshBeta() <= 0 || cached.loadMillis() <= 0) {
+            return false;
+        }
+        double gap = -cached.loadMillis() * options.earlyRefreshBeta()
+                * Math.log(ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= cached.expiresAt();
+    }
+
+    // 락을 잡은 노드가 값을 못 쓰고 끝났으면(실패/쓰기 오류) 남은 시간을 기다리지 않는다
+    @SuppressWarnings("unchecked")
+    private <T> CachedValue<T> awaitOtherNode(Object key, String lockKey) {
+        long deadline = System.nanoTime() + options.lockWait().toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                Thread.sleep(POLL_INTERVAL);
+                CachedValue<?> loaded = read(key);
+                if (loaded != null) {
+                    return (CachedValue<T>) loaded;
+                }
+                if (!isLocked(lockKey)) {
+                    // 값을 쓰고 락을 푸는 사이에 읽었을 수 있어 한 번 더 확인한다
+                    return (CachedValue<T>) read(key);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private boolean isLocked(String lockKey) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(lockKey));
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    // 자기 토큰일 때만 지운다. loader가 lockTtl보다 오래 걸려 다른 노드가 새로 잡은 락은 건드리지 않는다
+    private void unlock(RedisLock lock) {
+        try {
+            lock.release();
+        } catch (DataAccessException e) {
+            log.warn("[CACHE] failed to release {}: {}", lock.getKey(), e.getMessage());
+        }
+    }
+
+    private CachedValue<?> read(Object key) {
+        try {
+            ValueWrapper wrapper = delegate.get(key);
+            // 없거나, 감싸기 전 포맷으로 저장된 값은 miss로 본다
+            return wrapper != null && wrapper.get() instanceof CachedValue<?> cached ? cached : null;
+        } catch (RuntimeException e) {
+            log.warn("[CACHE] failed to read {}::{}: {}", getName(), key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(Object key, Object value, long loadMillis) {
+        try {
+            delegate.put(key, wrap(value, loadMillis));
+        } catch (RuntimeException e) {
+            log.warn("[CACHE] failed to write {}::{}: {}", getName(), key, e.getMessage());
+        }
+    }
+
+    private CachedValue<Object> wrap(Object value, long loadMillis) {
+        return new CachedValue<>(value, System.currentTimeMillis() + ttl.toMillis(), loadMillis);
+    }
+
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package shop.ink3.api.common.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 지정한 캐시만 {@link SingleFlightCache}로 감싸는 RedisCacheManager.
+ * 감싼 캐시의 값은 {@link CachedValue}로 저장되므로 해당 캐시의 직렬화기도 CachedValue를 다뤄야 한다.
+ */
+public class SingleFlightRedisCacheManager extends RedisCacheManager {
+    private final Map<String, Duration> singleFlightTtls;
+    private final SingleFlightCache.Options options;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public SingleFlightRedisCacheManager(
+            RedisCacheWriter cacheWriter,
+            RedisCacheConfiguration defaultCacheConfiguration,
+            Map<String, RedisCacheConfiguration> initialCacheConfigurations,
+            Map<String, Duration> singleFlightTtls,
+            SingleFlightCache.Options options,
+            RedisTemplate<String, String> redisTemplate
+    ) {
+        super(cacheWriter, defaultCacheConfiguration, true, initialCacheConfigurations);
+        this.singleFlightTtls = singleFlightTtls;
+        this.options = options;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    protected Cache decorateCache(Cache cache) {
+        Cache decorated = super.decorateCache(cache);
+        Duration ttl = singleFlightTtls.get(cache.getName());
+        return ttl != null ? new SingleFlightCache(decorated, ttl, options, redisTemplate) : decorated;
+    }
+}
@@ -0,0 +1,145 @@
+package shop.ink3.api.common.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 하나의 타입만 다루는 Smile(binary JSON) 기반 Redis 직렬화기.
+ *
+ * <pre>
+ * [0xC1][type id][schema version][smile payload]
+ * </pre>
+ *
+ * 0xC1은 UTF-8에서 쓰이지 않는 바이트(과잉 길이 선두 바이트)라 기존 {@link GenericJackson2JsonRedisSerializer}가
+ * 저장한 UTF-8 JSON 값의 첫 바이트가 될 수 없다. 따라서 첫 바이트가 0xC1이 아니면 기존 JSON 값으로 보고 그대로 읽는다.
+ * Smile 본문은 항상 이 헤더 뒤에만 쓰므로, Smile 토큰으로서의 0xC1(작은 정수)과 헷갈릴 일은 없다.
+ * 저장된 schema version이 현재 버전과 다르면 null을 반환해 캐시 miss로 처리한다.
+ */
+@Slf4j
+public class VersionedSmileRedisSerializer<T> implements RedisSerializer<T> {
+    static final byte MAGIC = (byte) 0xC1;
+    static final int HEADER_LENGTH = 3;
+
+    // Smile 헤더(4바이트)는 위 헤더가 대신하므로 쓰지 않는다. 헤더 없이 읽는 쪽은 문자열 값 공유를 알 수 없어
+    // Jackson이 CHECK_SHARED_STRING_VALUES를 함께 켜는 것을 막으므로, 속성 이름 공유(기본값)만 쓴다
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(SmileFactory.builder()
+            .disable(SmileGenerator.Feature.WRITE_HEADER)
+            .disable(SmileParser.Feature.REQUIRE_HEADER)
+            .build())
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final CompactCacheType type;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final RedisSerializer<Object> legacySerializer = new GenericJackson2JsonRedisSerializer();
+
+    public VersionedSmileRedisSerializer(CompactCacheType type, Class<T> valueType) {
+        this(type, SMILE_MAPPER.constructType(valueType));
+    }
+
+    public VersionedSmileRedisSerializer(CompactCacheType type, JavaType valueType) {
+        this.type = type;
+        this.reader = SMILE_MAPPER.readerFor(valueType);
+        this.writer = SMILE_MAPPER.writerFor(valueType);
+    }
+
+    public static <E> VersionedSmileRedisSerializer<List<E>> forList(
+            CompactCacheType type,
+            Class<E> elementType
+    ) {
+        return new VersionedSmileRedisSerializer<>(
+                type,
+                SMILE_MAPPER.getTypeFactory().constructCollectionType(List.class, elementType)
+        );
+    }
+
+    public static <V> VersionedSmileRedisSerializer<V> forParametric(
+            CompactCacheType type,
+            Class<?> rawType,
+            Class<?>... typeParameters
+    ) {
+        return new VersionedSmileRedisSerializer<>(
+                type,
+                SMILE_MAPPER.getTypeFactory().constructParametricType(rawType, typeParameters)
+        );
+    }
+
+    // SingleFlightCache가 저장하는 CachedValue<V>. V가 제네릭이면 typeParameters로 인자를 넘긴다
+    public static <V> VersionedSmileRedisSerializer<CachedValue<V>> forCachedValue(
+            CompactCacheType type,
+            Class<?> rawType,
+            Class<?>... typeParameters
+    ) {
+        TypeFactory typeFactory = SMILE_MAPPER.getTypeFactory();
+        JavaType valueType = typeParameters.length == 0
+                ? typeFactory.constructType(rawType)
+                : typeFactory.constructParametricType(rawType, typeParameters);
+        return new VersionedSmileRedisSerializer<>(
+                type,
+                typeFactory.constructParametricType(CachedValue.class, valueType)
+        );
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        out.write(MAGIC);
+        out.write(type.getId());
+        out.write(type.getVersion());
+        try {
+            writer.writeValue(out, value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write %s value".formatted(type), e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (bytes[0] != MAGIC) {
+            return (T) legacySerializer.deserialize(bytes);
+        }
+
+        if (bytes.length < HEADER_LENGTH || bytes[1] != (byte) type.getId()) {
+            throw new SerializationException("Unexpected compact type id for %s".formatted(type));
+        }
+
+        if (bytes[2] != (byte) type.getVersion()) {
+            log.debug("[CACHE-SCHEMA] type={} stored={} current={}", type, bytes[2], type.getVersion());
+            return null;
+        }
+
+        try {
+            return reader.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read %s value".formatted(type), e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package shop.ink3.api.common.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import shop.ink3.api.common.async.AsyncTaskFailureHandler;
+
+/**
+ * @Async 이벤트 처리용 실행기. 큐가 차면 호출한 스레드에서 직접 실행해 생산 속도를 늦추고(back-pressure),
+ * 종료 시에는 새 작업을 받지 않고 drain-timeout 동안 남은 작업을 마저 처리한다.
+ *
+ * <p>ThreadPoolTaskExecutor 빈이라 executor.active, executor.queued, executor.pool.size 지표가
+ * name=eventTaskExecutor 태그로 자동 등록된다.
+ */
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+    public static final String EVENT_TASK_EXECUTOR = "eventTaskExecutor";
+
+    private final ObjectProvider<AsyncTaskFailureHandler> asyncTaskFailureHandler;
+
+    public AsyncConfig(ObjectProvider<AsyncTaskFailureHandler> asyncTaskFailureHandler) {
+        this.asyncTaskFailureHandler = asyncTaskFailureHandler;
+    }
+
+    @Bean(name = EVENT_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor eventTaskExecutor(
+            @Value("${async.event.core-pool-size:4}") int corePoolSize,
+            @Value("${async.event.max-pool-size:16}") int maxPoolSize,
+            @Value("${async.event.queue-capacity:500}") int queueCapacity,
+            @Value("${async.event.drain-timeout:30s}") Duration drainTimeout,
+            AsyncTaskFailureHandler asyncTaskFailureHandler,
+            MeterRegistry meterRegistry
+    ) {
+        Counter rejected = meterRegistry.counter("executor.rejected.caller_runs", "name", EVENT_TASK_EXECUTOR);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("event-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setTaskDecorator(asyncTaskFailureHandler);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            if (pool.isShutdown()) {
+                throw new RejectedExecutionException("Event executor is shutting down.");
+            }
+            rejected.increment();
+            task.run();
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(drainTimeout.toMillis());
+        return executor;
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> asyncTaskFailureHandler.getObject().handleUncaughtException(ex, method, params);
+    }
+}
@@ -0,0 +1,51 @@
+package shop.ink3.api.common.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import shop.ink3.api.common.resilience.Bulkhead;
+
+/**
+ * 블로킹 외부 호출별 동시 실행 한도. 가상 스레드에서는 요청 스레드 수가 제한되지 않으므로
+ * 외부 시스템과 커넥션 풀을 보호하는 상한은 여기서 정한다. 결제(Toss)는 TossPaymentProcessor가 따로 둔다.
+ */
+@Configuration
+public class BulkheadConfig {
+
+    @Bean
+    public Bulkhead minioBulkhead(
+            @Value("${minio.max-concurrent-calls:32}") int maxConcurrentCalls,
+            @Value("${minio.bulkhead-wait:1s}") Duration maxWait,
+            MeterRegistry meterRegistry
+    ) {
+        return register(new Bulkhead("minio", maxConcurrentCalls, maxWait), meterRegistry);
+    }
+
+    @Bean
+    public Bulkhead elasticsearchBulkhead(
+            @Value("${elasticsearch.max-concurrent-calls:64}") int maxConcurrentCalls,
+            @Value("${elasticsearch.bulkhead-wait:500ms}") Duration maxWait,
+            MeterRegistry meterRegistry
+    ) {
+        return register(new Bulkhead("elasticsearch", maxConcurrentCalls, maxWait), meterRegistry);
+    }
+
+    @Bean
+    public Bulkhead aladinBulkhead(
+            @Value("${aladin.max-concurrent-calls:16}") int maxConcurrentCalls,
+            @Value("${aladin.bulkhead-wait:2s}") Duration maxWait,
+            MeterRegistry meterRegistry
+    ) {
+        return register(new Bulkhead("aladin", maxConcurrentCalls, maxWait), meterRegistry);
+    }
+
+    private static Bulkhead register(Bulkhead bulkhead, MeterRegistry meterRegistry) {
+        Gauge.builder("bulkhead.available", bulkhead, Bulkhead::availablePermits)
+                .tag("name", bulkhead.getName())
+                .register(meterRegistry);
+        return bulkhead;
+    }
+}
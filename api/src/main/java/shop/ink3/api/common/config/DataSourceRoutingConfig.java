@@ -0,0 +1,119 @@
+package shop.ink3.api.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import shop.ink3.api.common.datasource.DataSourceType;
+import shop.ink3.api.common.datasource.ReadYourWritesFilter;
+import shop.ink3.api.common.datasource.ReadYourWritesTracker;
+import shop.ink3.api.common.datasource.ReplicaLagMonitor;
+import shop.ink3.api.common.datasource.ReplicationRoutingDataSource;
+
+/**
+ * datasource.routing.enabled=true 일 때 primary/replica 두 풀을 만들고 readOnly 트랜잭션을 레플리카로 보낸다.
+ * 풀마다 별도 HikariDataSource 빈이라 hikaricp 지표가 pool 태그로 나뉜다.
+ * 두 풀 모두 spring.datasource.hikari.* 설정을 따르고, 레플리카는 datasource.replica.hikari.* 로 값을 덮어쓸 수 있다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+    private static final String REPLICA_HIKARI_PREFIX = "datasource.replica.hikari";
+
+    @Bean
+    @ConfigurationProperties(HIKARI_PREFIX)
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String password
+    ) {
+        HikariDataSource dataSource = new HikariDataSource();
+        // primary와 같은 풀 설정을 먼저 입히고 레플리카 전용 값으로 덮어쓴다
+        Binder binder = Binder.get(environment);
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        binder.bind(REPLICA_HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    // 레플리카 계정에 REPLICATION CLIENT 권한이 있어야 SHOW REPLICA STATUS를 실행할 수 있다
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${datasource.replica.lag-column:Seconds_Behind_Source}") String lagColumn,
+            @Value("${datasource.replica.max-lag:2s}") Duration maxLag,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery, lagColumn, maxLag, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${datasource.routing.pin-ttl:5s}") Duration pinTtl
+    ) {
+        return new ReadYourWritesTracker(redisTemplate, pinTtl);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadYourWritesTracker tracker) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(tracker));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry
+    ) {
+        ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(replicaLagMonitor, readYourWritesTracker, meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        // 트랜잭션 readOnly 속성이 정해진 뒤 커넥션을 얻도록 지연시킨다
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,49 @@
+package shop.ink3.api.common.config;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * StreamingResponseBody(리포트 내보내기)를 실행하는 MVC 비동기 실행기.
+ * 내보내기 하나가 커넥션 하나를 끝까지 잡고 있으므로 동시 실행 수를 풀 크기로 제한하고,
+ * 수십만 행을 쓰는 동안 끊기지 않도록 비동기 요청 제한 시간을 늘린다.
+ */
+@Configuration
+public class ExportConfig implements WebMvcConfigurer {
+    public static final String EXPORT_TASK_EXECUTOR = "exportTaskExecutor";
+
+    private final int maxConcurrent;
+    private final int queueCapacity;
+    private final Duration timeout;
+
+    public ExportConfig(
+            @Value("${export.max-concurrent:4}") int maxConcurrent,
+            @Value("${export.queue-capacity:20}") int queueCapacity,
+            @Value("${export.timeout:10m}") Duration timeout
+    ) {
+        this.maxConcurrent = maxConcurrent;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+    }
+
+    @Bean(name = EXPORT_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor exportTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("export-");
+        executor.setCorePoolSize(maxConcurrent);
+        executor.setMaxPoolSize(maxConcurrent);
+        executor.setQueueCapacity(queueCapacity);
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(exportTaskExecutor());
+        configurer.setDefaultTimeout(timeout.toMillis());
+    }
+}
@@ -0,0 +1,39 @@
+package shop.ink3.api.common.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import shop.ink3.api.common.metrics.QueryCountCleanupFilter;
+import shop.ink3.api.common.metrics.QueryCountingStatementInspector;
+
+/**
+ * 외부 호출 구간 타이머(@Timed)와 요청별 SQL 문 수 집계를 켠다.
+ * 지표는 actuator의 /actuator/prometheus로 노출된다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer() {
+        return properties ->
+                properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountCleanupFilter> queryCountCleanupFilter() {
+        FilterRegistrationBean<QueryCountCleanupFilter> registration =
+                new FilterRegistrationBean<>(new QueryCountCleanupFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -2,18 +2,37 @@ package shop.ink3.api.common.config;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCache;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
-import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import shop.ink3.api.book.book.dto.BookDetailResponse;
+import shop.ink3.api.book.book.dto.BookPreviewResponse;
+import shop.ink3.api.book.category.dto.CategoryTreeDto;
+import shop.ink3.api.common.cache.CacheNames;
+import shop.ink3.api.common.cache.CompactCacheType;
+import shop.ink3.api.common.cache.SingleFlightCache;
+import shop.ink3.api.common.cache.SingleFlightRedisCacheManager;
+import shop.ink3.api.common.cache.VersionedSmileRedisSerializer;
+import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.elastic.model.BookSuggestion;
+import shop.ink3.api.order.cart.dto.CartResponse;
 
 @Configuration
 @RequiredArgsConstructor
@@ -32,8 +51,32 @@ public class RedisConfig {
         return template;
     }
 
+    // 장바구니 hash 전용 템플릿, 값은 @class 없이 compact 포맷으로 저장
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory factory) {
+    public RedisTemplate<String, CartResponse> cartRedisTemplate(RedisConnectionFactory factory) {
+        RedisTemplate<String, CartResponse> template = new RedisTemplate<>();
+        template.setConnectionFactory(factory);
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+
+        VersionedSmileRedisSerializer<CartResponse> serializer =
+                new VersionedSmileRedisSerializer<>(CompactCacheType.CART_RESPONSE, CartResponse.class);
+        template.setValueSerializer(serializer);
+        template.setHashValueSerializer(serializer);
+
+        return template;
+    }
+
+    @Bean
+    public CacheManager cacheManager(
+            RedisConnectionFactory factory,
+            RedisTemplate<String, String> stringRedisTemplate,
+            @Value("${cache.single-flight.redis-lock:true}") boolean redisLock,
+            @Value("${cache.single-flight.lock-ttl:5s}") Duration lockTtl,
+            @Value("${cache.single-flight.lock-wait:2s}") Duration lockWait,
+            @Value("${cache.single-flight.early-refresh-beta:1.0}") double earlyRefreshBeta
+    ) {
         RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10))
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(
@@ -43,12 +86,65 @@ public class RedisConfig {
                         new GenericJackson2JsonRedisSerializer()
                 ));
 
+        // 만료 순간 동시 요청이 몰리는 카탈로그 캐시는 SingleFlightCache로 감싼다 (@Cacheable(sync = true)로 쓴다)
+        // 상세/랭킹 키에는 ETag 버전이 들어가 버전이 바뀌면 새 키로 읽는다. 이전 키는 TTL로 정리된다
+        // 랭킹 ETag는 counter-refresh(5분)마다 바뀌므로 그보다 오래 남길 필요가 없다
+        Map<String, Duration> singleFlightTtls = Map.of(
+                CacheNames.CATEGORIES, Duration.ofDays(1),
+                CacheNames.BOOK_DETAIL, Duration.ofMinutes(10),
+                CacheNames.BOOK_RANKING, Duration.ofMinutes(5)
+        );
+
         Map<String, RedisCacheConfiguration> configs = new HashMap<>();
-        configs.put("categories", defaults.entryTtl(Duration.ofDays(1)));
+        configs.put(CacheNames.CATEGORIES, singleFlight(defaults, singleFlightTtls,
+                CacheNames.CATEGORIES,
+                VersionedSmileRedisSerializer.forCachedValue(
+                        CompactCacheType.CATEGORY_TREE, List.class, CategoryTreeDto.class)));
+        configs.put(CacheNames.BOOK_DETAIL, singleFlight(defaults, singleFlightTtls,
+                CacheNames.BOOK_DETAIL,
+                VersionedSmileRedisSerializer.forCachedValue(CompactCacheType.BOOK_DETAIL, BookDetailResponse.class)));
+        configs.put(CacheNames.BOOK_RANKING, singleFlight(defaults, singleFlightTtls,
+                CacheNames.BOOK_RANKING,
+                VersionedSmileRedisSerializer.forCachedValue(
+                        CompactCacheType.BOOK_RANKING, PageResponse.class, BookPreviewResponse.class)));
+        configs.put(CacheNames.BOOK_SEARCH, defaults.entryTtl(Duration.ofMinutes(1))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        VersionedSmileRedisSerializer.forParametric(
+                                CompactCacheType.SEARCH_PAGE, PageResponse.class, BookPreviewResponse.class)
+                )));
+        configs.put(CacheNames.BOOK_SUGGEST, defaults.entryTtl(Duration.ofMinutes(5))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        VersionedSmileRedisSerializer.forList(CompactCacheType.BOOK_SUGGESTIONS, BookSuggestion.class)
+                )));
+
+        // clear()/allEntries 무효화가 KEYS로 Redis를 막지 않도록 SCAN으로 나눠 지운다
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(factory, BatchStrategies.scan(1000))
+                .withStatisticsCollector(CacheStatisticsCollector.create());
+        return new SingleFlightRedisCacheManager(
+                cacheWriter,
+                defaults,
+                configs,
+                singleFlightTtls,
+                new SingleFlightCache.Options(redisLock, lockTtl, lockWait, earlyRefreshBeta),
+                stringRedisTemplate
+        );
+    }
+
+    // 감싼 캐시도 RedisCache 통계(cache.gets 등)를 그대로 내보낸다
+    @Bean
+    public CacheMeterBinderProvider<SingleFlightCache> singleFlightCacheMeterBinderProvider() {
+        return (cache, tags) -> cache.getDelegate() instanceof RedisCache redisCache
+                ? new RedisCacheMetrics(redisCache, tags)
+                : null;
+    }
 
-        return RedisCacheManager.builder(factory)
-                .cacheDefaults(defaults)
-                .withInitialCacheConfigurations(configs)
-                .build();
+    private static RedisCacheConfiguration singleFlight(
+            RedisCacheConfiguration defaults,
+            Map<String, Duration> singleFlightTtls,
+            String cacheName,
+            RedisSerializer<?> serializer
+    ) {
+        return defaults.entryTtl(singleFlightTtls.get(cacheName))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
     }
 }
@@ -1,11 +1,26 @@
 package shop.ink3.api.common.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import shop.ink3.api.common.metrics.QueryCountInterceptor;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final int statementBudget;
+
+    public WebConfig(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${metrics.statement-budget:30}") int statementBudget
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -14,4 +29,11 @@ public class WebConfig implements WebMvcConfigurer {
             .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
             .allowedHeaders("*");
     }
+
+    // MeterRegistry가 없는 슬라이스 테스트에서는 등록하지 않는다
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        meterRegistry.ifAvailable(meters ->
+                registry.addInterceptor(new QueryCountInterceptor(meters, statementBudget)));
+    }
 }
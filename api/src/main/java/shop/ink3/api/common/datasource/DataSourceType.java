@@ -0,0 +1,6 @@
+package shop.ink3.api.common.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,36 @@
+package shop.ink3.api.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 게이트웨이가 넘겨준 회원 id로 요청 단위 읽기 고정 상태를 연다. 비회원 요청은 고정하지 않는다.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    private static final String USER_ID_HEADER = "X-User-Id";
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String userId = request.getHeader(USER_ID_HEADER);
+        if (Objects.isNull(userId)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        readYourWritesTracker.begin(userId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWritesTracker.end();
+        }
+    }
+}
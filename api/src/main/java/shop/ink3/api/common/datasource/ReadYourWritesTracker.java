@@ -0,0 +1,100 @@
+package shop.ink3.api.common.datasource;
+
+import java.time.Duration;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 쓰기 직후 같은 회원의 읽기가 아직 복제되지 않은 레플리카로 가지 않도록 pinTtl 동안 primary에 고정한다.
+ * 고정 여부는 노드 간에 공유되도록 Redis에 두고, 요청 안에서는 한 번만 조회한다.
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+    private static final String PIN_KEY_PREFIX = "datasource:pin:";
+    private static final Object WRITE_MARKER = new Object();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration pinTtl;
+    private final ThreadLocal<RequestState> requestState = new ThreadLocal<>();
+
+    public ReadYourWritesTracker(RedisTemplate<String, String> redisTemplate, Duration pinTtl) {
+        this.redisTemplate = redisTemplate;
+        this.pinTtl = pinTtl;
+    }
+
+    public void begin(String userId) {
+        requestState.set(new RequestState(userId));
+    }
+
+    public void end() {
+        requestState.remove();
+    }
+
+    public boolean isTracking() {
+        return Objects.nonNull(requestState.get());
+    }
+
+    public boolean isPinned() {
+        RequestState state = requestState.get();
+        if (Objects.isNull(state)) {
+            return false;
+        }
+        if (Objects.isNull(state.pinned)) {
+            state.pinned = lookup(state.userId);
+        }
+        return state.pinned;
+    }
+
+    /**
+     * 트랜잭션에서 변경 SQL이 처음 실행될 때 한 번, 커밋되면 회원을 primary에 고정하도록 등록한다.
+     */
+    public void recordWrite() {
+        RequestState state = requestState.get();
+        if (Objects.isNull(state) || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_MARKER, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pin(state);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+            }
+        });
+    }
+
+    private void pin(RequestState state) {
+        state.pinned = true;
+        try {
+            redisTemplate.opsForValue().set(PIN_KEY_PREFIX + state.userId, "1", pinTtl);
+        } catch (RuntimeException e) {
+            log.warn("Failed to pin user {} to primary: {}", state.userId, e.getMessage());
+        }
+    }
+
+    private boolean lookup(String userId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(PIN_KEY_PREFIX + userId));
+        } catch (RuntimeException e) {
+            // 확인할 수 없으면 최신 데이터를 보장하는 쪽을 택한다
+            return true;
+        }
+    }
+
+    private static final class RequestState {
+        private final String userId;
+        private Boolean pinned;
+
+        private RequestState(String userId) {
+            this.userId = userId;
+        }
+    }
+}
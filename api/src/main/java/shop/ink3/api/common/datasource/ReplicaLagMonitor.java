@@ -0,0 +1,77 @@
+package shop.ink3.api.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 레플리카 복제 지연을 주기적으로 확인한다. 지연이 maxLag를 넘거나 확인에 실패하면 읽기를 primary로 돌린다.
+ * 첫 확인 전에는 사용 불가로 본다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final double maxLagSeconds;
+
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean available;
+
+    public ReplicaLagMonitor(
+            DataSource replica,
+            String lagQuery,
+            String lagColumn,
+            Duration maxLag,
+            MeterRegistry meterRegistry
+    ) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:1000}")
+    public void check() {
+        try {
+            // 복제가 멈추면 지연 값이 NULL로 나온다
+            Double lag = replicaJdbcTemplate.query(lagQuery, rs -> {
+                if (!rs.next()) {
+                    return null;
+                }
+                double value = rs.getDouble(lagColumn);
+                return rs.wasNull() ? null : value;
+            });
+            update(lag);
+        } catch (RuntimeException e) {
+            log.warn("Replica lag check failed: {}", e.getMessage());
+            update(null);
+        }
+    }
+
+    void update(Double lag) {
+        boolean wasAvailable = available;
+        lagSeconds = lag != null ? lag : Double.NaN;
+        available = lag != null && lag <= maxLagSeconds;
+        if (wasAvailable != available) {
+            log.info("Replica {} (lag={}s, max={}s)", available ? "available" : "unavailable", lag, maxLagSeconds);
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+}
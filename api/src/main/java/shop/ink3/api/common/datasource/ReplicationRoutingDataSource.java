@@ -0,0 +1,70 @@
+package shop.ink3.api.common.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 레플리카로, 나머지는 primary로 보낸다.
+ * 실제 커넥션을 얻는 시점에 트랜잭션 속성이 정해져 있어야 하므로 LazyConnectionDataSourceProxy로 감싸서 쓴다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+
+    public ReplicationRoutingDataSource(
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry
+    ) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                return route(DataSourceType.PRIMARY, "no_transaction");
+            }
+            return route(DataSourceType.PRIMARY, "write");
+        }
+        if (readYourWritesTracker.isPinned()) {
+            return route(DataSourceType.PRIMARY, "pinned");
+        }
+        if (!replicaLagMonitor.isAvailable()) {
+            return route(DataSourceType.PRIMARY, "replica_unavailable");
+        }
+        return route(DataSourceType.REPLICA, "read");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return trackWrites(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return trackWrites(super.getConnection(username, password));
+    }
+
+    // 쓰기 트랜잭션이어도 조회만 하고 끝나면 고정하지 않도록, 변경 SQL을 실제로 실행할 때 기록한다
+    private Connection trackWrites(Connection connection) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !readYourWritesTracker.isTracking()) {
+            return connection;
+        }
+        return WriteDetectingConnection.wrap(connection, readYourWritesTracker::recordWrite);
+    }
+
+    private DataSourceType route(DataSourceType target, String reason) {
+        meterRegistry.counter("datasource.routing", "target", target.name().toLowerCase(), "reason", reason)
+                .increment();
+        return target;
+    }
+}
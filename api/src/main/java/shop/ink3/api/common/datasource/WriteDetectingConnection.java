@@ -0,0 +1,81 @@
+package shop.ink3.api.common.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 커넥션에서 실행되는 SQL을 보고 변경 문(INSERT/UPDATE/DELETE 등)이 처음 나올 때 onWrite를 호출한다.
+ * SQL은 PreparedStatement는 준비 시점에, 일반 Statement는 실행/배치 추가 시점에 확인한다.
+ */
+final class WriteDetectingConnection {
+    private static final Set<String> READ_KEYWORDS = Set.of("select", "show", "explain", "describe", "desc");
+    private static final Set<String> STATEMENT_SQL_METHODS =
+            Set.of("execute", "executeUpdate", "executeLargeUpdate", "addBatch");
+
+    private WriteDetectingConnection() {
+    }
+
+    static Connection wrap(Connection connection, Runnable onWrite) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if ("prepareStatement".equals(name) && isWrite((String) args[0])) {
+                        onWrite.run();
+                    }
+                    // 프로시저가 무엇을 바꾸는지 알 수 없으므로 쓰기로 본다
+                    if ("prepareCall".equals(name)) {
+                        onWrite.run();
+                    }
+                    Object result = invoke(connection, method, args);
+                    if ("createStatement".equals(name)) {
+                        return wrapStatement((Statement) result, onWrite);
+                    }
+                    return result;
+                });
+    }
+
+    static boolean isWrite(String sql) {
+        String statement = sql.stripLeading();
+        // Hibernate use_sql_comments 등으로 앞에 붙은 주석은 건너뛴다
+        while (statement.startsWith("/*")) {
+            int end = statement.indexOf("*/");
+            if (end < 0) {
+                return true;
+            }
+            statement = statement.substring(end + 2).stripLeading();
+        }
+        int end = 0;
+        while (end < statement.length() && Character.isLetter(statement.charAt(end))) {
+            end++;
+        }
+        return !READ_KEYWORDS.contains(statement.substring(0, end).toLowerCase(Locale.ROOT));
+    }
+
+    private static Statement wrapStatement(Statement statement, Runnable onWrite) {
+        return (Statement) Proxy.newProxyInstance(
+                Statement.class.getClassLoader(),
+                new Class<?>[]{Statement.class},
+                (proxy, method, args) -> {
+                    if (STATEMENT_SQL_METHODS.contains(method.getName()) && args != null
+                            && args[0] instanceof String sql && isWrite(sql)) {
+                        onWrite.run();
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
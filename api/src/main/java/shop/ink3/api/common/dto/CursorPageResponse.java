@@ -0,0 +1,13 @@
+package shop.ink3.api.common.dto;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        long totalElements,
+        boolean totalExact
+) {
+}
@@ -0,0 +1,29 @@
+package shop.ink3.api.common.export;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import shop.ink3.api.common.exception.BadRequestException;
+
+/**
+ * 내보내기 기간 조건. from, to는 날짜 단위로 양 끝을 포함하며, 비어 있으면 해당 방향으로 제한하지 않는다.
+ */
+public record ExportPeriod(LocalDate from, LocalDate to) {
+
+    public ExportPeriod {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("Export period start must not be after end.");
+        }
+    }
+
+    public static ExportPeriod unbounded() {
+        return new ExportPeriod(null, null);
+    }
+
+    public LocalDateTime startInclusive() {
+        return from != null ? from.atStartOfDay() : null;
+    }
+
+    public LocalDateTime endExclusive() {
+        return to != null ? to.plusDays(1).atStartOfDay() : null;
+    }
+}
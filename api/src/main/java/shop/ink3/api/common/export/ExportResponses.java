@@ -0,0 +1,25 @@
+package shop.ink3.api.common.export;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public final class ExportResponses {
+
+    private ExportResponses() {
+    }
+
+    public static ResponseEntity<StreamingResponseBody> attachment(
+            String name, ExportFormat format, StreamingResponseBody body) {
+        String filename = "%s-%s.%s".formatted(
+                name, LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE), format.getExtension());
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build()
+                        .toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,158 @@
+package shop.ink3.api.common.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+/**
+ * 커서에서 읽은 행을 바로 응답 스트림에 쓴다. 행을 모으지 않으므로 메모리 사용량은 버퍼 크기로 고정된다.
+ * 컬럼 이름은 조회 SQL의 SELECT 순서와 같아야 한다(DB마다 별칭 대소문자가 달라 ResultSet 메타데이터를 쓰지 않는다).
+ */
+abstract class ExportWriter implements RowCallbackHandler {
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder().build();
+
+    protected final List<String> columns;
+    private long rowCount;
+
+    protected ExportWriter(List<String> columns) {
+        this.columns = columns;
+    }
+
+    static ExportWriter of(ExportFormat format, List<String> columns, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(columns, out);
+            case CSV -> new CsvWriter(columns, out);
+        };
+    }
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+        try {
+            writeRow(rs);
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊은 경우. 예외가 올라가야 커서와 트랜잭션이 바로 정리된다
+            throw new UncheckedIOException(e);
+        }
+        rowCount++;
+    }
+
+    long finish() throws IOException {
+        flush();
+        return rowCount;
+    }
+
+    protected abstract void writeRow(ResultSet rs) throws SQLException, IOException;
+
+    protected abstract void flush() throws IOException;
+
+    protected static Object value(ResultSet rs, int index) throws SQLException {
+        Object value = rs.getObject(index);
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return value;
+    }
+
+    private static class NdjsonWriter extends ExportWriter {
+        private final JsonGenerator generator;
+
+        NdjsonWriter(List<String> columns, OutputStream out) throws IOException {
+            super(columns);
+            this.generator = JSON_FACTORY.createGenerator(out);
+            // 응답 스트림은 서블릿 컨테이너가 닫는다
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        protected void writeRow(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.size(); i++) {
+                generator.writeFieldName(columns.get(i));
+                writeValue(value(rs, i + 1));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeValue(Object value) throws IOException {
+            switch (value) {
+                case null -> generator.writeNull();
+                case Boolean bool -> generator.writeBoolean(bool);
+                case Integer number -> generator.writeNumber(number);
+                case Long number -> generator.writeNumber(number);
+                case BigDecimal number -> generator.writeNumber(number);
+                case Number number -> generator.writeNumber(number.doubleValue());
+                default -> generator.writeString(value.toString());
+            }
+        }
+
+        @Override
+        protected void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static class CsvWriter extends ExportWriter {
+        private static final char BOM = '\uFEFF';
+
+        private final Writer writer;
+
+        CsvWriter(List<String> columns, OutputStream out) throws IOException {
+            super(columns);
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            // 엑셀이 한글을 UTF-8로 읽도록 BOM을 붙인다
+            writer.write(BOM);
+            writeLine(columns);
+        }
+
+        @Override
+        protected void writeRow(ResultSet rs) throws SQLException, IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(cell(value(rs, i + 1)));
+            }
+            writer.write("\r\n");
+        }
+
+        private void writeLine(List<String> values) throws IOException {
+            writer.write(String.join(",", values.stream().map(CsvWriter::cell).toList()));
+            writer.write("\r\n");
+        }
+
+        @Override
+        protected void flush() throws IOException {
+            writer.flush();
+        }
+
+        static String cell(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value.toString();
+            // 수식으로 실행되지 않도록 문자열 값의 선행 수식 문자를 무력화한다 (CSV injection)
+            if (value instanceof String && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+                text = "'" + text;
+            }
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0
+                    || text.indexOf('\r') >= 0) {
+                return '"' + text.replace("\"", "\"\"") + '"';
+            }
+            return text;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package shop.ink3.api.common.httpcache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import shop.ink3.api.book.book.entity.Book;
+import shop.ink3.api.book.category.entity.Category;
+
+/**
+ * 카탈로그 엔티티가 flush될 때 해당 버전 카운터를 올린다.
+ * 좋아요/리뷰/재고처럼 여러 서비스에서 도서를 고치는 경로를 한 곳에서 잡기 위한 것으로,
+ * JDBC로 직접 고치는 경로는 서비스에서 CatalogVersionService를 따로 호출한다.
+ * 도서의 카운터(재고/좋아요/리뷰 수)만 바뀐 갱신은 상세 버전만 올린다.
+ * 슬라이스 테스트처럼 CatalogVersionService가 없는 컨텍스트에서는 아무 일도 하지 않는다.
+ */
+public class CatalogEntityListener {
+    private final ObjectProvider<CatalogVersionService> catalogVersionService;
+
+    public CatalogEntityListener(ObjectProvider<CatalogVersionService> catalogVersionService) {
+        this.catalogVersionService = catalogVersionService;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        // 새 저자/출판사/태그는 기존 응답을 바꾸지 않는다
+        if (entity instanceof Book || entity instanceof Category) {
+            changed(entity);
+        }
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        if (entity instanceof Book book && !book.isCatalogChanged()) {
+            catalogVersionService.ifAvailable(versions -> versions.bookCountersChanged(book.getId()));
+            return;
+        }
+        changed(entity);
+    }
+
+    @PostRemove
+    public void changed(Object entity) {
+        catalogVersionService.ifAvailable(versions -> {
+            if (entity instanceof Book book) {
+                versions.bookChanged(book.getId());
+            } else if (entity instanceof Category) {
+                versions.categoriesChanged();
+            } else {
+                versions.dictionaryChanged();
+            }
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package shop.ink3.api.common.httpcache;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 카탈로그 조회 응답의 조건부 GET 처리.
+ * If-None-Match가 현재 버전과 같으면 본문을 만들지 않고(DB 조회/직렬화 없이) 304를 돌려주고,
+ * 아니면 ETag와 Cache-Control(stale-while-revalidate 포함)을 붙여 게이트웨이가 캐시할 수 있게 한다.
+ */
+@Component
+public class CatalogHttpCache {
+    private final CatalogVersionService catalogVersionService;
+    private final CacheControl cacheControl;
+
+    public CatalogHttpCache(
+            CatalogVersionService catalogVersionService,
+            @Value("${catalog.http-cache.max-age:30s}") Duration maxAge,
+            @Value("${catalog.http-cache.stale-while-revalidate:60s}") Duration staleWhileRevalidate
+    ) {
+        this.catalogVersionService = catalogVersionService;
+        this.cacheControl = CacheControl.maxAge(maxAge)
+                .cachePublic()
+                .staleWhileRevalidate(staleWhileRevalidate);
+    }
+
+    // 상세/랭킹은 본문을 만드는 쪽도 같은 버전을 캐시 키로 쓰도록 ETag를 넘겨준다
+    public <T> ResponseEntity<T> bookDetail(WebRequest request, Long bookId, Function<String, T> body) {
+        String etag = catalogVersionService.bookDetailTag(bookId);
+        return respond(request, etag, () -> body.apply(etag));
+    }
+
+    public <T> ResponseEntity<T> bookList(WebRequest request, Supplier<T> body) {
+        return respond(request, catalogVersionService.bookListTag(), body);
+    }
+
+    public <T> ResponseEntity<T> ranking(WebRequest request, Function<String, T> body) {
+        String etag = catalogVersionService.rankingTag();
+        return respond(request, etag, () -> body.apply(etag));
+    }
+
+    public <T> ResponseEntity<T> categories(WebRequest request, Supplier<T> body) {
+        return respond(request, catalogVersionService.categoryTag(), body);
+    }
+
+    private <T> ResponseEntity<T> respond(WebRequest request, String etag, Supplier<T> body) {
+        if (etag == null) {
+            return ResponseEntity.ok(body.get());
+        }
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(body.get());
+    }
+}
@@ -0,0 +1,193 @@
+package shop.ink3.api.common.httpcache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 카탈로그 응답의 ETag 재료가 되는 버전 카운터. 노드 간에 공유되도록 Redis에 둔다.
+ * 변경은 트랜잭션이 커밋된 뒤에 한 번에 올려서, 새 버전으로 옛 데이터를 캐시하는 일이 없게 한다.
+ * 공용 키가 사라지면(재시작/flush) 현재 시각으로 다시 시작하므로 이전에 내준 ETag와 겹치지 않는다.
+ * 도서별 키는 바뀐 적이 있는 도서에만 생기고, 없으면 0으로 본다(공용 키가 함께 들어가 있어 겹치지 않는다).
+ * 재고/좋아요/리뷰 수는 목록/랭킹 버전을 올리지 않고, counter-refresh 주기마다 목록/랭킹 ETag가 바뀌게 해서
+ * 그 주기 안에서만 늦게 보이도록 한다.
+ * 상세 응답의 썸네일은 presigned URL이라 detail-refresh 주기마다 ETag를 바꿔 만료 전에 새 URL을 받게 한다.
+ */
+@Slf4j
+@Service
+public class CatalogVersionService {
+    private static final String KEY_PREFIX = "catalog:version:";
+    static final String BOOKS_KEY = KEY_PREFIX + "books";
+    static final String CATEGORIES_KEY = KEY_PREFIX + "categories";
+    static final String DICTIONARY_KEY = KEY_PREFIX + "dictionary";
+    static final String RANKING_KEY = KEY_PREFIX + "ranking";
+    private static final String BOOK_KEY_PREFIX = KEY_PREFIX + "book:";
+    private static final Object PENDING_KEYS = new Object();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long counterRefreshMillis;
+    private final long detailRefreshMillis;
+
+    public CatalogVersionService(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${catalog.http-cache.counter-refresh:5m}") Duration counterRefresh,
+            @Value("${catalog.http-cache.detail-refresh:30m}") Duration detailRefresh
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.counterRefreshMillis = counterRefresh.toMillis();
+        this.detailRefreshMillis = detailRefresh.toMillis();
+    }
+
+    // 도서 한 권이 바뀌면 상세와 함께 목록/랭킹도 달라질 수 있다
+    public void bookChanged(Long bookId) {
+        bump(List.of(bookKey(bookId), BOOKS_KEY));
+    }
+
+    // 재고/좋아요/리뷰 수만 바뀐 경우. 상세에만 바로 반영한다
+    public void bookCountersChanged(Long bookId) {
+        bump(List.of(bookKey(bookId)));
+    }
+
+    public void booksChanged(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(bookIds.size() + 1);
+        bookIds.forEach(bookId -> keys.add(bookKey(bookId)));
+        keys.add(BOOKS_KEY);
+        bump(keys);
+    }
+
+    public void categoriesChanged() {
+        bump(List.of(CATEGORIES_KEY));
+    }
+
+    // 저자/출판사/태그 이름은 상세와 목록에 함께 노출된다
+    public void dictionaryChanged() {
+        bump(List.of(DICTIONARY_KEY));
+    }
+
+    public void rankingChanged() {
+        bump(List.of(RANKING_KEY));
+    }
+
+    public String bookDetailTag(Long bookId) {
+        return withWindow(tag("d", bookKey(bookId), CATEGORIES_KEY, DICTIONARY_KEY), detailRefreshMillis);
+    }
+
+    public String bookListTag() {
+        return withWindow(tag("l", BOOKS_KEY, DICTIONARY_KEY), counterRefreshMillis);
+    }
+
+    public String rankingTag() {
+        return withWindow(tag("r", RANKING_KEY, BOOKS_KEY, DICTIONARY_KEY), counterRefreshMillis);
+    }
+
+    public String categoryTag() {
+        return tag("c", CATEGORIES_KEY);
+    }
+
+    /**
+     * 키들의 현재 버전을 이어 붙인 강한 ETag. Redis를 읽지 못하면 null을 돌려주고, 호출 측은 캐시 없이 응답한다.
+     */
+    private String tag(String prefix, String... keys) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(keys));
+            if (values == null) {
+                return null;
+            }
+            StringBuilder tag = new StringBuilder("\"").append(prefix);
+            for (int i = 0; i < keys.length; i++) {
+                String value = values.get(i);
+                if (value == null) {
+                    // 없는 도서 id로 요청해도 키가 쌓이지 않도록 읽기 경로에서는 도서별 키를 만들지 않는다
+                    value = keys[i].startsWith(BOOK_KEY_PREFIX) ? "0" : seed(keys[i]);
+                }
+                tag.append('-').append(value);
+            }
+            return tag.append('"').toString();
+        } catch (DataAccessException e) {
+            log.warn("[HTTP-CACHE] failed to read catalog versions: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 버전을 올리지 않는 변화(카운터, presigned URL 만료)가 주기 안에서만 늦도록 현재 구간 번호를 덧붙인다
+    private static String withWindow(String tag, long windowMillis) {
+        if (tag == null) {
+            return null;
+        }
+        long window = System.currentTimeMillis() / windowMillis;
+        return tag.substring(0, tag.length() - 1) + "-w" + window + "\"";
+    }
+
+    private String seed(String key) {
+        redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void bump(Collection<String> keys) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(keys);
+            return;
+        }
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(PENDING_KEYS);
+        if (Objects.isNull(pending)) {
+            Set<String> created = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_KEYS, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEYS);
+                }
+            });
+            pending = created;
+        }
+        pending.addAll(keys);
+    }
+
+    // 없던 키는 현재 시각으로 먼저 채운 뒤 올린다. 여러 키를 한 번의 왕복으로 보낸다
+    private void increment(Collection<String> keys) {
+        String seed = String.valueOf(System.currentTimeMillis());
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (String key : keys) {
+                        ops.opsForValue().setIfAbsent(key, seed);
+                        ops.opsForValue().increment(key);
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            // 올리지 못하면 같은 키가 다시 바뀔 때까지 이전 ETag로 304가 나갈 수 있다
+            log.warn("[HTTP-CACHE] failed to bump catalog versions {}: {}", keys, e.getMessage());
+        }
+    }
+
+    private static String bookKey(Long bookId) {
+        return BOOK_KEY_PREFIX + bookId;
+    }
+}
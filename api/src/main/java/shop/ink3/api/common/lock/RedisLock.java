@@ -0,0 +1,45 @@
+package shop.ink3.api.common.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.Getter;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * SET NX로 잡는 Redis 락. 획득할 때마다 새 토큰을 값으로 두고, 해제는 값이 자기 토큰일 때만 지운다.
+ * 작업이 TTL보다 오래 걸려 락이 만료되고 다른 실행이 새로 잡았더라도 그 락을 지우지 않는다.
+ */
+public final class RedisLock {
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    @Getter
+    private final String key;
+    private final String token;
+
+    private RedisLock(RedisTemplate<String, String> redisTemplate, String key, String token) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+        this.token = token;
+    }
+
+    public static Optional<RedisLock> tryAcquire(RedisTemplate<String, String> redisTemplate, String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(new RedisLock(redisTemplate, key, token)) : Optional.empty();
+    }
+
+    /**
+     * @return 자기 락을 지웠으면 true, 이미 만료됐거나 다른 실행의 락이면 false
+     */
+    public boolean release() {
+        Long deleted = redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        return deleted != null && deleted > 0;
+    }
+}
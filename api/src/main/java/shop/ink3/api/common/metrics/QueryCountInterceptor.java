@@ -0,0 +1,62 @@
+package shop.ink3.api.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 요청마다 실행한 SQL 문 수를 컨트롤러 메서드별 분포로 기록한다.
+ * 한 요청이 statementBudget을 넘기면 N+1 의심으로 경고 로그를 남기고 따로 센다.
+ */
+@Slf4j
+public class QueryCountInterceptor implements AsyncHandlerInterceptor {
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    public QueryCountInterceptor(MeterRegistry meterRegistry, int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCountingStatementInspector.begin();
+        return true;
+    }
+
+    // 비동기 처리로 넘어가면 afterCompletion이 이 스레드에서 불리지 않으므로 여기서 비운다
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCountingStatementInspector.clear();
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler,
+            Exception ex
+    ) {
+        int statements = QueryCountingStatementInspector.end();
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        String handlerName = handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        DistributionSummary.builder("http.server.requests.statements")
+                .baseUnit("statements")
+                .tag("handler", handlerName)
+                .register(meterRegistry)
+                .record(statements);
+
+        if (statements > statementBudget) {
+            meterRegistry.counter("http.server.requests.statement_budget_exceeded", "handler", handlerName)
+                    .increment();
+            log.warn("[N+1] {} {} ({}) executed {} SQL statements, budget {}",
+                    request.getMethod(), request.getRequestURI(), handlerName, statements, statementBudget);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package shop.ink3.api.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL 문을 요청 스레드 단위로 센다. 세는 구간은 QueryCountInterceptor가 연다.
+ * JdbcTemplate으로 직접 실행하는 문은 Hibernate를 거치지 않아 포함되지 않는다.
+ * 구간이 닫히지 않은 채 스레드가 풀로 돌아가지 않도록 QueryCountCleanupFilter가 요청 끝에 비운다.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    public static void begin() {
+        COUNT.set(new int[1]);
+    }
+
+    public static int end() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    public static void clear() {
+        COUNT.remove();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
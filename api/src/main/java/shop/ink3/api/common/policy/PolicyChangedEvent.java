@@ -0,0 +1,4 @@
+package shop.ink3.api.common.policy;
+
+public record PolicyChangedEvent(PolicyType type) {
+}
@@ -0,0 +1,27 @@
+package shop.ink3.api.common.policy;
+
+import java.util.Map;
+import shop.ink3.api.order.refundPolicy.dto.RefundPolicyResponse;
+import shop.ink3.api.order.shippingPolicy.dto.ShippingPolicyResponse;
+import shop.ink3.api.user.membership.dto.MembershipResponse;
+import shop.ink3.api.user.point.policy.dto.PointPolicyResponse;
+
+/**
+ * 특정 시점의 활성 정책 묶음. 만들어진 뒤에는 바뀌지 않고, 정책이 바뀌면 새 스냅샷으로 통째로 교체된다.
+ * 활성 정책이 없으면 해당 필드는 null 이다.
+ */
+public record PolicySnapshot(
+        long version,
+        PointPolicyResponse pointPolicy,
+        ShippingPolicyResponse shippingPolicy,
+        RefundPolicyResponse refundPolicy,
+        Map<Long, MembershipResponse> memberships
+) {
+    public PolicySnapshot {
+        memberships = Map.copyOf(memberships);
+    }
+
+    public MembershipResponse membership(long membershipId) {
+        return memberships.get(membershipId);
+    }
+}
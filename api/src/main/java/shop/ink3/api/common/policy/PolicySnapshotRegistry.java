@@ -0,0 +1,176 @@
+package shop.ink3.api.common.policy;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.ink3.api.order.refundPolicy.dto.RefundPolicyResponse;
+import shop.ink3.api.order.refundPolicy.entity.RefundPolicy;
+import shop.ink3.api.order.refundPolicy.repository.RefundPolicyRepository;
+import shop.ink3.api.order.shippingPolicy.dto.ShippingPolicyResponse;
+import shop.ink3.api.order.shippingPolicy.repository.ShippingPolicyRepository;
+import shop.ink3.api.user.membership.dto.MembershipResponse;
+import shop.ink3.api.user.membership.repository.MembershipRepository;
+import shop.ink3.api.user.point.policy.dto.PointPolicyResponse;
+import shop.ink3.api.user.point.policy.repository.PointPolicyRepository;
+
+/**
+ * 포인트/배송비/반품/멤버십 정책의 활성 스냅샷을 메모리에 들고 있는 레지스트리.
+ * 관리자 변경이 커밋되면 Redis의 버전 카운터를 올리고 스냅샷을 다시 읽어 원자적으로 교체한다.
+ * 다른 노드는 주기적으로 버전 카운터를 확인해 자기 스냅샷보다 새 버전이면 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class PolicySnapshotRegistry {
+    private static final String VERSION_KEY = "policy:version";
+
+    private final PointPolicyRepository pointPolicyRepository;
+    private final ShippingPolicyRepository shippingPolicyRepository;
+    private final RefundPolicyRepository refundPolicyRepository;
+    private final MembershipRepository membershipRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate readTransaction;
+    private final AtomicReference<PolicySnapshot> snapshot = new AtomicReference<>();
+    // 변경 후 버전을 올리지 못했으면 다음 주기에 버전 올리기와 재적재를 다시 한다
+    private final AtomicBoolean bumpPending = new AtomicBoolean();
+    // 첫 적재는 DB/Redis I/O를 기다리므로 synchronized 대신 가상 스레드를 고정하지 않는 락을 쓴다
+    private final ReentrantLock initialLoadLock = new ReentrantLock();
+
+    public PolicySnapshotRegistry(
+            PointPolicyRepository pointPolicyRepository,
+            ShippingPolicyRepository shippingPolicyRepository,
+            RefundPolicyRepository refundPolicyRepository,
+            MembershipRepository membershipRepository,
+            RedisTemplate<String, String> redisTemplate,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.pointPolicyRepository = pointPolicyRepository;
+        this.shippingPolicyRepository = shippingPolicyRepository;
+        this.refundPolicyRepository = refundPolicyRepository;
+        this.membershipRepository = membershipRepository;
+        this.redisTemplate = redisTemplate;
+        // 커밋 이후(AFTER_COMMIT)에도 호출되므로 항상 새 트랜잭션에서 읽는다
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    public PolicySnapshot current() {
+        PolicySnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        initialLoadLock.lock();
+        try {
+            current = snapshot.get();
+            return current != null ? current : reload(remoteVersionOrZero());
+        } finally {
+            initialLoadLock.unlock();
+        }
+    }
+
+    public long currentVersion() {
+        return current().version();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPolicyChanged(PolicyChangedEvent event) {
+        long version;
+        try {
+            version = bumpVersion();
+        } catch (RuntimeException e) {
+            // 로컬 버전만 올리면 원격 버전이 따라왔을 때 같은 번호라 재적재를 건너뛰므로 기존 버전 번호로 다시 읽는다
+            log.warn("[POLICY] failed to bump snapshot version: {}", e.getMessage());
+            bumpPending.set(true);
+            version = currentVersionOrZero();
+        }
+        PolicySnapshot reloaded = reload(version);
+        log.info("[POLICY] {} changed, snapshot reloaded at version {}", event.type(), reloaded.version());
+    }
+
+    @Scheduled(fixedDelayString = "${policy.snapshot.sync-interval:5000}")
+    public void syncWithRemoteVersion() {
+        PolicySnapshot current = snapshot.get();
+        if (current == null) {
+            return;
+        }
+        boolean pending = bumpPending.getAndSet(false);
+        try {
+            long remote = pending ? bumpVersion() : remoteVersion();
+            if (pending || remote > current.version()) {
+                reload(remote);
+                log.info("[POLICY] snapshot reloaded from version {} to {}", current.version(), remote);
+            }
+        } catch (RuntimeException e) {
+            if (pending) {
+                bumpPending.set(true);
+            }
+            log.warn("[POLICY] failed to sync snapshot: {}", e.getMessage());
+        }
+    }
+
+    PolicySnapshot reload(long version) {
+        PolicySnapshot loaded = readTransaction.execute(status -> load(version));
+        // 늦게 끝난 이전 버전의 재적재가 새 스냅샷을 덮어쓰지 않도록 버전이 같거나 클 때만 교체
+        return snapshot.accumulateAndGet(loaded, (prev, next) ->
+                prev == null || next.version() >= prev.version() ? next : prev);
+    }
+
+    private PolicySnapshot load(long version) {
+        PointPolicyResponse pointPolicy = pointPolicyRepository.findByIsActive(true)
+                .map(PointPolicyResponse::from)
+                .orElse(null);
+        ShippingPolicyResponse shippingPolicy = shippingPolicyRepository.findByIsAvailableTrue()
+                .map(ShippingPolicyResponse::from)
+                .orElse(null);
+        RefundPolicy refundPolicy = refundPolicyRepository.findByIsAvailableTrue();
+        Map<Long, MembershipResponse> memberships = membershipRepository.findAll().stream()
+                .map(MembershipResponse::from)
+                .collect(Collectors.toMap(MembershipResponse::id, Function.identity()));
+        return new PolicySnapshot(
+                version,
+                pointPolicy,
+                shippingPolicy,
+                refundPolicy != null ? RefundPolicyResponse.from(refundPolicy) : null,
+                memberships
+        );
+    }
+
+    private long bumpVersion() {
+        Long version = redisTemplate.opsForValue().increment(VERSION_KEY);
+        if (version == null) {
+            throw new IllegalStateException("INCR returned no value for " + VERSION_KEY);
+        }
+        return version;
+    }
+
+    private long remoteVersion() {
+        String value = redisTemplate.opsForValue().get(VERSION_KEY);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    private long remoteVersionOrZero() {
+        try {
+            return remoteVersion();
+        } catch (RuntimeException e) {
+            log.warn("[POLICY] failed to read snapshot version: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    private long currentVersionOrZero() {
+        PolicySnapshot current = snapshot.get();
+        return current != null ? current.version() : 0L;
+    }
+}
@@ -0,0 +1,8 @@
+package shop.ink3.api.common.policy;
+
+public enum PolicyType {
+    POINT,
+    SHIPPING,
+    REFUND,
+    MEMBERSHIP
+}
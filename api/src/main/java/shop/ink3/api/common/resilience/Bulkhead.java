@@ -0,0 +1,64 @@
+package shop.ink3.api.common.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.Getter;
+
+/**
+ * 외부 호출의 동시 실행 수를 제한한다. 허용 수를 넘는 호출은 maxWait 동안만 기다리고 실패한다.
+ */
+public class Bulkhead {
+    @Getter
+    private final String name;
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+
+    public Bulkhead(String name, int maxConcurrentCalls, Duration maxWait) {
+        this.name = name;
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    // IOException 등 검사 예외를 던지는 클라이언트 호출용
+    public <T, E extends Exception> T call(CheckedCall<T, E> call) throws E {
+        acquire();
+        try {
+            return call.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException(name);
+        }
+        if (!acquired) {
+            throw new BulkheadFullException(name);
+        }
+    }
+
+    @FunctionalInterface
+    public interface CheckedCall<T, E extends Exception> {
+        T call() throws E;
+    }
+}
@@ -0,0 +1,7 @@
+package shop.ink3.api.common.resilience;
+
+public class BulkheadFullException extends RuntimeException {
+    public BulkheadFullException(String name) {
+        super("Too many concurrent calls to %s.".formatted(name));
+    }
+}
@@ -0,0 +1,99 @@
+package shop.ink3.api.common.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.Getter;
+
+/**
+ * 연속 실패 횟수 기반 서킷 브레이커.
+ *
+ * <ul>
+ *     <li>CLOSED: 호출을 그대로 보내고, 연속 실패가 failureThreshold에 닿으면 OPEN으로 바뀐다.</li>
+ *     <li>OPEN: openDuration 동안 호출 없이 바로 실패한다.</li>
+ *     <li>HALF_OPEN: 한 건만 시험 호출을 보내 성공하면 CLOSED, 실패하면 다시 OPEN이 된다.</li>
+ * </ul>
+ */
+public class CircuitBreaker {
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    @Getter
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final Predicate<Throwable> recordFailure;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicBoolean open = new AtomicBoolean(false);
+    private final AtomicBoolean trialInFlight = new AtomicBoolean(false);
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this(name, failureThreshold, openDuration, e -> true);
+    }
+
+    public CircuitBreaker(
+            String name,
+            int failureThreshold,
+            Duration openDuration,
+            Predicate<Throwable> recordFailure
+    ) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.recordFailure = recordFailure;
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        boolean trial = false;
+        if (open.get()) {
+            if (System.nanoTime() - openedAt.get() < openNanos || !trialInFlight.compareAndSet(false, true)) {
+                throw new CircuitOpenException(name);
+            }
+            trial = true;
+        }
+
+        try {
+            T result = call.get();
+            onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            if (recordFailure.test(e)) {
+                onFailure(trial);
+            } else {
+                onSuccess();
+            }
+            throw e;
+        } finally {
+            if (trial) {
+                trialInFlight.set(false);
+            }
+        }
+    }
+
+    public State getState() {
+        if (!open.get()) {
+            return State.CLOSED;
+        }
+        return System.nanoTime() - openedAt.get() < openNanos ? State.OPEN : State.HALF_OPEN;
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        open.set(false);
+    }
+
+    private void onFailure(boolean trial) {
+        if (trial || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt.set(System.nanoTime());
+            open.set(true);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package shop.ink3.api.common.resilience;
+
+public class CircuitOpenException extends RuntimeException {
+    public CircuitOpenException(String name) {
+        super("Circuit for %s is open.".formatted(name));
+    }
+}
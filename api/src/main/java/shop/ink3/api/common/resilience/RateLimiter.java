@@ -0,0 +1,31 @@
+package shop.ink3.api.common.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 초당 허용 호출 수를 일정 간격으로 나눠 주는 단순 rate limiter.
+ * 대기는 LockSupport.parkNanos로 하므로 가상 스레드에서 호출해도 캐리어 스레드를 붙잡지 않는다.
+ */
+public class RateLimiter {
+    private final long intervalNanos;
+    private long nextFreeAt = System.nanoTime();
+
+    public RateLimiter(double permitsPerSecond) {
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    }
+
+    public void acquire() {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+    }
+
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        long at = Math.max(nextFreeAt, now);
+        nextFreeAt = at + intervalNanos;
+        return at - now;
+    }
+}
@@ -1,5 +1,6 @@
 package shop.ink3.api.common.uploader;
 
+import io.micrometer.core.annotation.Timed;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDate;
@@ -10,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import shop.ink3.api.common.exception.MinioUploadFailException;
+import shop.ink3.api.common.resilience.Bulkhead;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
@@ -18,6 +20,7 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
+@Timed("minio.client")
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -26,6 +29,7 @@ public class MinioService {
 
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final Bulkhead minioBulkhead;
 
     public String upload(MultipartFile file, String bucket) {
         String currentDate = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
@@ -38,7 +42,8 @@ public class MinioService {
                     .contentType(file.getContentType())
                     .build();
 
-            s3Client.putObject(request, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+            minioBulkhead.call(() ->
+                    s3Client.putObject(request, RequestBody.fromInputStream(file.getInputStream(), file.getSize())));
 
             return key;
         } catch (IOException e) {
@@ -64,9 +69,9 @@ public class MinioService {
 
 
     public void delete(String objectName, String bucket) {
-        s3Client.deleteObject(DeleteObjectRequest.builder()
+        minioBulkhead.execute(() -> s3Client.deleteObject(DeleteObjectRequest.builder()
                 .bucket(bucket)
                 .key(objectName)
-                .build());
+                .build()));
     }
 }
@@ -1,5 +1,7 @@
 package shop.ink3.api.coupon.bookCoupon.entity;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,6 +16,42 @@ public interface BookCouponRepository extends JpaRepository<BookCoupon, Long> {
     @Query("select bc.id from BookCoupon bc where bc.book.id = :bookId")
     List<Long> findIdsByBookId(@Param("bookId") Long bookId);
 
-    Page<BookCoupon> findAllByBookId(Long bookId, Pageable pageable);
+    // 발급 기간 안에 있는 활성 쿠폰만 DB에서 걸러 페이징
+    @Query(value = """
+            SELECT bc FROM BookCoupon bc
+            JOIN FETCH bc.coupon c
+            LEFT JOIN FETCH c.couponPolicy
+            JOIN FETCH bc.book
+            WHERE bc.book.id = :bookId
+              AND c.isActive = true
+              AND c.issuableFrom <= :now
+              AND c.expiresAt > :now
+            """,
+            countQuery = """
+            SELECT COUNT(bc) FROM BookCoupon bc
+            JOIN bc.coupon c
+            WHERE bc.book.id = :bookId
+              AND c.isActive = true
+              AND c.issuableFrom <= :now
+              AND c.expiresAt > :now
+            """)
+    Page<BookCoupon> findAllValidByBookId(
+            @Param("bookId") Long bookId,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    // 활성 여부와 무관하게 발급 기간 안에 있는 쿠폰이 있는지
+    @Query("""
+            SELECT COUNT(bc) > 0 FROM BookCoupon bc
+            JOIN bc.coupon c
+            WHERE bc.book.id = :bookId
+              AND c.issuableFrom <= :now
+              AND c.expiresAt > :now
+            """)
+    boolean existsIssuableByBookId(@Param("bookId") Long bookId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT bc FROM BookCoupon bc JOIN FETCH bc.book WHERE bc.coupon.id IN :couponIds")
+    List<BookCoupon> findAllWithBookByCouponIdIn(@Param("couponIds") Collection<Long> couponIds);
 }
 
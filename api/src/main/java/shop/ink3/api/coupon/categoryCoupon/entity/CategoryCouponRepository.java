@@ -1,5 +1,6 @@
 package shop.ink3.api.coupon.categoryCoupon.entity;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -15,7 +16,43 @@ public interface CategoryCouponRepository extends JpaRepository<CategoryCoupon,
     @Query("select cc.id from CategoryCoupon cc where cc.category.id = :categoryId")
     List<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId);
 
-    Page<CategoryCoupon> findAllByCategoryId(Long categoryId, Pageable pageable);
+    // 발급 기간 안에 있는 활성 쿠폰만 DB에서 걸러 페이징
+    @Query(value = """
+            SELECT cc FROM CategoryCoupon cc
+            JOIN FETCH cc.coupon c
+            LEFT JOIN FETCH c.couponPolicy
+            JOIN FETCH cc.category
+            WHERE cc.category.id = :categoryId
+              AND c.isActive = true
+              AND c.issuableFrom <= :now
+              AND c.expiresAt > :now
+            """,
+            countQuery = """
+            SELECT COUNT(cc) FROM CategoryCoupon cc
+            JOIN cc.coupon c
+            WHERE cc.category.id = :categoryId
+              AND c.isActive = true
+              AND c.issuableFrom <= :now
+              AND c.expiresAt > :now
+            """)
+    Page<CategoryCoupon> findAllValidByCategoryId(
+            @Param("categoryId") Long categoryId,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    // 활성 여부와 무관하게 발급 기간 안에 있는 쿠폰이 있는지
+    @Query("""
+            SELECT COUNT(cc) > 0 FROM CategoryCoupon cc
+            JOIN cc.coupon c
+            WHERE cc.category.id = :categoryId
+              AND c.issuableFrom <= :now
+              AND c.expiresAt > :now
+            """)
+    boolean existsIssuableByCategoryId(@Param("categoryId") Long categoryId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT cc FROM CategoryCoupon cc JOIN FETCH cc.category WHERE cc.coupon.id IN :couponIds")
+    List<CategoryCoupon> findAllWithCategoryByCouponIdIn(@Param("couponIds") Collection<Long> couponIds);
 
     /**
      * 단일 CategoryCoupon을 조회할 때, 연관된 category와 coupon을
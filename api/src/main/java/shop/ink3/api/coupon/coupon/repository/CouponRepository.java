@@ -1,5 +1,6 @@
 package shop.ink3.api.coupon.coupon.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -32,13 +33,14 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
     List<Coupon> findAllByNameWithFetch(@Param("name") String name);
 
 
-    // 모든 쿠폰 조회
-    @Query("SELECT DISTINCT c FROM Coupon c " +
-            "LEFT JOIN FETCH c.bookCoupons bc " +
-            "LEFT JOIN FETCH bc.book " +
-            "LEFT JOIN FETCH c.categoryCoupons cc " +
-            "LEFT JOIN FETCH cc.category")
-    Page<Coupon> findAllWithAssociations(Pageable pageable);
+    // 쿠폰 목록 1단계: 페이지에 들어갈 id와 전체 개수만 DB에서 페이징
+    @Query(value = "SELECT c.id FROM Coupon c",
+            countQuery = "SELECT COUNT(c) FROM Coupon c")
+    Page<Long> findIdPage(Pageable pageable);
+
+    // 쿠폰 목록 2단계: 페이지의 id에 해당하는 쿠폰과 정책만 조회
+    @Query("SELECT c FROM Coupon c LEFT JOIN FETCH c.couponPolicy WHERE c.id IN :ids")
+    List<Coupon> findAllWithPolicyByIdIn(@Param("ids") Collection<Long> ids);
 
     // 북 id로 쿠폰 조회
     List<Coupon> getCouponsByBookCoupons_BookId(Long id);
@@ -4,7 +4,10 @@ import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -146,54 +149,63 @@ public class CouponServiceImpl implements CouponService {
     @Override
     @Transactional(readOnly = true)
     public PageResponse<CouponResponse> getAllCoupons(Pageable pageable) {
-        Page<Coupon> coupons = couponRepository.findAllWithAssociations(pageable);
+        // 1) 컬렉션 fetch join 없이 id만 DB에서 페이징
+        Page<Long> idPage = couponRepository.findIdPage(pageable);
+        List<Long> ids = idPage.getContent();
+        if (ids.isEmpty()) {
+            return PageResponse.from(new PageImpl<>(List.<CouponResponse>of(), pageable, idPage.getTotalElements()));
+        }
 
-        // Page<Coupon> → Page<CouponResponse>
-        Page<CouponResponse> dtoPage = coupons.map(this::getCouponResponse);
+        // 2) 해당 페이지의 쿠폰/정책과 도서·카테고리 연결을 IN 쿼리로 한 번씩 조회
+        Map<Long, Coupon> couponsById = couponRepository.findAllWithPolicyByIdIn(ids).stream()
+                .collect(Collectors.toMap(Coupon::getId, Function.identity()));
+        Map<Long, List<BookInfo>> booksByCouponId = bookCouponRepository.findAllWithBookByCouponIdIn(ids).stream()
+                .collect(Collectors.groupingBy(
+                        bc -> bc.getCoupon().getId(),
+                        Collectors.mapping(bc -> new BookInfo(
+                                bc.getId(),
+                                bc.getBook().getId(),
+                                bc.getBook().getTitle(),
+                                "BOOK"), Collectors.toList())));
+        Map<Long, List<CategoryInfo>> categoriesByCouponId =
+                categoryCouponRepository.findAllWithCategoryByCouponIdIn(ids).stream()
+                        .collect(Collectors.groupingBy(
+                                cc -> cc.getCoupon().getId(),
+                                Collectors.mapping(cc -> new CategoryInfo(
+                                        cc.getId(),
+                                        cc.getCategory().getId(),
+                                        cc.getCategory().getName(),
+                                        "CATEGORY"), Collectors.toList())));
+
+        // 3) id 페이지 순서대로 응답 조립
+        List<CouponResponse> responses = ids.stream()
+                .map(couponsById::get)
+                .filter(Objects::nonNull)
+                .map(coupon -> CouponResponse.from(
+                        coupon,
+                        booksByCouponId.getOrDefault(coupon.getId(), List.of()),
+                        categoriesByCouponId.getOrDefault(coupon.getId(), List.of())))
+                .toList();
 
-        // PageResponse.from(Page<CouponResponse>) 사용
-        return PageResponse.from(dtoPage);
+        return PageResponse.from(new PageImpl<>(responses, pageable, idPage.getTotalElements()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public PageResponse<CouponResponse> getCouponsByBookId(long bookId, Pageable pageable) {
-        // 1) 원본 조회
-        Page<BookCoupon> bookCoupons = bookCouponRepository.findAllByBookId(bookId, pageable);
-
-        // 2) 만료 여부 필터링
+        // 1) 발급 기간·활성 여부를 DB에서 걸러 페이징
         LocalDateTime now = LocalDateTime.now();
-        List<BookCoupon> validList = bookCoupons.stream()
-                .filter(bc -> !bc.getCoupon().getIssuableFrom().isAfter(now))
-                .filter(bc -> bc.getCoupon().getExpiresAt().isAfter(now))
-                .toList();
+        Page<BookCoupon> validPage = bookCouponRepository.findAllValidByBookId(bookId, now, pageable);
 
-        // 3) 유효 쿠폰이 하나도 없으면 예외
-        if (validList.isEmpty()) {
-            throw new CouponNotFoundException(bookId + " 북 쿠폰이 존재하지 않습니다.");
-        }
-
-        // 3) “활성(active)” 쿠폰만 남기고 나머지는 제외
-        List<BookCoupon> activeList = validList.stream()
-                .filter(bc -> {
-                    boolean active = bc.getCoupon().isActive();
-                    if (!active) {
-                        log.warn("비활성 쿠폰 제외: couponId={}, bookId={}",
-                                bc.getCoupon().getId(), bookId);
-                    }
-                    return active;
-                })
-                .toList();
-
-        if (activeList.isEmpty()) {
+        // 2) 결과가 없으면 기간 내 쿠폰 존재 여부로 예외 구분
+        if (validPage.getTotalElements() == 0) {
+            if (!bookCouponRepository.existsIssuableByBookId(bookId, now)) {
+                throw new CouponNotFoundException(bookId + " 북 쿠폰이 존재하지 않습니다.");
+            }
             throw new CouponInUseException(bookId + " 활성 쿠폰이 없습니다.");
         }
 
-        // 4) 필터링된 리스트로 Page 생성
-        Page<BookCoupon> validPage =
-                new PageImpl<>(activeList, pageable, activeList.size());
-
-        // 5) DTO 변환
+        // 3) DTO 변환
         Page<CouponResponse> dtoPage = validPage.map(bc -> {
             BookInfo info = new BookInfo(
                     bc.getId(),
@@ -211,43 +223,19 @@ public class CouponServiceImpl implements CouponService {
     @Override
     @Transactional(readOnly = true)
     public PageResponse<CouponResponse> getCouponsByCategoryId(long categoryId, Pageable pageable) {
-        // 1) 원본 조회
-        Page<CategoryCoupon> categoryCoupons =
-                categoryCouponRepository.findAllByCategoryId(categoryId, pageable);
-
-        // 2) 만료되지 않은 것만 필터링
+        // 1) 발급 기간·활성 여부를 DB에서 걸러 페이징
         LocalDateTime now = LocalDateTime.now();
-        List<CategoryCoupon> validList = categoryCoupons.stream()
-                .filter(cc -> !cc.getCoupon().getIssuableFrom().isAfter(now))
-                .filter(cc -> cc.getCoupon().getExpiresAt().isAfter(now))
-                .toList();
-
-        // 3) 유효 쿠폰이 하나도 없으면 예외
-        if (validList.isEmpty()) {
-            throw new CouponNotFoundException(categoryId + " 카테고리 쿠폰이 존재하지 않습니다.");
-        }
+        Page<CategoryCoupon> validPage = categoryCouponRepository.findAllValidByCategoryId(categoryId, now, pageable);
 
-        // 4) “활성” 쿠폰만 남기고 나머지는 제외
-        List<CategoryCoupon> activeList = validList.stream()
-                .filter(cc -> {
-                    boolean active = cc.getCoupon().isActive();
-                    if (!active) {
-                        log.warn("비활성 카테고리 쿠폰 제외: couponId={}, categoryId={}",
-                                cc.getCoupon().getId(), categoryId);
-                    }
-                    return active;
-                })
-                .toList();
-
-        if (activeList.isEmpty()) {
+        // 2) 결과가 없으면 기간 내 쿠폰 존재 여부로 예외 구분
+        if (validPage.getTotalElements() == 0) {
+            if (!categoryCouponRepository.existsIssuableByCategoryId(categoryId, now)) {
+                throw new CouponNotFoundException(categoryId + " 카테고리 쿠폰이 존재하지 않습니다.");
+            }
             throw new CouponInUseException(categoryId + " 활성 쿠폰이 없습니다.");
         }
 
-        // 5) 필터링된 리스트로 새 Page 생성
-        Page<CategoryCoupon> validPage =
-                new PageImpl<>(activeList, pageable, activeList.size());
-
-        // 6) DTO 매핑
+        // 3) DTO 매핑
         Page<CouponResponse> dtoPage = validPage.map(cc -> {
             CategoryInfo info = new CategoryInfo(
                     cc.getId(),
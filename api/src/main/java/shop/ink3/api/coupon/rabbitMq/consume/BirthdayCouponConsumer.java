@@ -1,6 +1,7 @@
 package shop.ink3.api.coupon.rabbitMq.consume;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import lombok.RequiredArgsConstructor;
@@ -15,12 +16,10 @@ import shop.ink3.api.coupon.coupon.dto.CouponCreateRequest;
 import shop.ink3.api.coupon.coupon.dto.CouponResponse;
 import shop.ink3.api.coupon.coupon.service.Impl.CouponServiceImpl;
 import shop.ink3.api.coupon.rabbitMq.message.BirthdayCouponMessage;
-import shop.ink3.api.coupon.store.dto.CommonCouponIssueRequest;
-import shop.ink3.api.coupon.store.entity.CouponStatus;
 import shop.ink3.api.coupon.store.entity.OriginType;
-import shop.ink3.api.coupon.store.repository.CouponStoreRepository;
 import shop.ink3.api.coupon.store.service.CouponStoreService;
 
+@Timed("rabbit.consumer")
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -29,7 +28,6 @@ public class BirthdayCouponConsumer {
     private final ObjectMapper objectMapper;
     private final CouponServiceImpl couponService;
     private final CouponStoreService couponStoreService;
-    private final CouponStoreRepository couponStoreRepository;
 
     @RabbitListener(queues = "coupon.birthday")
     @Retryable(maxAttempts = 3, backoff = @Backoff(delay = 2000, multiplier = 2))
@@ -46,20 +44,8 @@ public class BirthdayCouponConsumer {
             );
             CouponResponse coupon = couponService.createCoupon(couponCreateRequest);
 
-            message.userIds().forEach(userId -> {
-                boolean alreadyIssued = couponStoreRepository.existsByStatusAndUserIdAndOriginType(
-                        CouponStatus.READY, userId, OriginType.BIRTHDAY
-                );
-                if (!alreadyIssued) {
-                    couponStoreService.issueCommonCoupon(
-                            new CommonCouponIssueRequest(userId, coupon.couponId(), OriginType.BIRTHDAY, null)
-                    );
-                    log.info("✅ userId={} 발급 성공", userId);
-                } else {
-                    log.info("⚠️ userId={} 이미 발급되어 생략", userId);
-                }
-            });
-
+            int issued = couponStoreService.issueBulkCoupons(coupon.couponId(), OriginType.BIRTHDAY, message.userIds());
+            log.info("✅ 생일 쿠폰 발급 {}건 (대상 {}명, 이미 보유한 회원 생략)", issued, message.userIds().size());
         } catch (Exception e) {
             log.error("❌ 생일 쿠폰 발급 실패 - payload: {}", payload, e);
             throw new AmqpRejectAndDontRequeueException("Failed to process message", e);
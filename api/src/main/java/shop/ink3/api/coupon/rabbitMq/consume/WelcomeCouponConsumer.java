@@ -1,5 +1,6 @@
 package shop.ink3.api.coupon.rabbitMq.consume;
 
+import io.micrometer.core.annotation.Timed;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ import shop.ink3.api.coupon.store.dto.CommonCouponIssueRequest;
 import shop.ink3.api.coupon.store.entity.OriginType;
 import shop.ink3.api.coupon.store.service.CouponStoreService;
 
+@Timed("rabbit.consumer")
 @Slf4j
 @Component
 @RequiredArgsConstructor
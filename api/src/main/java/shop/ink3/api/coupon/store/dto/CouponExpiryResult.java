@@ -0,0 +1,12 @@
+package shop.ink3.api.coupon.store.dto;
+
+public record CouponExpiryResult(
+        int expiredRows,
+        int chunks,
+        long elapsedMillis,
+        boolean skipped
+) {
+    public static CouponExpiryResult skippedRun() {
+        return new CouponExpiryResult(0, 0, 0, true);
+    }
+}
@@ -8,8 +8,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -28,10 +30,13 @@ import shop.ink3.api.user.user.entity.User;
 @AllArgsConstructor
 @Builder
 @Getter
-@Table(name = "coupon_stores")
+@Table(name = "coupon_stores", indexes = {
+        @Index(name = "idx_coupon_stores_user_status", columnList = "user_id, status")
+})
 public class CouponStore {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "coupon_stores_seq")
+    @SequenceGenerator(name = "coupon_stores_seq", sequenceName = "coupon_stores_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -1,5 +1,6 @@
 package shop.ink3.api.coupon.store.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -40,6 +41,10 @@ public class CouponStoreQuerydslRepositoryImpl extends QuerydslRepositorySupport
         if (status != null) {
             query.where(cs.status.eq(status));
         }
+        // 미사용 쿠폰 조회는 만료 배치 전에 기한이 지난 READY 행을 제외한다
+        if (status == CouponStatus.READY) {
+            query.where(coupon.expiresAt.after(LocalDateTime.now()));
+        }
 
         query.orderBy(cs.issuedAt.desc());
 
@@ -1,10 +1,13 @@
 package shop.ink3.api.coupon.store.repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -22,6 +25,18 @@ public interface CouponStoreRepository extends JpaRepository<CouponStore, Long>,
 
     @EntityGraph(attributePaths = {"coupon", "user"})
     List<CouponStore> findByUserIdAndStatus(Long userId, CouponStatus status);
+
+    // 지갑의 미사용 쿠폰. 만료 배치가 돌기 전에 기한이 지난 READY 행도 조회 단계에서 거른다
+    @Query("""
+            SELECT cs
+            FROM CouponStore cs
+            JOIN FETCH cs.coupon c
+            JOIN FETCH cs.user
+            WHERE cs.user.id = :userId
+              AND cs.status = shop.ink3.api.coupon.store.entity.CouponStatus.READY
+              AND c.expiresAt > :now
+        """)
+    List<CouponStore> findLiveByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
     @EntityGraph(attributePaths = {"coupon"})
     List<CouponStore> findAllByCouponIdAndStatus(Long couponId, CouponStatus status);
     boolean existsByUserIdAndOriginType(Long userId, OriginType originType);
@@ -64,4 +79,42 @@ public interface CouponStoreRepository extends JpaRepository<CouponStore, Long>,
     boolean existsByOriginIdAndUserId(Long originId, Long userId);
 
     boolean existsByStatusAndUserIdAndOriginType(CouponStatus status, Long userId, OriginType originType);
+
+    @Query("""
+                SELECT cs.user.id FROM CouponStore cs
+                WHERE cs.status = :status
+                  AND cs.originType = :originType
+                  AND cs.user.id IN :userIds
+            """)
+    List<Long> findUserIdsByStatusAndOriginTypeAndUserIdIn(
+            @Param("status") CouponStatus status,
+            @Param("originType") OriginType originType,
+            @Param("userIds") Collection<Long> userIds
+    );
+
+    // 쿠폰 만료일이 지난 READY 보관 쿠폰 id를 lastId 이후로 한 청크만큼 조회
+    @Query("""
+                SELECT cs.id
+                FROM CouponStore cs
+                JOIN cs.coupon c
+                WHERE cs.status = shop.ink3.api.coupon.store.entity.CouponStatus.READY
+                  AND c.expiresAt <= :now
+                  AND cs.id > :lastId
+                ORDER BY cs.id
+            """)
+    List<Long> findExpiredReadyIdsAfter(
+            @Param("now") LocalDateTime now,
+            @Param("lastId") long lastId,
+            Pageable pageable
+    );
+
+    // 조회 뒤에 사용된 쿠폰은 건너뛰도록 READY 조건을 다시 건다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                UPDATE CouponStore cs
+                SET cs.status = shop.ink3.api.coupon.store.entity.CouponStatus.EXPIRED
+                WHERE cs.status = shop.ink3.api.coupon.store.entity.CouponStatus.READY
+                  AND cs.id IN :ids
+            """)
+    int expireReadyByIdIn(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,92 @@
+package shop.ink3.api.coupon.store.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.ink3.api.common.lock.RedisLock;
+import shop.ink3.api.coupon.store.dto.CouponExpiryResult;
+import shop.ink3.api.coupon.store.repository.CouponStoreRepository;
+
+/**
+ * 만료일이 지난 READY 보관 쿠폰을 청크 단위의 UPDATE 문으로 EXPIRED 전이한다.
+ * 대상 id를 마지막 id 이후로 chunk-size개씩 읽어(keyset) id IN (...)으로 갱신하므로 만료 대상이 아닌 구간은 건너뛴다.
+ * 청크마다 별도 트랜잭션으로 처리하고, Redis 락으로 여러 노드 중 한 곳에서만 실행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CouponExpiryService {
+    private static final String LOCK_KEY = "coupon:expiry_lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+
+    private final CouponStoreRepository couponStoreRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${coupon.expiry.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Scheduled(cron = "${coupon.expiry.cron:0 5 * * * *}")
+    public void scheduledExpire() {
+        CouponExpiryResult result = expire();
+        if (result.expiredRows() > 0) {
+            log.info("[COUPON-EXPIRY] {}", result);
+        }
+    }
+
+    public CouponExpiryResult expire() {
+        Optional<RedisLock> lock = RedisLock.tryAcquire(redisTemplate, LOCK_KEY, LOCK_TTL);
+        if (lock.isEmpty()) {
+            meterRegistry.counter("coupon.expiry.runs", "result", "skipped").increment();
+            return CouponExpiryResult.skippedRun();
+        }
+        try {
+            return expireReady(LocalDateTime.now());
+        } finally {
+            if (!lock.get().release()) {
+                log.warn("[COUPON-EXPIRY] lock expired before the run finished (ttl={})", LOCK_TTL);
+            }
+        }
+    }
+
+    private CouponExpiryResult expireReady(LocalDateTime now) {
+        long start = System.nanoTime();
+        PageRequest page = PageRequest.of(0, chunkSize);
+
+        int expired = 0;
+        int chunks = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Long> ids = couponStoreRepository.findExpiredReadyIdsAfter(now, lastId, page);
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer rows = transactionTemplate.execute(status -> couponStoreRepository.expireReadyByIdIn(ids));
+            expired += rows != null ? rows : 0;
+            chunks++;
+            if (ids.size() < chunkSize) {
+                break;
+            }
+            lastId = ids.getLast();
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        meterRegistry.counter("coupon.expiry.runs", "result", "completed").increment();
+        meterRegistry.counter("coupon.expiry.rows").increment(expired);
+        meterRegistry.counter("coupon.expiry.chunks").increment(chunks);
+        meterRegistry.timer("coupon.expiry.duration").record(elapsedMillis, TimeUnit.MILLISECONDS);
+        return new CouponExpiryResult(expired, chunks, elapsedMillis, false);
+    }
+}
@@ -2,6 +2,7 @@ package shop.ink3.api.coupon.store.service;
 
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -121,6 +122,38 @@ public class CouponStoreService {
         couponStoreRepository.save(couponStore);
     }
 
+    /**
+     * 여러 회원에게 같은 쿠폰을 한 트랜잭션으로 발급한다. 이미 READY 상태로 가진 회원은 건너뛴다.
+     * userIds는 회원 조회 결과로 받은 값이라 존재 여부는 다시 확인하지 않으며, INSERT는 saveAll로 배치 처리된다.
+     *
+     * @return 새로 발급한 건수
+     */
+    @Transactional
+    public int issueBulkCoupons(Long couponId, OriginType originType, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new CouponNotFoundException("Coupon not found"));
+        Set<Long> alreadyIssued = new HashSet<>(couponStoreRepository.findUserIdsByStatusAndOriginTypeAndUserIdIn(
+                CouponStatus.READY, originType, userIds));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CouponStore> stores = userIds.stream()
+                .distinct()
+                .filter(userId -> !alreadyIssued.contains(userId))
+                .map(userId -> CouponStore.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .coupon(coupon)
+                        .originType(originType)
+                        .status(CouponStatus.READY)
+                        .issuedAt(now)
+                        .build())
+                .toList();
+        couponStoreRepository.saveAll(stores);
+        return stores.size();
+    }
+
     /**
      * 2) 유저의 모든 쿠폰 조회
      */
@@ -148,7 +181,7 @@ public class CouponStoreService {
      */
     @Transactional(readOnly = true)
     public List<CouponStore> getUnusedStoresByUserId(Long userId) {
-        return couponStoreRepository.findByUserIdAndStatus(userId, CouponStatus.READY);
+        return couponStoreRepository.findLiveByUserId(userId, LocalDateTime.now());
     }
 
     // 미사용 쿠폰 페이징 조회
@@ -0,0 +1,29 @@
+package shop.ink3.api.elastic.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import shop.ink3.api.common.config.ElasticsearchConfig;
+import shop.ink3.api.common.dto.CommonResponse;
+import shop.ink3.api.elastic.model.ReindexMode;
+import shop.ink3.api.elastic.model.ReindexResult;
+import shop.ink3.api.elastic.service.BookReindexService;
+
+@ConditionalOnBean(ElasticsearchConfig.class)
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/search/books/reindex")
+public class BookReindexController {
+    private final BookReindexService bookReindexService;
+
+    @PostMapping
+    public ResponseEntity<CommonResponse<ReindexResult>> reindex(
+            @RequestParam(required = false, defaultValue = "INCREMENTAL") ReindexMode mode
+    ) {
+        return ResponseEntity.ok(CommonResponse.success(bookReindexService.reindex(mode)));
+    }
+}
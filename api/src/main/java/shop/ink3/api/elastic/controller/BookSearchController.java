@@ -1,6 +1,7 @@
 package shop.ink3.api.elastic.controller;
 
 import java.io.IOException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.http.ResponseEntity;
@@ -11,8 +12,11 @@ import org.springframework.web.bind.annotation.RestController;
 import shop.ink3.api.book.book.dto.BookPreviewResponse;
 import shop.ink3.api.common.config.ElasticsearchConfig;
 import shop.ink3.api.common.dto.CommonResponse;
+import shop.ink3.api.common.dto.CursorPageResponse;
 import shop.ink3.api.common.dto.PageResponse;
 import shop.ink3.api.elastic.model.BookSortOption;
+import shop.ink3.api.elastic.model.BookSuggestion;
+import shop.ink3.api.elastic.service.BookSearchCacheService;
 import shop.ink3.api.elastic.service.BookSearchService;
 
 @ConditionalOnBean(ElasticsearchConfig.class)
@@ -21,6 +25,7 @@ import shop.ink3.api.elastic.service.BookSearchService;
 @RequestMapping("/search/books")
 public class BookSearchController {
     private final BookSearchService bookSearchService;
+    private final BookSearchCacheService bookSearchCacheService;
 
     @GetMapping("/by-keyword")
     public ResponseEntity<CommonResponse<PageResponse<BookPreviewResponse>>> searchBooksByKeyword(
@@ -30,7 +35,7 @@ public class BookSearchController {
             @RequestParam(required = false, defaultValue = "POPULARITY") String sort
     ) throws IOException {
         return ResponseEntity.ok(CommonResponse.success(
-                bookSearchService.searchBooksByKeyword(keyword, page, size, BookSortOption.valueOf(sort))
+                bookSearchCacheService.searchBooksByKeyword(keyword, page, size, BookSortOption.valueOf(sort))
         ));
     }
 
@@ -42,7 +47,44 @@ public class BookSearchController {
             @RequestParam(required = false, defaultValue = "POPULARITY") String sort
     ) throws IOException {
         return ResponseEntity.ok(CommonResponse.success(
-                bookSearchService.searchBooksByCategory(category, page, size, BookSortOption.valueOf(sort))
+                bookSearchCacheService.searchBooksByCategory(category, page, size, BookSortOption.valueOf(sort))
         ));
     }
+
+    @GetMapping("/by-keyword/cursor")
+    public ResponseEntity<CommonResponse<CursorPageResponse<BookPreviewResponse>>> searchBooksByKeywordAfter(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @RequestParam(required = false) String sort
+    ) throws IOException {
+        return ResponseEntity.ok(CommonResponse.success(
+                bookSearchService.searchBooksByKeywordAfter(keyword, cursor, size, toSortOption(sort))
+        ));
+    }
+
+    @GetMapping("/by-category/cursor")
+    public ResponseEntity<CommonResponse<CursorPageResponse<BookPreviewResponse>>> searchBooksByCategoryAfter(
+            @RequestParam String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @RequestParam(required = false) String sort
+    ) throws IOException {
+        return ResponseEntity.ok(CommonResponse.success(
+                bookSearchService.searchBooksByCategoryAfter(category, cursor, size, toSortOption(sort))
+        ));
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<CommonResponse<List<BookSuggestion>>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(required = false, defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(CommonResponse.success(bookSearchCacheService.suggestTitles(prefix, size)));
+    }
+
+    // 커서 요청에서 정렬을 생략하면 커서의 정렬을 이어 쓴다
+    private static BookSortOption toSortOption(String sort) {
+        return sort == null ? null : BookSortOption.valueOf(sort);
+    }
 }
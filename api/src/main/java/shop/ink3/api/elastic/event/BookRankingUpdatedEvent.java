@@ -0,0 +1,4 @@
+package shop.ink3.api.elastic.event;
+
+public record BookRankingUpdatedEvent(int updatedBookCount) {
+}
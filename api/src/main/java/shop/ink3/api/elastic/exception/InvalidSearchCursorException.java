@@ -0,0 +1,9 @@
+package shop.ink3.api.elastic.exception;
+
+import shop.ink3.api.common.exception.BadRequestException;
+
+public class InvalidSearchCursorException extends BadRequestException {
+    public InvalidSearchCursorException() {
+        super("Invalid or expired search cursor.");
+    }
+}
@@ -0,0 +1,9 @@
+package shop.ink3.api.elastic.exception;
+
+import shop.ink3.api.common.exception.AlreadyExistsException;
+
+public class ReindexInProgressException extends AlreadyExistsException {
+    public ReindexInProgressException() {
+        super("A book reindex is already running.");
+    }
+}
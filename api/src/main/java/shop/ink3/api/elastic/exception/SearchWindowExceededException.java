@@ -0,0 +1,9 @@
+package shop.ink3.api.elastic.exception;
+
+import shop.ink3.api.common.exception.BadRequestException;
+
+public class SearchWindowExceededException extends BadRequestException {
+    public SearchWindowExceededException(int maxWindow) {
+        super("Search page exceeds the %d result window. Use the cursor endpoint instead.".formatted(maxWindow));
+    }
+}
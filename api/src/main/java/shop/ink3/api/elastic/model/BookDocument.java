@@ -1,14 +1,20 @@
 package shop.ink3.api.elastic.model;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import shop.ink3.api.book.book.dto.BookAuthorDto;
 import shop.ink3.api.book.book.dto.BookDetailResponse;
+import shop.ink3.api.book.book.entity.BookStatus;
 import shop.ink3.api.book.category.dto.CategoryFlatDto;
 
+@Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -29,7 +35,14 @@ public class BookDocument {
     private Long searchCount;
     private Long popularityScore;
 
-    public BookDocument(BookDetailResponse bookDetailResponse) {
+    // 검색 결과 목록을 DB 조회 없이 구성하기 위한 미리보기 필드
+    private String thumbnailKey;
+    private Integer originalPrice;
+    private BookStatus status;
+    private List<String> authorDisplays;
+    private Long likeCount;
+
+    public BookDocument(BookDetailResponse bookDetailResponse, String thumbnailKey) {
         this.id = bookDetailResponse.id();
         this.isbn = bookDetailResponse.isbn();
         this.title = bookDetailResponse.title();
@@ -47,9 +60,10 @@ public class BookDocument {
         this.viewCount = 0L;
         this.searchCount = 0L;
         this.popularityScore = 0L;
+        updatePreview(bookDetailResponse, thumbnailKey);
     }
 
-    public void updateBookDocument(BookDetailResponse bookDetailResponse) {
+    public void updateBookDocument(BookDetailResponse bookDetailResponse, String thumbnailKey) {
         this.isbn = bookDetailResponse.isbn();
         this.title = bookDetailResponse.title();
         this.description = bookDetailResponse.description();
@@ -63,6 +77,42 @@ public class BookDocument {
         this.price = bookDetailResponse.salePrice();
         this.rating = bookDetailResponse.averageRating();
         this.reviewCount = bookDetailResponse.reviewCount();
+        updatePreview(bookDetailResponse, thumbnailKey);
+    }
+
+    // 도서 수정으로 바뀔 수 있는 필드. 조회수/평점 같은 집계 필드는 포함하지 않는다
+    public Map<String, Object> contentFields() {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("isbn", isbn);
+        fields.put("title", title);
+        fields.put("description", description);
+        fields.put("authors", authors);
+        fields.put("authorDisplays", authorDisplays);
+        fields.put("publisher", publisher);
+        fields.put("publishedAt", publishedAt);
+        fields.put("categories", categories);
+        fields.put("tags", tags);
+        fields.put("price", price);
+        fields.put("originalPrice", originalPrice);
+        fields.put("status", status);
+        fields.put("thumbnailKey", thumbnailKey);
+        return fields;
+    }
+
+    // before와 값이 다른 필드만 돌려준다
+    public Map<String, Object> changedFieldsFrom(BookDocument before) {
+        Map<String, Object> previous = before.contentFields();
+        Map<String, Object> changed = new LinkedHashMap<>();
+        contentFields().forEach((field, value) -> {
+            if (!Objects.equals(previous.get(field), value)) {
+                changed.put(field, value);
+            }
+        });
+        return changed;
+    }
+
+    public boolean hasPreview() {
+        return thumbnailKey != null && originalPrice != null && authorDisplays != null;
     }
 
     public void updateViewCount(long amount) {
@@ -82,4 +132,14 @@ public class BookDocument {
     public void updateReviewCount(long reviewCount) {
         this.reviewCount = reviewCount;
     }
+
+    private void updatePreview(BookDetailResponse bookDetailResponse, String thumbnailKey) {
+        this.thumbnailKey = thumbnailKey;
+        this.originalPrice = bookDetailResponse.originalPrice();
+        this.status = bookDetailResponse.status();
+        this.authorDisplays = bookDetailResponse.authors().stream()
+                .map(author -> "%s (%s)".formatted(author.name(), author.role()))
+                .toList();
+        this.likeCount = bookDetailResponse.likeCount();
+    }
 }
@@ -0,0 +1,12 @@
+package shop.ink3.api.elastic.model;
+
+import shop.ink3.api.book.book.entity.BookStatus;
+
+public record BookOverlay(
+        Long id,
+        Integer originalPrice,
+        Integer salePrice,
+        BookStatus status,
+        Long likeCount
+) {
+}
@@ -0,0 +1,7 @@
+package shop.ink3.api.elastic.model;
+
+public record BookSuggestion(
+        Long id,
+        String title
+) {
+}
@@ -0,0 +1,6 @@
+package shop.ink3.api.elastic.model;
+
+public enum ReindexMode {
+    FULL,
+    INCREMENTAL
+}
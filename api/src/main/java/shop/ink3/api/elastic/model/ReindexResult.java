@@ -0,0 +1,23 @@
+package shop.ink3.api.elastic.model;
+
+public record ReindexResult(
+        ReindexMode mode,
+        String targetIndex,
+        long indexed,
+        long deleted,
+        long failed,
+        long elapsedMillis,
+        double docsPerSecond
+) {
+    public static ReindexResult of(
+            ReindexMode mode,
+            String targetIndex,
+            long indexed,
+            long deleted,
+            long failed,
+            long elapsedMillis
+    ) {
+        double docsPerSecond = elapsedMillis == 0 ? indexed : indexed * 1000.0 / elapsedMillis;
+        return new ReindexResult(mode, targetIndex, indexed, deleted, failed, elapsedMillis, docsPerSecond);
+    }
+}
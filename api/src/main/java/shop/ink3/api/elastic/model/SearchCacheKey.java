@@ -0,0 +1,51 @@
+package shop.ink3.api.elastic.model;
+
+import java.util.Locale;
+
+/**
+ * 검색 결과 캐시 키. 검색어는 공백/대소문자를 정규화해 같은 질의가 하나의 키로 모이도록 한다.
+ * 검색어에 ':'가 들어가도 파싱되도록 term을 마지막에 둔다.
+ */
+public record SearchCacheKey(
+        Type type,
+        BookSortOption sort,
+        int page,
+        int size,
+        String term
+) {
+    public enum Type {
+        KEYWORD,
+        CATEGORY
+    }
+
+    public static SearchCacheKey ofKeyword(String keyword, BookSortOption sort, int page, int size) {
+        return new SearchCacheKey(Type.KEYWORD, safeSort(sort), page, size, normalize(keyword));
+    }
+
+    public static SearchCacheKey ofCategory(String category, BookSortOption sort, int page, int size) {
+        return new SearchCacheKey(Type.CATEGORY, safeSort(sort), page, size, category.strip());
+    }
+
+    public static SearchCacheKey parse(String key) {
+        String[] parts = key.split(":", 5);
+        return new SearchCacheKey(
+                Type.valueOf(parts[0]),
+                BookSortOption.valueOf(parts[1]),
+                Integer.parseInt(parts[2]),
+                Integer.parseInt(parts[3]),
+                parts[4]
+        );
+    }
+
+    public static String normalize(String keyword) {
+        return keyword.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    public String toKey() {
+        return "%s:%s:%d:%d:%s".formatted(type, sort, page, size, term);
+    }
+
+    private static BookSortOption safeSort(BookSortOption sort) {
+        return sort == null ? BookSortOption.POPULARITY : sort;
+    }
+}
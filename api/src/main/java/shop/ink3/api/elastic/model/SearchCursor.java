@@ -0,0 +1,91 @@
+package shop.ink3.api.elastic.model;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import shop.ink3.api.elastic.exception.InvalidSearchCursorException;
+
+/**
+ * search_after 페이지네이션 커서. PIT id, 정렬 옵션, 검색 조건 해시, 마지막 hit의 sort 값을 담아
+ * base64url 문자열로 클라이언트에 내려준다.
+ * 검색 조건 해시로 다른 검색어/카테고리/정렬에 커서를 재사용하는 요청을 거부한다.
+ */
+public record SearchCursor(
+        String pitId,
+        BookSortOption sort,
+        String queryHash,
+        List<Object> searchAfter
+) {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int QUERY_HASH_BYTES = 12;
+
+    public static SearchCursor of(String pitId, BookSortOption sort, String queryHash, List<FieldValue> sortValues) {
+        return new SearchCursor(
+                pitId,
+                sort,
+                queryHash,
+                sortValues.stream().map(v -> v.isNull() ? null : v._get()).toList()
+        );
+    }
+
+    public static String queryHash(SearchCacheKey.Type type, String term, BookSortOption sort) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((type + ":" + sort + ":" + term).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, QUERY_HASH_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public boolean matches(String queryHash) {
+        return this.queryHash.equals(queryHash);
+    }
+
+    public List<FieldValue> toFieldValues() {
+        return searchAfter.stream().map(SearchCursor::toFieldValue).toList();
+    }
+
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(this));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode search cursor", e);
+        }
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            SearchCursor cursor = MAPPER.readValue(Base64.getUrlDecoder().decode(token), SearchCursor.class);
+            if (cursor.pitId() == null || cursor.sort() == null || cursor.queryHash() == null
+                    || cursor.searchAfter() == null) {
+                throw new InvalidSearchCursorException();
+            }
+            return cursor;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidSearchCursorException();
+        }
+    }
+
+    private static FieldValue toFieldValue(Object value) {
+        if (value == null) {
+            return FieldValue.NULL;
+        }
+        if (value instanceof Integer || value instanceof Long) {
+            return FieldValue.of(((Number) value).longValue());
+        }
+        if (value instanceof Number number) {
+            return FieldValue.of(number.doubleValue());
+        }
+        if (value instanceof Boolean bool) {
+            return FieldValue.of(bool);
+        }
+        return FieldValue.of(value.toString());
+    }
+}
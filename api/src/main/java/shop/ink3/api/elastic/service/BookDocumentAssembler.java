@@ -0,0 +1,121 @@
+package shop.ink3.api.elastic.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import shop.ink3.api.book.book.entity.Book;
+import shop.ink3.api.book.bookauthor.entity.BookAuthor;
+import shop.ink3.api.book.bookauthor.repository.BookAuthorRepository;
+import shop.ink3.api.book.bookcategory.entity.BookCategory;
+import shop.ink3.api.book.bookcategory.repository.BookCategoryRepository;
+import shop.ink3.api.book.booktag.entity.BookTag;
+import shop.ink3.api.book.booktag.repository.BookTagRepository;
+import shop.ink3.api.book.category.entity.Category;
+import shop.ink3.api.book.category.repository.CategoryRepository;
+import shop.ink3.api.elastic.model.BookDocument;
+
+/**
+ * 도서 묶음에 대한 색인 문서를 만든다. 저자/카테고리/태그는 도서 id IN 쿼리로 한 번에 읽고,
+ * 조회수/검색수 등 색인에만 있는 카운터는 기존 문서에서 이어받는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookDocumentAssembler {
+    private final BookAuthorRepository bookAuthorRepository;
+    private final BookCategoryRepository bookCategoryRepository;
+    private final BookTagRepository bookTagRepository;
+    private final CategoryRepository categoryRepository;
+
+    public Map<Long, Category> loadCategories() {
+        return categoryRepository.findAll().stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+    }
+
+    public List<BookDocument> assemble(
+            List<Book> books,
+            Map<Long, Category> categories,
+            Map<Long, BookDocument> previous
+    ) {
+        List<Long> bookIds = books.stream().map(Book::getId).toList();
+
+        Map<Long, List<BookAuthor>> authors = groupByBook(
+                bookAuthorRepository.findAllByBookIdIn(bookIds), ba -> ba.getBook().getId());
+        Map<Long, List<BookCategory>> bookCategories = groupByBook(
+                bookCategoryRepository.findAllByBookIdIn(bookIds), bc -> bc.getBook().getId());
+        Map<Long, List<BookTag>> tags = groupByBook(
+                bookTagRepository.findAllByBookIdIn(bookIds), bt -> bt.getBook().getId());
+
+        return books.stream()
+                .map(book -> toDocument(
+                        book,
+                        authors.getOrDefault(book.getId(), List.of()),
+                        bookCategories.getOrDefault(book.getId(), List.of()),
+                        tags.getOrDefault(book.getId(), List.of()),
+                        categories,
+                        previous.get(book.getId())
+                ))
+                .toList();
+    }
+
+    private BookDocument toDocument(
+            Book book,
+            List<BookAuthor> authors,
+            List<BookCategory> bookCategories,
+            List<BookTag> tags,
+            Map<Long, Category> categories,
+            BookDocument previous
+    ) {
+        return BookDocument.builder()
+                .id(book.getId())
+                .isbn(book.getIsbn())
+                .title(book.getTitle())
+                .description(book.getDescription())
+                .authors(authors.stream().map(ba -> ba.getAuthor().getName()).toList())
+                .authorDisplays(authors.stream()
+                        .map(ba -> "%s (%s)".formatted(ba.getAuthor().getName(), ba.getRole()))
+                        .toList())
+                .publisher(book.getPublisher().getName())
+                .publishedAt(book.getPublishedAt())
+                .categories(bookCategories.stream()
+                        .flatMap(bc -> categoryPathNames(bc.getCategory(), categories).stream())
+                        .toList())
+                .tags(tags.stream().map(bt -> bt.getTag().getName()).toList())
+                .price(book.getSalePrice())
+                .originalPrice(book.getOriginalPrice())
+                .rating(book.getAverageRating())
+                .reviewCount(book.getReviewCount())
+                .likeCount(book.getLikeCount())
+                .thumbnailKey(book.getThumbnailUrl())
+                .status(book.getStatus())
+                .viewCount(previous != null && previous.getViewCount() != null ? previous.getViewCount() : 0L)
+                .searchCount(previous != null && previous.getSearchCount() != null ? previous.getSearchCount() : 0L)
+                .popularityScore(previous != null && previous.getPopularityScore() != null
+                        ? previous.getPopularityScore() : 0L)
+                .build();
+    }
+
+    // CategoryService.getAllAncestors와 같은 순서(루트 -> 자기 자신)
+    private List<String> categoryPathNames(Category category, Map<Long, Category> categories) {
+        List<String> names = new ArrayList<>();
+        Arrays.stream(category.getPath().split("/"))
+                .filter(s -> s.matches("\\d+"))
+                .map(Long::parseLong)
+                .map(categories::get)
+                .filter(Objects::nonNull)
+                .map(Category::getName)
+                .forEach(names::add);
+        names.add(category.getName());
+        return names;
+    }
+
+    private <T> Map<Long, List<T>> groupByBook(Collection<T> rows, Function<T, Long> bookId) {
+        return rows.stream().collect(Collectors.groupingBy(bookId));
+    }
+}
@@ -0,0 +1,61 @@
+package shop.ink3.api.elastic.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import shop.ink3.api.book.book.repository.BookRepository;
+import shop.ink3.api.elastic.model.BookOverlay;
+
+/**
+ * 검색 결과에 덮어쓸 최신 가격/상태/좋아요 수를 짧은 TTL로 캐싱한다.
+ * 캐시에 없는 id만 모아 한 번의 IN 쿼리로 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookOverlayCache {
+    // 노드마다 따로 가지는 캐시라 evict는 색인을 갱신한 노드에서만 일어난다. 다른 노드는 이 TTL 안에 따라온다
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final int MAX_ENTRIES = 50_000;
+
+    private final BookRepository bookRepository;
+    private final Map<Long, Entry> cache = new ConcurrentHashMap<>();
+
+    public Map<Long, BookOverlay> getAll(Collection<Long> bookIds) {
+        long now = System.nanoTime();
+        Map<Long, BookOverlay> result = new HashMap<>();
+        List<Long> missing = bookIds.stream()
+                .filter(id -> {
+                    Entry entry = cache.get(id);
+                    if (entry != null && entry.expiresAt() - now > 0) {
+                        result.put(id, entry.overlay());
+                        return false;
+                    }
+                    return true;
+                })
+                .toList();
+
+        if (!missing.isEmpty()) {
+            if (cache.size() > MAX_ENTRIES) {
+                cache.clear();
+            }
+            long expiresAt = now + TTL.toNanos();
+            bookRepository.findOverlaysByIdIn(missing).forEach(overlay -> {
+                cache.put(overlay.id(), new Entry(overlay, expiresAt));
+                result.put(overlay.id(), overlay);
+            });
+        }
+        return result;
+    }
+
+    public void evict(long bookId) {
+        cache.remove(bookId);
+    }
+
+    private record Entry(BookOverlay overlay, long expiresAt) {
+    }
+}
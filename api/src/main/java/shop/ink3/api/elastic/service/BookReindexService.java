@@ -0,0 +1,345 @@
+package shop.ink3.api.elastic.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.MgetResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.ink3.api.book.book.entity.Book;
+import shop.ink3.api.book.book.entity.BookStatus;
+import shop.ink3.api.book.book.repository.BookRepository;
+import shop.ink3.api.book.category.entity.Category;
+import shop.ink3.api.common.config.ElasticsearchConfig;
+import shop.ink3.api.common.lock.RedisLock;
+import shop.ink3.api.elastic.exception.ReindexInProgressException;
+import shop.ink3.api.elastic.model.BookDocument;
+import shop.ink3.api.elastic.model.ReindexMode;
+import shop.ink3.api.elastic.model.ReindexResult;
+
+/**
+ * DB의 books 테이블로부터 검색 색인을 다시 만든다.
+ *
+ * <ul>
+ *     <li>FULL: 버전이 붙은 새 색인에 전체 도서를 적재한 뒤 alias를 원자적으로 교체한다.
+ *     한 건이라도 실패하면 교체하지 않고 새 색인을 지운다.</li>
+ *     <li>INCREMENTAL: 마지막 실행 이후 updated_at이 바뀐 도서만 현재 alias에 반영한다.</li>
+ * </ul>
+ *
+ * 도서는 id 순서의 keyset 청크로 읽기 전용 트랜잭션에서 읽고, 청크별 _bulk 요청은 worker 스레드에서 병렬로 보낸다.
+ */
+@ConditionalOnBean(ElasticsearchConfig.class)
+@Slf4j
+@Service
+public class BookReindexService {
+    private static final String WATERMARK_KEY = "book:reindex:watermark";
+    private static final String LOCK_KEY = "book:reindex:lock";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+    private static final String INDEX_DEFINITION = "elastic/index.json";
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(1);
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final ElasticsearchClient client;
+    private final BookRepository bookRepository;
+    private final BookDocumentAssembler assembler;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${elasticsearch.index}")
+    private String alias;
+
+    @Value("${elasticsearch.reindex.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${elasticsearch.reindex.workers:4}")
+    private int workers;
+
+    public BookReindexService(
+            ElasticsearchClient client,
+            BookRepository bookRepository,
+            BookDocumentAssembler assembler,
+            RedisTemplate<String, String> redisTemplate,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.client = client;
+        this.bookRepository = bookRepository;
+        this.assembler = assembler;
+        this.redisTemplate = redisTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public ReindexResult reindex(ReindexMode mode) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ReindexInProgressException();
+        }
+        Optional<RedisLock> lock = RedisLock.tryAcquire(redisTemplate, LOCK_KEY, LOCK_TTL);
+        if (lock.isEmpty()) {
+            running.set(false);
+            throw new ReindexInProgressException();
+        }
+
+        try {
+            return mode == ReindexMode.FULL ? fullReindex() : incrementalReindex(readWatermark());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            if (!lock.get().release()) {
+                log.warn("[REINDEX] lock expired before the run finished (ttl={})", LOCK_TTL);
+            }
+            running.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${elasticsearch.reindex.incremental-interval:600000}")
+    public void scheduledIncrementalReindex() {
+        try {
+            ReindexResult result = reindex(ReindexMode.INCREMENTAL);
+            if (result.indexed() + result.deleted() > 0) {
+                log.info("[REINDEX] {}", result);
+            }
+        } catch (ReindexInProgressException e) {
+            log.debug("[REINDEX] skipped, another run in progress");
+        }
+    }
+
+    private ReindexResult fullReindex() throws IOException {
+        LocalDateTime startedAt = LocalDateTime.now();
+        String newIndex = alias + "_v" + startedAt.format(VERSION_FORMAT);
+        long start = System.nanoTime();
+
+        createIndex(newIndex);
+        Map<Long, Category> categories = assembler.loadCategories();
+        Counters counters = streamChunks(
+                newIndex,
+                lastId -> bookRepository.findChunkAfter(lastId, PageRequest.of(0, chunkSize)),
+                categories
+        );
+
+        ReindexResult result = ReindexResult.of(ReindexMode.FULL, newIndex, counters.indexed.get(),
+                counters.deleted.get(), counters.failed.get(), elapsedMillis(start));
+        if (counters.failed.get() > 0) {
+            // 빠진 도서가 있는 색인을 공개하지 않는다. 기존 alias와 색인은 그대로 둔다
+            log.warn("[REINDEX] full reindex had {} failed documents, discarding {}", counters.failed.get(), newIndex);
+            client.indices().delete(d -> d.index(newIndex));
+            return result;
+        }
+
+        client.indices().putSettings(p -> p.index(newIndex).settings(s -> s.refreshInterval(t -> t.time("1s"))));
+        client.indices().refresh(r -> r.index(newIndex));
+        swapAlias(newIndex);
+        log.info("[REINDEX] {}", result);
+
+        // 전체 적재 중에 바뀐 도서를 새 색인에 반영
+        incrementalReindex(startedAt);
+        return result;
+    }
+
+    private ReindexResult incrementalReindex(LocalDateTime watermark) throws IOException {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = watermark.minus(WATERMARK_OVERLAP);
+        long start = System.nanoTime();
+
+        Counters counters = streamChunks(
+                alias,
+                lastId -> bookRepository.findChangedChunkAfter(since, lastId, PageRequest.of(0, chunkSize)),
+                assembler.loadCategories()
+        );
+
+        if (counters.failed.get() == 0) {
+            redisTemplate.opsForValue().set(WATERMARK_KEY, startedAt.toString());
+        }
+        return ReindexResult.of(ReindexMode.INCREMENTAL, alias, counters.indexed.get(),
+                counters.deleted.get(), counters.failed.get(), elapsedMillis(start));
+    }
+
+    private Counters streamChunks(
+            String targetIndex,
+            ChunkReader reader,
+            Map<Long, Category> categories
+    ) throws IOException {
+        Counters counters = new Counters();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        Semaphore inFlight = new Semaphore(workers * 2);
+
+        try {
+            long lastId = 0;
+            while (true) {
+                long after = lastId;
+                List<BookDocument> documents = readOnlyTransaction.execute(status -> {
+                    List<Book> books = reader.read(after);
+                    if (books.isEmpty()) {
+                        return List.of();
+                    }
+                    return assembler.assemble(books, categories, loadCounters(books));
+                });
+                if (documents == null || documents.isEmpty()) {
+                    break;
+                }
+                lastId = documents.getLast().getId();
+
+                inFlight.acquireUninterruptibly();
+                executor.submit(() -> {
+                    try {
+                        bulkWrite(targetIndex, documents, counters);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(1, TimeUnit.HOURS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return counters;
+    }
+
+    // 색인에만 있는 조회수/검색수는 현재 alias의 문서에서 이어받는다
+    private Map<Long, BookDocument> loadCounters(List<Book> books) {
+        try {
+            List<String> ids = books.stream().map(book -> book.getId().toString()).toList();
+            MgetResponse<BookDocument> response = client.mget(m -> m
+                            .index(alias)
+                            .ids(ids)
+                            .sourceIncludes("id", "viewCount", "searchCount", "popularityScore"),
+                    BookDocument.class
+            );
+            return response.docs().stream()
+                    .filter(item -> item.isResult() && item.result().found())
+                    .map(item -> item.result().source())
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toMap(BookDocument::getId, document -> document));
+        } catch (IOException | RuntimeException e) {
+            log.warn("[REINDEX] could not read existing counters: {}", e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    private void bulkWrite(String targetIndex, List<BookDocument> documents, Counters counters) {
+        BulkRequest.Builder bulk = new BulkRequest.Builder();
+        for (BookDocument document : documents) {
+            if (document.getStatus() == BookStatus.DELETED) {
+                bulk.operations(op -> op.delete(d -> d.index(targetIndex).id(document.getId().toString())));
+            } else {
+                bulk.operations(op -> op.index(i -> i
+                        .index(targetIndex)
+                        .id(document.getId().toString())
+                        .document(document)));
+            }
+        }
+
+        try {
+            BulkResponse response = client.bulk(bulk.build());
+            for (BulkResponseItem item : response.items()) {
+                if (item.error() != null && item.status() != 404) {
+                    counters.failed.incrementAndGet();
+                    log.warn("[REINDEX] id={} failed: {}", item.id(), item.error().reason());
+                } else if (item.operationType().jsonValue().equals("delete")) {
+                    counters.deleted.incrementAndGet();
+                } else {
+                    counters.indexed.incrementAndGet();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            counters.failed.addAndGet(documents.size());
+            log.warn("[REINDEX] bulk of {} documents failed: {}", documents.size(), e.getMessage());
+        }
+    }
+
+    private void createIndex(String name) throws IOException {
+        String definition;
+        try (InputStream in = new ClassPathResource(INDEX_DEFINITION).getInputStream()) {
+            // 파일 첫 줄의 "//PUT ..." 주석은 제외
+            definition = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()
+                    .filter(line -> !line.strip().startsWith("//"))
+                    .collect(Collectors.joining("\n"));
+        }
+
+        client.indices().create(CreateIndexRequest.of(c -> c
+                .withJson(new StringReader(definition))
+                .index(name)
+        ));
+        // 적재 중에는 refresh를 끄고 마지막에 한 번만 수행
+        client.indices().putSettings(p -> p.index(name).settings(s -> s.refreshInterval(t -> t.time("-1"))));
+    }
+
+    private void swapAlias(String newIndex) throws IOException {
+        List<Action> actions = new ArrayList<>();
+        actions.add(Action.of(a -> a.add(add -> add.index(newIndex).alias(alias))));
+
+        Set<String> previous = Set.of();
+        if (client.indices().existsAlias(e -> e.name(alias)).value()) {
+            previous = client.indices().getAlias(g -> g.name(alias)).result().keySet();
+            previous.forEach(old -> actions.add(Action.of(a -> a.remove(r -> r.index(old).alias(alias)))));
+        } else if (client.indices().exists(e -> e.index(alias)).value()) {
+            // alias 도입 전의 단일 색인은 교체와 동시에 제거
+            actions.add(Action.of(a -> a.removeIndex(r -> r.index(alias))));
+        }
+
+        client.indices().updateAliases(u -> u.actions(actions));
+
+        List<String> stale = previous.stream().filter(old -> !old.equals(newIndex)).toList();
+        if (!stale.isEmpty()) {
+            client.indices().delete(d -> d.index(stale));
+        }
+    }
+
+    private LocalDateTime readWatermark() {
+        String value = redisTemplate.opsForValue().get(WATERMARK_KEY);
+        return value != null ? LocalDateTime.parse(value) : EPOCH;
+    }
+
+    private long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    @FunctionalInterface
+    private interface ChunkReader {
+        List<Book> read(long lastId);
+    }
+
+    private static class Counters {
+        private final AtomicLong indexed = new AtomicLong();
+        private final AtomicLong deleted = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+    }
+}
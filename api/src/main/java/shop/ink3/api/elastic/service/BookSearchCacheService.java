@@ -0,0 +1,189 @@
+package shop.ink3.api.elastic.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import shop.ink3.api.book.book.dto.BookPreviewResponse;
+import shop.ink3.api.common.cache.CacheNames;
+import shop.ink3.api.common.config.ElasticsearchConfig;
+import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.elastic.event.BookRankingUpdatedEvent;
+import shop.ink3.api.elastic.model.BookSortOption;
+import shop.ink3.api.elastic.model.BookSuggestion;
+import shop.ink3.api.elastic.model.SearchCacheKey;
+
+/**
+ * 검색 결과/자동완성 캐시.
+ * 일반 질의는 짧은 TTL로 만료되고, 최근 구간에 많이 들어온 상위 질의(head query)는
+ * 만료 전에 주기적으로 다시 채워 캐시에 고정된다.
+ * 질의 횟수는 검색마다 Redis에 쓰지 않고 노드에서 세어 두었다가 갱신 주기마다 한 번에 보낸다.
+ */
+@ConditionalOnBean(ElasticsearchConfig.class)
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BookSearchCacheService {
+    private static final String HEAD_QUERY_KEY = "book:search_query_hits";
+    private static final String REFRESH_LOCK_KEY = "book:search_query_refresh_lock";
+    private static final int HEAD_QUERY_COUNT = 50;
+    // 한 주기에 모아 둘 서로 다른 질의 수 상한. 넘친 새 질의는 다음 주기까지 세지 않는다
+    private static final int MAX_PENDING_QUERIES = 10_000;
+
+    private final BookSearchService bookSearchService;
+    private final CacheManager cacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ConcurrentMap<String, LongAdder> pendingQueryHits = new ConcurrentHashMap<>();
+
+    public PageResponse<BookPreviewResponse> searchBooksByKeyword(
+            String keyword,
+            int page,
+            int size,
+            BookSortOption sortOption
+    ) throws IOException {
+        return getPage(SearchCacheKey.ofKeyword(keyword, sortOption, page, size));
+    }
+
+    public PageResponse<BookPreviewResponse> searchBooksByCategory(
+            String category,
+            int page,
+            int size,
+            BookSortOption sortOption
+    ) throws IOException {
+        return getPage(SearchCacheKey.ofCategory(category, sortOption, page, size));
+    }
+
+    public List<BookSuggestion> suggestTitles(String prefix, int size) {
+        String normalized = SearchCacheKey.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return cache(CacheNames.BOOK_SUGGEST).get(
+                size + ":" + normalized,
+                () -> bookSearchService.suggestTitles(normalized, size)
+        );
+    }
+
+    @EventListener
+    public void evictOnRankingUpdated(BookRankingUpdatedEvent event) {
+        log.info("[SEARCH-CACHE] ranking updated for {} books, clearing search cache", event.updatedBookCount());
+        cache(CacheNames.BOOK_SEARCH).clear();
+    }
+
+    // 검색 캐시 TTL(1분)보다 짧은 주기로 상위 질의를 미리 갱신한다
+    // 모든 노드가 모아 둔 질의 횟수를 보내고, 락을 잡은 노드만 상위 질의를 다시 채운다
+    @Scheduled(fixedRate = 30_000)
+    public void refreshHeadQueries() {
+        flushQueryHits();
+
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(REFRESH_LOCK_KEY, "1", Duration.ofSeconds(25));
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+
+        Set<String> headQueries = redisTemplate.opsForZSet().reverseRange(HEAD_QUERY_KEY, 0, HEAD_QUERY_COUNT - 1);
+        redisTemplate.delete(HEAD_QUERY_KEY);
+        if (headQueries == null) {
+            return;
+        }
+
+        Cache cache = cache(CacheNames.BOOK_SEARCH);
+        for (String cacheKey : headQueries) {
+            try {
+                cache.put(cacheKey, load(SearchCacheKey.parse(cacheKey)));
+            } catch (IOException | RuntimeException e) {
+                log.warn("[SEARCH-CACHE] failed to refresh {}: {}", cacheKey, e.getMessage());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private PageResponse<BookPreviewResponse> getPage(SearchCacheKey key) throws IOException {
+        String cacheKey = key.toKey();
+        recordQueryHit(cacheKey);
+
+        Cache cache = cache(CacheNames.BOOK_SEARCH);
+        PageResponse<BookPreviewResponse> cached = cache.get(cacheKey, PageResponse.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        PageResponse<BookPreviewResponse> loaded = load(key);
+        cache.put(cacheKey, loaded);
+        return loaded;
+    }
+
+    private void recordQueryHit(String cacheKey) {
+        LongAdder hits = pendingQueryHits.get(cacheKey);
+        if (hits == null) {
+            if (pendingQueryHits.size() >= MAX_PENDING_QUERIES) {
+                return;
+            }
+            hits = pendingQueryHits.computeIfAbsent(cacheKey, k -> new LongAdder());
+        }
+        hits.increment();
+    }
+
+    // 떼어 내는 순간에 더해진 횟수 몇 건은 빠질 수 있다. 상위 질의를 고르는 데는 영향이 없다
+    private void flushQueryHits() {
+        Map<String, Long> hits = new HashMap<>();
+        for (String cacheKey : pendingQueryHits.keySet()) {
+            LongAdder removed = pendingQueryHits.remove(cacheKey);
+            if (removed != null) {
+                hits.put(cacheKey, removed.sum());
+            }
+        }
+        if (hits.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    hits.forEach((cacheKey, count) -> ops.opsForZSet().incrementScore(HEAD_QUERY_KEY, cacheKey, count));
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("[SEARCH-CACHE] failed to flush {} query counts: {}", hits.size(), e.getMessage());
+        }
+    }
+
+    // ES 호출은 BookSearchService 안에서 elasticsearchBulkhead를 거친다.
+    // 여기서 다시 감싸면 한 호출이 허용 수를 두 번 잡아 포화 시 서로 기다리게 된다
+    private PageResponse<BookPreviewResponse> load(SearchCacheKey key) throws IOException {
+        return switch (key.type()) {
+            case KEYWORD -> bookSearchService.searchBooksByKeyword(key.term(), key.page(), key.size(), key.sort());
+            case CATEGORY -> bookSearchService.searchBooksByCategory(key.term(), key.page(), key.size(), key.sort());
+        };
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + name);
+        }
+        return cache;
+    }
+}
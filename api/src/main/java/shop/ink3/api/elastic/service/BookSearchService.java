@@ -1,62 +1,122 @@
 package shop.ink3.api.elastic.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.ClosePointInTimeRequest;
 import co.elastic.clients.elasticsearch.core.GetResponse;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.TotalHits;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
+import io.micrometer.core.annotation.Timed;
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import shop.ink3.api.book.book.dto.BookDetailResponse;
 import shop.ink3.api.book.book.dto.BookPreviewResponse;
 import shop.ink3.api.book.book.entity.Book;
+import shop.ink3.api.book.book.entity.BookStatus;
 import shop.ink3.api.book.book.repository.BookRepository;
 import shop.ink3.api.book.bookauthor.repository.BookAuthorRepository;
 import shop.ink3.api.common.config.ElasticsearchConfig;
+import shop.ink3.api.common.dto.CursorPageResponse;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.resilience.Bulkhead;
 import shop.ink3.api.common.uploader.MinioService;
+import shop.ink3.api.elastic.event.BookRankingUpdatedEvent;
+import shop.ink3.api.elastic.exception.InvalidSearchCursorException;
+import shop.ink3.api.elastic.exception.SearchWindowExceededException;
 import shop.ink3.api.elastic.model.BookDocument;
+import shop.ink3.api.elastic.model.BookOverlay;
 import shop.ink3.api.elastic.model.BookSortOption;
+import shop.ink3.api.elastic.model.BookSuggestion;
+import shop.ink3.api.elastic.model.SearchCacheKey;
+import shop.ink3.api.elastic.model.SearchCursor;
 import shop.ink3.api.elastic.repository.BookSearchRedisRepository;
 
+@Timed("elasticsearch.book_search")
 @ConditionalOnBean(ElasticsearchConfig.class)
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class BookSearchService {
+    private static final int MAX_RESULT_WINDOW = 10_000;
+    private static final String PIT_KEEP_ALIVE = "1m";
+    private static final String SEARCH_CONTEXT_MISSING = "search_context_missing_exception";
+    private static final List<String> PREVIEW_FIELDS = List.of(
+            "id", "title", "price", "originalPrice", "thumbnailKey", "authorDisplays",
+            "rating", "reviewCount", "likeCount", "status"
+    );
+
     @Value("${elasticsearch.index}")
     private String index;
 
     @Value("${minio.book-bucket}")
     private String bucket;
 
+    @Value("${elasticsearch.search.overlay-enabled:false}")
+    private boolean overlayEnabled;
+
     private final ElasticsearchClient client;
+    private final Bulkhead elasticsearchBulkhead;
     private final BookSearchRedisRepository bookSearchRedisRepository;
     private final BookRepository bookRepository;
     private final MinioService minioService;
     private final BookAuthorRepository bookAuthorRepository;
+    private final BookOverlayCache bookOverlayCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void indexBook(BookDocument bookDocument) {
         try {
-            client.index(i -> i
+            elasticsearchBulkhead.call(() -> client.index(i -> i
                     .index(index)
                     .id(bookDocument.getId().toString())
                     .document(bookDocument)
-            );
+            ));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    // 여러 문서를 _bulk 한 번으로 색인. 실패한 문서 수를 돌려준다
+    public int indexBooks(List<BookDocument> bookDocuments) {
+        if (bookDocuments.isEmpty()) {
+            return 0;
+        }
+        try {
+            BulkResponse response = elasticsearchBulkhead.call(() -> client.bulk(b -> {
+                bookDocuments.forEach(document -> b.operations(op -> op.index(i -> i
+                        .index(index)
+                        .id(document.getId().toString())
+                        .document(document))));
+                return b;
+            }));
+            if (!response.errors()) {
+                return 0;
+            }
+            List<BulkResponseItem> failed = response.items().stream().filter(item -> item.error() != null).toList();
+            failed.forEach(item -> log.warn("[INDEX] id={} failed: {}", item.id(), item.error().reason()));
+            return failed.size();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -64,10 +124,10 @@ public class BookSearchService {
 
     public BookDocument getBook(long bookId) {
         try {
-            GetResponse<BookDocument> response = client.get(
+            GetResponse<BookDocument> response = elasticsearchBulkhead.call(() -> client.get(
                     g -> g.index(index).id(String.valueOf(bookId)),
                     BookDocument.class
-            );
+            ));
             return response.found() ? response.source() : null;
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -82,33 +142,7 @@ public class BookSearchService {
             BookSortOption sortOption
     ) throws IOException {
         BookSortOption safeSortOption = sortOption == null ? BookSortOption.POPULARITY : sortOption;
-
-        SearchResponse<BookDocument> response = client.search(search -> search
-                        .index(index)
-                        .from(page * size)
-                        .size(size)
-                        .query(q -> q.
-                                bool(b -> {
-                                            b.should(sh -> sh.match(m -> m.field("title").query(keyword).boost(100f)));
-                                            b.should(sh -> sh.match(m -> m.field("description").query(keyword).boost(10f)));
-                                            b.should(sh -> sh.match(m -> m.field("tags").query(keyword).boost(50f)));
-                                            b.should(sh -> sh.match(m -> m.field("authors").query(keyword).boost(50f)));
-
-                                            if (safeSortOption == BookSortOption.RATING) {
-                                                b.filter(f -> f.range(r -> r.number(n -> n
-                                                        .field("reviewCount")
-                                                        .gte(100.0)
-                                                )));
-                                            }
-
-                                            return b;
-                                        }
-                                )
-                        )
-                        .sort(s -> s.field(f -> f.field(safeSortOption.getSortField()).order(safeSortOption.getSortOrder()))),
-                BookDocument.class
-        );
-        return PageResponse.from(wrapToPage(response, page, size));
+        return searchPage(keywordQuery(keyword, safeSortOption), page, size, safeSortOption);
     }
 
     @Transactional(readOnly = true)
@@ -119,26 +153,94 @@ public class BookSearchService {
             BookSortOption sortOption
     ) throws IOException {
         BookSortOption safeSortOption = sortOption == null ? BookSortOption.POPULARITY : sortOption;
+        return searchPage(categoryQuery(category), page, size, safeSortOption);
+    }
 
-        SearchResponse<BookDocument> response = client.search(search -> search
-                        .index(index)
-                        .from(page * size)
-                        .size(size)
-                        .query(q -> q
-                            .bool(b -> b.filter(
-                                f -> f.term(t -> t.field("categories.keyword").value(category))
-                            ))
-                        )
-                        .sort(s -> s.field(f -> f.field(safeSortOption.getSortField()).order(safeSortOption.getSortOrder()))),
-                BookDocument.class
+    @Transactional(readOnly = true)
+    public CursorPageResponse<BookPreviewResponse> searchBooksByKeywordAfter(
+            String keyword,
+            String cursor,
+            int size,
+            BookSortOption sortOption
+    ) throws IOException {
+        SearchCursor decoded = cursor == null ? null : SearchCursor.decode(cursor);
+        BookSortOption safeSortOption = resolveSortOption(decoded, sortOption);
+        String queryHash = SearchCursor.queryHash(
+                SearchCacheKey.Type.KEYWORD, SearchCacheKey.normalize(keyword), safeSortOption);
+        return searchAfter(keywordQuery(keyword, safeSortOption), decoded, queryHash, size, safeSortOption);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<BookPreviewResponse> searchBooksByCategoryAfter(
+            String category,
+            String cursor,
+            int size,
+            BookSortOption sortOption
+    ) throws IOException {
+        SearchCursor decoded = cursor == null ? null : SearchCursor.decode(cursor);
+        BookSortOption safeSortOption = resolveSortOption(decoded, sortOption);
+        String queryHash = SearchCursor.queryHash(SearchCacheKey.Type.CATEGORY, category.strip(), safeSortOption);
+        return searchAfter(categoryQuery(category), decoded, queryHash, size, safeSortOption);
+    }
+
+    public List<BookSuggestion> suggestTitles(String prefix, int size) throws IOException {
+        SearchRequest request = SearchRequest.of(search -> search
+                .index(index)
+                .size(size)
+                .query(q -> q.match(m -> m.field("title.autocomplete").query(prefix).operator(Operator.And)))
+                .source(src -> src.filter(f -> f.includes("id", "title")))
         );
-        return PageResponse.from(wrapToPage(response, page, size));
+        return elasticsearchBulkhead.call(() -> client.search(request, BookDocument.class)).hits().hits().stream()
+                .map(Hit::source)
+                .filter(Objects::nonNull)
+                .map(document -> new BookSuggestion(document.getId(), document.getTitle()))
+                .toList();
     }
 
-    public void updateBook(BookDetailResponse bookDetailResponse) {
-        BookDocument bookDocument = getBook(bookDetailResponse.id());
-        bookDocument.updateBookDocument(bookDetailResponse);
-        indexBook(bookDocument);
+    /**
+     * 바뀐 필드만 부분 업데이트한다. 색인에 문서가 없으면 bookDocument 전체로 새로 만든다.
+     */
+    public void updateBookFields(BookDocument bookDocument, Map<String, Object> changedFields) {
+        if (changedFields.isEmpty()) {
+            return;
+        }
+        try {
+            elasticsearchBulkhead.call(() -> client.update(u -> u
+                            .index(index)
+                            .id(bookDocument.getId().toString())
+                            .doc(changedFields)
+                            .upsert(bookDocument),
+                    BookDocument.class
+            ));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        bookOverlayCache.evict(bookDocument.getId());
+    }
+
+    // 여러 문서의 일부 필드를 _bulk 한 번으로 갱신. 실패한 문서 수를 돌려준다
+    public int updateBooksFields(Map<Long, Map<String, Object>> changedFieldsById) {
+        if (changedFieldsById.isEmpty()) {
+            return 0;
+        }
+        try {
+            BulkResponse response = elasticsearchBulkhead.call(() -> client.bulk(b -> {
+                changedFieldsById.forEach((bookId, fields) -> b.operations(op -> op.update(u -> u
+                        .index(index)
+                        .id(bookId.toString())
+                        .action(a -> a.doc(fields)))));
+                return b;
+            }));
+            changedFieldsById.keySet().forEach(bookOverlayCache::evict);
+            if (!response.errors()) {
+                return 0;
+            }
+            List<BulkResponseItem> failed = response.items().stream().filter(item -> item.error() != null).toList();
+            failed.forEach(item -> log.warn("[INDEX] id={} partial update failed: {}", item.id(), item.error().reason()));
+            return failed.size();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     public void updateRatingAndReviewCount(long bookId, double rating, long reviewCount) {
@@ -183,50 +285,254 @@ public class BookSearchService {
 
             indexBook(bookDocument);
         }
+
+        if (!allKeys.isEmpty()) {
+            eventPublisher.publishEvent(new BookRankingUpdatedEvent(allKeys.size()));
+        }
     }
 
     public void deleteBook(long bookId) {
         try {
-            client.delete(d -> d.index(index).id(String.valueOf(bookId)));
+            elasticsearchBulkhead.call(() -> client.delete(d -> d.index(index).id(String.valueOf(bookId))));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    private PageResponse<BookPreviewResponse> searchPage(
+            Query query,
+            int page,
+            int size,
+            BookSortOption sortOption
+    ) throws IOException {
+        if ((long) (page + 1) * size > MAX_RESULT_WINDOW) {
+            throw new SearchWindowExceededException(MAX_RESULT_WINDOW);
+        }
+
+        SearchRequest request = SearchRequest.of(search -> search
+                .index(index)
+                .from(page * size)
+                .size(size)
+                .query(query)
+                .source(src -> src.filter(f -> f.includes(PREVIEW_FIELDS)))
+                .trackTotalHits(t -> t.count(MAX_RESULT_WINDOW))
+                .sort(s -> s.field(f -> f.field(sortOption.getSortField()).order(sortOption.getSortOrder())))
+        );
+        SearchResponse<BookDocument> response =
+                elasticsearchBulkhead.call(() -> client.search(request, BookDocument.class));
+        return PageResponse.from(wrapToPage(response, page, size));
+    }
+
+    // PIT으로 검색 시점의 스냅샷을 고정하고 search_after로 다음 페이지를 이어 읽는다
+    private CursorPageResponse<BookPreviewResponse> searchAfter(
+            Query query,
+            SearchCursor cursor,
+            String queryHash,
+            int size,
+            BookSortOption sortOption
+    ) throws IOException {
+        // 다른 검색 조건에서 받은 커서의 sort 값으로 이어 읽으면 엉뚱한 위치부터 결과가 나온다
+        if (cursor != null && !cursor.matches(queryHash)) {
+            throw new InvalidSearchCursorException();
+        }
+        String pitId = cursor != null ? cursor.pitId() : openPointInTime();
+
+        SearchRequest request = SearchRequest.of(search -> {
+            search.pit(p -> p.id(pitId).keepAlive(k -> k.time(PIT_KEEP_ALIVE)))
+                    .size(size)
+                    .query(query)
+                    .source(src -> src.filter(f -> f.includes(PREVIEW_FIELDS)))
+                    .trackTotalHits(t -> t.count(MAX_RESULT_WINDOW))
+                    .sort(s -> s.field(f -> f.field(sortOption.getSortField()).order(sortOption.getSortOrder())));
+            if (cursor != null) {
+                search.searchAfter(cursor.toFieldValues());
+            }
+            return search;
+        });
+
+        SearchResponse<BookDocument> response;
+        try {
+            response = elasticsearchBulkhead.call(() -> client.search(request, BookDocument.class));
+        } catch (ElasticsearchException e) {
+            // keep_alive가 지나 PIT이 만료된 경우만 커서 오류로 보고, 나머지 ES 오류는 그대로 올린다
+            if (cursor != null && isSearchContextMissing(e)) {
+                throw new InvalidSearchCursorException();
+            }
+            throw e;
+        }
+
+        List<Hit<BookDocument>> hits = response.hits().hits();
+        String nextPitId = response.pitId() != null ? response.pitId() : pitId;
+        boolean hasNext = hits.size() == size;
+
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = SearchCursor.of(nextPitId, sortOption, queryHash, hits.getLast().sort()).encode();
+        } else {
+            closePointInTime(nextPitId);
+        }
+
+        List<BookPreviewResponse> content = toPreviews(hits);
+        TotalHits total = response.hits().total();
+        return new CursorPageResponse<>(
+                content,
+                size,
+                nextCursor,
+                hasNext,
+                total != null ? total.value() : content.size(),
+                total == null || total.relation() == TotalHitsRelation.Eq
+        );
+    }
+
+    // 404는 인덱스가 없을 때도 나오므로 상태 코드가 아니라 오류 타입(원인 포함)으로만 판단한다
+    private static boolean isSearchContextMissing(ElasticsearchException e) {
+        ErrorCause error = e.error();
+        if (error == null) {
+            return false;
+        }
+        return SEARCH_CONTEXT_MISSING.equals(error.type())
+                || error.rootCause().stream().anyMatch(cause -> SEARCH_CONTEXT_MISSING.equals(cause.type()));
+    }
+
+    private String openPointInTime() throws IOException {
+        return elasticsearchBulkhead.call(() -> client.openPointInTime(OpenPointInTimeRequest.of(o -> o
+                .index(index)
+                .keepAlive(k -> k.time(PIT_KEEP_ALIVE))
+        ))).id();
+    }
+
+    private void closePointInTime(String pitId) {
+        try {
+            elasticsearchBulkhead.call(() -> client.closePointInTime(ClosePointInTimeRequest.of(c -> c.id(pitId))));
+        } catch (IOException | ElasticsearchException e) {
+            log.warn("Failed to close point in time: {}", e.getMessage());
+        }
+    }
+
+    // 정렬을 지정하지 않으면 커서의 정렬을 이어 쓴다. 지정한 정렬이 커서와 다르면 검색 조건 해시에서 거부된다
+    private BookSortOption resolveSortOption(SearchCursor cursor, BookSortOption sortOption) {
+        if (sortOption != null) {
+            return sortOption;
+        }
+        return cursor != null ? cursor.sort() : BookSortOption.POPULARITY;
+    }
+
+    private Query keywordQuery(String keyword, BookSortOption sortOption) {
+        return Query.of(q -> q.bool(b -> {
+            b.should(sh -> sh.match(m -> m.field("title").query(keyword).boost(100f)));
+            b.should(sh -> sh.match(m -> m.field("description").query(keyword).boost(10f)));
+            b.should(sh -> sh.match(m -> m.field("tags").query(keyword).boost(50f)));
+            b.should(sh -> sh.match(m -> m.field("authors").query(keyword).boost(50f)));
+
+            if (sortOption == BookSortOption.RATING) {
+                b.filter(f -> f.range(r -> r.number(n -> n
+                        .field("reviewCount")
+                        .gte(100.0)
+                )));
+            }
+
+            return b;
+        }));
+    }
+
+    private Query categoryQuery(String category) {
+        return Query.of(q -> q
+                .bool(b -> b.filter(
+                        f -> f.term(t -> t.field("categories.keyword").value(category))
+                ))
+        );
+    }
+
     private PageImpl<BookPreviewResponse> wrapToPage(SearchResponse<BookDocument> response, int page, int size) {
-        List<Long> bookIds = response.hits().hits().stream()
+        List<BookPreviewResponse> content = toPreviews(response.hits().hits());
+
+        if (content.isEmpty()) {
+            return new PageImpl<>(List.of(), PageRequest.of(page, size), 0);
+        }
+
+        long total = response.hits().total() != null ? response.hits().total().value() : content.size();
+
+        return new PageImpl<>(content, PageRequest.of(page, size), total);
+    }
+
+    // 색인 문서의 미리보기 필드로 결과를 구성하고, 미리보기 필드가 없는 이전 문서만 DB에서 보충한다
+    private List<BookPreviewResponse> toPreviews(List<Hit<BookDocument>> hits) {
+        List<BookDocument> documents = hits.stream()
                 .map(Hit::source)
                 .filter(Objects::nonNull)
-                .map(BookDocument::getId)
                 .toList();
 
-        if (bookIds.isEmpty()) {
-            return new PageImpl<>(List.of(), PageRequest.of(page, size), 0);
+        if (documents.isEmpty()) {
+            return List.of();
         }
 
-        List<Book> books = bookRepository.findAllById(bookIds);
-
-        Map<Long, Book> bookMap = books.stream().collect(Collectors.toMap(Book::getId, Function.identity()));
+        List<Long> bookIds = documents.stream().map(BookDocument::getId).toList();
+        Map<Long, BookPreviewResponse> legacy = loadFromDatabase(documents.stream()
+                .filter(document -> !document.hasPreview())
+                .map(BookDocument::getId)
+                .toList());
+        Map<Long, BookOverlay> overlays = overlayEnabled ? bookOverlayCache.getAll(bookIds) : Map.of();
 
-        List<BookPreviewResponse> content = bookIds.stream()
-                .map(bookMap::get)
+        // 색인에 아직 반영되지 않은 삭제는 결과에서 뺀다 (품절/판매 종료 도서는 색인과 같이 그대로 보여 준다)
+        return documents.stream()
+                .filter(document -> !isDeleted(overlays.get(document.getId())))
+                .map(document -> document.hasPreview()
+                        ? toPreview(document, overlays.get(document.getId()))
+                        : legacy.get(document.getId()))
                 .filter(Objects::nonNull)
-                .map(book -> BookPreviewResponse.from(
-                        book,
-                        getThumbnailUrl(book),
-                        bookAuthorRepository.findAllByBookId(book.getId()).stream()
-                                .map(ba -> "%s (%s)".formatted(ba.getAuthor().getName(), ba.getRole()))
-                                .toList()
-                ))
                 .toList();
+    }
 
-        long total = response.hits().total() != null ? response.hits().total().value() : content.size();
+    private static boolean isDeleted(BookOverlay overlay) {
+        return overlay != null && overlay.status() == BookStatus.DELETED;
+    }
 
-        return new PageImpl<>(content, PageRequest.of(page, size), total);
+    private BookPreviewResponse toPreview(BookDocument document, BookOverlay overlay) {
+        Integer originalPrice = overlay != null ? overlay.originalPrice() : document.getOriginalPrice();
+        Integer salePrice = overlay != null ? overlay.salePrice() : document.getPrice();
+        Long likeCount = overlay != null ? overlay.likeCount() : document.getLikeCount();
+
+        return new BookPreviewResponse(
+                document.getId(),
+                document.getTitle(),
+                originalPrice,
+                salePrice,
+                Book.discountRate(originalPrice, salePrice),
+                getThumbnailUrl(document.getThumbnailKey()),
+                document.getAuthorDisplays(),
+                document.getRating(),
+                document.getReviewCount(),
+                likeCount
+        );
+    }
+
+    private Map<Long, BookPreviewResponse> loadFromDatabase(List<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<String>> authors = bookAuthorRepository.findAllByBookIdIn(bookIds).stream()
+                .collect(Collectors.groupingBy(
+                        ba -> ba.getBook().getId(),
+                        Collectors.mapping(
+                                ba -> "%s (%s)".formatted(ba.getAuthor().getName(), ba.getRole()),
+                                Collectors.toList()
+                        )
+                ));
+
+        return bookRepository.findAllById(bookIds).stream()
+                .collect(Collectors.toMap(
+                        Book::getId,
+                        book -> BookPreviewResponse.from(
+                                book,
+                                getThumbnailUrl(book.getThumbnailUrl()),
+                                authors.getOrDefault(book.getId(), List.of())
+                        )
+                ));
     }
 
-    private String getThumbnailUrl(Book book) {
-        return book.getThumbnailUrl().startsWith("https") ? book.getThumbnailUrl()
-                : minioService.getPresignedUrl(book.getThumbnailUrl(), bucket);
+    private String getThumbnailUrl(String thumbnailKey) {
+        return thumbnailKey.startsWith("https") ? thumbnailKey
+                : minioService.getPresignedUrl(thumbnailKey, bucket);
     }
 }
@@ -36,7 +36,7 @@ import shop.ink3.api.user.user.repository.UserRepository;
 public class CartService {
     private static final String CART_KEY_PREFIX = "cart:user:";
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, CartResponse> cartRedisTemplate;
     private final MinioService minioService;
 
     private final CouponStoreService couponStoreService;
@@ -134,9 +134,14 @@ public class CartService {
         String key = CART_KEY_PREFIX + userId;
         HashOperations<String, String, CartResponse> ops = hashOps();
 
-        if (redisTemplate.hasKey(key)) {
-            log.info("[CACHE-HIT] userId={}", userId);
-            return ops.entries(key).values().stream().toList();
+        if (cartRedisTemplate.hasKey(key)) {
+            List<CartResponse> cached = ops.entries(key).values().stream().toList();
+            // 스키마 버전이 바뀐 항목은 null로 읽히므로 DB에서 다시 채운다
+            if (cached.stream().allMatch(Objects::nonNull)) {
+                log.info("[CACHE-HIT] userId={}", userId);
+                return cached;
+            }
+            cartRedisTemplate.delete(key);
         }
 
         log.info("[CACHE-MISS] userId={}", userId);
@@ -163,7 +168,7 @@ public class CartService {
 
         cartRepository.deleteAllByUserId(userId);
         String key = CART_KEY_PREFIX + userId;
-        redisTemplate.delete(key);
+        cartRedisTemplate.delete(key);
     }
 
     public void deleteCartItem(Long cartId) {
@@ -176,13 +181,13 @@ public class CartService {
     }
 
     private HashOperations<String, String, CartResponse> hashOps() {
-        return redisTemplate.opsForHash();
+        return cartRedisTemplate.opsForHash();
     }
 
     private void cacheCart(Cart cart, CartResponse response) {
         String key = CART_KEY_PREFIX + cart.getUser().getId();
         hashOps().put(key, cart.getId().toString(), response);
-        redisTemplate.expire(key, Duration.ofDays(3));
+        cartRedisTemplate.expire(key, Duration.ofDays(3));
     }
 
     private String getThumbnailUrl(Book book) {
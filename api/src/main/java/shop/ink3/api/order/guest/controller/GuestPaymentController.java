@@ -12,6 +12,7 @@ import shop.ink3.api.common.dto.CommonResponse;
 import shop.ink3.api.order.guest.dto.GuestPaymentConfirmRequest;
 import shop.ink3.api.payment.dto.PaymentConfirmRequest;
 import shop.ink3.api.payment.dto.PaymentResponse;
+import shop.ink3.api.payment.service.PaymentConfirmService;
 import shop.ink3.api.payment.service.PaymentService;
 
 @Slf4j
@@ -20,6 +21,7 @@ import shop.ink3.api.payment.service.PaymentService;
 @RequestMapping("/guest-payment")
 public class GuestPaymentController {
     private final PaymentService paymentService;
+    private final PaymentConfirmService paymentConfirmService;
 
 
     // 결제 승인 API 호출 및 결과 저장
@@ -37,8 +39,7 @@ public class GuestPaymentController {
                 confirmRequest.amount(),
                 confirmRequest.paymentType()
         );
-        String paymentApproveResponse = paymentService.callPaymentAPI(paymentConfirmRequest);
-        PaymentResponse paymentResponse = paymentService.createPayment(paymentConfirmRequest, paymentApproveResponse);
+        PaymentResponse paymentResponse = paymentConfirmService.confirmPayment(paymentConfirmRequest);
         return ResponseEntity.ok(CommonResponse.success(paymentResponse));
     }
 
@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import shop.ink3.api.common.policy.PolicySnapshotRegistry;
 import shop.ink3.api.order.guest.dto.GuestOrderCreateRequest;
 import shop.ink3.api.order.guest.dto.GuestOrderDetailsResponse;
 import shop.ink3.api.order.guest.dto.GuestOrderResponse;
@@ -24,6 +25,7 @@ import shop.ink3.api.order.order.repository.OrderRepository;
 public class GuestOrderService {
     private final GuestOrderRepository guestOrderRepository;
     private final OrderRepository orderRepository;
+    private final PolicySnapshotRegistry policySnapshotRegistry;
 
     // 주문 Id에 대한 비회원 주문 상세 정보 조회
     @Transactional(readOnly = true)
@@ -40,6 +42,7 @@ public class GuestOrderService {
                 .orderedAt(LocalDateTime.now())
                 .ordererName(request.getOrdererName())
                 .ordererPhone(request.getOrdererPhone())
+                .policyVersion(policySnapshotRegistry.currentVersion())
                 .build();
 
         Order saveOrder = orderRepository.save(order);
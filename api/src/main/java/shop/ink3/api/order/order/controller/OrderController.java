@@ -1,10 +1,12 @@
 package shop.ink3.api.order.order.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,15 +17,21 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import shop.ink3.api.common.dto.CommonResponse;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.export.ExportFormat;
+import shop.ink3.api.common.export.ExportPeriod;
+import shop.ink3.api.common.export.ExportResponses;
 import shop.ink3.api.order.order.dto.OrderDateRequest;
 import shop.ink3.api.order.order.dto.OrderResponse;
 import shop.ink3.api.order.order.dto.OrderStatusRequest;
 import shop.ink3.api.order.order.dto.OrderStatusUpdateRequest;
 import shop.ink3.api.order.order.dto.OrderUpdateRequest;
 import shop.ink3.api.order.order.dto.OrderWithDetailsResponse;
+import shop.ink3.api.order.order.entity.OrderStatus;
 import shop.ink3.api.order.order.service.OrderMainService;
 import shop.ink3.api.order.order.service.OrderService;
 import shop.ink3.api.order.order.dto.OrderFormCreateRequest;
@@ -95,6 +103,19 @@ public class OrderController {
                         orderService.getOrderListByDate(dateRequest, pageable)));
     }
 
+    // 특정 기간 내 전체 주문 내보내기 (ndjson, csv)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) OrderStatus status) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ExportPeriod period = new ExportPeriod(from, to);
+        return ExportResponses.attachment("orders", exportFormat,
+                out -> orderService.exportOrders(period, status, exportFormat, out));
+    }
+
     // 주문 상태 별 전체 주문목록 조회
     @PostMapping("/status")
     public ResponseEntity<CommonResponse<PageResponse<OrderResponse>>> getOrderListByStatus(
@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -24,7 +25,9 @@ import shop.ink3.api.user.user.entity.User;
 @Getter
 @Builder
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_ordered_at", columnList = "ordered_at")
+})
 public class Order {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -50,6 +53,10 @@ public class Order {
     @Column(nullable = false, length = 20)
     private String ordererPhone;
 
+    // 주문 시점에 적용된 정책 스냅샷 버전
+    @Column(name = "policy_version")
+    private Long policyVersion;
+
     public void update(OrderUpdateRequest request) {
         this.ordererName = request.getOrdererName();
         this.ordererPhone = request.getOrdererPhone();
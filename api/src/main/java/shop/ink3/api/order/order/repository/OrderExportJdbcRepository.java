@@ -0,0 +1,49 @@
+package shop.ink3.api.order.order.repository;
+
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import shop.ink3.api.common.export.ExportFormat;
+import shop.ink3.api.common.export.ExportPeriod;
+import shop.ink3.api.common.export.ExportQueryRunner;
+import shop.ink3.api.order.order.entity.OrderStatus;
+
+/**
+ * 관리자 주문 리포트 내보내기. 주문일시 인덱스 순서대로 읽어 정렬 없이 커서로 흘려보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderExportJdbcRepository {
+    private static final List<String> COLUMNS = List.of(
+            "id", "orderUUID", "userId", "status", "orderedAt", "ordererName", "ordererPhone");
+
+    private static final String SELECT_ORDERS = """
+            SELECT o.id, o.order_uuid, o.user_id, o.status, o.ordered_at, o.orderer_name, o.orderer_phone
+              FROM orders o
+             WHERE 1 = 1
+            """;
+
+    private final ExportQueryRunner exportQueryRunner;
+
+    public long export(ExportPeriod period, OrderStatus status, ExportFormat format, OutputStream out) {
+        StringBuilder sql = new StringBuilder(SELECT_ORDERS);
+        List<Object> args = new ArrayList<>();
+        if (period.startInclusive() != null) {
+            sql.append("   AND o.ordered_at >= ?\n");
+            args.add(Timestamp.valueOf(period.startInclusive()));
+        }
+        if (period.endExclusive() != null) {
+            sql.append("   AND o.ordered_at < ?\n");
+            args.add(Timestamp.valueOf(period.endExclusive()));
+        }
+        if (status != null) {
+            sql.append("   AND o.status = ?\n");
+            args.add(status.name());
+        }
+        sql.append(" ORDER BY o.ordered_at, o.id");
+        return exportQueryRunner.stream(sql.toString(), args, COLUMNS, format, out);
+    }
+}
@@ -1,10 +1,13 @@
 package shop.ink3.api.order.order.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import shop.ink3.api.order.order.dto.OrderWithDetailsResponse;
 import shop.ink3.api.order.order.entity.Order;
 import shop.ink3.api.order.order.entity.OrderStatus;
@@ -61,4 +64,17 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     Page<Order> findAllByUserIdAndStatus(long userId, OrderStatus status, Pageable pageable);
     Page<Order> findAllByOrderedAtBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
     Page<Order> findAllByUserIdAndOrderedAtBetween(long userId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                UPDATE Order o
+                SET o.status = :to
+                WHERE o.status = :from
+                  AND o.id IN :ids
+            """)
+    int updateStatusByIdIn(
+            @Param("from") OrderStatus from,
+            @Param("to") OrderStatus to,
+            @Param("ids") List<Long> ids
+    );
 }
@@ -1,5 +1,6 @@
 package shop.ink3.api.order.order.service;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
@@ -9,6 +10,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.export.ExportFormat;
+import shop.ink3.api.common.export.ExportPeriod;
+import shop.ink3.api.common.httpcache.CatalogVersionService;
+import shop.ink3.api.common.policy.PolicySnapshotRegistry;
 import shop.ink3.api.order.order.dto.OrderCreateRequest;
 import shop.ink3.api.order.order.dto.OrderDateRequest;
 import shop.ink3.api.order.order.dto.OrderResponse;
@@ -19,6 +24,7 @@ import shop.ink3.api.order.order.dto.OrderWithDetailsResponse;
 import shop.ink3.api.order.order.entity.Order;
 import shop.ink3.api.order.order.entity.OrderStatus;
 import shop.ink3.api.order.order.exception.OrderNotFoundException;
+import shop.ink3.api.order.order.repository.OrderExportJdbcRepository;
 import shop.ink3.api.order.order.repository.OrderRepository;
 import shop.ink3.api.user.user.entity.User;
 import shop.ink3.api.user.user.exception.UserNotFoundException;
@@ -30,6 +36,9 @@ import shop.ink3.api.user.user.repository.UserRepository;
 public class OrderService {
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
+    private final PolicySnapshotRegistry policySnapshotRegistry;
+    private final CatalogVersionService catalogVersionService;
+    private final OrderExportJdbcRepository orderExportJdbcRepository;
 
     // 생성 (회원)
     public OrderResponse createOrder(OrderCreateRequest request) {
@@ -42,6 +51,7 @@ public class OrderService {
                 .orderedAt(LocalDateTime.now())
                 .ordererName(request.getOrdererName())
                 .ordererPhone(request.getOrdererPhone())
+                .policyVersion(policySnapshotRegistry.currentVersion())
                 .build();
 
         Order saveOrder = orderRepository.save(order);
@@ -93,6 +103,12 @@ public class OrderService {
         return PageResponse.from(pageResponse);
     }
 
+    // 기간 별 주문 내보내기 (관리자). 응답을 다 쓸 때까지 readOnly 트랜잭션과 커서를 유지한다
+    @Transactional(readOnly = true)
+    public long exportOrders(ExportPeriod period, OrderStatus status, ExportFormat format, OutputStream out) {
+        return orderExportJdbcRepository.export(period, status, format, out);
+    }
+
     // 전체 주문 리스트 조회 (관리자)
     @Transactional(readOnly = true)
     public PageResponse<OrderResponse> getOrderList(Pageable pageable) {
@@ -125,7 +141,12 @@ public class OrderService {
     // 주문 상태 변경
     public OrderResponse updateOrderStatus(long orderId, OrderStatusUpdateRequest request) {
         Order order = orderRepository.findById(orderId).orElseThrow(() -> new OrderNotFoundException(orderId));
+        OrderStatus previous = order.getStatus();
         order.updateStatus(request.getOrderStatus());
+        // 배송 완료 주문이 늘거나 줄면 베스트셀러 순위가 바뀐다
+        if (previous == OrderStatus.DELIVERED || request.getOrderStatus() == OrderStatus.DELIVERED) {
+            catalogVersionService.rankingChanged();
+        }
         return OrderResponse.from(orderRepository.save(order));
     }
 
@@ -7,6 +7,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -27,7 +28,8 @@ import shop.ink3.api.order.packaging.entity.Packaging;
 @Table(name = "order_books")
 public class OrderBook {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_books_seq")
+    @SequenceGenerator(name = "order_books_seq", sequenceName = "order_books_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
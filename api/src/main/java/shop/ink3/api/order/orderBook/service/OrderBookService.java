@@ -1,6 +1,7 @@
 package shop.ink3.api.order.orderBook.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -46,9 +47,10 @@ public class OrderBookService {
 
     // 생성
     public void createOrderBook(long orderId, List<OrderBookCreateRequest> requestList) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
+        List<OrderBook> orderBooks = new ArrayList<>(requestList.size());
         for (OrderBookCreateRequest request : requestList) {
-            Order order = orderRepository.findById(orderId)
-                    .orElseThrow(() -> new OrderNotFoundException(orderId));
             Book book = bookRepository.findById(request.getBookId())
                     .orElseThrow(() -> new BookNotFoundException(request.getBookId()));
             Packaging packaging = (Objects.isNull(request.getPackagingId())) ? null
@@ -86,8 +88,10 @@ public class OrderBookService {
                     .price(request.getPrice())
                     .quantity(request.getQuantity())
                     .build();
-            orderBookRepository.save(orderBook);
+            orderBooks.add(orderBook);
         }
+        // 한 번에 저장해 INSERT가 JDBC 배치로 묶이게 한다
+        orderBookRepository.saveAll(orderBooks);
     }
 
     // 조회
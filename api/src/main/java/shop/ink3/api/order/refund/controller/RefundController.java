@@ -1,9 +1,11 @@
 package shop.ink3.api.order.refund.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,8 +18,12 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import shop.ink3.api.common.dto.CommonResponse;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.export.ExportFormat;
+import shop.ink3.api.common.export.ExportPeriod;
+import shop.ink3.api.common.export.ExportResponses;
 import shop.ink3.api.order.order.service.OrderMainService;
 import shop.ink3.api.order.refund.dto.RefundCreateRequest;
 import shop.ink3.api.order.refund.dto.RefundResponse;
@@ -38,6 +44,17 @@ public class RefundController {
         return ResponseEntity.ok(CommonResponse.success(allRefundList));
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRefunds(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ExportPeriod period = new ExportPeriod(from, to);
+        return ExportResponses.attachment("refunds", exportFormat,
+                out -> refundService.exportRefunds(period, exportFormat, out));
+    }
+
     @GetMapping("/{orderId}")
     public ResponseEntity<CommonResponse<RefundResponse>> getRefund(
             @PathVariable long orderId) {
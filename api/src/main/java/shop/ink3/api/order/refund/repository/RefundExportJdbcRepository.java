@@ -0,0 +1,46 @@
+package shop.ink3.api.order.refund.repository;
+
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import shop.ink3.api.common.export.ExportFormat;
+import shop.ink3.api.common.export.ExportPeriod;
+import shop.ink3.api.common.export.ExportQueryRunner;
+
+/**
+ * 관리자 반품 리포트 내보내기. 기간은 반품 신청일 기준이다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefundExportJdbcRepository {
+    private static final List<String> COLUMNS = List.of(
+            "orderId", "orderUUID", "userId", "reason", "details", "refundShippingFee", "approved", "createdAt");
+
+    private static final String SELECT_REFUNDS = """
+            SELECT r.order_id, o.order_uuid, o.user_id, r.reason, r.details, r.refund_shipping_fee, r.approved,
+                   r.created_at
+              FROM refunds r
+              JOIN orders o ON o.id = r.order_id
+             WHERE 1 = 1
+            """;
+
+    private final ExportQueryRunner exportQueryRunner;
+
+    public long export(ExportPeriod period, ExportFormat format, OutputStream out) {
+        StringBuilder sql = new StringBuilder(SELECT_REFUNDS);
+        List<Object> args = new ArrayList<>();
+        if (period.startInclusive() != null) {
+            sql.append("   AND r.created_at >= ?\n");
+            args.add(Timestamp.valueOf(period.startInclusive()));
+        }
+        if (period.endExclusive() != null) {
+            sql.append("   AND r.created_at < ?\n");
+            args.add(Timestamp.valueOf(period.endExclusive()));
+        }
+        sql.append(" ORDER BY r.created_at, r.order_id");
+        return exportQueryRunner.stream(sql.toString(), args, COLUMNS, format, out);
+    }
+}
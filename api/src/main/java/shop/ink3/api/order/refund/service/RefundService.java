@@ -1,5 +1,6 @@
 package shop.ink3.api.order.refund.service;
 
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -10,6 +11,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.export.ExportFormat;
+import shop.ink3.api.common.export.ExportPeriod;
+import shop.ink3.api.common.policy.PolicySnapshotRegistry;
 import shop.ink3.api.order.order.entity.Order;
 import shop.ink3.api.order.order.exception.OrderNotFoundException;
 import shop.ink3.api.order.order.repository.OrderRepository;
@@ -19,9 +23,10 @@ import shop.ink3.api.order.refund.dto.RefundUpdateRequest;
 import shop.ink3.api.order.refund.entity.Refund;
 import shop.ink3.api.order.refund.exception.RefundNotFoundException;
 import shop.ink3.api.order.refund.exception.ReturnDeadlineExceededException;
+import shop.ink3.api.order.refund.repository.RefundExportJdbcRepository;
 import shop.ink3.api.order.refund.repository.RefundRepository;
-import shop.ink3.api.order.refundPolicy.entity.RefundPolicy;
-import shop.ink3.api.order.refundPolicy.repository.RefundPolicyRepository;
+import shop.ink3.api.order.refundPolicy.dto.RefundPolicyResponse;
+import shop.ink3.api.order.refundPolicy.exception.RefundPolicyNotFoundException;
 import shop.ink3.api.order.shipment.entity.Shipment;
 import shop.ink3.api.order.shipment.exception.ShipmentNotFoundException;
 import shop.ink3.api.order.shipment.repository.ShipmentRepository;
@@ -35,7 +40,8 @@ public class RefundService {
     private final RefundRepository refundRepository;
     private final OrderRepository orderRepository;
     private final ShipmentRepository shipmentRepository;
-    private final RefundPolicyRepository refundPolicyRepository;
+    private final PolicySnapshotRegistry policySnapshotRegistry;
+    private final RefundExportJdbcRepository refundExportJdbcRepository;
 
     // 반품 생성
     public RefundResponse createRefund(RefundCreateRequest request) {
@@ -60,6 +66,12 @@ public class RefundService {
         return PageResponse.from(refundRepositories);
     }
 
+    // 기간 별 반품 내보내기 (관리자)
+    @Transactional(readOnly = true)
+    public long exportRefunds(ExportPeriod period, ExportFormat format, OutputStream out) {
+        return refundExportJdbcRepository.export(period, format, out);
+    }
+
     // 주문 id에 대한 조회
     @Transactional(readOnly = true)
     public RefundResponse getOrderRefund(long orderId) {
@@ -107,7 +119,10 @@ public class RefundService {
 
     // 반품 처리 가능 여부
     public void availableRefund(RefundCreateRequest request) {
-        RefundPolicy refundPolicy = refundPolicyRepository.findByIsAvailableTrue();
+        RefundPolicyResponse refundPolicy = policySnapshotRegistry.current().refundPolicy();
+        if (refundPolicy == null) {
+            throw new RefundPolicyNotFoundException();
+        }
         Shipment shipment = shipmentRepository.findByOrderId(request.getOrderId())
                 .orElseThrow(ShipmentNotFoundException::new);
         orderRepository.findById(request.getOrderId())
@@ -3,11 +3,14 @@ package shop.ink3.api.order.refundPolicy.service;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.policy.PolicyChangedEvent;
+import shop.ink3.api.common.policy.PolicyType;
 import shop.ink3.api.order.refundPolicy.dto.RefundPolicyCreateRequest;
 import shop.ink3.api.order.refundPolicy.dto.RefundPolicyResponse;
 import shop.ink3.api.order.refundPolicy.dto.RefundPolicyUpdateRequest;
@@ -21,6 +24,7 @@ import shop.ink3.api.order.refundPolicy.repository.RefundPolicyRepository;
 public class RefundPolicyService {
 
     private final RefundPolicyRepository refundPolicyRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 생성
     public RefundPolicyResponse createRefundPolicy(RefundPolicyCreateRequest request) {
@@ -37,7 +41,9 @@ public class RefundPolicyService {
         if(availableRefundPolicy != null) {
             deactivate(availableRefundPolicy.getId());
         }
-        return RefundPolicyResponse.from(refundPolicyRepository.save(refundPolicy));
+        RefundPolicyResponse response = RefundPolicyResponse.from(refundPolicyRepository.save(refundPolicy));
+        eventPublisher.publishEvent(new PolicyChangedEvent(PolicyType.REFUND));
+        return response;
     }
 
     // 조회
@@ -69,6 +75,7 @@ public class RefundPolicyService {
     public RefundPolicyResponse updateRefundPolicy(long refundPolicyId, RefundPolicyUpdateRequest request) {
         RefundPolicy refundPolicy = getRefundPolicyOrThrow(refundPolicyId);
         refundPolicy.update(request);
+        eventPublisher.publishEvent(new PolicyChangedEvent(PolicyType.REFUND));
         return RefundPolicyResponse.from(refundPolicy);
     }
 
@@ -76,6 +83,7 @@ public class RefundPolicyService {
     public void deleteRefundPolicy(long refundPolicyId) {
         getRefundPolicyOrThrow(refundPolicyId);
         refundPolicyRepository.deleteById(refundPolicyId);
+        eventPublisher.publishEvent(new PolicyChangedEvent(PolicyType.REFUND));
     }
 
     // 활성화
@@ -87,6 +95,7 @@ public class RefundPolicyService {
         RefundPolicy refundPolicy = getRefundPolicyOrThrow(refundPolicyId);
         refundPolicy.activate();
         refundPolicyRepository.save(refundPolicy);
+        eventPublisher.publishEvent(new PolicyChangedEvent(PolicyType.REFUND));
     }
 
     // 비활성화
@@ -94,6 +103,7 @@ public class RefundPolicyService {
         RefundPolicy refundPolicy = getRefundPolicyOrThrow(refundPolicyId);
         refundPolicy.deactivate();
         refundPolicyRepository.save(refundPolicy);
+        eventPublisher.publishEvent(new PolicyChangedEvent(PolicyType.REFUND));
     }
 
 
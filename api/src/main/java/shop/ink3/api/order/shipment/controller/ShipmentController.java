@@ -1,6 +1,7 @@
 package shop.ink3.api.order.shipment.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -21,7 +22,9 @@ import shop.ink3.api.common.dto.PageResponse;
 import shop.ink3.api.order.order.entity.OrderStatus;
 import shop.ink3.api.order.shipment.dto.ShipmentCreateRequest;
 import shop.ink3.api.order.shipment.dto.ShipmentResponse;
+import shop.ink3.api.order.shipment.dto.ShipmentTransitionResult;
 import shop.ink3.api.order.shipment.dto.ShipmentUpdateRequest;
+import shop.ink3.api.order.shipment.service.AutoShipmentService;
 import shop.ink3.api.order.shipment.service.ShipmentService;
 import shop.ink3.api.user.address.dto.AddressResponse;
 import shop.ink3.api.user.address.service.AddressService;
@@ -31,6 +34,7 @@ import shop.ink3.api.user.address.service.AddressService;
 @RequestMapping("/shipments")
 public class ShipmentController {
     private final ShipmentService shipmentService;
+    private final AutoShipmentService autoShipmentService;
 
     @GetMapping
     public ResponseEntity<CommonResponse<PageResponse<ShipmentResponse>>> getShipments(Pageable pageable) {
@@ -75,6 +79,14 @@ public class ShipmentController {
                 .ok(CommonResponse.update(shipmentService.updateShipmentDeliveredAt(orderId, deliveredAt)));
     }
 
+    @PostMapping("/backfill/delivered")
+    public ResponseEntity<CommonResponse<ShipmentTransitionResult>> backfillDelivered(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to) {
+        return ResponseEntity
+                .ok(CommonResponse.success(autoShipmentService.backfillDelivered(from, to)));
+    }
+
     @DeleteMapping("/{orderId}")
     public ResponseEntity<Void> deleteShippingPolicy(@PathVariable long orderId) {
         shipmentService.deleteShipment(orderId);
@@ -0,0 +1,16 @@
+package shop.ink3.api.order.shipment.dto;
+
+import shop.ink3.api.order.order.entity.OrderStatus;
+
+public record ShipmentTransitionResult(
+        OrderStatus from,
+        OrderStatus to,
+        int updatedRows,
+        int chunks,
+        long elapsedMillis,
+        boolean skipped
+) {
+    public static ShipmentTransitionResult skipped(OrderStatus from, OrderStatus to) {
+        return new ShipmentTransitionResult(from, to, 0, 0, 0, true);
+    }
+}
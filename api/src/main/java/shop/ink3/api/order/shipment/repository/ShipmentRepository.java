@@ -1,10 +1,15 @@
 package shop.ink3.api.order.shipment.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import shop.ink3.api.order.order.entity.OrderStatus;
 import shop.ink3.api.order.shipment.entity.Shipment;
 
@@ -16,4 +21,50 @@ public interface ShipmentRepository extends JpaRepository<Shipment, Long> {
     Page<Shipment> findAllByOrderUserIdAndOrderStatus(long userId,OrderStatus status, Pageable pageable);
 
     List<Shipment> findAllByOrderStatus(OrderStatus status);
+
+    // shipment id는 order id와 같다(@MapsId). 배송 정보가 있는 주문만 대상이다
+    @Query("""
+                SELECT s.id
+                FROM Shipment s
+                JOIN s.order o
+                WHERE o.status = :status
+                  AND o.id > :lastId
+                ORDER BY o.id
+            """)
+    List<Long> findIdsByOrderStatusAfter(
+            @Param("status") OrderStatus status,
+            @Param("lastId") long lastId,
+            Pageable pageable
+    );
+
+    @Query("""
+                SELECT s.id
+                FROM Shipment s
+                JOIN s.order o
+                WHERE o.status = :status
+                  AND o.id > :lastId
+                  AND s.preferredDeliveryDate BETWEEN :fromDate AND :toDate
+                ORDER BY o.id
+            """)
+    List<Long> findIdsByOrderStatusDueBetweenAfter(
+            @Param("status") OrderStatus status,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("lastId") long lastId,
+            Pageable pageable
+    );
+
+    // 조회와 UPDATE 사이에 상태가 바뀐 주문은 건너뛴다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                UPDATE Shipment s
+                SET s.deliveredAt = :now
+                WHERE s.id IN :ids
+                  AND s.id IN (SELECT o.id FROM Order o WHERE o.status = :status AND o.id IN :ids)
+            """)
+    int updateDeliveredAtByIdIn(
+            @Param("status") OrderStatus status,
+            @Param("ids") List<Long> ids,
+            @Param("now") LocalDateTime now
+    );
 }
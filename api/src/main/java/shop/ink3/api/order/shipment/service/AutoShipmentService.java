@@ -1,47 +1,146 @@
 package shop.ink3.api.order.shipment.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import shop.ink3.api.order.order.dto.OrderStatusUpdateRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.ink3.api.common.httpcache.CatalogVersionService;
+import shop.ink3.api.common.lock.RedisLock;
 import shop.ink3.api.order.order.entity.OrderStatus;
-import shop.ink3.api.order.order.service.OrderService;
-import shop.ink3.api.order.shipment.dto.ShipmentResponse;
+import shop.ink3.api.order.order.repository.OrderRepository;
+import shop.ink3.api.order.shipment.dto.ShipmentTransitionResult;
+import shop.ink3.api.order.shipment.repository.ShipmentRepository;
 
+/**
+ * 주문/배송 상태를 청크 단위의 UPDATE 문으로 일괄 전이한다.
+ * 대상 id를 마지막 id 이후로 chunk-size개씩 읽고(keyset), 청크마다 별도 트랜잭션으로
+ * shipments.delivered_at과 orders.status를 id IN (...) 조건으로 함께 갱신한다.
+ * 배송 정보(shipments 행)가 없는 주문은 전이하지 않는다.
+ * 전이 종류(도착 상태)별 Redis 락으로 여러 노드 중 한 곳에서만 실행한다.
+ * 매시 SHIPPING 전이와 자정 DELIVERED 전이는 다른 행을 바꾸므로 서로 기다리지 않는다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class AutoShipmentService {
-    private final ShipmentService shipmentService;
-    private final OrderService orderService;
+    private static final String LOCK_KEY_PREFIX = "shipment:auto_transition_lock:";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
 
-    @Scheduled(cron = "0 0 * * * *")
-    public void autoBatchToSHIPPING() {
-        log.info("🚚 [스케줄러 실행] autoBatchToSHIPPING 실행됨");
+    private final ShipmentRepository shipmentRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final CatalogVersionService catalogVersionService;
 
-        List<ShipmentResponse> shipmentByOrderStatus = shipmentService.getShipmentByOrderStatus(OrderStatus.CONFIRMED);
+    @Value("${shipment.auto-transition.chunk-size:1000}")
+    private int chunkSize = 1000;
 
-        for(ShipmentResponse shipmentResponse : shipmentByOrderStatus) {
-            orderService.updateOrderStatus(shipmentResponse.getOrderId(), new OrderStatusUpdateRequest(OrderStatus.SHIPPING));
-            shipmentService.updateShipmentDeliveredAt(shipmentResponse.getOrderId(), LocalDateTime.now());
-        }
+    @Scheduled(cron = "0 0 * * * *")
+    public void autoBatchToSHIPPING() {
+        ShipmentTransitionResult result = withLock(OrderStatus.CONFIRMED, OrderStatus.SHIPPING,
+                () -> transition(OrderStatus.CONFIRMED, OrderStatus.SHIPPING, null, null));
+        log.info("[SHIPMENT] {}", result);
     }
 
     @Scheduled(cron = "0 1 0 * * *")
     public void autoBatchToDELIVERED() {
-        System.out.println("✅ 스케줄러 실행됨: " + LocalDateTime.now());
+        LocalDate today = LocalDate.now();
+        ShipmentTransitionResult result = withLock(OrderStatus.SHIPPING, OrderStatus.DELIVERED,
+                () -> transition(OrderStatus.SHIPPING, OrderStatus.DELIVERED, today, today));
+        log.info("[SHIPMENT] {}", result);
+    }
 
-        List<ShipmentResponse> shipmentByOrderStatus = shipmentService.getShipmentByOrderStatus(OrderStatus.SHIPPING);
+    /**
+     * 스케줄이 누락된 기간의 배송 완료 처리를 다시 수행한다.
+     * 배송 예정일이 [fromDate, toDate]인 SHIPPING 주문을 DELIVERED로 전이한다.
+     */
+    public ShipmentTransitionResult backfillDelivered(LocalDate fromDate, LocalDate toDate) {
+        return withLock(OrderStatus.SHIPPING, OrderStatus.DELIVERED,
+                () -> transition(OrderStatus.SHIPPING, OrderStatus.DELIVERED, fromDate, toDate));
+    }
 
-        for(ShipmentResponse shipmentResponse : shipmentByOrderStatus) {
-            if(shipmentResponse.getPreferredDeliveryDate().isEqual(LocalDate.now())){
-                orderService.updateOrderStatus(shipmentResponse.getOrderId(), new OrderStatusUpdateRequest(OrderStatus.DELIVERED));
-                shipmentService.updateShipmentDeliveredAt(shipmentResponse.getOrderId(), LocalDateTime.now());
+    private ShipmentTransitionResult withLock(
+            OrderStatus from,
+            OrderStatus to,
+            Supplier<ShipmentTransitionResult> job
+    ) {
+        String lockKey = LOCK_KEY_PREFIX + to.name().toLowerCase();
+        Optional<RedisLock> lock = RedisLock.tryAcquire(redisTemplate, lockKey, LOCK_TTL);
+        if (lock.isEmpty()) {
+            log.warn("[SHIPMENT] {} -> {} skipped, {} is held by another run", from, to, lockKey);
+            return ShipmentTransitionResult.skipped(from, to);
+        }
+        try {
+            return job.get();
+        } finally {
+            if (!lock.get().release()) {
+                log.warn("[SHIPMENT] {} expired before {} -> {} finished (ttl={})", lockKey, from, to, LOCK_TTL);
             }
         }
     }
+
+    private ShipmentTransitionResult transition(
+            OrderStatus from,
+            OrderStatus to,
+            LocalDate fromDate,
+            LocalDate toDate
+    ) {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        int updated = 0;
+        int chunks = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Long> ids = findChunk(from, fromDate, toDate, lastId);
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer rows = transactionTemplate.execute(status -> updateChunk(from, to, ids, now));
+            updated += rows != null ? rows : 0;
+            chunks++;
+            if (ids.size() < chunkSize) {
+                break;
+            }
+            lastId = ids.getLast();
+        }
+        // 배송 완료 주문 수가 베스트셀러 순위의 기준이다
+        if (to == OrderStatus.DELIVERED && updated > 0) {
+            catalogVersionService.rankingChanged();
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Tags tags = Tags.of("from", from.name(), "to", to.name());
+        meterRegistry.counter("shipment.transition.rows", tags).increment(updated);
+        meterRegistry.timer("shipment.transition.duration", tags).record(elapsedMillis, TimeUnit.MILLISECONDS);
+        return new ShipmentTransitionResult(from, to, updated, chunks, elapsedMillis, false);
+    }
+
+    private List<Long> findChunk(OrderStatus from, LocalDate fromDate, LocalDate toDate, long lastId) {
+        PageRequest page = PageRequest.of(0, chunkSize);
+        if (fromDate == null) {
+            return shipmentRepository.findIdsByOrderStatusAfter(from, lastId, page);
+        }
+        return shipmentRepository.findIdsByOrderStatusDueBetweenAfter(from, fromDate, toDate, lastId, page);
+    }
+
+    // delivered_at은 주문 상태가 바뀌기 전에 같은 조건으로 먼저 갱신
+    private int updateChunk(OrderStatus from, OrderStatus to, List<Long> ids, LocalDateTime now) {
+        shipmentRepository.updateDeliveredAtByIdIn(from, ids, now);
+        return orderRepository.updateStatusByIdIn(from, to, ids);
+    }
 }
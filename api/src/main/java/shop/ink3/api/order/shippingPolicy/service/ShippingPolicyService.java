@@ -4,11 +4,15 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.policy.PolicyChangedEvent;
+import shop.ink3.api.common.policy.PolicySnapshotRegistry;
+import shop.ink3.api.common.policy.PolicyType;
 import shop.ink3.api.order.shippingPolicy.dto.ShippingPolicyCreateRequest;
 import shop.ink3.api.order.shippingPolicy.dto.ShippingPolicyResponse;
 import shop.ink3.api.order.shippingPolicy.dto.ShippingPolicyUpdateRequest;
@@ -22,6 +26,8 @@ import shop.ink3.api.order.shippingPolicy.repository.ShippingPolicyRepository;
 public class ShippingPolicyService {
 
     private final ShippingPolicyRepository shippingPolicyRepository;
+    private final PolicySnapshotRegistry policySnapshotRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 생성
     public ShippingPolicyResponse createShippingPolicy(ShippingPolicyCreateRequest request) {
@@ -36,7 +42,9 @@ public class ShippingPolicyService {
         if(Objects.nonNull(activateShippingPolicy)) {
             deactivate(activateShippingPolicy.getId());
         }
-        return ShippingPolicyResponse.from(shippingPolicyRepository.save(shippingPolicy));
+        ShippingPolicyResponse response = ShippingPolicyResponse.from(shippingPolicyRepository.save(shippingPolicy));
+        eventPublisher.publishEvent(new PolicyChangedEvent(PolicyType.SHIPPING));
+        return response;
     }
 
     // 조회
@@ -66,13 +74,16 @@ public class ShippingPolicyService {
     public ShippingPolicyResponse updateShippingPolicy(long shippingPolicyId, ShippingPolicyUpdateRequest request) {
         ShippingPolicy shippingPolicy = getShippingPolicyOrThrow(shippingPolicyId);
         shippingPolicy.update(request);
-        return ShippingPolicyResponse.from(shippingPolicyRepository.save(shippingPolicy));
+        ShippingPolicyResponse response = ShippingPolicyResponse.from(shippingPolicyRepository.save(shippingPolicy));
+        eventPublisher.publishEvent(new PolicyChangedEvent(PolicyType.SHIPPING));
+        return response;
     }
 
     // 삭제
     public void deleteShippingPolicy(long shippingPolicyId) {
         getShippingPolicyOrThrow(shippingPolicyId);
         shippingPolicyRepository.deleteById(shippingPolicyId);
+        eventPublisher.publishEvent(new PolicyChangedEvent(PolicyType.SHIPPING));
     }
 
 
@@ -81,6 +92,7 @@ public class ShippingPolicyService {
         ShippingPolicy shippingPolicy = getShippingPolicyOrThrow(shippingPolicyId);
         shippingPolicy.deactivate();
         shippingPolicyRepository.save(shippingPolicy);
+        eventPublisher.publishEvent(new PolicyChangedEvent(PolicyType.SHIPPING));
     }
 
     // 특정 배송정책 활성화
@@ -92,6 +104,7 @@ public class ShippingPolicyService {
         ShippingPolicy shippingPolicy = getShippingPolicyOrThrow(shippingPolicyId);
         shippingPolicy.activate();
         shippingPolicyRepository.save(shippingPolicy);
+        eventPublisher.publishEvent(new PolicyChangedEvent(PolicyType.SHIPPING));
     }
 
     // 조회 로직
@@ -103,9 +116,12 @@ public class ShippingPolicyService {
         return optionalShippingPolicy.get();
     }
 
-    // 주문 금액에 따른 배송비
+    // 주문 금액에 따른 배송비, 활성 정책은 메모리 스냅샷에서 읽는다
     public Integer getShippingFee(int orderPrice){
-        ShippingPolicyResponse response = getActivateShippingPolicy();
+        ShippingPolicyResponse response = policySnapshotRegistry.current().shippingPolicy();
+        if (response == null) {
+            throw new ShippingPolicyNotFoundException();
+        }
         if(response.getThreshold() > orderPrice){
             return response.getFee();
         }else{
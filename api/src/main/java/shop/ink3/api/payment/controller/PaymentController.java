@@ -22,6 +22,7 @@ import shop.ink3.api.payment.dto.PaymentResponse;
 import shop.ink3.api.payment.dto.ZeroPaymentRequest;
 import shop.ink3.api.payment.entity.PaymentType;
 import shop.ink3.api.payment.exception.PaymentKeyNotExistsException;
+import shop.ink3.api.payment.service.PaymentConfirmService;
 import shop.ink3.api.payment.service.PaymentService;
 
 @Slf4j
@@ -30,6 +31,7 @@ import shop.ink3.api.payment.service.PaymentService;
 @RequestMapping("/payments")
 public class PaymentController {
     private final PaymentService paymentService;
+    private final PaymentConfirmService paymentConfirmService;
 
     // 결제 승인 API 호출 및 결과 저장
     @PostMapping("/confirm")
@@ -38,8 +40,7 @@ public class PaymentController {
         if(!confirmRequest.paymentType().equals(PaymentType.POINT) && Objects.isNull(confirmRequest.paymentKey())) {
                 throw new PaymentKeyNotExistsException(confirmRequest.orderId());
         }
-        String paymentApproveResponse = paymentService.callPaymentAPI(confirmRequest);
-        PaymentResponse paymentResponse = paymentService.createPayment(confirmRequest, paymentApproveResponse);
+        PaymentResponse paymentResponse = paymentConfirmService.confirmPayment(confirmRequest);
         return ResponseEntity.ok(CommonResponse.success(paymentResponse));
     }
 
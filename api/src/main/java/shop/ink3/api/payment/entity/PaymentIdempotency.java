@@ -0,0 +1,58 @@
+package shop.ink3.api.payment.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 승인 요청의 멱등 기록. idempotency_key(Toss paymentKey) 유니크 제약으로 같은 승인의 동시 처리를 한 건으로 제한하고,
+ * 완료된 승인의 응답을 보관해 재요청 시 그대로 돌려준다.
+ * owner는 선점한 요청의 토큰으로, 오래된 선점을 넘겨받은 뒤에는 이전 요청이 기록을 지우거나 완료하지 못한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@Builder
+@Entity
+@Table(
+        name = "payment_idempotency",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payment_idempotency_key", columnNames = "idempotency_key")
+)
+public class PaymentIdempotency {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, length = 200)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false, length = 36)
+    private String owner;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private PaymentIdempotencyStatus status;
+
+    @Lob
+    @Column(nullable = true)
+    private String response;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+}
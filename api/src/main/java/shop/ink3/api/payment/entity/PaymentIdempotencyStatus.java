@@ -0,0 +1,6 @@
+package shop.ink3.api.payment.entity;
+
+public enum PaymentIdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
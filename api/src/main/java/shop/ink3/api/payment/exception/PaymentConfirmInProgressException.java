@@ -0,0 +1,9 @@
+package shop.ink3.api.payment.exception;
+
+import shop.ink3.api.common.exception.AlreadyExistsException;
+
+public class PaymentConfirmInProgressException extends AlreadyExistsException {
+    public PaymentConfirmInProgressException(long orderId) {
+        super("Payment confirmation is already in progress. Order ID: %d".formatted(orderId));
+    }
+}
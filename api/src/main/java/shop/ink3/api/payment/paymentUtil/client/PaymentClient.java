@@ -7,19 +7,26 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 
-@FeignClient(name = "paymentClient", url = "https://api.tosspayments.com/v1/payments")
+@FeignClient(
+        name = "paymentClient",
+        url = "${payment.toss.base-url:https://api.tosspayments.com/v1/payments}",
+        configuration = PaymentClientConfig.class
+)
 public interface PaymentClient {
+    String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 
     @PostMapping("/confirm")
     String confirmPayment(
             @RequestHeader("Authorization") String authorizationHeader,
+            @RequestHeader(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
             @RequestBody Map<String, Object> body
     );
 
     @PostMapping("/{paymentKey}/cancel")
     String cancelPayment(
             @RequestHeader("Authorization") String authorizationHeader,
+            @RequestHeader(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
             @PathVariable String paymentKey,
             @RequestBody Map<String, Object> body
     );
-}
\ No newline at end of file
+}
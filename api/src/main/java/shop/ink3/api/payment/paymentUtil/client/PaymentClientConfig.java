@@ -0,0 +1,47 @@
+package shop.ink3.api.payment.paymentUtil.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Retryer;
+import feign.http2client.Http2Client;
+import java.net.http.HttpClient;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * PaymentClient 전용 Feign 설정. 다른 Feign 클라이언트에 적용되지 않도록 @Configuration을 붙이지 않는다.
+ *
+ * <p>JDK HttpClient는 호스트별 커넥션을 재사용하고 HTTP/2로 요청을 다중화한다.
+ * 결제 요청은 Idempotency-Key 헤더를 함께 보내므로 커넥션 오류에 한해 재시도해도 중복 결제가 생기지 않는다.
+ *
+ * <p>Feign 자식 컨텍스트에는 Boot의 변환 서비스가 없어 "2s" 같은 값을 Duration으로 바로 받을 수 없으므로 문자열로 받아 파싱한다.
+ */
+public class PaymentClientConfig {
+    @Bean
+    public Client paymentHttpClient(@Value("${payment.toss.connect-timeout:2s}") String connectTimeout) {
+        return new Http2Client(HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(DurationStyle.detectAndParse(connectTimeout))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build());
+    }
+
+    @Bean
+    public Request.Options paymentRequestOptions(
+            @Value("${payment.toss.connect-timeout:2s}") String connectTimeout,
+            @Value("${payment.toss.read-timeout:10s}") String readTimeout
+    ) {
+        return new Request.Options(
+                DurationStyle.detectAndParse(connectTimeout).toMillis(), TimeUnit.MILLISECONDS,
+                DurationStyle.detectAndParse(readTimeout).toMillis(), TimeUnit.MILLISECONDS,
+                false
+        );
+    }
+
+    @Bean
+    public Retryer paymentRetryer() {
+        return new Retryer.Default(100, TimeUnit.SECONDS.toMillis(1), 2);
+    }
+}
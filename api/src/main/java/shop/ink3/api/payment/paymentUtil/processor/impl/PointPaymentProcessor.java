@@ -1,5 +1,6 @@
 package shop.ink3.api.payment.paymentUtil.processor.impl;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import shop.ink3.api.order.guest.dto.GuestPaymentConfirmRequest;
@@ -10,6 +11,7 @@ import shop.ink3.api.payment.paymentUtil.processor.PaymentProcessor;
 
 //TODO : dooray 메신저로 관리자에게 포인트 결제 취소 메세지를 보내면 좋을거 같음.
 // POINT의 경우 외부 API에 요청이 필요없기 때문.
+@Timed("payment.processor")
 @RequiredArgsConstructor
 @Component("POINT-PROCESSOR")
 public class PointPaymentProcessor implements PaymentProcessor {
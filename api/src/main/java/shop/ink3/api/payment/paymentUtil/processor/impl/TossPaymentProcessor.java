@@ -1,25 +1,27 @@
 package shop.ink3.api.payment.paymentUtil.processor.impl;
 
-import lombok.RequiredArgsConstructor;
+import feign.FeignException;
+import io.micrometer.core.annotation.Timed;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import shop.ink3.api.common.resilience.Bulkhead;
+import shop.ink3.api.common.resilience.CircuitBreaker;
 import shop.ink3.api.order.guest.dto.GuestPaymentConfirmRequest;
 import shop.ink3.api.payment.dto.PaymentCancelRequest;
 import shop.ink3.api.payment.dto.PaymentConfirmRequest;
 import shop.ink3.api.payment.exception.PaymentProcessorFailException;
-import shop.ink3.api.payment.paymentUtil.processor.PaymentProcessor;
-
-import java.util.Map;
-import java.util.Base64;
 import shop.ink3.api.payment.paymentUtil.client.PaymentClient;
+import shop.ink3.api.payment.paymentUtil.processor.PaymentProcessor;
 
-@RequiredArgsConstructor
+@Timed("payment.processor")
 @Component("TOSS-PROCESSOR")
 public class TossPaymentProcessor implements PaymentProcessor {
-
-    @Value("${payment.toss.secret_key}")
-    private String SECRET_KEY;
-    private final PaymentClient tossPaymentClient;
     private static final String PAYMENT_KEY = "paymentKey";
     private static final String PAYMENT_AMOUNT = "amount";
     private static final String PAYMENT_ORDER_ID = "orderId";
@@ -27,6 +29,27 @@ public class TossPaymentProcessor implements PaymentProcessor {
     private static final String PAYMENT_CANCEL_REASON = "cancelReason";
     private static final String PAYMENT_METHOD = "TOSS";
 
+    private final PaymentClient tossPaymentClient;
+    private final String basicAuthHeader;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    public TossPaymentProcessor(
+            PaymentClient tossPaymentClient,
+            @Value("${payment.toss.secret_key}") String secretKey,
+            @Value("${payment.toss.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${payment.toss.bulkhead-wait:500ms}") Duration bulkheadWait,
+            @Value("${payment.toss.failure-threshold:5}") int failureThreshold,
+            @Value("${payment.toss.open-duration:30s}") Duration openDuration
+    ) {
+        this.tossPaymentClient = tossPaymentClient;
+        this.basicAuthHeader = AUTH_HEADER_PREFIX
+                + Base64.getEncoder().encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+        this.bulkhead = new Bulkhead(PAYMENT_METHOD, maxConcurrentCalls, bulkheadWait);
+        // 4xx 응답은 요청 자체의 문제이므로 서킷 실패로 세지 않는다
+        this.circuitBreaker = new CircuitBreaker(PAYMENT_METHOD, failureThreshold, openDuration,
+                e -> !(e instanceof FeignException.FeignClientException));
+    }
 
     @Override
     public String processPayment(PaymentConfirmRequest confirmRequest) {
@@ -40,37 +63,48 @@ public class TossPaymentProcessor implements PaymentProcessor {
 
     @Override
     public String cancelPayment(PaymentCancelRequest cancelRequest) {
-        return executePaymentCancel(cancelRequest.paymentKey(), cancelRequest.cancelReason());
+        return executePaymentCancel(cancelRequest.paymentKey(), cancelRequest.amount(), cancelRequest.cancelReason());
     }
 
-
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
 
     private String executePaymentConfirm(String paymentKey, int amount, String orderUUID) {
         try {
-            String basicAuthHeader = AUTH_HEADER_PREFIX + Base64.getEncoder().encodeToString((SECRET_KEY + ":").getBytes());
-
             Map<String, Object> body = Map.of(
                     PAYMENT_KEY, paymentKey,
                     PAYMENT_AMOUNT, amount,
                     PAYMENT_ORDER_ID, orderUUID
             );
+            String idempotencyKey = idempotencyKey("confirm:" + orderUUID);
 
-            return tossPaymentClient.confirmPayment(basicAuthHeader, body);
+            return guarded(() -> tossPaymentClient.confirmPayment(basicAuthHeader, idempotencyKey, body));
         } catch (Exception e) {
             throw new PaymentProcessorFailException(PAYMENT_METHOD, e);
         }
     }
 
-    public String executePaymentCancel(String paymentKey, String cancelReason) {
+    public String executePaymentCancel(String paymentKey, Integer amount, String cancelReason) {
         try {
-            String basicAuthHeader = AUTH_HEADER_PREFIX + Base64.getEncoder().encodeToString((SECRET_KEY + ":").getBytes());
-
             Map<String, Object> body = Map.of(
                     PAYMENT_CANCEL_REASON, cancelReason
             );
-            return tossPaymentClient.cancelPayment(basicAuthHeader, paymentKey, body);
+            String idempotencyKey = idempotencyKey("cancel:" + paymentKey + ":" + amount);
+
+            return guarded(() -> tossPaymentClient.cancelPayment(basicAuthHeader, idempotencyKey, paymentKey, body));
         } catch (Exception e) {
-        throw new PaymentProcessorFailException(PAYMENT_METHOD, e);
+            throw new PaymentProcessorFailException(PAYMENT_METHOD, e);
         }
     }
+
+    // 동시 호출 수 제한(bulkhead) 안에서 서킷 브레이커를 거쳐 호출
+    private String guarded(Supplier<String> request) {
+        return bulkhead.execute(() -> circuitBreaker.execute(request));
+    }
+
+    // 같은 주문의 재시도는 항상 같은 키를 보내도록 이름 기반 UUID를 쓴다
+    private static String idempotencyKey(String source) {
+        return UUID.nameUUIDFromBytes(source.getBytes(StandardCharsets.UTF_8)).toString();
+    }
 }
@@ -0,0 +1,52 @@
+package shop.ink3.api.payment.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import shop.ink3.api.payment.entity.PaymentIdempotency;
+
+public interface PaymentIdempotencyRepository extends JpaRepository<PaymentIdempotency, Long> {
+    Optional<PaymentIdempotency> findByIdempotencyKey(String idempotencyKey);
+
+    @Modifying
+    @Query("""
+                UPDATE PaymentIdempotency p
+                SET p.status = shop.ink3.api.payment.entity.PaymentIdempotencyStatus.COMPLETED, p.response = :response
+                WHERE p.idempotencyKey = :key
+                  AND p.owner = :owner
+                  AND p.status = shop.ink3.api.payment.entity.PaymentIdempotencyStatus.IN_PROGRESS
+            """)
+    int complete(
+            @Param("key") String idempotencyKey,
+            @Param("owner") String owner,
+            @Param("response") String response
+    );
+
+    // 처리 중인 채로 오래 남은 기록(노드 장애 등)을 새 요청이 넘겨받는다
+    @Modifying
+    @Query("""
+                UPDATE PaymentIdempotency p
+                SET p.startedAt = :now, p.owner = :owner
+                WHERE p.idempotencyKey = :key
+                  AND p.status = shop.ink3.api.payment.entity.PaymentIdempotencyStatus.IN_PROGRESS
+                  AND p.startedAt < :staleBefore
+            """)
+    int takeOverStale(
+            @Param("key") String idempotencyKey,
+            @Param("owner") String owner,
+            @Param("staleBefore") LocalDateTime staleBefore,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("""
+                DELETE FROM PaymentIdempotency p
+                WHERE p.idempotencyKey = :key
+                  AND p.owner = :owner
+                  AND p.status = shop.ink3.api.payment.entity.PaymentIdempotencyStatus.IN_PROGRESS
+            """)
+    int releaseInProgress(@Param("key") String idempotencyKey, @Param("owner") String owner);
+}
@@ -0,0 +1,42 @@
+package shop.ink3.api.payment.service;
+
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import shop.ink3.api.payment.dto.PaymentConfirmRequest;
+import shop.ink3.api.payment.dto.PaymentResponse;
+
+/**
+ * 결제 승인 흐름. 외부 결제 API 호출이 DB 트랜잭션을 붙잡지 않도록 트랜잭션 밖에서 순서만 조율한다.
+ *
+ * <ol>
+ *     <li>paymentKey로 멱등 기록을 이 요청의 토큰으로 선점한다. 이미 완료된 승인이면 저장된 응답을 바로 돌려준다.</li>
+ *     <li>결제 승인 API를 호출한다.</li>
+ *     <li>결제 저장/주문 상태 변경/멱등 기록 완료를 한 트랜잭션으로 커밋한다.</li>
+ * </ol>
+ */
+@RequiredArgsConstructor
+@Service
+public class PaymentConfirmService {
+    private final PaymentService paymentService;
+    private final PaymentIdempotencyService paymentIdempotencyService;
+
+    public PaymentResponse confirmPayment(PaymentConfirmRequest confirmRequest) {
+        String idempotencyKey = PaymentIdempotencyService.keyOf(confirmRequest);
+        String owner = UUID.randomUUID().toString();
+        Optional<PaymentResponse> prior =
+                paymentIdempotencyService.begin(idempotencyKey, owner, confirmRequest.orderId());
+        if (prior.isPresent()) {
+            return prior.get();
+        }
+
+        try {
+            String paymentApproveResponse = paymentService.callPaymentAPI(confirmRequest);
+            return paymentService.createPayment(confirmRequest, paymentApproveResponse, owner);
+        } catch (RuntimeException e) {
+            paymentIdempotencyService.release(idempotencyKey, owner);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package shop.ink3.api.payment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.ink3.api.payment.dto.PaymentConfirmRequest;
+import shop.ink3.api.payment.dto.PaymentResponse;
+import shop.ink3.api.payment.entity.PaymentIdempotency;
+import shop.ink3.api.payment.entity.PaymentIdempotencyStatus;
+import shop.ink3.api.payment.exception.PaymentConfirmInProgressException;
+import shop.ink3.api.payment.repository.PaymentIdempotencyRepository;
+
+@Slf4j
+@Service
+public class PaymentIdempotencyService {
+    // Toss read timeout(기본 10초)보다 충분히 길게
+    private static final Duration STALE_AFTER = Duration.ofMinutes(2);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final PaymentIdempotencyRepository paymentIdempotencyRepository;
+    private final TransactionTemplate newTransaction;
+
+    public PaymentIdempotencyService(
+            PaymentIdempotencyRepository paymentIdempotencyRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.paymentIdempotencyRepository = paymentIdempotencyRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // POINT(0원) 결제는 paymentKey가 없으므로 주문 id로 대신한다
+    public static String keyOf(PaymentConfirmRequest request) {
+        return Objects.nonNull(request.paymentKey())
+                ? request.paymentKey()
+                : "ORDER-%d".formatted(request.orderId());
+    }
+
+    /**
+     * 승인 처리 권한을 선점한다. owner는 이후 complete/release에 같은 값을 넘겨야 한다.
+     *
+     * @return 이미 완료된 승인이면 저장해 둔 응답, 새로 선점했으면 empty
+     * @throws PaymentConfirmInProgressException 다른 요청이 같은 승인을 처리 중인 경우
+     */
+    public Optional<PaymentResponse> begin(String idempotencyKey, String owner, long orderId) {
+        try {
+            newTransaction.executeWithoutResult(status -> paymentIdempotencyRepository.saveAndFlush(
+                    PaymentIdempotency.builder()
+                            .idempotencyKey(idempotencyKey)
+                            .orderId(orderId)
+                            .owner(owner)
+                            .status(PaymentIdempotencyStatus.IN_PROGRESS)
+                            .startedAt(LocalDateTime.now())
+                            .build()
+            ));
+            return Optional.empty();
+        } catch (DataIntegrityViolationException e) {
+            return resolveExisting(idempotencyKey, owner, orderId);
+        }
+    }
+
+    // createPayment 트랜잭션에 참여해 결제 저장과 함께 커밋된다. 선점을 넘겨받은 요청이 있으면 결제 저장도 롤백한다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void complete(String idempotencyKey, String owner, PaymentResponse response) {
+        if (paymentIdempotencyRepository.complete(idempotencyKey, owner, write(response)) == 0) {
+            throw new PaymentConfirmInProgressException(response.orderId());
+        }
+    }
+
+    // 승인 실패 시 선점을 풀어 재시도를 허용. 다른 요청이 넘겨받은 기록은 지우지 않는다
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String idempotencyKey, String owner) {
+        paymentIdempotencyRepository.releaseInProgress(idempotencyKey, owner);
+    }
+
+    private Optional<PaymentResponse> resolveExisting(String idempotencyKey, String owner, long orderId) {
+        PaymentIdempotency existing = paymentIdempotencyRepository.findByIdempotencyKey(idempotencyKey)
+                .orElseThrow(() -> new PaymentConfirmInProgressException(orderId));
+
+        if (existing.getStatus() == PaymentIdempotencyStatus.COMPLETED && existing.getResponse() != null) {
+            return Optional.of(read(existing.getResponse()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Integer takenOver = newTransaction.execute(status ->
+                paymentIdempotencyRepository.takeOverStale(idempotencyKey, owner, now.minus(STALE_AFTER), now));
+        if (takenOver != null && takenOver == 1) {
+            log.warn("[PAYMENT] took over stale confirmation. orderId={}", orderId);
+            return Optional.empty();
+        }
+        throw new PaymentConfirmInProgressException(orderId);
+    }
+
+    private String write(PaymentResponse response) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private PaymentResponse read(String json) {
+        try {
+            return OBJECT_MAPPER.readValue(json, PaymentResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
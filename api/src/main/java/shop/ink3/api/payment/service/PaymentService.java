@@ -6,7 +6,9 @@ import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import shop.ink3.api.coupon.store.dto.CouponStoreUpdateRequest;
 import shop.ink3.api.coupon.store.entity.CouponStatus;
@@ -58,6 +60,7 @@ public class PaymentService {
     private final PaymentProcessorResolver paymentProcessorResolver;
     private final PaymentResponseParserResolver paymentResponseParserResolver;
     private final ApplicationEventPublisher eventPublisher;
+    private final PaymentIdempotencyService paymentIdempotencyService;
 
     // 조회
     @Transactional(readOnly = true)
@@ -74,16 +77,20 @@ public class PaymentService {
         paymentRepository.deleteByOrderId(orderId);
     }
 
-    // 결제 승인 API 호출 및 ApproveResponse 반환
-    @Transactional(readOnly = true)
+    // 결제 승인 API 호출 및 ApproveResponse 반환. 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String callPaymentAPI(PaymentConfirmRequest confirmRequest) {
         PaymentProcessor paymentProcessor = paymentProcessorResolver.getPaymentProcessor(
                 String.format("%s-%s", String.valueOf(confirmRequest.paymentType()).toUpperCase(), "PROCESSOR"));
         return paymentProcessor.processPayment(confirmRequest);
     }
 
-    // 생성 (결제 성공)
-    public PaymentResponse createPayment(PaymentConfirmRequest confirmRequest, String paymentApproveResponse) {
+    // 생성 (결제 성공). idempotencyOwner는 승인 요청이 선점한 멱등 기록의 토큰
+    public PaymentResponse createPayment(
+            PaymentConfirmRequest confirmRequest,
+            String paymentApproveResponse,
+            String idempotencyOwner
+    ) {
         if (paymentRepository.findByOrderId(confirmRequest.orderId()).isPresent()) {
             throw new PaymentAlreadyExistsException(confirmRequest.orderId());
         }
@@ -93,9 +100,14 @@ public class PaymentService {
                 String.format("%s-%s", String.valueOf(confirmRequest.paymentType()).toUpperCase(), "PARSER"));
         Payment payment = paymentParser.paymentResponseParser(confirmRequest, paymentApproveResponse);
 
-        // 주문 상태 변경 및 결제 저장
+        // 결제 저장 (payments.order_id 유니크 제약으로 동시 요청 중 한 건만 성공) 및 주문 상태 변경
+        Payment savePayment;
+        try {
+            savePayment = paymentRepository.saveAndFlush(payment);
+        } catch (DataIntegrityViolationException e) {
+            throw new PaymentAlreadyExistsException(confirmRequest.orderId());
+        }
         orderService.updateOrderStatus(confirmRequest.orderId(), new OrderStatusUpdateRequest(OrderStatus.CONFIRMED));
-        Payment savePayment = paymentRepository.save(payment);
 
         // 0원 결제일 경우 분기문 처리 (포인트 적립 X )
         if(!payment.getPaymentType().equals(PaymentType.POINT) && confirmRequest.userId()!=null){
@@ -107,7 +119,9 @@ public class PaymentService {
                     confirmRequest.usedPointAmount())
             );
         }
-        return PaymentResponse.from(savePayment);
+        PaymentResponse response = PaymentResponse.from(savePayment);
+        paymentIdempotencyService.complete(PaymentIdempotencyService.keyOf(confirmRequest), idempotencyOwner, response);
+        return response;
     }
 
     // 결제 실패
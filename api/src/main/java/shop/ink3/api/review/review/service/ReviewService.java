@@ -93,7 +93,7 @@ public class ReviewService {
                 .build();
         Review savedReview = reviewRepository.save(review);
 
-        PointPolicyResponse response = pointPolicyService.getPointPolicy(1);
+        PointPolicyResponse response = pointPolicyService.getActivePointPolicy();
         PointHistory pointHistory = getPointHistory(images, user, response);
 
         List<String> imageUrls = saveImages(images, savedReview);
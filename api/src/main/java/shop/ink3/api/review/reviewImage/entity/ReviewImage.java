@@ -6,6 +6,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -22,7 +23,8 @@ import shop.ink3.api.review.review.entity.Review;
 @AllArgsConstructor
 public class ReviewImage {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_images_seq")
+    @SequenceGenerator(name = "review_images_seq", sequenceName = "review_images_seq", allocationSize = 50)
     private Long id;
 
     private String imageUrl;
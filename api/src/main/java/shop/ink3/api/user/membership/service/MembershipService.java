@@ -1,12 +1,16 @@
 package shop.ink3.api.user.membership.service;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.policy.PolicyChangedEvent;
+import shop.ink3.api.common.policy.PolicyType;
 import shop.ink3.api.user.membership.dto.MembershipCreateRequest;
 import shop.ink3.api.user.membership.dto.MembershipResponse;
 import shop.ink3.api.user.membership.dto.MembershipStatisticsResponse;
@@ -17,12 +21,16 @@ import shop.ink3.api.user.membership.exception.CannotDeleteDefaultMembershipExce
 import shop.ink3.api.user.membership.exception.DefaultMembershipNotFoundException;
 import shop.ink3.api.user.membership.exception.MembershipNotFoundException;
 import shop.ink3.api.user.membership.repository.MembershipRepository;
+import shop.ink3.api.user.statistics.entity.StatisticsCounterKey;
+import shop.ink3.api.user.statistics.service.StatisticsRollupService;
 
 @Transactional
 @RequiredArgsConstructor
 @Service
 public class MembershipService {
     private final MembershipRepository membershipRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatisticsRollupService statisticsRollupService;
 
     @Transactional(readOnly = true)
     public MembershipResponse getMembership(long membershipId) {
@@ -46,7 +54,12 @@ public class MembershipService {
 
     @Transactional(readOnly = true)
     public MembershipStatisticsResponse getMembershipStatistics() {
-        return membershipRepository.getMembershipStatistics();
+        Map<StatisticsCounterKey, Long> counters =
+                statisticsRollupService.getCounters(StatisticsCounterKey.MEMBERSHIP_KEYS);
+        return MembershipStatisticsResponse.of(
+                counters.get(StatisticsCounterKey.MEMBERSHIPS_TOTAL),
+                counters.get(StatisticsCounterKey.MEMBERSHIPS_ACTIVE)
+        );
     }
 
     public MembershipResponse createMembership(MembershipCreateRequest request) {
@@ -59,20 +72,29 @@ public class MembershipService {
                 .isDefault(!hasDefault)
                 .createdAt(LocalDateTime.now())
                 .build();
-        return MembershipResponse.from(membershipRepository.save(membership));
+        MembershipResponse response = MembershipResponse.from(membershipRepository.save(membership));
+        statisticsRollupService.add(StatisticsCounterKey.MEMBERSHIPS_TOTAL, 1);
+        statisticsRollupService.toggle(StatisticsCounterKey.MEMBERSHIPS_ACTIVE, false, membership.getIsActive());
+        publishChanged();
+        return response;
     }
 
     public MembershipResponse updateMembership(long membershipId, MembershipUpdateRequest request) {
         Membership membership = membershipRepository.findById(membershipId)
                 .orElseThrow(() -> new MembershipNotFoundException(membershipId));
         membership.update(request.name(), request.conditionAmount(), request.pointRate());
-        return MembershipResponse.from(membershipRepository.save(membership));
+        MembershipResponse response = MembershipResponse.from(membershipRepository.save(membership));
+        publishChanged();
+        return response;
     }
 
     public void activateMembership(long membershipId) {
         Membership membership = membershipRepository.findById(membershipId)
                 .orElseThrow(() -> new MembershipNotFoundException(membershipId));
+        boolean wasActive = membership.getIsActive();
         membership.activate();
+        statisticsRollupService.toggle(StatisticsCounterKey.MEMBERSHIPS_ACTIVE, wasActive, true);
+        publishChanged();
     }
 
     public void deactivateMembership(long membershipId) {
@@ -81,7 +103,10 @@ public class MembershipService {
         if (membership.getIsDefault()) {
             throw new CannotDeactivateDefaultMembershipException();
         }
+        boolean wasActive = membership.getIsActive();
         membership.deactivate();
+        statisticsRollupService.toggle(StatisticsCounterKey.MEMBERSHIPS_ACTIVE, wasActive, false);
+        publishChanged();
     }
 
     public void setDefaultMembership(long membershipId) {
@@ -95,9 +120,11 @@ public class MembershipService {
 
         if (!membership.getIsActive()) {
             membership.activate();
+            statisticsRollupService.toggle(StatisticsCounterKey.MEMBERSHIPS_ACTIVE, false, true);
         }
 
         membership.markAsDefault();
+        publishChanged();
     }
 
     public void deleteMembership(long membershipId) {
@@ -107,5 +134,12 @@ public class MembershipService {
             throw new CannotDeleteDefaultMembershipException();
         }
         membershipRepository.delete(membership);
+        statisticsRollupService.add(StatisticsCounterKey.MEMBERSHIPS_TOTAL, -1);
+        statisticsRollupService.toggle(StatisticsCounterKey.MEMBERSHIPS_ACTIVE, membership.getIsActive(), false);
+        publishChanged();
+    }
+
+    private void publishChanged() {
+        eventPublisher.publishEvent(new PolicyChangedEvent(PolicyType.MEMBERSHIP));
     }
 }
@@ -9,10 +9,14 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import shop.ink3.api.common.config.AsyncConfig;
+import shop.ink3.api.common.policy.PolicySnapshot;
+import shop.ink3.api.common.policy.PolicySnapshotRegistry;
 import shop.ink3.api.order.orderPoint.service.OrderPointService;
+import shop.ink3.api.user.membership.dto.MembershipResponse;
 import shop.ink3.api.user.point.history.entity.PointHistory;
 import shop.ink3.api.user.point.history.service.PointService;
-import shop.ink3.api.user.point.policy.service.PointPolicyService;
+import shop.ink3.api.user.point.policy.exception.PointPolicyNotFoundException;
 import shop.ink3.api.user.user.dto.UserPointRequest;
 import shop.ink3.api.user.user.entity.User;
 import shop.ink3.api.user.user.exception.UserNotFoundException;
@@ -29,40 +33,45 @@ public class PointEventListener {
 
     private final UserRepository userRepository;
     private final PointService pointService;
-    private final PointPolicyService pointPolicyService;
+    private final PolicySnapshotRegistry policySnapshotRegistry;
     private final OrderPointService orderPointService;
 
-    @Async
+    // 실패하면 트랜잭션을 롤백하고 예외를 그대로 던져 AsyncTaskFailureHandler가 재실행 대상으로 기록하게 한다
+    @Async(AsyncConfig.EVENT_TASK_EXECUTOR)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handlePointHistoryAfterPayment(PointHistoryAfterPaymentEven event) {
-        try {
-            User user = userRepository.findById(event.userId()).orElseThrow(() -> new UserNotFoundException(event.userId()));
-
-            int membershipPointRate = user.getMembership().getPointRate();
-            int pointPolicyRate = pointPolicyService.getPointPolicy(1).defaultRate();
-            int totalPointRate = membershipPointRate + pointPolicyRate;
-            int pointAmount = (event.paymentAmount() * totalPointRate) / 100;
+        User user = userRepository.findById(event.userId()).orElseThrow(() -> new UserNotFoundException(event.userId()));
 
-            PointHistory earnPointHistory = null;
-            if (!user.getMembership().getName().equals("GOLD")) {
-                earnPointHistory = pointService.earnPoint(event.userId(),
-                    new UserPointRequest(pointAmount, user.getMembership().getName() + POINT_MEMBERSHIP_EARN + ", " + POINT_PAYMENT_DESCRIPTION_EARN));
-            }
-            else {
-                earnPointHistory = pointService.earnPoint(event.userId(),
-                    new UserPointRequest(pointAmount, POINT_PAYMENT_DESCRIPTION_EARN));
-            }
-            orderPointService.createOrderPoint(event.orderId(), earnPointHistory);
+        // 정책과 멤버십은 메모리 스냅샷에서 읽어 멤버십 지연 로딩을 피한다
+        PolicySnapshot policies = policySnapshotRegistry.current();
+        if (policies.pointPolicy() == null) {
+            throw new PointPolicyNotFoundException();
+        }
+        MembershipResponse membership = policies.membership(user.getMembership().getId());
+        if (membership == null) {
+            membership = MembershipResponse.from(user.getMembership());
+        }
+        int membershipPointRate = membership.pointRate();
+        int pointPolicyRate = policies.pointPolicy().defaultRate();
+        int totalPointRate = membershipPointRate + pointPolicyRate;
+        int pointAmount = (event.paymentAmount() * totalPointRate) / 100;
 
-            if (event.usedPointAmount() > 0) {
-                PointHistory usePointHistory = pointService.usePoint(event.userId(),
-                        new UserPointRequest(event.usedPointAmount(), POINT_PAYMENT_DESCRIPTION_USE));
-                orderPointService.createOrderPoint(event.orderId(), usePointHistory);
-            }
+        PointHistory earnPointHistory = null;
+        if (!membership.name().equals("GOLD")) {
+            earnPointHistory = pointService.earnPoint(event.userId(),
+                new UserPointRequest(pointAmount, membership.name() + POINT_MEMBERSHIP_EARN + ", " + POINT_PAYMENT_DESCRIPTION_EARN));
+        }
+        else {
+            earnPointHistory = pointService.earnPoint(event.userId(),
+                new UserPointRequest(pointAmount, POINT_PAYMENT_DESCRIPTION_EARN));
+        }
+        orderPointService.createOrderPoint(event.orderId(), earnPointHistory);
 
-        } catch (Exception e) {
-            log.error("포인트 적립 및 사용 실패: {}", e.getMessage());
+        if (event.usedPointAmount() > 0) {
+            PointHistory usePointHistory = pointService.usePoint(event.userId(),
+                    new UserPointRequest(event.usedPointAmount(), POINT_PAYMENT_DESCRIPTION_USE));
+            orderPointService.createOrderPoint(event.orderId(), usePointHistory);
         }
     }
 
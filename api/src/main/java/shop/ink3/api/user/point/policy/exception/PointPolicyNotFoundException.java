@@ -3,6 +3,10 @@ package shop.ink3.api.user.point.policy.exception;
 import shop.ink3.api.common.exception.NotFoundException;
 
 public class PointPolicyNotFoundException extends NotFoundException {
+    public PointPolicyNotFoundException() {
+        super("Active point policy not found.");
+    }
+
     public PointPolicyNotFoundException(long pointPolicyId) {
         super("Point policy not found. ID: " + pointPolicyId);
     }
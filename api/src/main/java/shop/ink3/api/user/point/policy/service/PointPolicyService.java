@@ -1,14 +1,20 @@
 package shop.ink3.api.user.point.policy.service;
 
+import java.util.Map;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import shop.ink3.api.common.config.AsyncConfig;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.policy.PolicyChangedEvent;
+import shop.ink3.api.common.policy.PolicySnapshotRegistry;
+import shop.ink3.api.common.policy.PolicyType;
 import shop.ink3.api.user.point.history.entity.PointHistory;
 import shop.ink3.api.user.point.history.service.PointService;
 import shop.ink3.api.user.point.policy.dto.PointPolicyCreateRequest;
@@ -19,6 +25,8 @@ import shop.ink3.api.user.point.policy.entity.PointPolicy;
 import shop.ink3.api.user.point.policy.exception.CannotDeleteActivePointPolicyException;
 import shop.ink3.api.user.point.policy.exception.PointPolicyNotFoundException;
 import shop.ink3.api.user.point.policy.repository.PointPolicyRepository;
+import shop.ink3.api.user.statistics.entity.StatisticsCounterKey;
+import shop.ink3.api.user.statistics.service.StatisticsRollupService;
 import shop.ink3.api.user.user.dto.UserPointRequest;
 
 @Slf4j
@@ -30,6 +38,9 @@ public class PointPolicyService {
 
     private final PointService pointService;
     private final PointPolicyRepository pointPolicyRepository;
+    private final PolicySnapshotRegistry policySnapshotRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatisticsRollupService statisticsRollupService;
 
     @Transactional(readOnly = true)
     public PointPolicyResponse getPointPolicy(long pointPolicyId) {
@@ -38,6 +49,15 @@ public class PointPolicyService {
         return PointPolicyResponse.from(pointPolicy);
     }
 
+    // 적립/리뷰 처리에서 쓰는 활성 정책, 메모리 스냅샷에서 읽는다
+    public PointPolicyResponse getActivePointPolicy() {
+        PointPolicyResponse pointPolicy = policySnapshotRegistry.current().pointPolicy();
+        if (pointPolicy == null) {
+            throw new PointPolicyNotFoundException();
+        }
+        return pointPolicy;
+    }
+
     @Transactional(readOnly = true)
     public PageResponse<PointPolicyResponse> getPointPolicies(Pageable pageable) {
         return PageResponse.from(pointPolicyRepository.findAll(pageable).map(PointPolicyResponse::from));
@@ -45,7 +65,12 @@ public class PointPolicyService {
 
     @Transactional(readOnly = true)
     public PointPolicyStatisticsResponse getPointPolicyStatistics() {
-        return pointPolicyRepository.getPointPolicyStatistics();
+        Map<StatisticsCounterKey, Long> counters =
+                statisticsRollupService.getCounters(StatisticsCounterKey.POINT_POLICY_KEYS);
+        return PointPolicyStatisticsResponse.of(
+                counters.get(StatisticsCounterKey.POINT_POLICIES_TOTAL),
+                counters.get(StatisticsCounterKey.POINT_POLICIES_ACTIVE)
+        );
     }
 
     public PointPolicyResponse createPointPolicy(PointPolicyCreateRequest request) {
@@ -59,7 +84,11 @@ public class PointPolicyService {
         if (!pointPolicyRepository.existsByIsActive(true)) {
             pointPolicy.activate();
         }
-        return PointPolicyResponse.from(pointPolicyRepository.save(pointPolicy));
+        PointPolicyResponse response = PointPolicyResponse.from(pointPolicyRepository.save(pointPolicy));
+        statisticsRollupService.add(StatisticsCounterKey.POINT_POLICIES_TOTAL, 1);
+        statisticsRollupService.toggle(StatisticsCounterKey.POINT_POLICIES_ACTIVE, false, pointPolicy.getIsActive());
+        eventPublisher.publishEvent(new PolicyChangedEvent(PolicyType.POINT));
+        return response;
     }
 
     public PointPolicyResponse updatePointPolicy(long pointPolicyId, PointPolicyUpdateRequest request) {
@@ -68,6 +97,7 @@ public class PointPolicyService {
         pointPolicy.update(request.name(), request.joinPoint(), request.reviewPoint(), request.imageReviewPoint(),
                 request.defaultRate());
         pointPolicyRepository.save(pointPolicy);
+        eventPublisher.publishEvent(new PolicyChangedEvent(PolicyType.POINT));
         return PointPolicyResponse.from(pointPolicy);
     }
 
@@ -78,14 +108,17 @@ public class PointPolicyService {
             if (!Objects.equals(pointPolicy.getId(), currentActivePolicy.getId())) {
                 currentActivePolicy.deactivate();
                 pointPolicyRepository.save(currentActivePolicy);
+                statisticsRollupService.add(StatisticsCounterKey.POINT_POLICIES_ACTIVE, -1);
             }
         });
 
         if (!pointPolicy.getIsActive()) {
             pointPolicy.activate();
             pointPolicyRepository.save(pointPolicy);
+            statisticsRollupService.add(StatisticsCounterKey.POINT_POLICIES_ACTIVE, 1);
         }
 
+        eventPublisher.publishEvent(new PolicyChangedEvent(PolicyType.POINT));
         return PointPolicyResponse.from(pointPolicy);
     }
 
@@ -96,20 +129,19 @@ public class PointPolicyService {
             throw new CannotDeleteActivePointPolicyException();
         }
         pointPolicyRepository.deleteById(pointPolicyId);
+        statisticsRollupService.add(StatisticsCounterKey.POINT_POLICIES_TOTAL, -1);
+        eventPublisher.publishEvent(new PolicyChangedEvent(PolicyType.POINT));
     }
 
-    @Async
+    // 실패는 AsyncTaskFailureHandler가 기록하고 AsyncTaskReplayWorker가 다시 실행한다
+    @Async(AsyncConfig.EVENT_TASK_EXECUTOR)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void assignSignupPoint(Long userId) {
-        try {
-            PointPolicyResponse response = getPointPolicy(1);
-            PointHistory pointHistory = pointService.earnPoint(
-                    userId,
-                    new UserPointRequest(response.joinPoint(), String.format(POINT_SIGNUP_USER, response.joinPoint()))
-            );
-            log.info("신규 회원 포인트 적립 완료={}", pointHistory.toString());
-        } catch (Exception e) {
-            log.warn("포인트 적립 비동기 실패: {}", e.getMessage());
-        }
+        PointPolicyResponse response = getActivePointPolicy();
+        PointHistory pointHistory = pointService.earnPoint(
+                userId,
+                new UserPointRequest(response.joinPoint(), String.format(POINT_SIGNUP_USER, response.joinPoint()))
+        );
+        log.info("신규 회원 포인트 적립 완료={}", pointHistory.toString());
     }
 }
@@ -0,0 +1,29 @@
+package shop.ink3.api.user.statistics.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import shop.ink3.api.common.dto.CommonResponse;
+import shop.ink3.api.user.statistics.dto.StatisticsTrendResponse;
+import shop.ink3.api.user.statistics.service.StatisticsRollupService;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/statistics")
+public class StatisticsController {
+    private final StatisticsRollupService statisticsRollupService;
+
+    @GetMapping("/trends")
+    public ResponseEntity<CommonResponse<List<StatisticsTrendResponse>>> getTrends(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(CommonResponse.success(statisticsRollupService.getTrends(from, to)));
+    }
+}
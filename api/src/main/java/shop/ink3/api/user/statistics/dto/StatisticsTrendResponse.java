@@ -0,0 +1,11 @@
+package shop.ink3.api.user.statistics.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+import shop.ink3.api.user.statistics.entity.StatisticsCounterKey;
+
+public record StatisticsTrendResponse(
+        LocalDate date,
+        Map<StatisticsCounterKey, Long> counters
+) {
+}
@@ -0,0 +1,40 @@
+package shop.ink3.api.user.statistics.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 관리자 대시보드 통계 카운터. 회원 상태/멤버십/포인트 정책이 바뀔 때 증감하고,
+ * 주기적인 재계산으로 원본 테이블과의 차이를 맞춘다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@Entity
+@Table(name = "statistics_counters")
+public class StatisticsCounter {
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "counter_key", length = 40)
+    private StatisticsCounterKey key;
+
+    @Column(name = "counter_value", nullable = false)
+    private long value;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public void reset(long value, LocalDateTime updatedAt) {
+        this.value = value;
+        this.updatedAt = updatedAt;
+    }
+}
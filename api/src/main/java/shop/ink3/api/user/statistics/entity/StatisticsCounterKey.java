@@ -0,0 +1,27 @@
+package shop.ink3.api.user.statistics.entity;
+
+import java.util.List;
+import shop.ink3.api.user.user.entity.UserStatus;
+
+public enum StatisticsCounterKey {
+    USERS_ACTIVE,
+    USERS_DORMANT,
+    USERS_WITHDRAWN,
+    MEMBERSHIPS_TOTAL,
+    MEMBERSHIPS_ACTIVE,
+    POINT_POLICIES_TOTAL,
+    POINT_POLICIES_ACTIVE;
+
+    public static final List<StatisticsCounterKey> USER_KEYS = List.of(USERS_ACTIVE, USERS_DORMANT, USERS_WITHDRAWN);
+    public static final List<StatisticsCounterKey> MEMBERSHIP_KEYS = List.of(MEMBERSHIPS_TOTAL, MEMBERSHIPS_ACTIVE);
+    public static final List<StatisticsCounterKey> POINT_POLICY_KEYS =
+            List.of(POINT_POLICIES_TOTAL, POINT_POLICIES_ACTIVE);
+
+    public static StatisticsCounterKey of(UserStatus status) {
+        return switch (status) {
+            case ACTIVE -> USERS_ACTIVE;
+            case DORMANT -> USERS_DORMANT;
+            case WITHDRAWN -> USERS_WITHDRAWN;
+        };
+    }
+}
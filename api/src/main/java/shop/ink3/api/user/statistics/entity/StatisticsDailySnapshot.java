@@ -0,0 +1,48 @@
+package shop.ink3.api.user.statistics.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 하루가 끝날 때의 카운터 값. 대시보드 추이 그래프에 쓴다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@Builder
+@Entity
+@Table(
+        name = "statistics_daily_snapshots",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_statistics_daily_snapshots_date_key",
+                columnNames = {"snapshot_date", "counter_key"}
+        )
+)
+public class StatisticsDailySnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate snapshotDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "counter_key", nullable = false, length = 40)
+    private StatisticsCounterKey key;
+
+    @Column(name = "counter_value", nullable = false)
+    private long value;
+}
@@ -0,0 +1,21 @@
+package shop.ink3.api.user.statistics.repository;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import shop.ink3.api.user.statistics.entity.StatisticsCounter;
+import shop.ink3.api.user.statistics.entity.StatisticsCounterKey;
+
+public interface StatisticsCounterRepository extends JpaRepository<StatisticsCounter, StatisticsCounterKey> {
+    // 읽고 쓰지 않고 한 문장으로 더해 동시에 들어온 증감이 서로 덮어쓰지 않게 한다
+    @Modifying(clearAutomatically = true)
+    @Query("""
+                UPDATE StatisticsCounter c
+                SET c.value = c.value + :delta,
+                    c.updatedAt = :now
+                WHERE c.key = :key
+            """)
+    int add(@Param("key") StatisticsCounterKey key, @Param("delta") long delta, @Param("now") LocalDateTime now);
+}
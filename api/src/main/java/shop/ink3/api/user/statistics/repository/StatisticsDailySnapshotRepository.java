@@ -0,0 +1,12 @@
+package shop.ink3.api.user.statistics.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import shop.ink3.api.user.statistics.entity.StatisticsDailySnapshot;
+
+public interface StatisticsDailySnapshotRepository extends JpaRepository<StatisticsDailySnapshot, Long> {
+    boolean existsBySnapshotDate(LocalDate snapshotDate);
+
+    List<StatisticsDailySnapshot> findAllBySnapshotDateBetweenOrderBySnapshotDateAsc(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,247 @@
+package shop.ink3.api.user.statistics.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.ink3.api.common.exception.BadRequestException;
+import shop.ink3.api.user.membership.dto.MembershipStatisticsResponse;
+import shop.ink3.api.user.membership.repository.MembershipRepository;
+import shop.ink3.api.user.point.policy.dto.PointPolicyStatisticsResponse;
+import shop.ink3.api.user.point.policy.repository.PointPolicyRepository;
+import shop.ink3.api.user.statistics.dto.StatisticsTrendResponse;
+import shop.ink3.api.user.statistics.entity.StatisticsCounter;
+import shop.ink3.api.user.statistics.entity.StatisticsCounterKey;
+import shop.ink3.api.user.statistics.entity.StatisticsDailySnapshot;
+import shop.ink3.api.user.statistics.repository.StatisticsCounterRepository;
+import shop.ink3.api.user.statistics.repository.StatisticsDailySnapshotRepository;
+import shop.ink3.api.user.user.dto.UserStatisticsResponse;
+import shop.ink3.api.user.user.repository.UserRepository;
+
+/**
+ * 관리자 대시보드 통계를 미리 집계해 둔다. 조회는 카운터 몇 행을 키로 읽기만 하고,
+ * 회원 상태/멤버십/포인트 정책 변경은 트랜잭션이 커밋된 뒤에 증감분만 반영한다.
+ * 반영이 실패하거나 JPA를 거치지 않은 변경으로 생긴 차이는 주기적인 재계산이 원본 테이블 기준으로 맞춘다.
+ */
+@Slf4j
+@Service
+public class StatisticsRollupService {
+    private static final Object PENDING_DELTAS = new Object();
+    private static final int MAX_TREND_DAYS = 366;
+
+    private final StatisticsCounterRepository statisticsCounterRepository;
+    private final StatisticsDailySnapshotRepository statisticsDailySnapshotRepository;
+    private final UserRepository userRepository;
+    private final MembershipRepository membershipRepository;
+    private final PointPolicyRepository pointPolicyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public StatisticsRollupService(
+            StatisticsCounterRepository statisticsCounterRepository,
+            StatisticsDailySnapshotRepository statisticsDailySnapshotRepository,
+            UserRepository userRepository,
+            MembershipRepository membershipRepository,
+            PointPolicyRepository pointPolicyRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.statisticsCounterRepository = statisticsCounterRepository;
+        this.statisticsDailySnapshotRepository = statisticsDailySnapshotRepository;
+        this.userRepository = userRepository;
+        this.membershipRepository = membershipRepository;
+        this.pointPolicyRepository = pointPolicyRepository;
+        // 커밋 후 반영과 재계산은 호출한 쪽 트랜잭션(readOnly일 수 있다)과 분리한다
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void add(StatisticsCounterKey key, long delta) {
+        Map<StatisticsCounterKey, Long> deltas = new EnumMap<>(StatisticsCounterKey.class);
+        deltas.put(key, delta);
+        record(deltas);
+    }
+
+    public void move(StatisticsCounterKey from, StatisticsCounterKey to) {
+        if (from == to) {
+            return;
+        }
+        Map<StatisticsCounterKey, Long> deltas = new EnumMap<>(StatisticsCounterKey.class);
+        deltas.put(from, -1L);
+        deltas.put(to, 1L);
+        record(deltas);
+    }
+
+    // 활성 여부처럼 켜고 끄는 카운터. 값이 실제로 바뀐 경우에만 반영한다
+    public void toggle(StatisticsCounterKey key, boolean before, boolean after) {
+        if (before != after) {
+            add(key, after ? 1 : -1);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Map<StatisticsCounterKey, Long> getCounters(List<StatisticsCounterKey> keys) {
+        Map<StatisticsCounterKey, Long> counters = new EnumMap<>(StatisticsCounterKey.class);
+        statisticsCounterRepository.findAllById(keys)
+                .forEach(counter -> counters.put(counter.getKey(), counter.getValue()));
+        if (counters.size() < keys.size()) {
+            // 배포 직후처럼 카운터가 아직 없으면 한 번 세어 채운다
+            Map<StatisticsCounterKey, Long> recounted = recount();
+            keys.forEach(key -> counters.put(key, recounted.getOrDefault(key, 0L)));
+        }
+        return counters;
+    }
+
+    @Transactional(readOnly = true)
+    public List<StatisticsTrendResponse> getTrends(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("Trend period start must not be after end.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_TREND_DAYS) {
+            throw new BadRequestException("Trend period must be within %d days.".formatted(MAX_TREND_DAYS));
+        }
+        Map<LocalDate, Map<StatisticsCounterKey, Long>> byDate = new TreeMap<>();
+        statisticsDailySnapshotRepository.findAllBySnapshotDateBetweenOrderBySnapshotDateAsc(from, to)
+                .forEach(snapshot -> byDate
+                        .computeIfAbsent(snapshot.getSnapshotDate(), date -> new EnumMap<>(StatisticsCounterKey.class))
+                        .put(snapshot.getKey(), snapshot.getValue()));
+        return byDate.entrySet().stream()
+                .map(entry -> new StatisticsTrendResponse(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * 원본 테이블을 다시 세어 카운터를 덮어쓴다. 세는 도중 커밋된 변경의 증감분이 뒤이어 반영되면
+     * 잠깐 어긋날 수 있으나 다음 재계산에서 다시 맞춰진다. 여러 노드에서 함께 돌아도 결과는 같다.
+     */
+    @Scheduled(cron = "${statistics.recount-cron:0 30 * * * *}")
+    public Map<StatisticsCounterKey, Long> recount() {
+        try {
+            return transactionTemplate.execute(status -> {
+                Map<StatisticsCounterKey, Long> counted = countSources();
+                Map<StatisticsCounterKey, StatisticsCounter> existing = new EnumMap<>(StatisticsCounterKey.class);
+                statisticsCounterRepository.findAllById(counted.keySet())
+                        .forEach(counter -> existing.put(counter.getKey(), counter));
+
+                LocalDateTime now = LocalDateTime.now();
+                counted.forEach((key, value) -> {
+                    StatisticsCounter counter = existing.get(key);
+                    if (Objects.isNull(counter)) {
+                        statisticsCounterRepository.save(new StatisticsCounter(key, value, now));
+                        return;
+                    }
+                    if (counter.getValue() != value) {
+                        log.warn("[STATISTICS] {} drifted: counter={}, actual={}", key, counter.getValue(), value);
+                    }
+                    counter.reset(value, now);
+                });
+                return counted;
+            });
+        } catch (DataAccessException e) {
+            // 다른 노드가 같은 카운터를 먼저 만든 경우 등. 다음 재계산에서 다시 맞춘다
+            log.warn("[STATISTICS] recount failed: {}", e.getMessage());
+            return countSources();
+        }
+    }
+
+    // 자정 직후 재계산한 값을 전날 기록으로 남긴다
+    @Scheduled(cron = "${statistics.snapshot-cron:0 5 0 * * *}")
+    public void snapshotYesterday() {
+        recount();
+        takeSnapshot(LocalDate.now().minusDays(1));
+    }
+
+    public void takeSnapshot(LocalDate date) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (statisticsDailySnapshotRepository.existsBySnapshotDate(date)) {
+                    return;
+                }
+                statisticsDailySnapshotRepository.saveAll(statisticsCounterRepository.findAll().stream()
+                        .map(counter -> StatisticsDailySnapshot.builder()
+                                .snapshotDate(date)
+                                .key(counter.getKey())
+                                .value(counter.getValue())
+                                .build())
+                        .toList());
+            });
+        } catch (DataAccessException e) {
+            // 같은 날짜를 다른 노드가 먼저 남겼다
+            log.info("[STATISTICS] snapshot for {} skipped: {}", date, e.getMessage());
+        }
+    }
+
+    private Map<StatisticsCounterKey, Long> countSources() {
+        UserStatisticsResponse users = userRepository.getUserStatistics();
+        MembershipStatisticsResponse memberships = membershipRepository.getMembershipStatistics();
+        PointPolicyStatisticsResponse pointPolicies = pointPolicyRepository.getPointPolicyStatistics();
+
+        Map<StatisticsCounterKey, Long> counted = new EnumMap<>(StatisticsCounterKey.class);
+        counted.put(StatisticsCounterKey.USERS_ACTIVE, orZero(users.activeUsers()));
+        counted.put(StatisticsCounterKey.USERS_DORMANT, orZero(users.dormantUsers()));
+        counted.put(StatisticsCounterKey.USERS_WITHDRAWN, orZero(users.withdrawnUsers()));
+        counted.put(StatisticsCounterKey.MEMBERSHIPS_TOTAL, memberships.totalCount());
+        counted.put(StatisticsCounterKey.MEMBERSHIPS_ACTIVE, memberships.activeCount());
+        counted.put(StatisticsCounterKey.POINT_POLICIES_TOTAL, pointPolicies.totalCount());
+        counted.put(StatisticsCounterKey.POINT_POLICIES_ACTIVE, pointPolicies.activeCount());
+        return counted;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void record(Map<StatisticsCounterKey, Long> deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(deltas);
+            return;
+        }
+        Map<StatisticsCounterKey, Long> pending =
+                (Map<StatisticsCounterKey, Long>) TransactionSynchronizationManager.getResource(PENDING_DELTAS);
+        if (Objects.isNull(pending)) {
+            Map<StatisticsCounterKey, Long> created = new EnumMap<>(StatisticsCounterKey.class);
+            TransactionSynchronizationManager.bindResource(PENDING_DELTAS, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_DELTAS);
+                }
+            });
+            pending = created;
+        }
+        Map<StatisticsCounterKey, Long> target = pending;
+        deltas.forEach((key, delta) -> target.merge(key, delta, Long::sum));
+    }
+
+    // EnumMap 순서(키 순)로 갱신해 동시에 반영하는 트랜잭션끼리 교착되지 않게 한다
+    private void apply(Map<StatisticsCounterKey, Long> deltas) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> deltas.forEach((key, delta) -> {
+                if (delta != 0) {
+                    statisticsCounterRepository.add(key, delta, now);
+                }
+            }));
+        } catch (DataAccessException e) {
+            log.warn("[STATISTICS] failed to apply {}: {}", deltas, e.getMessage());
+        }
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
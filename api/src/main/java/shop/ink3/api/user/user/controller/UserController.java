@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,8 +18,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import shop.ink3.api.common.dto.CommonResponse;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.export.ExportFormat;
+import shop.ink3.api.common.export.ExportPeriod;
+import shop.ink3.api.common.export.ExportResponses;
 import shop.ink3.api.coupon.rabbitMq.message.WelcomeCouponMessage;
 import shop.ink3.api.coupon.rabbitMq.produce.WelcomeCouponProducer;
 import shop.ink3.api.user.social.dto.SocialUserResponse;
@@ -74,6 +79,19 @@ public class UserController {
         return ResponseEntity.ok(CommonResponse.success(userService.getUsersForManagement(keyword, pageable)));
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ExportPeriod period = new ExportPeriod(from, to);
+        return ExportResponses.attachment("users", exportFormat,
+                out -> userService.exportUsers(period, keyword, exportFormat, out));
+    }
+
     @GetMapping(params = "birthday")
     public ResponseEntity<CommonResponse<List<UserResponse>>> getUsersByBirthday(
             @RequestParam(required = false) LocalDate birthday
@@ -6,4 +6,8 @@ public record UserStatisticsResponse(
         Long dormantUsers,
         Long withdrawnUsers
 ) {
+    public static UserStatisticsResponse of(long activeUsers, long dormantUsers, long withdrawnUsers) {
+        return new UserStatisticsResponse(
+                activeUsers + dormantUsers + withdrawnUsers, activeUsers, dormantUsers, withdrawnUsers);
+    }
 }
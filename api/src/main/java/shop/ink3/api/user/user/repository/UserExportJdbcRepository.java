@@ -0,0 +1,56 @@
+package shop.ink3.api.user.user.repository;
+
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+import shop.ink3.api.common.export.ExportFormat;
+import shop.ink3.api.common.export.ExportPeriod;
+import shop.ink3.api.common.export.ExportQueryRunner;
+
+/**
+ * 관리자 회원 목록 내보내기. 컬럼과 검색 조건은 getUsersForManagement와 같고, 기간은 가입일 기준이다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserExportJdbcRepository {
+    private static final List<String> COLUMNS = List.of(
+            "id", "name", "loginId", "email", "phone", "createdAt", "lastLoginAt", "status",
+            "membershipName", "point", "socialProvider");
+
+    private static final String SELECT_USERS = """
+            SELECT u.id, u.name, u.login_id, u.email, u.phone, u.created_at, u.last_login_at, u.status,
+                   m.name, u.point, s.provider
+              FROM users u
+              LEFT JOIN memberships m ON m.id = u.membership_id
+              LEFT JOIN socials s ON s.user_id = u.id
+             WHERE 1 = 1
+            """;
+
+    private final ExportQueryRunner exportQueryRunner;
+
+    public long export(ExportPeriod period, String keyword, ExportFormat format, OutputStream out) {
+        StringBuilder sql = new StringBuilder(SELECT_USERS);
+        List<Object> args = new ArrayList<>();
+        if (period.startInclusive() != null) {
+            sql.append("   AND u.created_at >= ?\n");
+            args.add(Timestamp.valueOf(period.startInclusive()));
+        }
+        if (period.endExclusive() != null) {
+            sql.append("   AND u.created_at < ?\n");
+            args.add(Timestamp.valueOf(period.endExclusive()));
+        }
+        if (StringUtils.hasText(keyword)) {
+            sql.append("   AND (LOWER(u.name) LIKE ? OR LOWER(u.login_id) LIKE ? OR LOWER(u.email) LIKE ?)\n");
+            String pattern = "%" + keyword.toLowerCase() + "%";
+            args.add(pattern);
+            args.add(pattern);
+            args.add(pattern);
+        }
+        sql.append(" ORDER BY u.id");
+        return exportQueryRunner.stream(sql.toString(), args, COLUMNS, format, out);
+    }
+}
@@ -1,8 +1,10 @@
 package shop.ink3.api.user.user.service;
 
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +12,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.export.ExportFormat;
+import shop.ink3.api.common.export.ExportPeriod;
 import shop.ink3.api.user.common.exception.DormantException;
 import shop.ink3.api.user.common.exception.InvalidPasswordException;
 import shop.ink3.api.user.common.exception.WithdrawnException;
@@ -20,6 +24,8 @@ import shop.ink3.api.user.point.policy.service.PointPolicyService;
 import shop.ink3.api.user.social.dto.SocialUserResponse;
 import shop.ink3.api.user.social.entity.Social;
 import shop.ink3.api.user.social.repository.SocialRepository;
+import shop.ink3.api.user.statistics.entity.StatisticsCounterKey;
+import shop.ink3.api.user.statistics.service.StatisticsRollupService;
 import shop.ink3.api.user.user.dto.IdentifierAvailabilityResponse;
 import shop.ink3.api.user.user.dto.SocialUserCreateRequest;
 import shop.ink3.api.user.user.dto.UserAuthResponse;
@@ -37,6 +43,7 @@ import shop.ink3.api.user.user.entity.UserStatus;
 import shop.ink3.api.user.user.exception.SocialUserAuthNotFoundException;
 import shop.ink3.api.user.user.exception.UserAuthNotFoundException;
 import shop.ink3.api.user.user.exception.UserNotFoundException;
+import shop.ink3.api.user.user.repository.UserExportJdbcRepository;
 import shop.ink3.api.user.user.repository.UserRepository;
 
 @Slf4j
@@ -49,6 +56,8 @@ public class UserService {
     private final SocialRepository socialRepository;
     private final PasswordEncoder passwordEncoder;
     private final PointPolicyService pointPolicyService;
+    private final UserExportJdbcRepository userExportJdbcRepository;
+    private final StatisticsRollupService statisticsRollupService;
 
     @Transactional(readOnly = true)
     public IdentifierAvailabilityResponse isLoginIdAvailable(String loginId) {
@@ -107,9 +116,20 @@ public class UserService {
         return PageResponse.from(userRepository.getUsersForManagement(keyword, pageable));
     }
 
+    @Transactional(readOnly = true)
+    public long exportUsers(ExportPeriod period, String keyword, ExportFormat format, OutputStream out) {
+        return userExportJdbcRepository.export(period, keyword, format, out);
+    }
+
     @Transactional(readOnly = true)
     public UserStatisticsResponse getUserStatistics() {
-        return userRepository.getUserStatistics();
+        Map<StatisticsCounterKey, Long> counters =
+                statisticsRollupService.getCounters(StatisticsCounterKey.USER_KEYS);
+        return UserStatisticsResponse.of(
+                counters.get(StatisticsCounterKey.USERS_ACTIVE),
+                counters.get(StatisticsCounterKey.USERS_DORMANT),
+                counters.get(StatisticsCounterKey.USERS_WITHDRAWN)
+        );
     }
 
     @Transactional(readOnly = true)
@@ -135,6 +155,7 @@ public class UserService {
                 .build();
         User savedUser = userRepository.save(user);
         userRepository.flush();
+        statisticsRollupService.add(StatisticsCounterKey.USERS_ACTIVE, 1);
 
         try {
             pointPolicyService.assignSignupPoint(savedUser.getId());
@@ -161,6 +182,7 @@ public class UserService {
                 .createdAt(LocalDateTime.now())
                 .build();
         user = userRepository.save(user);
+        statisticsRollupService.add(StatisticsCounterKey.USERS_ACTIVE, 1);
 
         Social social = Social.builder()
                 .user(user)
@@ -194,26 +216,34 @@ public class UserService {
 
     public void activateUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId));
+        UserStatus before = user.getStatus();
         user.activate();
         userRepository.save(user);
+        moveStatus(before, user.getStatus());
     }
 
     public void activateUser(String loginId) {
         User user = userRepository.findByLoginId(loginId).orElseThrow(() -> new UserNotFoundException(loginId));
+        UserStatus before = user.getStatus();
         user.activate();
         userRepository.save(user);
+        moveStatus(before, user.getStatus());
     }
 
     public void markAsDormantUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId));
+        UserStatus before = user.getStatus();
         user.markAsDormant();
         userRepository.save(user);
+        moveStatus(before, user.getStatus());
     }
 
     public void withdrawUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId));
+        UserStatus before = user.getStatus();
         user.withdraw();
         userRepository.save(user);
+        moveStatus(before, user.getStatus());
     }
 
     public void updateMembership(long userId, UserMembershipUpdateRequest request) {
@@ -233,5 +263,10 @@ public class UserService {
     public void deleteUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId));
         userRepository.delete(user);
+        statisticsRollupService.add(StatisticsCounterKey.of(user.getStatus()), -1);
+    }
+
+    private void moveStatus(UserStatus before, UserStatus after) {
+        statisticsRollupService.move(StatisticsCounterKey.of(before), StatisticsCounterKey.of(after));
     }
 }
@@ -23,6 +23,7 @@ import shop.ink3.api.book.author.dto.AuthorUpdateRequest;
 import shop.ink3.api.book.author.entity.Author;
 import shop.ink3.api.book.author.exception.AuthorNotFoundException;
 import shop.ink3.api.book.author.repository.AuthorRepository;
+import shop.ink3.api.book.dictionary.service.BookDictionaryService;
 import shop.ink3.api.common.dto.PageResponse;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +31,9 @@ class AuthorServiceTest {
     @Mock
     AuthorRepository authorRepository;
 
+    @Mock
+    BookDictionaryService bookDictionaryService;
+
     @InjectMocks
     AuthorService authorService;
 
@@ -2,8 +2,11 @@ package shop.ink3.api.book.book.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -14,9 +17,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -37,9 +42,12 @@ import shop.ink3.api.book.book.enums.SortType;
 import shop.ink3.api.book.book.service.BookService;
 import shop.ink3.api.book.category.dto.CategoryFlatDto;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.httpcache.CatalogHttpCache;
+import shop.ink3.api.common.httpcache.CatalogVersionService;
 import shop.ink3.api.elastic.repository.BookSearchRedisRepository;
 
 @WebMvcTest(BookController.class)
+@Import(CatalogHttpCache.class)
 class BookControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -50,6 +58,9 @@ class BookControllerTest {
     @MockitoBean
     private BookSearchRedisRepository bookSearchRedisRepository;
 
+    @MockitoBean
+    private CatalogVersionService catalogVersionService;
+
     private BookDetailResponse bookDetailResponse;
     private BookPreviewResponse bookPreviewResponse;
     private AdminBookResponse adminBookResponse;
@@ -151,13 +162,27 @@ class BookControllerTest {
     @DisplayName("Top5 베스트셀러 조회")
     void getTop5BestsellerBooks() throws Exception {
         PageResponse<BookPreviewResponse> response = PageResponse.from(new PageImpl<>(List.of(bookPreviewResponse)));
-        when(bookService.getBestSellerBooks(SortType.REVIEW, PageRequest.of(0, 5))).thenReturn(response);
+        when(bookService.getBestSellerBooks(SortType.REVIEW, PageRequest.of(0, 5), null)).thenReturn(response);
 
         mockMvc.perform(get("/books/bestseller"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.content[0].title").value("책 제목 (프리뷰)"));
     }
 
+    @Test
+    @DisplayName("베스트셀러 조회 - 응답 ETag와 같은 랭킹 버전으로 본문을 읽음")
+    void getTop5BestsellerBooks_etag() throws Exception {
+        PageResponse<BookPreviewResponse> response = PageResponse.from(new PageImpl<>(List.of(bookPreviewResponse)));
+        when(catalogVersionService.rankingTag()).thenReturn("\"r-4-2-1-w9\"");
+        when(bookService.getBestSellerBooks(SortType.REVIEW, PageRequest.of(0, 5), "\"r-4-2-1-w9\""))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/books/bestseller"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"r-4-2-1-w9\""))
+                .andExpect(jsonPath("$.data.content[0].title").value("책 제목 (프리뷰)"));
+    }
+
     @Test
     @DisplayName("Top5 신간 조회")
     void getTop5NewBooks() throws Exception {
@@ -184,7 +209,7 @@ class BookControllerTest {
     @DisplayName("전체 베스트셀러 조회")
     void getAllBestsellerBooks() throws Exception {
         PageResponse<BookPreviewResponse> response = PageResponse.from(new PageImpl<>(List.of(bookPreviewResponse)));
-        when(bookService.getBestSellerBooks(eq(SortType.REVIEW), any(Pageable.class))).thenReturn(response);
+        when(bookService.getBestSellerBooks(eq(SortType.REVIEW), any(Pageable.class), any())).thenReturn(response);
 
         mockMvc.perform(get("/books/bestseller-all"))
                 .andExpect(status().isOk())
@@ -216,13 +241,37 @@ class BookControllerTest {
     @Test
     @DisplayName("도서 상세 조회")
     void getBookByIdWithParentCategory() throws Exception {
-        when(bookService.getBookDetail(1L)).thenReturn(bookDetailResponse);
+        when(bookService.getBookDetail(1L, null)).thenReturn(bookDetailResponse);
 
         mockMvc.perform(get("/books/1"))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.data.title").value("책 제목 (상세)"));
     }
 
+    @Test
+    @DisplayName("도서 상세 조회 - ETag와 Cache-Control 헤더")
+    void getBookDetail_etag() throws Exception {
+        when(catalogVersionService.bookDetailTag(1L)).thenReturn("\"d-3-1-1\"");
+        when(bookService.getBookDetail(1L, "\"d-3-1-1\"")).thenReturn(bookDetailResponse);
+
+        mockMvc.perform(get("/books/1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"d-3-1-1\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, public, stale-while-revalidate=60"));
+    }
+
+    @Test
+    @DisplayName("도서 상세 조회 - If-None-Match가 같으면 본문 없이 304")
+    void getBookDetail_notModified() throws Exception {
+        when(catalogVersionService.bookDetailTag(1L)).thenReturn("\"d-3-1-1\"");
+
+        mockMvc.perform(get("/books/1").header(HttpHeaders.IF_NONE_MATCH, "\"d-3-1-1\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"d-3-1-1\""));
+
+        verify(bookService, never()).getBookDetail(eq(1L), any());
+    }
+
     @Test
     @DisplayName("도서 등록")
     void createBook() throws Exception {
@@ -0,0 +1,69 @@
+package shop.ink3.api.book.book.external.aladin.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import shop.ink3.api.book.book.external.aladin.dto.AladinBookResponse;
+
+class AladinResponseParserTest {
+    private final AladinResponseParser parser = new AladinResponseParser(new JsonFactory());
+
+    @Test
+    void parse() throws IOException {
+        String json = """
+                {
+                  "version": "20131101",
+                  "totalResults": 2,
+                  "item": [
+                    {
+                      "title": "테스트 도서",
+                      "author": "홍길동 (지은이)",
+                      "pubDate": "2024-01-01",
+                      "description": "설명",
+                      "isbn13": "9781234567890",
+                      "priceStandard": 15000,
+                      "cover": "https://image.aladin.co.kr/cover.jpg",
+                      "categoryName": "국내도서>소설",
+                      "publisher": "출판사",
+                      "subInfo": {"toc": "<p>목차</p>", "packing": {"weight": 300}},
+                      "seriesInfo": {"seriesId": 1}
+                    },
+                    {
+                      "title": "두 번째",
+                      "isbn13": "9780987654321",
+                      "priceStandard": 9000
+                    }
+                  ]
+                }
+                """;
+
+        AladinResponseParser.Result result = parser.parse(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.totalResults()).isEqualTo(2);
+        assertThat(result.items()).hasSize(2);
+        AladinBookResponse first = result.items().getFirst();
+        assertThat(first.title()).isEqualTo("테스트 도서");
+        assertThat(first.author()).isEqualTo("홍길동 (지은이)");
+        assertThat(first.priceStandard()).isEqualTo(15000);
+        assertThat(first.categoryName()).isEqualTo("국내도서>소설");
+        assertThat(result.items().get(1).publisher()).isEmpty();
+    }
+
+    @Test
+    void parseWithoutItems() throws IOException {
+        String json = """
+                {"totalResults": 0, "errorCode": 8}
+                """;
+
+        AladinResponseParser.Result result = parser.parse(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.items()).isEmpty();
+        assertThat(result.totalResults()).isZero();
+    }
+}
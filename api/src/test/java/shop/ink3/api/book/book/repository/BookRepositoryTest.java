@@ -107,6 +107,7 @@ class BookRepositoryTest {
             .likeCount(5L)
             .build();
         entityManager.persist(book);
+        entityManager.flush();
 
         entityManager.createNativeQuery("""
                 INSERT INTO orders (id, order_uuid, status, ordered_at, orderer_name, orderer_phone, user_id)
@@ -114,8 +115,8 @@ class BookRepositoryTest {
             """).setParameter("userId", user.getId())
                 .executeUpdate();
         entityManager.createNativeQuery("""
-                INSERT INTO order_books (order_id, book_id, price, quantity)
-                VALUES (1, {bookId}, 12000, 5)
+                INSERT INTO order_books (id, order_id, book_id, price, quantity)
+                VALUES (1, 1, {bookId}, 12000, 5)
             """.replace("{bookId}", String.valueOf(book.getId()))).executeUpdate();
 
         Page<Book> result = bookRepository.findBestSellerBooks(PageRequest.of(0, 5));
@@ -186,4 +187,23 @@ class BookRepositoryTest {
         Page<Book> result = bookRepository.findRecommendedBooks(PageRequest.of(0, 5));
         assertThat(result.getContent()).isNotEmpty();
     }
+
+    @Test
+    @DisplayName("좋아요/재고만 바뀐 flush는 updatedAt을 바꾸지 않고, 상태가 바뀌면 바꿈")
+    void updatedAt_onlyOnCatalogChange() {
+        entityManager.flush();
+        Long bookId = bookRepository.findAll().getFirst().getId();
+        entityManager.clear();
+
+        Book book = entityManager.find(Book.class, bookId);
+        LocalDateTime persistedAt = book.getUpdatedAt();
+        book.incrementLikeCount();
+        book.decreaseQuantity(1);
+        entityManager.flush();
+        assertThat(book.getUpdatedAt()).isEqualTo(persistedAt);
+
+        book.delete();
+        entityManager.flush();
+        assertThat(book.getUpdatedAt()).isAfter(persistedAt);
+    }
 }
@@ -0,0 +1,75 @@
+package shop.ink3.api.book.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import shop.ink3.api.book.book.dto.BookBulkUpdateRow;
+import shop.ink3.api.book.book.entity.BookStatus;
+import shop.ink3.api.book.book.enums.BookBulkFormat;
+import shop.ink3.api.book.book.exception.InvalidBulkFileException;
+
+class BookBulkUpdateReaderTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BookBulkUpdateReader reader(String body, BookBulkFormat format) {
+        return new BookBulkUpdateReader(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, objectMapper);
+    }
+
+    @Test
+    void readCsvInChunks() throws IOException {
+        String csv = """
+                bookId,isbn,salePrice,quantity,status
+                1,,9000,,
+                ,9781234567890,,5,sold_out
+                3,,abc,,
+                """;
+        try (BookBulkUpdateReader reader = reader(csv, BookBulkFormat.CSV)) {
+            List<BookBulkUpdateRow> first = reader.nextChunk(2);
+            List<BookBulkUpdateRow> second = reader.nextChunk(2);
+
+            assertThat(first).hasSize(2);
+            assertThat(first.get(0)).isEqualTo(new BookBulkUpdateRow(2, 1L, null, null, 9000, null, null, null));
+            assertThat(first.get(1).isbn()).isEqualTo("9781234567890");
+            assertThat(first.get(1).quantity()).isEqualTo(5);
+            assertThat(first.get(1).status()).isEqualTo(BookStatus.SOLD_OUT);
+            assertThat(second).hasSize(1);
+            assertThat(second.getFirst().line()).isEqualTo(4);
+            assertThat(second.getFirst().error()).isNotNull();
+            assertThat(reader.nextChunk(2)).isEmpty();
+        }
+    }
+
+    @Test
+    void readCsvWithUnknownColumn() {
+        BookBulkUpdateReader reader = reader("bookId,title\n1,제목\n", BookBulkFormat.CSV);
+
+        assertThatThrownBy(() -> reader.nextChunk(10)).isInstanceOf(InvalidBulkFileException.class);
+    }
+
+    @Test
+    void readNdjson() throws IOException {
+        String ndjson = """
+                {"bookId": 1, "originalPrice": 20000, "salePrice": 18000}
+                
+                {"isbn": "9781234567890", "status": "AVAILABLE"}
+                {"bookId": 
+                """;
+        try (BookBulkUpdateReader reader = reader(ndjson, BookBulkFormat.NDJSON)) {
+            List<BookBulkUpdateRow> rows = reader.nextChunk(10);
+
+            assertThat(rows).hasSize(3);
+            assertThat(rows.get(0).originalPrice()).isEqualTo(20000);
+            assertThat(rows.get(0).salePrice()).isEqualTo(18000);
+            assertThat(rows.get(1).line()).isEqualTo(3);
+            assertThat(rows.get(1).status()).isEqualTo(BookStatus.AVAILABLE);
+            assertThat(rows.get(2).error()).isNotNull();
+        }
+    }
+}
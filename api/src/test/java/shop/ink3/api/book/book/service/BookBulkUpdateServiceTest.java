@@ -0,0 +1,109 @@
+package shop.ink3.api.book.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.ink3.api.book.book.dto.BookBulkTarget;
+import shop.ink3.api.book.book.dto.BookBulkUpdateReport;
+import shop.ink3.api.book.book.dto.BookBulkUpdateRow;
+import shop.ink3.api.book.book.entity.BookStatus;
+import shop.ink3.api.book.book.enums.BookBulkFormat;
+import shop.ink3.api.book.book.enums.BookBulkRowStatus;
+import shop.ink3.api.book.book.repository.BookBulkUpdateJdbcRepository;
+import shop.ink3.api.book.book.repository.BookRepository;
+import shop.ink3.api.common.httpcache.CatalogVersionService;
+import shop.ink3.api.elastic.service.BookSearchService;
+
+@ExtendWith(MockitoExtension.class)
+class BookBulkUpdateServiceTest {
+    @Mock
+    BookRepository bookRepository;
+
+    @Mock
+    BookBulkUpdateJdbcRepository bookBulkUpdateJdbcRepository;
+
+    @Mock
+    BookSearchService bookSearchService;
+
+    @Mock
+    CatalogVersionService catalogVersionService;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    BookBulkUpdateService bookBulkUpdateService;
+
+    @BeforeEach
+    void setUp() {
+        bookBulkUpdateService = new BookBulkUpdateService(
+                bookRepository,
+                bookBulkUpdateJdbcRepository,
+                bookSearchService,
+                catalogVersionService,
+                new TransactionTemplate(transactionManager),
+                new ObjectMapper(),
+                1000
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void update() {
+        when(bookRepository.findBulkTargetsByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                new BookBulkTarget(1L, "1111111111111", 20000, 18000, BookStatus.AVAILABLE),
+                new BookBulkTarget(2L, "2222222222222", 10000, 9000, BookStatus.DELETED)
+        ));
+        when(bookRepository.findBulkTargetsByIsbnIn(List.of("3333333333333"))).thenReturn(List.of(
+                new BookBulkTarget(3L, "3333333333333", 15000, 15000, BookStatus.AVAILABLE)
+        ));
+        when(bookSearchService.updateBooksFields(anyMap())).thenReturn(0);
+
+        String csv = """
+                bookId,isbn,salePrice,quantity
+                1,,17000,
+                2,,8000,
+                ,3333333333333,,30
+                1,,25000,
+                ,,1000,
+                """;
+        BookBulkUpdateReport report = bookBulkUpdateService.update(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), BookBulkFormat.CSV);
+
+        assertThat(report.total()).isEqualTo(5);
+        assertThat(report.updated()).isEqualTo(2);
+        assertThat(report.notFound()).isEqualTo(1);
+        assertThat(report.invalid()).isEqualTo(2);
+        assertThat(report.results()).extracting("status").containsExactly(
+                BookBulkRowStatus.UPDATED,
+                BookBulkRowStatus.NOT_FOUND,
+                BookBulkRowStatus.UPDATED,
+                BookBulkRowStatus.INVALID,
+                BookBulkRowStatus.INVALID
+        );
+
+        ArgumentCaptor<List<BookBulkUpdateRow>> updates = ArgumentCaptor.forClass(List.class);
+        verify(bookBulkUpdateJdbcRepository).updateAll(updates.capture(), any());
+        assertThat(updates.getValue()).extracting("bookId").containsExactly(1L, 3L);
+
+        // 재고만 바뀐 3번은 색인하지 않음
+        verify(bookSearchService).updateBooksFields(eq(Map.of(1L, Map.of("price", 17000))));
+        verify(catalogVersionService).booksChanged(List.of(1L, 3L));
+    }
+}
@@ -2,11 +2,17 @@ package shop.ink3.api.book.book.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,23 +23,37 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import shop.ink3.api.book.book.dto.BookAuthorDto;
 import shop.ink3.api.book.book.dto.BookCreateRequest;
 import shop.ink3.api.book.book.dto.BookDetailResponse;
 import shop.ink3.api.book.book.dto.BookPreviewResponse;
+import shop.ink3.api.book.book.dto.BookUpdateRequest;
 import shop.ink3.api.book.book.entity.Book;
 import shop.ink3.api.book.book.entity.BookStatus;
 import shop.ink3.api.book.book.enums.SortType;
 import shop.ink3.api.book.book.exception.BookNotFoundException;
 import shop.ink3.api.book.book.exception.DuplicateIsbnException;
+import shop.ink3.api.book.author.entity.Author;
+import shop.ink3.api.book.book.repository.BookAssociationJdbcRepository;
 import shop.ink3.api.book.book.repository.BookRepository;
+import shop.ink3.api.book.bookauthor.entity.BookAuthor;
 import shop.ink3.api.book.bookauthor.repository.BookAuthorRepository;
+import shop.ink3.api.book.bookcategory.entity.BookCategory;
 import shop.ink3.api.book.bookcategory.repository.BookCategoryRepository;
+import shop.ink3.api.book.booktag.entity.BookTag;
 import shop.ink3.api.book.booktag.repository.BookTagRepository;
+import shop.ink3.api.book.category.dto.CategoryFlatDto;
+import shop.ink3.api.book.category.entity.Category;
+import shop.ink3.api.book.category.repository.CategoryRepository;
+import shop.ink3.api.book.category.service.CategoryService;
+import shop.ink3.api.book.dictionary.service.BookDictionaryService;
 import shop.ink3.api.book.publisher.entity.Publisher;
+import shop.ink3.api.book.tag.entity.Tag;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.elastic.service.BookSearchService;
 import shop.ink3.api.review.review.repository.ReviewRepository;
 import shop.ink3.api.user.like.repository.LikeRepository;
 
@@ -56,6 +76,21 @@ class BookServiceTest {
     @Mock
     private BookTagRepository bookTagRepository;
 
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private BookAssociationJdbcRepository bookAssociationJdbcRepository;
+
+    @Mock
+    private BookDictionaryService bookDictionaryService;
+
+    @Mock
+    private BookSearchService bookSearchService;
+
     @InjectMocks
     private BookService bookService;
 
@@ -91,7 +126,7 @@ class BookServiceTest {
     void getBookSuccess() {
         when(bookRepository.findById(1L)).thenReturn(java.util.Optional.of(book));
 
-        BookDetailResponse result = bookService.getBookDetail(1L);
+        BookDetailResponse result = bookService.getBookDetail(1L, "\"d-1-1-1\"");
         assertThat(result.id()).isEqualTo(1L);
         assertThat(result.title()).isEqualTo("책 제목");
         assertThat(result.averageRating()).isEqualTo(2.5);
@@ -113,7 +148,7 @@ class BookServiceTest {
         Page<Book> page = new PageImpl<>(List.of(book));
         when(bookRepository.findSortedBestSellerBooks(eq(SortType.REVIEW), any(Pageable.class))).thenReturn(page);
         Pageable pageable = PageRequest.of(0, 5);
-        PageResponse<BookPreviewResponse> result = bookService.getBestSellerBooks(SortType.REVIEW, pageable);
+        PageResponse<BookPreviewResponse> result = bookService.getBestSellerBooks(SortType.REVIEW, pageable, "\"r-1-1-1\"");
         assertThat(result.content()).hasSize(1);
         assertThat(result.content().getFirst().title()).isEqualTo("책 제목");
     }
@@ -146,7 +181,7 @@ class BookServiceTest {
         Page<Book> page = new PageImpl<>(List.of(book));
         when(bookRepository.findSortedBestSellerBooks(eq(SortType.REVIEW), any(Pageable.class))).thenReturn(page);
         PageResponse<BookPreviewResponse> result = bookService.getBestSellerBooks(SortType.REVIEW,
-                PageRequest.of(0, 5));
+                PageRequest.of(0, 5), "\"r-1-1-1\"");
         assertThat(result.content()).hasSize(1);
         assertThat(result.content().getFirst().title()).isEqualTo("책 제목");
         assertThat(result.content().getFirst().reviewCount()).isEqualTo(2L);
@@ -216,7 +251,7 @@ class BookServiceTest {
 
         org.junit.jupiter.api.Assertions.assertThrows(
             BookNotFoundException.class,
-            () -> bookService.getBookDetail(999L)
+            () -> bookService.getBookDetail(999L, "\"d-1-1-1\"")
         );
     }
 
@@ -230,4 +265,93 @@ class BookServiceTest {
             () -> bookService.deleteBook(999L)
         );
     }
+
+    @Test
+    @DisplayName("도서 수정 - 가격만 바뀌면 연결은 건드리지 않고 가격만 부분 색인")
+    void updateBookOnlyPriceChanged() {
+        Category category = Category.builder().id(10L).name("소설").path("/1").build();
+        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
+        when(bookRepository.existsByIsbn("1234567890123")).thenReturn(true);
+        when(bookCategoryRepository.findAllByBookId(1L)).thenReturn(List.of(new BookCategory(book, category)));
+        when(bookAuthorRepository.findAllByBookId(1L)).thenReturn(List.of(
+                new BookAuthor(book, Author.builder().id(3L).name("홍길동").build(), "지은이")));
+        when(bookTagRepository.findAllByBookId(1L)).thenReturn(List.of(
+                new BookTag(book, Tag.builder().id(5L).name("태그").build())));
+        when(categoryRepository.findAllById(List.of(10L))).thenReturn(List.of(category));
+        when(categoryService.getAllAncestors(10L)).thenReturn(List.of(new CategoryFlatDto(10L, "소설", null, 1)));
+
+        BookUpdateRequest request = new BookUpdateRequest(
+                "1234567890123", "책 제목", "목차", "설명",
+                LocalDate.of(2024, 1, 1), 20000, 15000, 100, BookStatus.AVAILABLE,
+                true, "https://example.com/image.jpg", "출판사",
+                List.of(10L), List.of(new BookAuthorDto("홍길동", "지은이")), List.of("태그")
+        );
+
+        bookService.updateBook(1L, request, null);
+
+        verify(bookCategoryRepository, never()).deleteAllByBookIdAndCategoryIdIn(anyLong(), anyCollection());
+        verify(bookAuthorRepository, never()).deleteAllByIdIn(anyCollection());
+        verify(bookTagRepository, never()).deleteAllByBookIdAndTagIdIn(anyLong(), anyCollection());
+        verify(bookAssociationJdbcRepository).insertBookCategories(List.of());
+        verify(bookAssociationJdbcRepository).insertBookAuthors(List.of());
+        verify(bookSearchService).updateBookFields(any(), eq(Map.of("price", 15000)));
+    }
+
+    @Test
+    @DisplayName("도서 수정 - 빠진 태그만 지우고 새 태그만 추가")
+    void updateBookTagsDiff() {
+        Category category = Category.builder().id(10L).name("소설").path("/1").build();
+        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
+        when(bookRepository.existsByIsbn("1234567890123")).thenReturn(true);
+        when(bookCategoryRepository.findAllByBookId(1L)).thenReturn(List.of(new BookCategory(book, category)));
+        when(bookAuthorRepository.findAllByBookId(1L)).thenReturn(List.of(
+                new BookAuthor(book, Author.builder().id(3L).name("홍길동").build(), "지은이")));
+        when(bookTagRepository.findAllByBookId(1L)).thenReturn(List.of(
+                new BookTag(book, Tag.builder().id(5L).name("유지").build()),
+                new BookTag(book, Tag.builder().id(6L).name("삭제").build())));
+        when(categoryRepository.findAllById(List.of(10L))).thenReturn(List.of(category));
+        when(categoryService.getAllAncestors(10L)).thenReturn(List.of(new CategoryFlatDto(10L, "소설", null, 1)));
+        when(bookDictionaryService.resolveTagIds(List.of("추가"))).thenReturn(Map.of("추가", 7L));
+
+        BookUpdateRequest request = new BookUpdateRequest(
+                "1234567890123", "책 제목", "목차", "설명",
+                LocalDate.of(2024, 1, 1), 20000, 18000, 100, BookStatus.AVAILABLE,
+                true, "https://example.com/image.jpg", "출판사",
+                List.of(10L), List.of(new BookAuthorDto("홍길동", "지은이")), List.of("유지", "추가")
+        );
+
+        bookService.updateBook(1L, request, null);
+
+        verify(bookTagRepository).deleteAllByBookIdAndTagIdIn(1L, List.of(6L));
+        verify(bookAssociationJdbcRepository).insertBookTags(
+                List.of(new BookAssociationJdbcRepository.BookLink(1L, 7L)));
+        verify(bookSearchService).updateBookFields(any(), eq(Map.of("tags", List.of("유지", "추가"))));
+    }
+
+    @Test
+    @DisplayName("도서 수정 - 저자 목록이 없으면 기존 저자 연결을 모두 지움")
+    void updateBookWithoutAuthors() {
+        Category category = Category.builder().id(10L).name("소설").path("/1").build();
+        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
+        when(bookRepository.existsByIsbn("1234567890123")).thenReturn(true);
+        when(bookCategoryRepository.findAllByBookId(1L)).thenReturn(List.of(new BookCategory(book, category)));
+        BookAuthor bookAuthor = new BookAuthor(book, Author.builder().id(3L).name("홍길동").build(), "지은이");
+        ReflectionTestUtils.setField(bookAuthor, "id", 30L);
+        when(bookAuthorRepository.findAllByBookId(1L)).thenReturn(List.of(bookAuthor));
+        when(bookTagRepository.findAllByBookId(1L)).thenReturn(List.of());
+        when(categoryRepository.findAllById(List.of(10L))).thenReturn(List.of(category));
+        when(categoryService.getAllAncestors(10L)).thenReturn(List.of(new CategoryFlatDto(10L, "소설", null, 1)));
+
+        BookUpdateRequest request = new BookUpdateRequest(
+                "1234567890123", "책 제목", "목차", "설명",
+                LocalDate.of(2024, 1, 1), 20000, 18000, 100, BookStatus.AVAILABLE,
+                true, "https://example.com/image.jpg", "출판사",
+                List.of(10L), null, null
+        );
+
+        bookService.updateBook(1L, request, null);
+
+        verify(bookAuthorRepository).deleteAllByIdIn(List.of(30L));
+        verify(bookAssociationJdbcRepository).insertBookAuthors(List.of());
+    }
 }
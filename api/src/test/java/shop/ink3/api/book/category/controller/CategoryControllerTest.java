@@ -10,6 +10,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -22,8 +24,11 @@ import shop.ink3.api.book.category.dto.CategoryFlatDto;
 import shop.ink3.api.book.category.dto.CategoryTreeDto;
 import shop.ink3.api.book.category.dto.CategoryUpdateNameRequest;
 import shop.ink3.api.book.category.service.CategoryService;
+import shop.ink3.api.common.httpcache.CatalogHttpCache;
+import shop.ink3.api.common.httpcache.CatalogVersionService;
 
 @WebMvcTest(CategoryController.class)
+@Import(CatalogHttpCache.class)
 class CategoryControllerTest {
 
     @Autowired
@@ -32,6 +37,9 @@ class CategoryControllerTest {
     @MockitoBean
     private CategoryService categoryService;
 
+    @MockitoBean
+    private CatalogVersionService catalogVersionService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -46,6 +54,17 @@ class CategoryControllerTest {
             .andExpect(jsonPath("$.data[0].id").value(1L));
     }
 
+    @Test
+    @DisplayName("카테고리 트리 조회 - 버전이 같으면 304")
+    void getAllCategoriesTree_notModified() throws Exception {
+        given(catalogVersionService.categoryTag()).willReturn("\"c-7\"");
+
+        mockMvc.perform(get("/categories/tree").header(HttpHeaders.IF_NONE_MATCH, "\"c-7\""))
+            .andExpect(status().isNotModified());
+
+        then(categoryService).should(never()).getCategoriesTree();
+    }
+
     @Test
     @DisplayName("카테고리 평면 조회")
     void getAllCategoriesFlat() throws Exception {
@@ -0,0 +1,135 @@
+package shop.ink3.api.book.dictionary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import shop.ink3.api.book.author.entity.Author;
+import shop.ink3.api.book.author.repository.AuthorRepository;
+import shop.ink3.api.book.dictionary.exception.DictionaryNameUnresolvedException;
+import shop.ink3.api.book.publisher.repository.PublisherRepository;
+import shop.ink3.api.book.tag.entity.Tag;
+import shop.ink3.api.book.tag.repository.TagRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookDictionaryServiceTest {
+    @Mock
+    PublisherRepository publisherRepository;
+
+    @Mock
+    AuthorRepository authorRepository;
+
+    @Mock
+    TagRepository tagRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    BookDictionaryService bookDictionaryService;
+
+    @BeforeEach
+    void setUp() {
+        bookDictionaryService = new BookDictionaryService(
+                publisherRepository, authorRepository, tagRepository, transactionManager, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void resolveTagIdsInsertsOnlyMissingNames() {
+        when(tagRepository.findAllByNameIn(anyList()))
+                .thenReturn(List.of(Tag.builder().id(1L).name("소설").build()));
+        when(tagRepository.saveAll(anyList()))
+                .thenReturn(List.of(Tag.builder().id(2L).name("추천").build()));
+
+        Map<String, Long> ids = bookDictionaryService.resolveTagIds(List.of("소설", "추천"));
+
+        assertThat(ids).containsExactlyInAnyOrderEntriesOf(Map.of("소설", 1L, "추천", 2L));
+        verify(tagRepository, times(1)).findAllByNameIn(anyList());
+        verify(tagRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void resolveTagIdsUsesCacheForKnownNames() {
+        when(tagRepository.findAllByNameIn(anyList()))
+                .thenReturn(List.of(Tag.builder().id(1L).name("소설").build()));
+
+        bookDictionaryService.resolveTagIds(List.of("소설"));
+        Map<String, Long> ids = bookDictionaryService.resolveTagIds(List.of("소설"));
+
+        assertThat(ids).containsEntry("소설", 1L);
+        verify(tagRepository, times(1)).findAllByNameIn(anyList());
+    }
+
+    @Test
+    void evictTagForcesLookup() {
+        when(tagRepository.findAllByNameIn(anyList()))
+                .thenReturn(List.of(Tag.builder().id(1L).name("소설").build()));
+
+        bookDictionaryService.resolveTagIds(List.of("소설"));
+        bookDictionaryService.evictTag("소설");
+        bookDictionaryService.resolveTagIds(List.of("소설"));
+
+        verify(tagRepository, times(2)).findAllByNameIn(anyList());
+    }
+
+    @Test
+    void resolveAuthorIdsRereadsWhenConcurrentInsertWins() {
+        when(authorRepository.findAllByNameIn(anyIterable()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(Author.builder().id(7L).name("홍길동").build()));
+        when(authorRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("uk_author_name"));
+
+        Map<String, Long> ids = bookDictionaryService.resolveAuthorIds(List.of("홍길동"));
+
+        assertThat(ids).containsEntry("홍길동", 7L);
+        verify(authorRepository, times(2)).findAllByNameIn(anyIterable());
+    }
+
+    @Test
+    void resolveTagIdsMatchesNamesIgnoringCase() {
+        when(tagRepository.findAllByNameIn(anyList()))
+                .thenReturn(List.of(Tag.builder().id(3L).name("java").build()));
+
+        Map<String, Long> ids = bookDictionaryService.resolveTagIds(List.of("Java", "JAVA"));
+
+        assertThat(ids).containsExactlyInAnyOrderEntriesOf(Map.of("Java", 3L, "JAVA", 3L));
+        verify(tagRepository, times(0)).saveAll(anyList());
+    }
+
+    @Test
+    void resolveTagIdsInsertsCaseVariantsOnce() {
+        when(tagRepository.findAllByNameIn(anyList())).thenReturn(List.of());
+        when(tagRepository.saveAll(anyList()))
+                .thenReturn(List.of(Tag.builder().id(4L).name("Java").build()));
+
+        Map<String, Long> ids = bookDictionaryService.resolveTagIds(List.of("Java", "java"));
+
+        assertThat(ids).containsExactlyInAnyOrderEntriesOf(Map.of("Java", 4L, "java", 4L));
+        verify(tagRepository).saveAll(argThat((List<Tag> tags) -> tags.size() == 1));
+    }
+
+    @Test
+    void resolveAuthorIdsThrowsWhenNameNeverResolves() {
+        when(authorRepository.findAllByNameIn(anyIterable())).thenReturn(List.of());
+        when(authorRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("uk_author_name"));
+
+        assertThatThrownBy(() -> bookDictionaryService.resolveAuthorIds(List.of("홍길동")))
+                .isInstanceOf(DictionaryNameUnresolvedException.class);
+    }
+}
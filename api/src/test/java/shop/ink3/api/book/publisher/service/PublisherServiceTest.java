@@ -17,6 +17,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import shop.ink3.api.book.dictionary.service.BookDictionaryService;
 import shop.ink3.api.book.publisher.dto.PublisherCreateRequest;
 import shop.ink3.api.book.publisher.dto.PublisherResponse;
 import shop.ink3.api.book.publisher.dto.PublisherUpdateRequest;
@@ -31,6 +32,9 @@ class PublisherServiceTest {
     @Mock
     PublisherRepository publisherRepository;
 
+    @Mock
+    BookDictionaryService bookDictionaryService;
+
     @InjectMocks
     PublisherService publisherService;
 
@@ -17,6 +17,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import shop.ink3.api.book.dictionary.service.BookDictionaryService;
 import shop.ink3.api.book.tag.dto.TagCreateRequest;
 import shop.ink3.api.book.tag.dto.TagResponse;
 import shop.ink3.api.book.tag.dto.TagUpdateRequest;
@@ -31,6 +32,9 @@ public class TagServiceTest {
     @Mock
     TagRepository tagRepository;
 
+    @Mock
+    BookDictionaryService bookDictionaryService;
+
     @InjectMocks
     TagService tagService;
 
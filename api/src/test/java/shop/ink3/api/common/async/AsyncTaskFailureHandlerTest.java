@@ -0,0 +1,173 @@
+package shop.ink3.api.common.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class AsyncTaskFailureHandlerTest {
+
+    @Mock
+    private AsyncTaskFailureRepository asyncTaskFailureRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+
+    private AsyncTaskFailureHandler handler;
+
+    record SampleEvent(long userId, int amount) {
+    }
+
+    static class SampleListener {
+        public void handle(SampleEvent event) {
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new AsyncTaskFailureHandler(asyncTaskFailureRepository, new ObjectMapper(), transactionManager,
+                meterRegistry, 3, Duration.ofMinutes(1), Duration.ofMinutes(10));
+    }
+
+    @DisplayName("비동기 작업이 실패하면 메서드와 인자를 재실행 대상으로 저장")
+    @Test
+    void recordFailure() throws NoSuchMethodException {
+        handler.handleUncaughtException(new IllegalStateException("boom"), handleMethod(), new SampleEvent(1L, 100));
+
+        ArgumentCaptor<AsyncTaskFailure> captor = ArgumentCaptor.forClass(AsyncTaskFailure.class);
+        verify(asyncTaskFailureRepository).save(captor.capture());
+        AsyncTaskFailure saved = captor.getValue();
+        assertThat(saved.getTaskName()).isEqualTo(SampleListener.class.getName() + "#handle");
+        assertThat(saved.getParameterTypes()).isEqualTo(SampleEvent.class.getName());
+        assertThat(saved.getPayload()).isEqualTo("[{\"userId\":1,\"amount\":100}]");
+        assertThat(saved.getStatus()).isEqualTo(AsyncTaskFailureStatus.PENDING);
+        assertThat(saved.getLastError()).contains("boom");
+        assertThat(meterRegistry.counter("async.task.failures", "task", "handle").count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("동기 재실행이 성공하면 실패 기록을 삭제")
+    @Test
+    void replaySuccessDeletes() {
+        handler.replay(7L, () -> {
+        });
+
+        verify(asyncTaskFailureRepository).deleteById(7L);
+    }
+
+    @DisplayName("재실행이 다시 실패하면 지수 백오프로 다음 시도를 미룸")
+    @Test
+    void replayFailureReschedules() {
+        AsyncTaskFailure failure = failure(2);
+        when(asyncTaskFailureRepository.findById(7L)).thenReturn(Optional.of(failure));
+
+        handler.replay(7L, () -> {
+            throw new InvocationTargetException(new IllegalStateException("again"));
+        });
+
+        assertThat(failure.getStatus()).isEqualTo(AsyncTaskFailureStatus.PENDING);
+        assertThat(failure.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(110));
+        assertThat(failure.getLastError()).contains("again");
+        verify(asyncTaskFailureRepository, never()).deleteById(anyLong());
+    }
+
+    @DisplayName("최대 시도 횟수를 넘기면 DEAD로 전환")
+    @Test
+    void replayGivesUpAfterMaxAttempts() {
+        AsyncTaskFailure failure = failure(3);
+        when(asyncTaskFailureRepository.findById(7L)).thenReturn(Optional.of(failure));
+
+        handler.replay(7L, () -> {
+            throw new IllegalStateException("still failing");
+        });
+
+        assertThat(failure.getStatus()).isEqualTo(AsyncTaskFailureStatus.DEAD);
+        assertThat(meterRegistry.counter("async.task.replays", "result", "dead").count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("실행기로 넘어간 재실행의 실패는 새 행을 만들지 않고 기존 행에 반영")
+    @Test
+    void asyncReplayFailureUpdatesExistingRow() throws Exception {
+        AsyncTaskFailure failure = failure(1);
+        when(asyncTaskFailureRepository.findById(7L)).thenReturn(Optional.of(failure));
+        Method method = handleMethod();
+
+        handler.replay(7L, () -> runOnOtherThread(handler.decorate(() -> handler.handleUncaughtException(
+                new IllegalStateException("async"), method, new SampleEvent(1L, 100)))));
+
+        verify(asyncTaskFailureRepository, never()).save(any());
+        verify(asyncTaskFailureRepository, never()).deleteById(anyLong());
+        assertThat(failure.getLastError()).contains("async");
+    }
+
+    @DisplayName("실행기로 넘어간 재실행이 성공하면 작업 스레드에서 한 번만 삭제")
+    @Test
+    void asyncReplaySuccessDeletesOnce() {
+        handler.replay(7L, () -> runOnOtherThread(handler.decorate(() -> {
+        })));
+
+        verify(asyncTaskFailureRepository, times(1)).deleteById(7L);
+    }
+
+    @DisplayName("재실행 중이 아닌 작업은 감싸지 않음")
+    @Test
+    void decorateWithoutReplay() {
+        Runnable task = () -> {
+        };
+
+        assertThat(handler.decorate(task)).isSameAs(task);
+    }
+
+    @DisplayName("백오프는 시도마다 두 배로 늘고 최대값에서 멈춤")
+    @Test
+    void backoff() {
+        assertThat(handler.backoff(1)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(handler.backoff(3)).isEqualTo(Duration.ofMinutes(4));
+        assertThat(handler.backoff(10)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    private static Method handleMethod() throws NoSuchMethodException {
+        return SampleListener.class.getMethod("handle", SampleEvent.class);
+    }
+
+    private static AsyncTaskFailure failure(int attempts) {
+        return AsyncTaskFailure.builder()
+                .id(7L)
+                .taskName(SampleListener.class.getName() + "#handle")
+                .parameterTypes(SampleEvent.class.getName())
+                .payload("[{\"userId\":1,\"amount\":100}]")
+                .attempts(attempts)
+                .status(AsyncTaskFailureStatus.REPLAYING)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static void runOnOtherThread(Runnable task) throws InterruptedException {
+        Thread thread = new Thread(task);
+        thread.start();
+        thread.join();
+    }
+}
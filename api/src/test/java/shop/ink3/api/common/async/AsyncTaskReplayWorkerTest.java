@@ -0,0 +1,121 @@
+package shop.ink3.api.common.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class AsyncTaskReplayWorkerTest {
+
+    @Mock
+    private AsyncTaskFailureRepository asyncTaskFailureRepository;
+
+    @Mock
+    private AsyncTaskFailureHandler asyncTaskFailureHandler;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AsyncTaskReplayWorker worker;
+
+    private final SampleListener listener = new SampleListener();
+
+    record SampleEvent(long userId, int amount) {
+    }
+
+    static class SampleListener {
+        private final List<SampleEvent> handled = new ArrayList<>();
+
+        @Async
+        public void handle(SampleEvent event) {
+            handled.add(event);
+        }
+
+        public void notAsync(SampleEvent event) {
+            handled.add(event);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        worker = new AsyncTaskReplayWorker(asyncTaskFailureRepository, asyncTaskFailureHandler, applicationContext,
+                new ObjectMapper(), transactionManager, 10, Duration.ofMinutes(10));
+        when(applicationContext.getClassLoader()).thenReturn(getClass().getClassLoader());
+        when(applicationContext.getBean(SampleListener.class)).thenReturn(listener);
+    }
+
+    @DisplayName("선점한 실패 작업을 같은 인자로 다시 호출")
+    @Test
+    void replayDue() throws Exception {
+        AsyncTaskFailure failure = failure("handle");
+        when(asyncTaskFailureRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                eq(AsyncTaskFailureStatus.PENDING), any(LocalDateTime.class), any())).thenReturn(List.of(failure));
+        when(asyncTaskFailureRepository.claim(eq(7L), any(LocalDateTime.class))).thenReturn(1);
+
+        worker.replayDue();
+
+        ArgumentCaptor<AsyncTaskFailureHandler.Invocation> captor =
+                ArgumentCaptor.forClass(AsyncTaskFailureHandler.Invocation.class);
+        verify(asyncTaskFailureHandler).replay(eq(7L), captor.capture());
+        captor.getValue().invoke();
+        assertThat(listener.handled).containsExactly(new SampleEvent(1L, 100));
+    }
+
+    @DisplayName("다른 노드가 먼저 선점한 작업은 건너뜀")
+    @Test
+    void skipWhenClaimedElsewhere() {
+        when(asyncTaskFailureRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                eq(AsyncTaskFailureStatus.PENDING), any(LocalDateTime.class), any()))
+                .thenReturn(List.of(failure("handle")));
+        when(asyncTaskFailureRepository.claim(eq(7L), any(LocalDateTime.class))).thenReturn(0);
+
+        worker.replayDue();
+
+        verify(asyncTaskFailureHandler, never()).replay(anyLong(), any());
+    }
+
+    @DisplayName("@Async가 아닌 메서드는 실행하지 않고 DEAD 처리")
+    @Test
+    void rejectNonAsyncMethod() {
+        worker.replay(failure("notAsync"));
+
+        verify(asyncTaskFailureHandler).markDead(eq(7L), any(IllegalStateException.class));
+        verify(asyncTaskFailureHandler, never()).replay(anyLong(), any());
+        assertThat(listener.handled).isEmpty();
+    }
+
+    private static AsyncTaskFailure failure(String methodName) {
+        return AsyncTaskFailure.builder()
+                .id(7L)
+                .taskName(SampleListener.class.getName() + "#" + methodName)
+                .parameterTypes(SampleEvent.class.getName())
+                .payload("[{\"userId\":1,\"amount\":100}]")
+                .attempts(0)
+                .status(AsyncTaskFailureStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,208 @@
+package shop.ink3.api.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class SingleFlightCacheTest {
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final SingleFlightCache.Options LOCAL_ONLY =
+            new SingleFlightCache.Options(false, Duration.ofSeconds(5), Duration.ofSeconds(2), 0);
+
+    private final ConcurrentMapCache delegate = new ConcurrentMapCache("test");
+    private final ExecutorService executor = Executors.newFixedThreadPool(32);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("같은 키로 동시에 들어온 miss는 loader를 한 번만 실행하고 모두 같은 값을 받는다")
+    @Test
+    void coalescesConcurrentMisses() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache(delegate, TTL, LOCAL_ONLY, null);
+        AtomicInteger loads = new AtomicInteger();
+        Callable<String> loader = () -> {
+            loads.incrementAndGet();
+            Thread.sleep(200);
+            return "tree";
+        };
+
+        List<String> results = runConcurrently(32, () -> cache.get("categories", loader));
+
+        assertThat(loads).hasValue(1);
+        assertThat(results).hasSize(32).containsOnly("tree");
+        assertThat(cache.get("categories", String.class)).isEqualTo("tree");
+    }
+
+    @DisplayName("loader가 실패하면 기다리던 요청도 같은 예외를 받고, 값은 캐시하지 않는다")
+    @Test
+    void failureIsSharedAndNotCached() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache(delegate, TTL, LOCAL_ONLY, null);
+        AtomicInteger loads = new AtomicInteger();
+        Callable<String> failing = () -> {
+            loads.incrementAndGet();
+            Thread.sleep(200);
+            throw new IllegalStateException("db down");
+        };
+
+        List<Future<String>> futures = submitConcurrently(8, () -> cache.get("book", failing));
+        for (Future<String> future : futures) {
+            assertThatThrownBy(future::get).hasRootCauseInstanceOf(IllegalStateException.class);
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get("book")).isNull();
+
+        assertThat(cache.get("book", () -> "loaded")).isEqualTo("loaded");
+    }
+
+    @DisplayName("읽는 데 오래 걸린 값은 만료 전이라도 한 요청이 미리 다시 읽는다")
+    @Test
+    void refreshesEarly() {
+        SingleFlightCache.Options eager =
+                new SingleFlightCache.Options(false, Duration.ofSeconds(5), Duration.ofSeconds(2), 1e9);
+        SingleFlightCache cache = new SingleFlightCache(delegate, TTL, eager, null);
+        delegate.put("ranking", new CachedValue<>("old", System.currentTimeMillis() + 60_000, 50));
+
+        assertThat(cache.get("ranking", () -> "new")).isEqualTo("new");
+        assertThat(cache.get("ranking", String.class)).isEqualTo("new");
+    }
+
+    @DisplayName("early-refresh-beta가 0이면 만료 전에는 저장된 값을 그대로 쓴다")
+    @Test
+    void noEarlyRefreshWhenDisabled() {
+        SingleFlightCache cache = new SingleFlightCache(delegate, TTL, LOCAL_ONLY, null);
+        delegate.put("ranking", new CachedValue<>("old", System.currentTimeMillis() + 60_000, 50));
+
+        assertThat(cache.get("ranking", () -> "new")).isEqualTo("old");
+    }
+
+    @DisplayName("미리 갱신하다 실패하면 기존 값을 돌려준다")
+    @Test
+    void keepsStaleValueWhenRefreshFails() {
+        SingleFlightCache.Options eager =
+                new SingleFlightCache.Options(false, Duration.ofSeconds(5), Duration.ofSeconds(2), 1e9);
+        SingleFlightCache cache = new SingleFlightCache(delegate, TTL, eager, null);
+        delegate.put("ranking", new CachedValue<>("old", System.currentTimeMillis() + 60_000, 50));
+
+        assertThat(cache.<String>get("ranking", () -> {
+            throw new IllegalStateException("db down");
+        })).isEqualTo("old");
+    }
+
+    @DisplayName("다른 노드가 락을 잡고 있으면 loader를 실행하지 않고 그 노드가 채운 값을 쓴다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void waitsForOtherNode() throws Exception {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(redisTemplate.hasKey("cache:lock:test::1")).thenReturn(true);
+        SingleFlightCache.Options distributed =
+                new SingleFlightCache.Options(true, Duration.ofSeconds(5), Duration.ofSeconds(2), 0);
+        SingleFlightCache cache = new SingleFlightCache(delegate, TTL, distributed, redisTemplate);
+
+        executor.submit(() -> {
+            Thread.sleep(100);
+            delegate.put("1", new CachedValue<>("from other node", System.currentTimeMillis() + 60_000, 10));
+            return null;
+        });
+
+        assertThat(cache.<String>get("1", () -> {
+            throw new AssertionError("loader must not run");
+        })).isEqualTo("from other node");
+    }
+
+    @DisplayName("다른 노드가 값을 쓰지 못하고 락을 풀면 남은 시간을 기다리지 않고 직접 읽는다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void stopsWaitingWhenLockReleasedWithoutValue() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(redisTemplate.hasKey("cache:lock:test::1")).thenReturn(false);
+        SingleFlightCache.Options distributed =
+                new SingleFlightCache.Options(true, Duration.ofSeconds(5), Duration.ofSeconds(10), 0);
+        SingleFlightCache cache = new SingleFlightCache(delegate, TTL, distributed, redisTemplate);
+
+        long started = System.nanoTime();
+        assertThat(cache.get("1", () -> "loaded")).isEqualTo("loaded");
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @DisplayName("락을 잡으면 직접 읽어 채우고 락을 푼다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void loadsWithLock() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        SingleFlightCache.Options distributed =
+                new SingleFlightCache.Options(true, Duration.ofSeconds(5), Duration.ofSeconds(2), 0);
+        SingleFlightCache cache = new SingleFlightCache(delegate, TTL, distributed, redisTemplate);
+
+        assertThat(cache.get("1", () -> "loaded")).isEqualTo("loaded");
+
+        verify(valueOperations).setIfAbsent(eq("cache:lock:test::1"), anyString(), eq(Duration.ofSeconds(5)));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("cache:lock:test::1")), anyString());
+    }
+
+    @DisplayName("감싸기 전 포맷으로 저장된 값은 miss로 보고 다시 읽는다")
+    @Test
+    void legacyValueIsMiss() {
+        SingleFlightCache cache = new SingleFlightCache(delegate, TTL, LOCAL_ONLY, null);
+        delegate.put("categories", List.of("legacy"));
+
+        assertThat(cache.get("categories", () -> "tree")).isEqualTo("tree");
+        assertThat(cache.get("categories", String.class)).isEqualTo("tree");
+    }
+
+    private <T> List<T> runConcurrently(int threads, Callable<T> task) throws Exception {
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : submitConcurrently(threads, task)) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private <T> List<Future<T>> submitConcurrently(int threads, Callable<T> task) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return task.call();
+            }));
+        }
+        ready.await();
+        start.countDown();
+        return futures;
+    }
+}
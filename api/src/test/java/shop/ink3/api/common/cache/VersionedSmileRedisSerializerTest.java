@@ -0,0 +1,109 @@
+package shop.ink3.api.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import shop.ink3.api.book.category.dto.CategoryTreeDto;
+import shop.ink3.api.order.cart.dto.CartResponse;
+
+class VersionedSmileRedisSerializerTest {
+    private final VersionedSmileRedisSerializer<CartResponse> cartSerializer =
+            new VersionedSmileRedisSerializer<>(CompactCacheType.CART_RESPONSE, CartResponse.class);
+
+    private final VersionedSmileRedisSerializer<List<CategoryTreeDto>> categorySerializer =
+            VersionedSmileRedisSerializer.forList(CompactCacheType.CATEGORY_TREE, CategoryTreeDto.class);
+
+    private final CartResponse cart = new CartResponse(
+            1L, 2L, 3L, "테스트 도서", 20000, 18000, 10, "/image-proxy/books/20250101/abc", 2);
+
+    @Test
+    @DisplayName("장바구니 응답 직렬화/역직렬화")
+    void cartRoundTrip() {
+        byte[] bytes = cartSerializer.serialize(cart);
+
+        assertThat(bytes[0]).isEqualTo(VersionedSmileRedisSerializer.MAGIC);
+        assertThat(bytes[1]).isEqualTo((byte) CompactCacheType.CART_RESPONSE.getId());
+        assertThat(cartSerializer.deserialize(bytes)).isEqualTo(cart);
+    }
+
+    @Test
+    @DisplayName("카테고리 트리 직렬화/역직렬화")
+    void categoryTreeRoundTrip() {
+        List<CategoryTreeDto> tree = categoryTree();
+
+        assertThat(categorySerializer.deserialize(categorySerializer.serialize(tree))).isEqualTo(tree);
+    }
+
+    @Test
+    @DisplayName("CachedValue로 감싼 카테고리 트리 직렬화/역직렬화")
+    void cachedValueRoundTrip() {
+        VersionedSmileRedisSerializer<CachedValue<List<CategoryTreeDto>>> serializer =
+                VersionedSmileRedisSerializer.forCachedValue(CompactCacheType.CATEGORY_TREE, List.class,
+                        CategoryTreeDto.class);
+        CachedValue<List<CategoryTreeDto>> cached = new CachedValue<>(categoryTree(), 1_760_000_000_000L, 35);
+
+        assertThat(serializer.deserialize(serializer.serialize(cached))).isEqualTo(cached);
+    }
+
+    @Test
+    @DisplayName("기존 JSON 포맷으로 저장된 값도 읽을 수 있음")
+    void readsLegacyJson() {
+        byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(cart);
+
+        assertThat(cartSerializer.deserialize(legacy)).isEqualTo(cart);
+    }
+
+    @Test
+    @DisplayName("스키마 버전이 다르면 캐시 miss(null)로 처리")
+    void versionMismatchIsMiss() {
+        byte[] bytes = cartSerializer.serialize(cart);
+        bytes[2] = (byte) (CompactCacheType.CART_RESPONSE.getVersion() + 1);
+
+        assertThat(cartSerializer.deserialize(bytes)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 타입 id의 값은 예외")
+    void typeMismatchThrows() {
+        byte[] bytes = categorySerializer.serialize(categoryTree());
+
+        assertThatThrownBy(() -> cartSerializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("기존 GenericJackson2Json 대비 저장 크기가 작음")
+    void smallerThanGenericJson() {
+        GenericJackson2JsonRedisSerializer generic = new GenericJackson2JsonRedisSerializer();
+
+        assertThat(cartSerializer.serialize(cart).length).isLessThan(generic.serialize(cart).length);
+        assertThat(categorySerializer.serialize(categoryTree()).length)
+                .isLessThan(generic.serialize(categoryTree()).length);
+    }
+
+    @Test
+    @DisplayName("null 처리")
+    void nullHandling() {
+        assertThat(cartSerializer.serialize(null)).isEmpty();
+        assertThat(cartSerializer.deserialize(null)).isNull();
+        assertThat(cartSerializer.deserialize(new byte[0])).isNull();
+    }
+
+    private List<CategoryTreeDto> categoryTree() {
+        List<CategoryTreeDto> roots = new ArrayList<>();
+        for (long i = 1; i <= 3; i++) {
+            CategoryTreeDto root = new CategoryTreeDto(i, "국내도서" + i, new ArrayList<>());
+            for (long j = 1; j <= 5; j++) {
+                root.children().add(new CategoryTreeDto(i * 100 + j, "소설/시/희곡" + j, new ArrayList<>()));
+            }
+            roots.add(root);
+        }
+        return roots;
+    }
+}
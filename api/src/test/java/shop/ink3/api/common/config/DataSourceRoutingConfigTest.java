@@ -0,0 +1,32 @@
+package shop.ink3.api.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.mock.env.MockEnvironment;
+
+class DataSourceRoutingConfigTest {
+
+    @DisplayName("레플리카 풀은 spring.datasource.hikari 설정을 따르고 datasource.replica.hikari 값으로 덮어씀")
+    @Test
+    void replicaPoolBindsHikariProperties() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "7")
+                .withProperty("spring.datasource.hikari.connection-timeout", "3000")
+                .withProperty("datasource.replica.hikari.maximum-pool-size", "20");
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setDriverClassName("org.h2.Driver");
+
+        try (HikariDataSource replica = new DataSourceRoutingConfig().replicaDataSource(
+                properties, environment, "jdbc:h2:mem:replica", "sa", "")) {
+            assertThat(replica.getMaximumPoolSize()).isEqualTo(20);
+            assertThat(replica.getConnectionTimeout()).isEqualTo(3000);
+            assertThat(replica.getPoolName()).isEqualTo("replica");
+            assertThat(replica.getJdbcUrl()).isEqualTo("jdbc:h2:mem:replica");
+            assertThat(replica.isReadOnly()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package shop.ink3.api.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicationRoutingDataSourceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private MeterRegistry meterRegistry;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private ReadYourWritesTracker readYourWritesTracker;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTemplate;
+    private TransactionTemplate readOnlyTemplate;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        meterRegistry = new SimpleMeterRegistry();
+
+        // 같은 테이블에 서로 다른 표식을 넣은 두 H2 DB로 어느 쪽에 붙었는지 확인한다
+        DataSource primary = h2("routing_primary", "primary");
+        DataSource replica = h2("routing_replica", "replica");
+
+        replicaLagMonitor = new ReplicaLagMonitor(
+                replica, "SELECT seconds_behind FROM replica_status", "seconds_behind",
+                Duration.ofSeconds(2), meterRegistry);
+        readYourWritesTracker = new ReadYourWritesTracker(redisTemplate, Duration.ofSeconds(5));
+
+        ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(replicaLagMonitor, readYourWritesTracker, meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primary,
+                DataSourceType.REPLICA, replica
+        ));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+
+        replicaLagMonitor.check();
+    }
+
+    @AfterEach
+    void tearDown() {
+        readYourWritesTracker.end();
+    }
+
+    @DisplayName("readOnly 트랜잭션은 레플리카로 라우팅")
+    @Test
+    void readOnlyRoutesToReplica() {
+        String routed = readOnlyTemplate.execute(status -> marker());
+        assertThat(routed).isEqualTo("replica");
+        assertThat(meterRegistry.counter("datasource.routing", "target", "replica", "reason", "read").count())
+                .isEqualTo(1.0);
+    }
+
+    @DisplayName("쓰기 트랜잭션은 primary로 라우팅")
+    @Test
+    void writeRoutesToPrimary() {
+        String routed = writeTemplate.execute(status -> marker());
+        assertThat(routed).isEqualTo("primary");
+    }
+
+    @DisplayName("복제 지연이 임계값을 넘으면 읽기도 primary로 라우팅")
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        replicaLagMonitor.update(10.0);
+
+        String routed = readOnlyTemplate.execute(status -> marker());
+        assertThat(routed).isEqualTo("primary");
+        assertThat(meterRegistry.counter(
+                "datasource.routing", "target", "primary", "reason", "replica_unavailable").count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("지연 확인 결과가 없으면 레플리카를 사용하지 않음")
+    @Test
+    void unknownLagMarksReplicaUnavailable() {
+        replicaLagMonitor.update(null);
+
+        assertThat(replicaLagMonitor.isAvailable()).isFalse();
+        String routed = readOnlyTemplate.execute(status -> marker());
+        assertThat(routed).isEqualTo("primary");
+    }
+
+    @DisplayName("쓰기 커밋 후 같은 요청의 읽기는 primary로 고정하고 Redis에 고정 상태를 남김")
+    @Test
+    void readYourWritesWithinRequest() {
+        readYourWritesTracker.begin("1");
+        when(redisTemplate.hasKey("datasource:pin:1")).thenReturn(false);
+
+        writeTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE marker SET updated = updated + 1"));
+
+        String routed = readOnlyTemplate.execute(status -> marker());
+        assertThat(routed).isEqualTo("primary");
+        verify(valueOperations).set("datasource:pin:1", "1", Duration.ofSeconds(5));
+    }
+
+    @DisplayName("쓰기 트랜잭션이라도 변경 SQL을 실행하지 않았으면 고정하지 않음")
+    @Test
+    void readInWriteTransactionDoesNotPin() {
+        readYourWritesTracker.begin("4");
+        when(redisTemplate.hasKey("datasource:pin:4")).thenReturn(false);
+
+        String written = writeTemplate.execute(status -> marker());
+        String routed = readOnlyTemplate.execute(status -> marker());
+
+        assertThat(written).isEqualTo("primary");
+        assertThat(routed).isEqualTo("replica");
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @DisplayName("다른 요청에서 고정된 회원의 읽기는 primary로 라우팅")
+    @Test
+    void pinnedUserRoutesToPrimary() {
+        readYourWritesTracker.begin("2");
+        when(redisTemplate.hasKey("datasource:pin:2")).thenReturn(true);
+
+        String routed = readOnlyTemplate.execute(status -> marker());
+        assertThat(routed).isEqualTo("primary");
+    }
+
+    @DisplayName("롤백된 쓰기는 회원을 고정하지 않음")
+    @Test
+    void rollbackDoesNotPin() {
+        readYourWritesTracker.begin("3");
+        when(redisTemplate.hasKey("datasource:pin:3")).thenReturn(false);
+
+        writeTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE marker SET updated = updated + 1");
+            status.setRollbackOnly();
+        });
+
+        String routed = readOnlyTemplate.execute(status -> marker());
+        assertThat(routed).isEqualTo("replica");
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @DisplayName("회원 정보가 없는 쓰기는 고정하지 않음")
+    @Test
+    void anonymousWriteDoesNotPin() {
+        writeTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE marker SET updated = updated + 1"));
+
+        String routed = readOnlyTemplate.execute(status -> marker());
+        assertThat(routed).isEqualTo("replica");
+        verify(valueOperations, never()).set(eq("datasource:pin:null"), anyString(), any(Duration.class));
+    }
+
+    private String marker() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static DataSource h2(String name, String marker) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("DROP TABLE IF EXISTS marker");
+        template.execute("DROP TABLE IF EXISTS replica_status");
+        template.execute("CREATE TABLE marker (name VARCHAR(20), updated INT)");
+        template.update("INSERT INTO marker VALUES (?, 0)", marker);
+        template.execute("CREATE TABLE replica_status (seconds_behind INT)");
+        template.update("INSERT INTO replica_status VALUES (0)");
+        return dataSource;
+    }
+}
@@ -0,0 +1,28 @@
+package shop.ink3.api.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WriteDetectingConnectionTest {
+
+    @DisplayName("조회 문은 쓰기로 보지 않음")
+    @Test
+    void readStatements() {
+        assertThat(WriteDetectingConnection.isWrite("select * from books")).isFalse();
+        assertThat(WriteDetectingConnection.isWrite("  SELECT 1")).isFalse();
+        assertThat(WriteDetectingConnection.isWrite("/* load Book */ select b1_0.id from books b1_0")).isFalse();
+        assertThat(WriteDetectingConnection.isWrite("SHOW REPLICA STATUS")).isFalse();
+    }
+
+    @DisplayName("변경 문과 알 수 없는 문은 쓰기로 봄")
+    @Test
+    void writeStatements() {
+        assertThat(WriteDetectingConnection.isWrite("insert into books (id) values (?)")).isTrue();
+        assertThat(WriteDetectingConnection.isWrite("/* update Book */ update books set stock=? where id=?"))
+                .isTrue();
+        assertThat(WriteDetectingConnection.isWrite("DELETE FROM cart WHERE id = ?")).isTrue();
+        assertThat(WriteDetectingConnection.isWrite("/* unterminated")).isTrue();
+    }
+}
@@ -0,0 +1,99 @@
+package shop.ink3.api.common.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExportWriterTest {
+    private static final List<String> COLUMNS = List.of("id", "name", "orderedAt", "approved", "memo");
+
+    @DisplayName("NDJSON은 한 행을 한 줄의 JSON 객체로 쓰고 날짜는 ISO 형식으로 쓴다")
+    @Test
+    void ndjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter writer = ExportWriter.of(ExportFormat.NDJSON, COLUMNS, out);
+
+        writer.processRow(row(1L, "홍\"길동", LocalDateTime.of(2024, 1, 2, 3, 4, 5), true, null));
+        writer.processRow(row(2L, "김철수", LocalDateTime.of(2024, 1, 3, 0, 0), false, "메모"));
+
+        assertThat(writer.finish()).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                {"id":1,"name":"홍\\"길동","orderedAt":"2024-01-02T03:04:05","approved":true,"memo":null}
+                {"id":2,"name":"김철수","orderedAt":"2024-01-03T00:00","approved":false,"memo":"메모"}
+                """);
+    }
+
+    @DisplayName("CSV는 BOM과 헤더를 먼저 쓰고 구분자/따옴표가 든 값을 감싼다")
+    @Test
+    void csv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter writer = ExportWriter.of(ExportFormat.CSV, COLUMNS, out);
+
+        writer.processRow(row(1L, "홍,길동", LocalDateTime.of(2024, 1, 2, 3, 4, 5), true, "say \"hi\""));
+        writer.processRow(row(2L, "김철수", LocalDateTime.of(2024, 1, 3, 0, 0), false, null));
+        writer.finish();
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("\uFEFF"
+                + "id,name,orderedAt,approved,memo\r\n"
+                + "1,\"홍,길동\",2024-01-02T03:04:05,true,\"say \"\"hi\"\"\"\r\n"
+                + "2,김철수,2024-01-03T00:00,false,\r\n");
+    }
+
+    @DisplayName("CSV 문자열 값이 수식 문자로 시작하면 작은따옴표를 붙여 수식으로 실행되지 않게 한다")
+    @Test
+    void csvFormulaGuard() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter writer = ExportWriter.of(ExportFormat.CSV, COLUMNS, out);
+
+        writer.processRow(row(-1L, "=HYPERLINK(\"x\")", LocalDateTime.of(2024, 1, 1, 0, 0), true, "@SUM(A1)"));
+        writer.finish();
+
+        assertThat(out.toString(StandardCharsets.UTF_8).lines().skip(1).findFirst())
+                .hasValue("-1,\"'=HYPERLINK(\"\"x\"\")\",2024-01-01T00:00,true,'@SUM(A1)");
+    }
+
+    @DisplayName("응답 스트림에 쓰지 못하면 예외를 올려 조회를 중단한다")
+    @Test
+    void clientDisconnected() throws Exception {
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        ExportWriter writer = ExportWriter.of(ExportFormat.CSV, COLUMNS, broken);
+        ResultSet row = row(1L, "홍길동", LocalDateTime.of(2024, 1, 1, 0, 0), true, null);
+
+        // 버퍼가 찰 때까지 쓰다가 실제 쓰기에서 실패한다
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                writer.processRow(row);
+            }
+        }).isInstanceOf(UncheckedIOException.class);
+    }
+
+    private static ResultSet row(Long id, String name, LocalDateTime orderedAt, Boolean approved, String memo)
+            throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject(1)).thenReturn(id);
+        when(rs.getObject(2)).thenReturn(name);
+        when(rs.getObject(3)).thenReturn(Timestamp.valueOf(orderedAt));
+        when(rs.getObject(4)).thenReturn(approved);
+        when(rs.getObject(5)).thenReturn(memo);
+        return rs;
+    }
+}
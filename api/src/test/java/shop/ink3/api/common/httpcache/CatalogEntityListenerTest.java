@@ -0,0 +1,75 @@
+package shop.ink3.api.common.httpcache;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.Map;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import shop.ink3.api.book.book.entity.Book;
+import shop.ink3.api.book.book.entity.BookStatus;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogEntityListenerTest {
+
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    private CatalogEntityListener listener;
+
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        listener = new CatalogEntityListener(new StaticListableBeanFactory(Map.of("catalogVersionService", catalogVersionService))
+                .getBeanProvider(CatalogVersionService.class));
+        book = Book.builder()
+                .id(1L)
+                .title("title")
+                .originalPrice(10000)
+                .salePrice(9000)
+                .quantity(10)
+                .likeCount(0L)
+                .status(BookStatus.AVAILABLE)
+                .build();
+        book.snapshotCatalogFields();
+    }
+
+    @DisplayName("재고/좋아요만 바뀌면 상세 버전만 올림")
+    @Test
+    void countersOnly() {
+        book.decreaseQuantity(1);
+        book.incrementLikeCount();
+
+        listener.onUpdate(book);
+
+        verify(catalogVersionService).bookCountersChanged(1L);
+        verify(catalogVersionService, never()).bookChanged(1L);
+    }
+
+    @DisplayName("판매 상태가 바뀌면 목록 버전까지 올림")
+    @Test
+    void catalogFieldChanged() {
+        book.delete();
+
+        listener.onUpdate(book);
+
+        verify(catalogVersionService).bookChanged(1L);
+        verify(catalogVersionService, never()).bookCountersChanged(1L);
+    }
+
+    @DisplayName("카테고리 등 연결만 바뀌어도 표시하면 목록 버전까지 올림")
+    @Test
+    void markedChanged() {
+        book.markCatalogChanged();
+
+        listener.onUpdate(book);
+
+        verify(catalogVersionService).bookChanged(1L);
+    }
+}
@@ -0,0 +1,158 @@
+package shop.ink3.api.common.httpcache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CatalogVersionServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private CatalogVersionService catalogVersionService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        catalogVersionService = new CatalogVersionService(redisTemplate, Duration.ofMinutes(5), Duration.ofMinutes(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.clear();
+        List.copyOf(TransactionSynchronizationManager.getResourceMap().keySet())
+                .forEach(TransactionSynchronizationManager::unbindResource);
+    }
+
+    @DisplayName("도서 상세 ETag는 도서/카테고리/사전 버전을 이어 붙인 강한 ETag")
+    @Test
+    void bookDetailTag() {
+        when(valueOperations.multiGet(List.of(
+                "catalog:version:book:1", CatalogVersionService.CATEGORIES_KEY, CatalogVersionService.DICTIONARY_KEY)))
+                .thenReturn(List.of("12", "3", "5"));
+
+        long window = System.currentTimeMillis() / Duration.ofMinutes(30).toMillis();
+        assertThat(catalogVersionService.bookDetailTag(1L))
+                .isIn("\"d-12-3-5-w" + window + "\"", "\"d-12-3-5-w" + (window + 1) + "\"");
+    }
+
+    @DisplayName("버전 키가 없으면 현재 시각으로 채운 값을 사용")
+    @Test
+    void seedMissingVersion() {
+        when(valueOperations.multiGet(List.of(CatalogVersionService.CATEGORIES_KEY)))
+                .thenReturn(Arrays.asList((String) null));
+        when(valueOperations.get(CatalogVersionService.CATEGORIES_KEY)).thenReturn("1760000000000");
+
+        assertThat(catalogVersionService.categoryTag()).isEqualTo("\"c-1760000000000\"");
+        verify(valueOperations).setIfAbsent(eq(CatalogVersionService.CATEGORIES_KEY), anyString());
+    }
+
+    @DisplayName("목록 ETag에는 카운터 갱신 주기 구간 번호가 붙음")
+    @Test
+    void bookListTagHasCounterWindow() {
+        when(valueOperations.multiGet(List.of(CatalogVersionService.BOOKS_KEY, CatalogVersionService.DICTIONARY_KEY)))
+                .thenReturn(List.of("7", "5"));
+
+        long window = System.currentTimeMillis() / Duration.ofMinutes(5).toMillis();
+        assertThat(catalogVersionService.bookListTag()).isIn("\"l-7-5-w" + window + "\"", "\"l-7-5-w" + (window + 1) + "\"");
+    }
+
+    @DisplayName("카운터만 바뀌면 도서 상세 버전만 올림")
+    @Test
+    void bookCountersChangedBumpsDetailOnly() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        catalogVersionService.bookCountersChanged(1L);
+
+        @SuppressWarnings("unchecked")
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResourceMap().values().iterator().next();
+        assertThat(pending).containsExactly("catalog:version:book:1");
+    }
+
+    @DisplayName("도서별 버전 키가 없으면 쓰지 않고 0으로 봄")
+    @Test
+    void missingBookVersionIsNotSeeded() {
+        when(valueOperations.multiGet(List.of(
+                "catalog:version:book:404", CatalogVersionService.CATEGORIES_KEY, CatalogVersionService.DICTIONARY_KEY)))
+                .thenReturn(Arrays.asList(null, "3", "5"));
+
+        assertThat(catalogVersionService.bookDetailTag(404L)).startsWith("\"d-0-3-5-w");
+        verify(valueOperations, never()).setIfAbsent(eq("catalog:version:book:404"), anyString());
+    }
+
+    @DisplayName("Redis를 읽지 못하면 ETag 없이 응답하도록 null 반환")
+    @Test
+    void tagUnavailable() {
+        when(valueOperations.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(catalogVersionService.bookListTag()).isNull();
+    }
+
+    @DisplayName("트랜잭션 밖의 변경은 바로 버전을 올림")
+    @Test
+    void bumpWithoutTransaction() {
+        catalogVersionService.rankingChanged();
+
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+    }
+
+    @DisplayName("트랜잭션 안의 변경은 모아 두었다가 커밋 후 한 번에 올림")
+    @Test
+    void bumpAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        catalogVersionService.bookChanged(1L);
+        catalogVersionService.bookChanged(2L);
+        catalogVersionService.categoriesChanged();
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @DisplayName("롤백되면 버전을 올리지 않음")
+    @Test
+    void noBumpOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        catalogVersionService.bookChanged(1L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+    }
+}
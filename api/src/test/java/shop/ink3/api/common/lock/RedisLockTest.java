@@ -0,0 +1,85 @@
+package shop.ink3.api.common.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class RedisLockTest {
+    private static final String KEY = "test:lock";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @DisplayName("획득할 때 둔 토큰으로만 해제")
+    @Test
+    @SuppressWarnings("unchecked")
+    void releasesWithOwnToken() {
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        when(valueOperations.setIfAbsent(eq(KEY), token.capture(), eq(Duration.ofSeconds(5)))).thenReturn(true);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), anyString())).thenReturn(1L);
+
+        Optional<RedisLock> lock = RedisLock.tryAcquire(redisTemplate, KEY, Duration.ofSeconds(5));
+
+        assertThat(lock).isPresent();
+        assertThat(lock.get().release()).isTrue();
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), eq(token.getValue()));
+    }
+
+    @DisplayName("호출마다 다른 토큰을 사용")
+    @Test
+    void tokensDifferPerAcquire() {
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        when(valueOperations.setIfAbsent(eq(KEY), token.capture(), any(Duration.class))).thenReturn(true);
+
+        RedisLock.tryAcquire(redisTemplate, KEY, Duration.ofSeconds(5));
+        RedisLock.tryAcquire(redisTemplate, KEY, Duration.ofSeconds(5));
+
+        assertThat(token.getAllValues()).doesNotHaveDuplicates();
+    }
+
+    @DisplayName("이미 잡힌 락은 획득하지 못함")
+    @Test
+    void alreadyLocked() {
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        assertThat(RedisLock.tryAcquire(redisTemplate, KEY, Duration.ofSeconds(5))).isEmpty();
+    }
+
+    @DisplayName("만료 후 다른 실행이 잡은 락은 지우지 않음")
+    @Test
+    @SuppressWarnings("unchecked")
+    void expiredLockIsNotDeleted() {
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).thenReturn(true);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), anyString())).thenReturn(0L);
+
+        RedisLock lock = RedisLock.tryAcquire(redisTemplate, KEY, Duration.ofSeconds(5)).orElseThrow();
+
+        assertThat(lock.release()).isFalse();
+    }
+}
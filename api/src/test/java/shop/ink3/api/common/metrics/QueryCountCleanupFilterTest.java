@@ -0,0 +1,31 @@
+package shop.ink3.api.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class QueryCountCleanupFilterTest {
+    private final QueryCountCleanupFilter filter = new QueryCountCleanupFilter();
+    private final QueryCountingStatementInspector inspector = new QueryCountingStatementInspector();
+
+    @DisplayName("요청 처리 중 예외가 나도 카운터를 비움")
+    @Test
+    void clearOnException() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/books");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> filter.doFilter(request, response, (req, res) -> {
+            QueryCountingStatementInspector.begin();
+            inspector.inspect("select 1");
+            throw new ServletException("interceptor failed");
+        })).isInstanceOf(ServletException.class);
+
+        inspector.inspect("select 2");
+        assertThat(QueryCountingStatementInspector.end()).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package shop.ink3.api.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class QueryCountInterceptorTest {
+    private MeterRegistry meterRegistry;
+    private QueryCountInterceptor interceptor;
+    private QueryCountingStatementInspector inspector;
+    private HandlerMethod handler;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new QueryCountInterceptor(meterRegistry, 3);
+        inspector = new QueryCountingStatementInspector();
+        handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("list"));
+        request = new MockHttpServletRequest("GET", "/books");
+        response = new MockHttpServletResponse();
+    }
+
+    @DisplayName("요청 중 실행된 SQL 문 수를 핸들러별 분포로 기록")
+    @Test
+    void recordStatementCount() {
+        interceptor.preHandle(request, response, handler);
+        inspector.inspect("select 1");
+        inspector.inspect("select 2");
+        interceptor.afterCompletion(request, response, handler, null);
+
+        DistributionSummary summary = meterRegistry.find("http.server.requests.statements")
+                .tag("handler", "SampleController#list")
+                .summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2.0);
+        assertThat(meterRegistry.find("http.server.requests.statement_budget_exceeded").counter()).isNull();
+    }
+
+    @DisplayName("예산을 넘긴 요청은 초과 카운터를 올림")
+    @Test
+    void exceedBudget() {
+        interceptor.preHandle(request, response, handler);
+        for (int i = 0; i < 5; i++) {
+            inspector.inspect("select " + i);
+        }
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertThat(meterRegistry.counter("http.server.requests.statement_budget_exceeded",
+                "handler", "SampleController#list").count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("요청 구간 밖에서 실행된 SQL은 세지 않음")
+    @Test
+    void ignoreOutsideRequest() {
+        inspector.inspect("select 1");
+
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+        inspector.inspect("select 2");
+
+        assertThat(meterRegistry.find("http.server.requests.statements").summary().totalAmount()).isZero();
+        assertThat(QueryCountingStatementInspector.end()).isZero();
+    }
+
+    @DisplayName("비동기 처리로 넘어가면 요청 스레드의 카운터를 비움")
+    @Test
+    void clearOnAsyncStart() {
+        interceptor.preHandle(request, response, handler);
+        inspector.inspect("select 1");
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+        inspector.inspect("select 2");
+
+        assertThat(QueryCountingStatementInspector.end()).isZero();
+    }
+
+    static class SampleController {
+        public String list() {
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package shop.ink3.api.common.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+import shop.ink3.api.order.refundPolicy.repository.RefundPolicyRepository;
+import shop.ink3.api.order.shippingPolicy.entity.ShippingPolicy;
+import shop.ink3.api.order.shippingPolicy.repository.ShippingPolicyRepository;
+import shop.ink3.api.user.membership.entity.Membership;
+import shop.ink3.api.user.membership.repository.MembershipRepository;
+import shop.ink3.api.user.point.policy.entity.PointPolicy;
+import shop.ink3.api.user.point.policy.repository.PointPolicyRepository;
+
+class PolicySnapshotRegistryTest {
+
+    @Mock
+    private PointPolicyRepository pointPolicyRepository;
+
+    @Mock
+    private ShippingPolicyRepository shippingPolicyRepository;
+
+    @Mock
+    private RefundPolicyRepository refundPolicyRepository;
+
+    @Mock
+    private MembershipRepository membershipRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PolicySnapshotRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        registry = new PolicySnapshotRegistry(pointPolicyRepository, shippingPolicyRepository,
+                refundPolicyRepository, membershipRepository, redisTemplate, transactionManager);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(pointPolicyRepository.findByIsActive(true))
+                .thenReturn(Optional.of(new PointPolicy("기본", 1000, 500, 800, 1)));
+        when(shippingPolicyRepository.findByIsAvailableTrue()).thenReturn(Optional.of(shippingPolicy(3000)));
+        when(membershipRepository.findAll()).thenReturn(List.of(membership(1L, "NORMAL", 1)));
+    }
+
+    @DisplayName("첫 조회에 스냅샷을 적재하고 이후에는 메모리에서 반환")
+    @Test
+    void current_loadsOnce() {
+        when(valueOperations.get("policy:version")).thenReturn("4");
+
+        PolicySnapshot first = registry.current();
+        PolicySnapshot second = registry.current();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.version()).isEqualTo(4L);
+        assertThat(first.pointPolicy().defaultRate()).isEqualTo(1);
+        assertThat(first.shippingPolicy().getFee()).isEqualTo(3000);
+        assertThat(first.refundPolicy()).isNull();
+        assertThat(first.membership(1L).name()).isEqualTo("NORMAL");
+        verify(pointPolicyRepository, times(1)).findByIsActive(true);
+    }
+
+    @DisplayName("정책 변경 이벤트가 오면 버전을 올리고 새 스냅샷으로 교체")
+    @Test
+    void onPolicyChanged_reloads() {
+        registry.current();
+        when(shippingPolicyRepository.findByIsAvailableTrue()).thenReturn(Optional.of(shippingPolicy(5000)));
+        when(valueOperations.increment("policy:version")).thenReturn(1L);
+
+        registry.onPolicyChanged(new PolicyChangedEvent(PolicyType.SHIPPING));
+
+        assertThat(registry.currentVersion()).isEqualTo(1L);
+        assertThat(registry.current().shippingPolicy().getFee()).isEqualTo(5000);
+    }
+
+    @DisplayName("버전을 올리지 못하면 기존 버전 번호로 다시 읽고 다음 주기에 버전을 올려 다시 적재")
+    @Test
+    void onPolicyChanged_bumpFailureRetriesOnNextSync() {
+        when(valueOperations.get("policy:version")).thenReturn("3");
+        registry.current();
+        when(shippingPolicyRepository.findByIsAvailableTrue()).thenReturn(Optional.of(shippingPolicy(5000)));
+        when(valueOperations.increment("policy:version"))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(4L);
+
+        registry.onPolicyChanged(new PolicyChangedEvent(PolicyType.SHIPPING));
+
+        assertThat(registry.currentVersion()).isEqualTo(3L);
+        assertThat(registry.current().shippingPolicy().getFee()).isEqualTo(5000);
+
+        registry.syncWithRemoteVersion();
+
+        assertThat(registry.currentVersion()).isEqualTo(4L);
+        verify(pointPolicyRepository, times(3)).findByIsActive(true);
+    }
+
+    @DisplayName("다른 노드가 올린 버전이 더 크면 다시 적재")
+    @Test
+    void syncWithRemoteVersion_reloadsWhenBehind() {
+        registry.current();
+        when(valueOperations.get("policy:version")).thenReturn("7");
+        when(membershipRepository.findAll()).thenReturn(List.of(membership(1L, "NORMAL", 2)));
+
+        registry.syncWithRemoteVersion();
+
+        assertThat(registry.currentVersion()).isEqualTo(7L);
+        assertThat(registry.current().membership(1L).pointRate()).isEqualTo(2);
+    }
+
+    @DisplayName("원격 버전이 같으면 다시 적재하지 않음")
+    @Test
+    void syncWithRemoteVersion_skipsWhenUpToDate() {
+        when(valueOperations.get("policy:version")).thenReturn("2");
+        registry.current();
+
+        registry.syncWithRemoteVersion();
+
+        verify(pointPolicyRepository, times(1)).findByIsActive(true);
+    }
+
+    @DisplayName("늦게 끝난 이전 버전 적재는 새 스냅샷을 덮어쓰지 않음")
+    @Test
+    void reload_keepsNewerVersion() {
+        registry.reload(5L);
+        registry.reload(3L);
+
+        assertThat(registry.currentVersion()).isEqualTo(5L);
+    }
+
+    private ShippingPolicy shippingPolicy(int fee) {
+        return ShippingPolicy.builder()
+                .id(1L)
+                .name("기본")
+                .threshold(30000)
+                .fee(fee)
+                .isAvailable(true)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Membership membership(long id, String name, int pointRate) {
+        return Membership.builder()
+                .id(id)
+                .name(name)
+                .conditionAmount(0)
+                .pointRate(pointRate)
+                .isActive(true)
+                .isDefault(true)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.net.URL;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
@@ -15,8 +16,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.mock.web.MockMultipartFile;
 import shop.ink3.api.common.exception.MinioUploadFailException;
+import shop.ink3.api.common.resilience.Bulkhead;
+import shop.ink3.api.common.resilience.BulkheadFullException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
@@ -33,6 +37,9 @@ class MinioServiceTest {
     @Mock
     private S3Presigner s3Presigner;
 
+    @Spy
+    private Bulkhead minioBulkhead = new Bulkhead("minio", 4, Duration.ZERO);
+
     @InjectMocks
     private MinioService uploader;
 
@@ -94,6 +101,19 @@ class MinioServiceTest {
         verify(s3Client, times(1)).deleteObject(any(DeleteObjectRequest.class));
     }
 
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 MinIO를 호출하지 않고 실패")
+    void uploadRejectedWhenBulkheadFull() {
+        MinioService saturated = new MinioService(s3Client, s3Presigner, new Bulkhead("minio", 0, Duration.ZERO));
+        MockMultipartFile file = new MockMultipartFile(
+            "file", "test.jpg", "image/jpeg", "test image".getBytes()
+        );
+
+        assertThatThrownBy(() -> saturated.upload(file, "review-bucket"))
+            .isInstanceOf(BulkheadFullException.class);
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
     private URL constructFakeUrl(String urlString) {
         try {
             return new URL(urlString);
@@ -1,4 +1,120 @@
 package shop.ink3.api.coupon.coupon.repository;
 
-public class CouponRepositoryTest {
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import shop.ink3.api.book.book.entity.Book;
+import shop.ink3.api.book.book.entity.BookStatus;
+import shop.ink3.api.book.publisher.entity.Publisher;
+import shop.ink3.api.coupon.bookCoupon.entity.BookCoupon;
+import shop.ink3.api.coupon.bookCoupon.entity.BookCouponRepository;
+import shop.ink3.api.coupon.coupon.entity.Coupon;
+import shop.ink3.api.coupon.policy.entity.CouponPolicy;
+import shop.ink3.api.coupon.policy.entity.DiscountType;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+@ExtendWith(OutputCaptureExtension.class)
+class CouponRepositoryTest {
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private BookCouponRepository bookCouponRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        CouponPolicy policy = em.persist(CouponPolicy.builder()
+                .name("10%")
+                .discountType(DiscountType.RATE)
+                .discountPercentage(10)
+                .maximumDiscountAmount(5000)
+                .createdAt(LocalDateTime.now())
+                .build());
+        Publisher publisher = em.persist(Publisher.builder().name("Test Publisher").build());
+        book = em.persist(Book.builder()
+                .isbn("9780000000001")
+                .title("Java")
+                .contents("")
+                .description("")
+                .publisher(publisher)
+                .publishedAt(LocalDate.of(2024, 1, 1))
+                .originalPrice(10000)
+                .salePrice(9000)
+                .quantity(10)
+                .isPackable(false)
+                .totalRating(0L)
+                .reviewCount(0L)
+                .likeCount(0L)
+                .thumbnailUrl("thumbnail.png")
+                .status(BookStatus.AVAILABLE)
+                .build());
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            Coupon coupon = Coupon.builder()
+                    .name("COUPON_" + i)
+                    .couponPolicy(policy)
+                    .isActive(i != 4)
+                    .issuableFrom(now.minusDays(1))
+                    .expiresAt(i == 3 ? now.minusHours(1) : now.plusDays(7))
+                    .createdAt(now)
+                    .build();
+            coupon.addBookCoupon(List.of(book));
+            em.persist(coupon);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("쿠폰 목록은 id만 DB에서 페이징하고 연결 정보는 IN 쿼리로 조회한다")
+    void findIdPage_paginatesInDatabase(CapturedOutput output) {
+        Page<Long> idPage = couponRepository.findIdPage(PageRequest.of(0, 2, Sort.by("id")));
+        List<Coupon> coupons = couponRepository.findAllWithPolicyByIdIn(idPage.getContent());
+        List<BookCoupon> bookCoupons = bookCouponRepository.findAllWithBookByCouponIdIn(idPage.getContent());
+
+        assertThat(idPage.getContent()).hasSize(2);
+        assertThat(idPage.getTotalElements()).isEqualTo(5);
+        assertThat(coupons).hasSize(2);
+        assertThat(bookCoupons).hasSize(2);
+        assertThat(output).doesNotContain("HHH000104");
+    }
+
+    @Test
+    @DisplayName("도서 쿠폰은 활성·발급 기간 조건을 DB에서 걸러 페이징한다")
+    void findAllValidByBookId_filtersInDatabase(CapturedOutput output) {
+        LocalDateTime now = LocalDateTime.now();
+
+        Page<BookCoupon> page = bookCouponRepository.findAllValidByBookId(book.getId(), now, PageRequest.of(0, 2));
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).allSatisfy(bc -> assertThat(bc.getCoupon().isActive()).isTrue());
+        assertThat(bookCouponRepository.existsIssuableByBookId(book.getId(), now)).isTrue();
+        assertThat(bookCouponRepository.existsIssuableByBookId(-1L, now)).isFalse();
+        assertThat(output).doesNotContain("HHH000104");
+    }
 }
@@ -217,8 +217,14 @@ class CouponServiceTest {
         Coupon c2 = Coupon.builder().id(22L).couponPolicy(policy).build();
 
         Pageable unpaged = Pageable.unpaged();
-        when(couponRepository.findAllWithAssociations(unpaged))
-            .thenReturn(new PageImpl<>(List.of(c1, c2)));
+        when(couponRepository.findIdPage(unpaged))
+            .thenReturn(new PageImpl<>(List.of(11L, 22L)));
+        when(couponRepository.findAllWithPolicyByIdIn(List.of(11L, 22L)))
+            .thenReturn(List.of(c2, c1));
+        when(bookCouponRepository.findAllWithBookByCouponIdIn(List.of(11L, 22L)))
+            .thenReturn(List.of());
+        when(categoryCouponRepository.findAllWithCategoryByCouponIdIn(List.of(11L, 22L)))
+            .thenReturn(List.of());
 
         PageResponse<CouponResponse> page = couponService.getAllCoupons(unpaged);
         List<CouponResponse> list = page.content();
@@ -252,7 +258,7 @@ class CouponServiceTest {
         when(bc.getId()).thenReturn(5L);
 
         Pageable unpaged = Pageable.unpaged();
-        when(bookCouponRepository.findAllByBookId(10L, unpaged))
+        when(bookCouponRepository.findAllValidByBookId(eq(10L), any(LocalDateTime.class), eq(unpaged)))
             .thenReturn(new PageImpl<>(List.of(bc)));
 
         PageResponse<CouponResponse> page =
@@ -269,8 +275,10 @@ class CouponServiceTest {
     @Test
     void getCouponsByBookId_empty_throws() {
         Pageable unpaged = Pageable.unpaged();
-        when(bookCouponRepository.findAllByBookId(123L, unpaged))
+        when(bookCouponRepository.findAllValidByBookId(eq(123L), any(LocalDateTime.class), eq(unpaged)))
             .thenReturn(new PageImpl<>(List.of()));
+        when(bookCouponRepository.existsIssuableByBookId(eq(123L), any(LocalDateTime.class)))
+            .thenReturn(false);
 
         assertThrows(CouponNotFoundException.class,
             () -> couponService.getCouponsByBookId(123L, unpaged));
@@ -279,21 +287,10 @@ class CouponServiceTest {
     @Test
     @DisplayName("getCouponsByBookId - inactive 쿠폰만 있을 때 예외 발생")
     void getCouponsByBookId_onlyInactiveCoupons_throws() {
-        Book book = mock(Book.class);
-
-        Coupon coupon = Coupon.builder()
-            .id(1L)
-            .name("inactive")
-            .issuableFrom(LocalDateTime.now().minusDays(1))
-            .expiresAt(LocalDateTime.now().plusDays(1))
-            .isActive(false)
-            .build();
-
-        BookCoupon bc = mock(BookCoupon.class);
-        when(bc.getCoupon()).thenReturn(coupon);
-
-        when(bookCouponRepository.findAllByBookId(eq(10L), any()))
-            .thenReturn(new PageImpl<>(List.of(bc)));
+        when(bookCouponRepository.findAllValidByBookId(eq(10L), any(LocalDateTime.class), any()))
+            .thenReturn(new PageImpl<>(List.of()));
+        when(bookCouponRepository.existsIssuableByBookId(eq(10L), any(LocalDateTime.class)))
+            .thenReturn(true);
 
         assertThrows(CouponInUseException.class,
             () -> couponService.getCouponsByBookId(10L, Pageable.unpaged()));
@@ -324,7 +321,7 @@ class CouponServiceTest {
         when(cc.getId()).thenReturn(6L);
 
         Pageable unpaged = Pageable.unpaged();
-        when(categoryCouponRepository.findAllByCategoryId(8L, unpaged))
+        when(categoryCouponRepository.findAllValidByCategoryId(eq(8L), any(LocalDateTime.class), eq(unpaged)))
             .thenReturn(new PageImpl<>(List.of(cc)));
 
         PageResponse<CouponResponse> page =
@@ -340,8 +337,10 @@ class CouponServiceTest {
     @Test
     void getCouponsByCategoryId_empty_throws() {
         Pageable unpaged = Pageable.unpaged();
-        when(categoryCouponRepository.findAllByCategoryId(7L, unpaged))
+        when(categoryCouponRepository.findAllValidByCategoryId(eq(7L), any(LocalDateTime.class), eq(unpaged)))
             .thenReturn(new PageImpl<>(List.of()));
+        when(categoryCouponRepository.existsIssuableByCategoryId(eq(7L), any(LocalDateTime.class)))
+            .thenReturn(false);
 
         assertThrows(CouponNotFoundException.class,
             () -> couponService.getCouponsByCategoryId(7L, unpaged));
@@ -350,21 +349,10 @@ class CouponServiceTest {
     @Test
     @DisplayName("getCouponsByCategoryId - inactive 쿠폰만 있을 때 예외 발생")
     void getCouponsByCategoryId_onlyInactiveCoupons_throws() {
-        Category category = mock(Category.class);
-
-        Coupon coupon = Coupon.builder()
-            .id(2L)
-            .name("inactive")
-            .issuableFrom(LocalDateTime.now().minusDays(1))
-            .expiresAt(LocalDateTime.now().plusDays(1))
-            .isActive(false)
-            .build();
-
-        CategoryCoupon cc = mock(CategoryCoupon.class);
-        when(cc.getCoupon()).thenReturn(coupon);
-
-        when(categoryCouponRepository.findAllByCategoryId(eq(1L), any()))
-            .thenReturn(new PageImpl<>(List.of(cc)));
+        when(categoryCouponRepository.findAllValidByCategoryId(eq(1L), any(LocalDateTime.class), any()))
+            .thenReturn(new PageImpl<>(List.of()));
+        when(categoryCouponRepository.existsIssuableByCategoryId(eq(1L), any(LocalDateTime.class)))
+            .thenReturn(true);
 
         assertThrows(CouponInUseException.class,
             () -> couponService.getCouponsByCategoryId(1L, Pageable.unpaged()));
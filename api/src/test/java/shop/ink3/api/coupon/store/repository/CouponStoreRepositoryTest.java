@@ -4,6 +4,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -227,4 +228,67 @@ public class CouponStoreRepositoryTest {
         // then
         assertThat(exists).isFalse();
     }
+
+    @Test
+    @DisplayName("미사용 쿠폰 조회는 기한이 지난 READY 쿠폰과 사용한 쿠폰을 제외한다")
+    void findLiveByUserId_excludesExpiredAndUsed() {
+        Membership membership = em.persistAndFlush(
+                Membership.builder()
+                        .name("Basic")
+                        .conditionAmount(0)
+                        .pointRate(0)
+                        .isActive(true)
+                        .isDefault(true)
+                        .createdAt(LocalDateTime.now())
+                        .build()
+        );
+        User user = em.persistAndFlush(
+                User.builder()
+                        .loginId("tester5")
+                        .password("pass1234")
+                        .name("테스터5")
+                        .email("tester5@example.com")
+                        .phone("010-2222-2222")
+                        .birthday(LocalDate.of(1994, 5, 5))
+                        .createdAt(LocalDateTime.now())
+                        .lastLoginAt(LocalDateTime.now())
+                        .membership(membership)
+                        .status(UserStatus.ACTIVE)
+                        .point(0)
+                        .build()
+        );
+        Coupon live = persistCoupon("LIVE", LocalDateTime.now().plusDays(7));
+        Coupon expired = persistCoupon("EXPIRED", LocalDateTime.now().minusDays(1));
+        CouponStore liveStore = persistStore(user, live, CouponStatus.READY);
+        persistStore(user, expired, CouponStatus.READY);
+        persistStore(user, live, CouponStatus.USED);
+        em.clear();
+
+        List<CouponStore> stores = couponStoreRepository.findLiveByUserId(user.getId(), LocalDateTime.now());
+
+        assertThat(stores.stream().map(CouponStore::getId).toList()).isEqualTo(List.of(liveStore.getId()));
+    }
+
+    private Coupon persistCoupon(String name, LocalDateTime expiresAt) {
+        return em.persistAndFlush(
+                Coupon.builder()
+                        .name(name)
+                        .issuableFrom(LocalDateTime.now().minusDays(30))
+                        .expiresAt(expiresAt)
+                        .isActive(true)
+                        .build()
+        );
+    }
+
+    private CouponStore persistStore(User user, Coupon coupon, CouponStatus status) {
+        return em.persistAndFlush(
+                CouponStore.builder()
+                        .user(user)
+                        .coupon(coupon)
+                        .status(status)
+                        .originType(OriginType.WELCOME)
+                        .issuedAt(LocalDateTime.now())
+                        .build()
+        );
+    }
 }
@@ -0,0 +1,120 @@
+package shop.ink3.api.coupon.store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.ink3.api.coupon.store.dto.CouponExpiryResult;
+import shop.ink3.api.coupon.store.repository.CouponStoreRepository;
+
+class CouponExpiryServiceTest {
+
+    @Mock
+    private CouponStoreRepository couponStoreRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private MeterRegistry meterRegistry;
+
+    private CouponExpiryService couponExpiryService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        couponExpiryService = new CouponExpiryService(
+                couponStoreRepository, transactionTemplate, redisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(couponExpiryService, "chunkSize", 10);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @DisplayName("만료된 READY 보관 쿠폰을 마지막 id 이후 청크 단위로 EXPIRED 처리")
+    @Test
+    @SuppressWarnings("unchecked")
+    void expire_success() {
+        List<Long> first = LongStream.rangeClosed(1, 10).boxed().toList();
+        List<Long> second = LongStream.rangeClosed(101, 110).boxed().toList();
+        List<Long> third = List.of(500L, 900L);
+        PageRequest page = PageRequest.of(0, 10);
+        when(couponStoreRepository.findExpiredReadyIdsAfter(any(LocalDateTime.class), eq(0L), eq(page)))
+                .thenReturn(first);
+        when(couponStoreRepository.findExpiredReadyIdsAfter(any(LocalDateTime.class), eq(10L), eq(page)))
+                .thenReturn(second);
+        when(couponStoreRepository.findExpiredReadyIdsAfter(any(LocalDateTime.class), eq(110L), eq(page)))
+                .thenReturn(third);
+        when(couponStoreRepository.expireReadyByIdIn(anyList())).thenReturn(3);
+
+        CouponExpiryResult result = couponExpiryService.expire();
+
+        verify(couponStoreRepository).expireReadyByIdIn(first);
+        verify(couponStoreRepository).expireReadyByIdIn(second);
+        verify(couponStoreRepository).expireReadyByIdIn(third);
+        verify(couponStoreRepository, never()).findExpiredReadyIdsAfter(any(), eq(900L), any());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("coupon:expiry_lock")), anyString());
+        assertThat(result.expiredRows()).isEqualTo(9);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(meterRegistry.counter("coupon.expiry.rows").count()).isEqualTo(9.0);
+        assertThat(meterRegistry.counter("coupon.expiry.runs", "result", "completed").count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("만료된 READY 보관 쿠폰이 없으면 UPDATE를 실행하지 않음")
+    @Test
+    void expire_empty() {
+        when(couponStoreRepository.findExpiredReadyIdsAfter(any(), anyLong(), any())).thenReturn(List.of());
+
+        CouponExpiryResult result = couponExpiryService.expire();
+
+        verify(couponStoreRepository, never()).expireReadyByIdIn(anyList());
+        assertThat(result.expiredRows()).isZero();
+        assertThat(result.chunks()).isZero();
+    }
+
+    @DisplayName("다른 노드가 락을 잡고 있으면 실행하지 않음")
+    @Test
+    @SuppressWarnings("unchecked")
+    void expire_locked() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        CouponExpiryResult result = couponExpiryService.expire();
+
+        assertThat(result.skipped()).isTrue();
+        verify(couponStoreRepository, never()).findExpiredReadyIdsAfter(any(), anyLong(), any());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), anyString());
+    }
+}
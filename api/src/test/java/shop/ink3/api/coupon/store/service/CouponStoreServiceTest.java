@@ -160,6 +160,33 @@ class CouponStoreServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("issueBulkCoupons")
+    class IssueBulkCouponsTest {
+
+        @Test
+        @DisplayName("이미 READY 쿠폰을 가진 회원과 중복 id를 제외하고 한 번에 저장")
+        void issueBulkCoupons_skipsAlreadyIssued() {
+            List<Long> userIds = List.of(1L, 2L, 2L, 3L);
+            when(couponRepository.findById(coupon.getId())).thenReturn(Optional.of(coupon));
+            when(couponStoreRepository.findUserIdsByStatusAndOriginTypeAndUserIdIn(
+                CouponStatus.READY, OriginType.BIRTHDAY, userIds)).thenReturn(List.of(3L));
+
+            int issued = couponStoreService.issueBulkCoupons(coupon.getId(), OriginType.BIRTHDAY, userIds);
+
+            assertThat(issued).isEqualTo(2);
+            verify(couponStoreRepository).saveAll(argThat(stores -> stores instanceof List<?> list && list.size() == 2));
+            verify(userRepository, never()).getReferenceById(3L);
+        }
+
+        @Test
+        @DisplayName("대상 회원이 없으면 조회 없이 0 반환")
+        void issueBulkCoupons_empty() {
+            assertThat(couponStoreService.issueBulkCoupons(coupon.getId(), OriginType.BIRTHDAY, List.of())).isZero();
+            verifyNoInteractions(couponRepository, couponStoreRepository);
+        }
+    }
+
     @Nested
     @DisplayName("updateStore")
     class UpdateStoreTest {
@@ -278,7 +305,7 @@ class CouponStoreServiceTest {
         @Test
         @DisplayName("미사용 쿠폰 스토어 조회")
         void getUnusedStoresByUserId_success() {
-            when(couponStoreRepository.findByUserIdAndStatus(1L, CouponStatus.READY))
+            when(couponStoreRepository.findLiveByUserId(eq(1L), any(LocalDateTime.class)))
                 .thenReturn(List.of(CouponStore.builder().id(1L).status(CouponStatus.READY).build()));
 
             List<CouponStore> result = couponStoreService.getUnusedStoresByUserId(1L);
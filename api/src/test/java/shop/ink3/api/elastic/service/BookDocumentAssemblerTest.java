@@ -0,0 +1,116 @@
+package shop.ink3.api.elastic.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import shop.ink3.api.book.author.entity.Author;
+import shop.ink3.api.book.book.entity.Book;
+import shop.ink3.api.book.book.entity.BookStatus;
+import shop.ink3.api.book.bookauthor.entity.BookAuthor;
+import shop.ink3.api.book.bookauthor.repository.BookAuthorRepository;
+import shop.ink3.api.book.bookcategory.entity.BookCategory;
+import shop.ink3.api.book.bookcategory.repository.BookCategoryRepository;
+import shop.ink3.api.book.booktag.entity.BookTag;
+import shop.ink3.api.book.booktag.repository.BookTagRepository;
+import shop.ink3.api.book.category.entity.Category;
+import shop.ink3.api.book.category.repository.CategoryRepository;
+import shop.ink3.api.book.publisher.entity.Publisher;
+import shop.ink3.api.book.tag.entity.Tag;
+import shop.ink3.api.elastic.model.BookDocument;
+
+class BookDocumentAssemblerTest {
+    @Mock
+    private BookAuthorRepository bookAuthorRepository;
+
+    @Mock
+    private BookCategoryRepository bookCategoryRepository;
+
+    @Mock
+    private BookTagRepository bookTagRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @InjectMocks
+    private BookDocumentAssembler assembler;
+
+    private Book book;
+    private Map<Long, Category> categories;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        book = Book.builder()
+                .id(1L)
+                .isbn("9780000000001")
+                .title("테스트 도서")
+                .description("설명")
+                .publisher(Publisher.builder().id(1L).name("출판사").build())
+                .publishedAt(LocalDate.of(2024, 1, 1))
+                .originalPrice(10000)
+                .salePrice(9000)
+                .totalRating(9L)
+                .reviewCount(2L)
+                .likeCount(3L)
+                .thumbnailUrl("thumb.png")
+                .status(BookStatus.AVAILABLE)
+                .build();
+
+        Category root = Category.builder().id(1L).name("국내도서").path("").build();
+        Category child = Category.builder().id(2L).name("소설").parent(root).path("/1").build();
+        categories = Map.of(1L, root, 2L, child);
+
+        Author author = Author.builder().id(1L).name("홍길동").build();
+        when(bookAuthorRepository.findAllByBookIdIn(anyCollection()))
+                .thenReturn(List.of(new BookAuthor(book, author, "지은이")));
+        when(bookCategoryRepository.findAllByBookIdIn(anyCollection()))
+                .thenReturn(List.of(new BookCategory(book, child)));
+        when(bookTagRepository.findAllByBookIdIn(anyCollection()))
+                .thenReturn(List.of(new BookTag(book, Tag.builder().id(1L).name("베스트").build())));
+    }
+
+    @Test
+    @DisplayName("연관 엔티티를 묶음으로 읽어 색인 문서를 만든다")
+    void assemble() {
+        List<BookDocument> documents = assembler.assemble(List.of(book), categories, Map.of());
+
+        assertThat(documents).hasSize(1);
+        BookDocument document = documents.getFirst();
+        assertThat(document.getAuthors()).containsExactly("홍길동");
+        assertThat(document.getAuthorDisplays()).containsExactly("홍길동 (지은이)");
+        assertThat(document.getCategories()).containsExactly("국내도서", "소설");
+        assertThat(document.getTags()).containsExactly("베스트");
+        assertThat(document.getPublisher()).isEqualTo("출판사");
+        assertThat(document.getRating()).isEqualTo(4.5);
+        assertThat(document.getThumbnailKey()).isEqualTo("thumb.png");
+        assertThat(document.getViewCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("기존 문서의 조회수/검색수/인기 점수를 이어받는다")
+    void assembleKeepsCounters() {
+        BookDocument previous = BookDocument.builder()
+                .id(1L)
+                .viewCount(10L)
+                .searchCount(20L)
+                .popularityScore(30L)
+                .build();
+
+        BookDocument document = assembler.assemble(List.of(book), categories, Map.of(1L, previous)).getFirst();
+
+        assertThat(document.getViewCount()).isEqualTo(10L);
+        assertThat(document.getSearchCount()).isEqualTo(20L);
+        assertThat(document.getPopularityScore()).isEqualTo(30L);
+    }
+}
@@ -0,0 +1,147 @@
+package shop.ink3.api.elastic.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import shop.ink3.api.book.book.dto.BookPreviewResponse;
+import shop.ink3.api.common.cache.CacheNames;
+import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.elastic.event.BookRankingUpdatedEvent;
+import shop.ink3.api.elastic.model.BookSortOption;
+import shop.ink3.api.elastic.model.SearchCacheKey;
+
+class BookSearchCacheServiceTest {
+    @Mock
+    private BookSearchService bookSearchService;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private Cache searchCache;
+
+    @InjectMocks
+    private BookSearchCacheService bookSearchCacheService;
+
+    private final PageResponse<BookPreviewResponse> page =
+            new PageResponse<>(List.of(), 0, 10, 0, 0, false, false);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(cacheManager.getCache(CacheNames.BOOK_SEARCH)).thenReturn(searchCache);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation ->
+                ((SessionCallback<Object>) invocation.getArgument(0)).execute(redisTemplate));
+    }
+
+    @Test
+    @DisplayName("검색어는 공백/대소문자를 정규화해 같은 키로 캐싱")
+    void normalizedKey() {
+        SearchCacheKey key = SearchCacheKey.ofKeyword("  Spring   Boot ", null, 0, 10);
+
+        assertThat(key.toKey()).isEqualTo("KEYWORD:POPULARITY:0:10:spring boot");
+        assertThat(SearchCacheKey.parse(key.toKey())).isEqualTo(key);
+        assertThat(SearchCacheKey.parse("KEYWORD:NEWEST:1:20:a:b").term()).isEqualTo("a:b");
+    }
+
+    @Test
+    @DisplayName("캐시 hit이면 검색하지 않음")
+    void cacheHit() throws IOException {
+        when(searchCache.get("KEYWORD:POPULARITY:0:10:java", PageResponse.class)).thenReturn(page);
+
+        PageResponse<BookPreviewResponse> result =
+                bookSearchCacheService.searchBooksByKeyword("JAVA", 0, 10, BookSortOption.POPULARITY);
+
+        assertThat(result).isSameAs(page);
+        verify(bookSearchService, never()).searchBooksByKeyword(anyString(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("질의 횟수는 검색마다 쓰지 않고 갱신 주기에 모아서 보냄")
+    @SuppressWarnings("unchecked")
+    void queryHitsAreFlushedOnRefresh() throws IOException {
+        when(searchCache.get(anyString(), eq(PageResponse.class))).thenReturn(page);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        bookSearchCacheService.searchBooksByKeyword("java", 0, 10, BookSortOption.POPULARITY);
+        bookSearchCacheService.searchBooksByKeyword("JAVA ", 0, 10, BookSortOption.POPULARITY);
+        bookSearchCacheService.searchBooksByCategory("소설", 0, 10, BookSortOption.NEWEST);
+        verify(zSetOperations, never()).incrementScore(anyString(), anyString(), anyDouble());
+
+        bookSearchCacheService.refreshHeadQueries();
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+        verify(zSetOperations).incrementScore("book:search_query_hits", "KEYWORD:POPULARITY:0:10:java", 2.0);
+        verify(zSetOperations).incrementScore("book:search_query_hits", "CATEGORY:NEWEST:0:10:소설", 1.0);
+
+        // 보낸 횟수는 다음 주기에 다시 보내지 않는다
+        bookSearchCacheService.refreshHeadQueries();
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("캐시 miss이면 검색 후 저장")
+    void cacheMiss() throws IOException {
+        when(bookSearchService.searchBooksByKeyword("java", 0, 10, BookSortOption.POPULARITY)).thenReturn(page);
+
+        bookSearchCacheService.searchBooksByKeyword("java", 0, 10, BookSortOption.POPULARITY);
+
+        verify(searchCache).put("KEYWORD:POPULARITY:0:10:java", page);
+    }
+
+    @Test
+    @DisplayName("상위 질의는 만료 전에 다시 채움")
+    void refreshHeadQueries() throws IOException {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(zSetOperations.reverseRange(anyString(), anyLong(), anyLong()))
+                .thenReturn(new LinkedHashSet<>(List.of("CATEGORY:NEWEST:0:10:소설")));
+        when(bookSearchService.searchBooksByCategory("소설", 0, 10, BookSortOption.NEWEST)).thenReturn(page);
+
+        bookSearchCacheService.refreshHeadQueries();
+
+        verify(searchCache).put("CATEGORY:NEWEST:0:10:소설", page);
+    }
+
+    @Test
+    @DisplayName("랭킹 갱신 시 검색 캐시 전체 무효화")
+    void evictOnRankingUpdated() {
+        bookSearchCacheService.evictOnRankingUpdated(new BookRankingUpdatedEvent(3));
+
+        verify(searchCache).clear();
+    }
+}
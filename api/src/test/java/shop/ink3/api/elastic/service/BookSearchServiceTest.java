@@ -0,0 +1,303 @@
+package shop.ink3.api.elastic.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.ErrorResponse;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch.core.ClosePointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+import shop.ink3.api.book.book.dto.BookPreviewResponse;
+import shop.ink3.api.book.book.entity.Book;
+import shop.ink3.api.book.book.entity.BookStatus;
+import shop.ink3.api.book.book.repository.BookRepository;
+import shop.ink3.api.book.bookauthor.repository.BookAuthorRepository;
+import shop.ink3.api.common.dto.CursorPageResponse;
+import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.resilience.Bulkhead;
+import shop.ink3.api.common.uploader.MinioService;
+import shop.ink3.api.elastic.exception.InvalidSearchCursorException;
+import shop.ink3.api.elastic.exception.SearchWindowExceededException;
+import shop.ink3.api.elastic.model.BookDocument;
+import shop.ink3.api.elastic.model.BookOverlay;
+import shop.ink3.api.elastic.model.BookSortOption;
+import shop.ink3.api.elastic.model.SearchCacheKey;
+import shop.ink3.api.elastic.model.SearchCursor;
+import shop.ink3.api.elastic.repository.BookSearchRedisRepository;
+
+@SuppressWarnings("unchecked")
+class BookSearchServiceTest {
+    @Mock
+    private ElasticsearchClient client;
+
+    @Spy
+    private Bulkhead elasticsearchBulkhead = new Bulkhead("elasticsearch", 4, Duration.ZERO);
+
+    @Mock
+    private BookSearchRedisRepository bookSearchRedisRepository;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private MinioService minioService;
+
+    @Mock
+    private BookAuthorRepository bookAuthorRepository;
+
+    @Mock
+    private BookOverlayCache bookOverlayCache;
+
+    @InjectMocks
+    private BookSearchService bookSearchService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(bookSearchService, "index", "books");
+        ReflectionTestUtils.setField(bookSearchService, "bucket", "bucket");
+    }
+
+    @Test
+    @DisplayName("from/size 검색이 result window를 넘으면 예외")
+    void searchBeyondWindow() {
+        assertThatThrownBy(() -> bookSearchService.searchBooksByKeyword("java", 1000, 10, BookSortOption.POPULARITY))
+                .isInstanceOf(SearchWindowExceededException.class);
+    }
+
+    @Test
+    @DisplayName("첫 커서 검색은 PIT을 열고 다음 커서를 반환")
+    void firstCursorPageOpensPit() throws IOException {
+        OpenPointInTimeResponse pit = mock(OpenPointInTimeResponse.class);
+        when(pit.id()).thenReturn("pit-1");
+        when(client.openPointInTime(any(OpenPointInTimeRequest.class))).thenReturn(pit);
+        stubSearch(List.of(hit(1L, 10L, 3L), hit(2L, 9L, 4L)), "pit-2");
+
+        CursorPageResponse<BookPreviewResponse> result =
+                bookSearchService.searchBooksByKeywordAfter("java", null, 2, BookSortOption.POPULARITY);
+
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(captor.capture(), eq(BookDocument.class));
+        SearchRequest request = captor.getValue();
+        assertThat(request.pit().id()).isEqualTo("pit-1");
+        assertThat(request.from()).isNull();
+        assertThat(request.searchAfter()).isEmpty();
+
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.hasNext()).isTrue();
+        SearchCursor next = SearchCursor.decode(result.nextCursor());
+        assertThat(next.pitId()).isEqualTo("pit-2");
+        assertThat(next.toFieldValues()).extracting(FieldValue::longValue).containsExactly(9L, 4L);
+    }
+
+    @Test
+    @DisplayName("커서로 다음 페이지를 읽고 마지막 페이지에서 PIT을 닫음")
+    void lastCursorPageClosesPit() throws IOException {
+        String cursor = SearchCursor.of("pit-2", BookSortOption.NEWEST, javaNewest(),
+                List.of(FieldValue.of(9L), FieldValue.of(4L))).encode();
+        stubSearch(List.of(hit(3L, 8L, 5L)), "pit-3");
+
+        CursorPageResponse<BookPreviewResponse> result =
+                bookSearchService.searchBooksByKeywordAfter("java", cursor, 2, null);
+
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(captor.capture(), eq(BookDocument.class));
+        SearchRequest request = captor.getValue();
+        assertThat(request.searchAfter()).extracting(FieldValue::longValue).containsExactly(9L, 4L);
+        assertThat(request.sort().getFirst().field().field()).isEqualTo(BookSortOption.NEWEST.getSortField());
+
+        verify(client, never()).openPointInTime(any(OpenPointInTimeRequest.class));
+        verify(client).closePointInTime(any(ClosePointInTimeRequest.class));
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        assertThat(result.totalExact()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서의 PIT이 만료되면 커서 오류로 변환")
+    void expiredPitIsInvalidCursor() throws IOException {
+        String cursor = SearchCursor.of("pit-2", BookSortOption.NEWEST, javaNewest(),
+                List.of(FieldValue.of(9L))).encode();
+        when(client.search(any(SearchRequest.class), eq(BookDocument.class)))
+                .thenThrow(new ElasticsearchException("search", ErrorResponse.of(e -> e
+                        .status(404)
+                        .error(c -> c.type("search_phase_execution_exception")
+                                .reason("all shards failed")
+                                .rootCause(r -> r.type("search_context_missing_exception")
+                                        .reason("No search context found"))))));
+
+        assertThatThrownBy(() -> bookSearchService.searchBooksByKeywordAfter("java", cursor, 2, null))
+                .isInstanceOf(InvalidSearchCursorException.class);
+    }
+
+    @Test
+    @DisplayName("search_context_missing이 아닌 404는 커서 오류로 바꾸지 않음")
+    void missingIndexIsRethrown() throws IOException {
+        String cursor = SearchCursor.of("pit-2", BookSortOption.NEWEST, javaNewest(),
+                List.of(FieldValue.of(9L))).encode();
+        when(client.search(any(SearchRequest.class), eq(BookDocument.class)))
+                .thenThrow(esError(404, "index_not_found_exception"));
+
+        assertThatThrownBy(() -> bookSearchService.searchBooksByKeywordAfter("java", cursor, 2, null))
+                .isInstanceOf(ElasticsearchException.class);
+    }
+
+    @Test
+    @DisplayName("다른 검색어나 정렬에 커서를 재사용하면 커서 오류")
+    void cursorBoundToQuery() throws IOException {
+        String cursor = SearchCursor.of("pit-2", BookSortOption.NEWEST, javaNewest(),
+                List.of(FieldValue.of(9L))).encode();
+
+        assertThatThrownBy(() -> bookSearchService.searchBooksByKeywordAfter("spring", cursor, 2, null))
+                .isInstanceOf(InvalidSearchCursorException.class);
+        assertThatThrownBy(() -> bookSearchService.searchBooksByKeywordAfter(
+                "java", cursor, 2, BookSortOption.POPULARITY))
+                .isInstanceOf(InvalidSearchCursorException.class);
+        assertThatThrownBy(() -> bookSearchService.searchBooksByCategoryAfter("java", cursor, 2, null))
+                .isInstanceOf(InvalidSearchCursorException.class);
+        verify(client, never()).search(any(SearchRequest.class), eq(BookDocument.class));
+    }
+
+    @Test
+    @DisplayName("커서와 무관한 ES 오류는 그대로 전달")
+    void otherErrorsAreRethrown() throws IOException {
+        String cursor = SearchCursor.of("pit-2", BookSortOption.NEWEST, javaNewest(),
+                List.of(FieldValue.of(9L))).encode();
+        when(client.search(any(SearchRequest.class), eq(BookDocument.class)))
+                .thenThrow(esError(400, "parsing_exception"));
+
+        assertThatThrownBy(() -> bookSearchService.searchBooksByKeywordAfter("java", cursor, 2, null))
+                .isInstanceOf(ElasticsearchException.class);
+    }
+
+    @Test
+    @DisplayName("미리보기 필드가 색인된 문서는 DB 조회 없이 결과 구성")
+    void previewFromIndexOnly() throws IOException {
+        Hit<BookDocument> hit = hit(1L, 10L);
+        ReflectionTestUtils.setField(hit.source(), "title", "도서1");
+        ReflectionTestUtils.setField(hit.source(), "price", 18000);
+        ReflectionTestUtils.setField(hit.source(), "originalPrice", 20000);
+        ReflectionTestUtils.setField(hit.source(), "thumbnailKey", "https://image.test/1");
+        ReflectionTestUtils.setField(hit.source(), "authorDisplays", List.of("홍길동 (지은이)"));
+        stubSearch(List.of(hit), null);
+
+        PageResponse<BookPreviewResponse> result =
+                bookSearchService.searchBooksByKeyword("java", 0, 10, BookSortOption.POPULARITY);
+
+        BookPreviewResponse preview = result.content().getFirst();
+        assertThat(preview.discountRate()).isEqualTo(10);
+        assertThat(preview.authors()).containsExactly("홍길동 (지은이)");
+        verify(bookRepository, never()).findAllById(any());
+        verify(bookAuthorRepository, never()).findAllByBookIdIn(any());
+    }
+
+    @Test
+    @DisplayName("DB 최신 값으로 가격을 덮어쓰고 색인에 아직 남은 삭제 도서는 결과에서 뺌")
+    void overlayAppliesPriceAndHidesDeleted() throws IOException {
+        ReflectionTestUtils.setField(bookSearchService, "overlayEnabled", true);
+        Hit<BookDocument> kept = previewHit(1L);
+        Hit<BookDocument> deleted = previewHit(2L);
+        stubSearch(List.of(kept, deleted), null);
+        when(bookOverlayCache.getAll(List.of(1L, 2L))).thenReturn(Map.of(
+                1L, new BookOverlay(1L, 20000, 15000, BookStatus.SOLD_OUT, 3L),
+                2L, new BookOverlay(2L, 20000, 18000, BookStatus.DELETED, 0L)
+        ));
+
+        PageResponse<BookPreviewResponse> result =
+                bookSearchService.searchBooksByKeyword("java", 0, 10, BookSortOption.POPULARITY);
+
+        assertThat(result.content()).hasSize(1);
+        BookPreviewResponse preview = result.content().getFirst();
+        assertThat(preview.salePrice()).isEqualTo(15000);
+        assertThat(preview.discountRate()).isEqualTo(25);
+        assertThat(preview.likeCount()).isEqualTo(3L);
+    }
+
+    private Hit<BookDocument> previewHit(long id) {
+        Hit<BookDocument> hit = hit(id, id);
+        ReflectionTestUtils.setField(hit.source(), "title", "도서" + id);
+        ReflectionTestUtils.setField(hit.source(), "price", 18000);
+        ReflectionTestUtils.setField(hit.source(), "originalPrice", 20000);
+        ReflectionTestUtils.setField(hit.source(), "thumbnailKey", "https://image.test/" + id);
+        ReflectionTestUtils.setField(hit.source(), "authorDisplays", List.of("홍길동 (지은이)"));
+        return hit;
+    }
+
+    private String javaNewest() {
+        return SearchCursor.queryHash(SearchCacheKey.Type.KEYWORD, "java", BookSortOption.NEWEST);
+    }
+
+    private ElasticsearchException esError(int status, String type) {
+        return new ElasticsearchException("search", ErrorResponse.of(e -> e
+                .status(status)
+                .error(c -> c.type(type).reason(type))));
+    }
+
+    private void stubSearch(List<Hit<BookDocument>> hits, String pitId) throws IOException {
+        SearchResponse<BookDocument> response = mock(SearchResponse.class);
+        when(response.hits()).thenReturn(HitsMetadata.of(h -> h
+                .hits(hits)
+                .total(t -> t.value(25).relation(TotalHitsRelation.Eq))));
+        when(response.pitId()).thenReturn(pitId);
+        when(client.search(any(SearchRequest.class), eq(BookDocument.class))).thenReturn(response);
+
+        List<Long> ids = hits.stream().map(hit -> hit.source().getId()).toList();
+        when(bookRepository.findAllById(ids)).thenReturn(ids.stream().map(this::book).toList());
+    }
+
+    private Hit<BookDocument> hit(long id, long... sortValues) {
+        BookDocument document = new BookDocument();
+        ReflectionTestUtils.setField(document, "id", id);
+        List<FieldValue> sort = Arrays.stream(sortValues).mapToObj(FieldValue::of).toList();
+        return Hit.of(h -> h.index("books").id(String.valueOf(id)).source(document).sort(sort));
+    }
+
+    private Book book(long id) {
+        return Book.builder()
+                .id(id)
+                .isbn("978000000000" + id)
+                .title("도서" + id)
+                .contents("contents")
+                .description("description")
+                .publishedAt(LocalDate.of(2025, 1, 1))
+                .originalPrice(20000)
+                .salePrice(18000)
+                .quantity(10)
+                .isPackable(true)
+                .totalRating(0L)
+                .reviewCount(0L)
+                .likeCount(0L)
+                .thumbnailUrl("https://image.test/" + id)
+                .status(BookStatus.AVAILABLE)
+                .build();
+    }
+}
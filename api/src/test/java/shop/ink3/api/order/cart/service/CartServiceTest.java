@@ -6,7 +6,9 @@ import static org.mockito.Mockito.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -40,7 +42,7 @@ import shop.ink3.api.user.user.repository.UserRepository;
 
 class CartServiceTest {
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private RedisTemplate<String, CartResponse> cartRedisTemplate;
 
     @Mock
     private HashOperations<String, String, CartResponse> hashOperations;
@@ -72,7 +74,7 @@ class CartServiceTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
 
-        when(redisTemplate.opsForHash()).thenReturn((HashOperations)hashOperations);
+        when(cartRedisTemplate.opsForHash()).thenReturn((HashOperations)hashOperations);
 
         user = User.builder()
             .id(1L)
@@ -212,7 +214,7 @@ class CartServiceTest {
         Cart cart = Cart.builder().user(user).book(book1).quantity(1).build();
         ReflectionTestUtils.setField(cart, "id", 1L);
 
-        when(redisTemplate.hasKey("cart:user:" + user.getId())).thenReturn(false);
+        when(cartRedisTemplate.hasKey("cart:user:" + user.getId())).thenReturn(false);
         when(cartRepository.findByUserId(user.getId())).thenReturn(List.of(cart));
         when(minioService.getPresignedUrl(any(), any())).thenReturn("https://cdn.com/image.jpg");
 
@@ -220,7 +222,28 @@ class CartServiceTest {
 
         assertThat(result).hasSize(1);
         assertThat(result.getFirst().bookId()).isEqualTo(book1.getId());
-        verify(redisTemplate).expire(eq("cart:user:" + user.getId()), any());
+        verify(cartRedisTemplate).expire(eq("cart:user:" + user.getId()), any());
+    }
+
+    @Test
+    @DisplayName("스키마 버전이 다른 캐시 항목이 있으면 DB에서 다시 조회")
+    void getCartItems_staleSchema_thenReload() {
+        Cart cart = Cart.builder().user(user).book(book1).quantity(1).build();
+        ReflectionTestUtils.setField(cart, "id", 1L);
+
+        Map<String, CartResponse> stale = new HashMap<>();
+        stale.put("1", null);
+
+        when(cartRedisTemplate.hasKey("cart:user:" + user.getId())).thenReturn(true);
+        when(hashOperations.entries("cart:user:" + user.getId())).thenReturn(stale);
+        when(cartRepository.findByUserId(user.getId())).thenReturn(List.of(cart));
+        when(minioService.getPresignedUrl(any(), any())).thenReturn("https://cdn.com/image.jpg");
+
+        List<CartResponse> result = cartService.getCartItems(user.getId());
+
+        assertThat(result).hasSize(1);
+        verify(cartRedisTemplate).delete("cart:user:" + user.getId());
+        verify(cartRepository).findByUserId(user.getId());
     }
 
     @Test
@@ -231,7 +254,7 @@ class CartServiceTest {
         cartService.deleteCartItems(1L);
 
         verify(cartRepository).deleteAllByUserId(1L);
-        verify(redisTemplate).delete("cart:user:1");
+        verify(cartRedisTemplate).delete("cart:user:1");
     }
 
     @Test
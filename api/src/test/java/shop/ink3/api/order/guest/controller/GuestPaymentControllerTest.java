@@ -19,6 +19,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import shop.ink3.api.order.guest.dto.GuestPaymentConfirmRequest;
 import shop.ink3.api.payment.dto.PaymentResponse;
 import shop.ink3.api.payment.entity.PaymentType;
+import shop.ink3.api.payment.service.PaymentConfirmService;
 import shop.ink3.api.payment.service.PaymentService;
 
 @WebMvcTest(GuestPaymentController.class)
@@ -30,6 +31,9 @@ class GuestPaymentControllerTest {
     @MockitoBean
     private PaymentService paymentService;
 
+    @MockitoBean
+    private PaymentConfirmService paymentConfirmService;
+
     private ObjectMapper objectMapper;
     private GuestPaymentConfirmRequest confirmRequest;
     private PaymentResponse paymentResponse;
@@ -62,8 +66,7 @@ class GuestPaymentControllerTest {
     @Test
     @DisplayName("게스트 결제 승인 성공")
     void confirmGuestPaymentSuccess() throws Exception {
-        when(paymentService.callPaymentAPI(any())).thenReturn("mock-approve-response");
-        when(paymentService.createPayment(any(), eq("mock-approve-response"))).thenReturn(paymentResponse);
+        when(paymentConfirmService.confirmPayment(any())).thenReturn(paymentResponse);
 
         mockMvc.perform(MockMvcRequestBuilders.post("/guest-payment/confirm")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -7,6 +7,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import shop.ink3.api.common.policy.PolicySnapshotRegistry;
 import shop.ink3.api.order.guest.dto.GuestOrderCreateRequest;
 import shop.ink3.api.order.guest.dto.GuestOrderDetailsResponse;
 import shop.ink3.api.order.guest.dto.GuestOrderResponse;
@@ -32,6 +33,8 @@ class GuestOrderServiceTest {
     private GuestOrderRepository guestOrderRepository;
     @Mock
     private OrderRepository orderRepository;
+    @Mock
+    private PolicySnapshotRegistry policySnapshotRegistry;
 
     @InjectMocks
     private GuestOrderService guestOrderService;
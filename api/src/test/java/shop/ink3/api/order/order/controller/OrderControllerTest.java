@@ -2,10 +2,14 @@ package shop.ink3.api.order.order.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -13,10 +17,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,12 +35,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.export.ExportFormat;
+import shop.ink3.api.common.export.ExportPeriod;
 import shop.ink3.api.order.order.dto.OrderCreateRequest;
 import shop.ink3.api.order.order.dto.OrderDateRequest;
 import shop.ink3.api.order.order.dto.OrderFormCreateRequest;
@@ -272,6 +284,50 @@ class OrderControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("기간 내 전체 주문 내보내기 - 성공")
+    void exportOrders() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(3);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(orderService).exportOrders(any(), any(), any(), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/orders/export")
+                        .param("format", "ndjson")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-31")
+                        .param("status", "DELIVERED"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        Matchers.startsWith("attachment; filename=\"orders-")))
+                .andExpect(content().string("{\"id\":1}\n"))
+                .andDo(print());
+        verify(orderService).exportOrders(
+                eq(new ExportPeriod(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))),
+                eq(OrderStatus.DELIVERED), eq(ExportFormat.NDJSON), any());
+    }
+
+    @Test
+    @DisplayName("기간 내 전체 주문 내보내기 - 시작일이 종료일보다 늦으면 실패")
+    void exportOrders_잘못된기간() throws Exception {
+        // when, then
+        mockMvc.perform(get("/orders/export")
+                        .param("from", "2024-02-01")
+                        .param("to", "2024-01-01"))
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+        verify(orderService, never()).exportOrders(any(), any(), any(), any());
+    }
+
     @Test
     @DisplayName("주문 상태별 전체 주문 리스트 조회 - 성공")
     void getOrderListByStatus_성공() throws Exception {
@@ -25,6 +25,8 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.httpcache.CatalogVersionService;
+import shop.ink3.api.common.policy.PolicySnapshotRegistry;
 import shop.ink3.api.order.order.dto.OrderCreateRequest;
 import shop.ink3.api.order.order.dto.OrderDateRequest;
 import shop.ink3.api.order.order.dto.OrderResponse;
@@ -47,6 +49,10 @@ class OrderServiceTest {
     private OrderRepository orderRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private PolicySnapshotRegistry policySnapshotRegistry;
+    @Mock
+    private CatalogVersionService catalogVersionService;
 
     @InjectMocks
     private OrderService orderService;
@@ -320,6 +326,22 @@ class OrderServiceTest {
         assertEquals(order.getId(), orderResponse.getId());
     }
 
+    @Test
+    @DisplayName("주문 상태 변경 - 배송 완료로 바뀌면 랭킹 버전 갱신")
+    void updateOrderStatus_배송완료() {
+        // given
+        User user = User.builder().id(1L).build();
+        Order order = Order.builder().id(1L).user(user).status(OrderStatus.SHIPPING).build();
+        when(orderRepository.findById(anyLong())).thenReturn(Optional.of(order));
+        when(orderRepository.save(any(Order.class))).thenReturn(order);
+
+        // when
+        orderService.updateOrderStatus(order.getId(), new OrderStatusUpdateRequest(OrderStatus.DELIVERED));
+
+        // then
+        verify(catalogVersionService).rankingChanged();
+    }
+
     @Test
     @DisplayName("주문 상태 변경 - 실패")
     void updateOrderStatus_실패() {
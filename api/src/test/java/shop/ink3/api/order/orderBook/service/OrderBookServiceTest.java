@@ -89,7 +89,7 @@ class OrderBookServiceTest {
 
         orderBookService.createOrderBook(1L, List.of(req));
 
-        verify(orderBookRepository).save(any(OrderBook.class));
+        verify(orderBookRepository).saveAll(anyList());
     }
 
     @Test
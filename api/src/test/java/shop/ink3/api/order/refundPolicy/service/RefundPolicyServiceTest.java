@@ -12,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 import shop.ink3.api.common.dto.PageResponse;
@@ -28,6 +29,9 @@ class RefundPolicyServiceTest {
     @Mock
     RefundPolicyRepository refundPolicyRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     RefundPolicyService refundPolicyService;
 
@@ -32,6 +32,7 @@ import shop.ink3.api.order.shipment.dto.ShipmentResponse;
 import shop.ink3.api.order.shipment.dto.ShipmentUpdateRequest;
 import shop.ink3.api.order.shipment.entity.Shipment;
 import shop.ink3.api.order.shipment.exception.ShipmentNotFoundException;
+import shop.ink3.api.order.shipment.service.AutoShipmentService;
 import shop.ink3.api.order.shipment.service.ShipmentService;
 
 @WebMvcTest(ShipmentController.class)
@@ -40,6 +41,9 @@ class ShipmentControllerTest {
     @MockitoBean
     ShipmentService shipmentService;
 
+    @MockitoBean
+    AutoShipmentService autoShipmentService;
+
     @Autowired
     ObjectMapper objectMapper;
 
@@ -1,114 +1,178 @@
 package shop.ink3.api.order.shipment.service;
 
-import static org.mockito.Mockito.*;
-
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-
-import shop.ink3.api.order.order.dto.OrderStatusUpdateRequest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.ink3.api.common.httpcache.CatalogVersionService;
 import shop.ink3.api.order.order.entity.OrderStatus;
-import shop.ink3.api.order.order.service.OrderService;
-import shop.ink3.api.order.shipment.dto.ShipmentResponse;
+import shop.ink3.api.order.order.repository.OrderRepository;
+import shop.ink3.api.order.shipment.dto.ShipmentTransitionResult;
+import shop.ink3.api.order.shipment.repository.ShipmentRepository;
 
 class AutoShipmentServiceTest {
 
-    @InjectMocks
-    private AutoShipmentService autoShipmentService;
+    @Mock
+    private ShipmentRepository shipmentRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
 
     @Mock
-    private ShipmentService shipmentService;
+    private TransactionTemplate transactionTemplate;
 
     @Mock
-    private OrderService orderService;
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    private MeterRegistry meterRegistry;
+
+    private AutoShipmentService autoShipmentService;
 
     @BeforeEach
+    @SuppressWarnings("unchecked")
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        autoShipmentService = new AutoShipmentService(
+                shipmentRepository, orderRepository, transactionTemplate, redisTemplate, meterRegistry,
+                catalogVersionService);
+        ReflectionTestUtils.setField(autoShipmentService, "chunkSize", 10);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
     }
 
-    @DisplayName("CONFIRMED 상태의 주문을 SHIPPING 상태로 변경")
+    @DisplayName("CONFIRMED 상태의 주문을 마지막 id 이후 청크 단위로 SHIPPING 상태로 변경")
     @Test
+    @SuppressWarnings("unchecked")
     void autoBatchToSHIPPING_success() {
-        ShipmentResponse response = new ShipmentResponse(
-            1L,
-            1L,
-            LocalDate.now(),
-            null,                     // deliveredAt
-            "홍길동",                  // recipientName
-            "010-1234-5678",         // recipientPhone
-            12345,                   // postalCode
-            "서울시 강남구",           // defaultAddress
-            "101동 202호",            // detailAddress
-            "역삼동",                 // extraAddress
-            3000,                    // shippingFee
-            "CJ123456789"            // shippingCode
-        );
-        when(shipmentService.getShipmentByOrderStatus(OrderStatus.CONFIRMED))
-            .thenReturn(List.of(response));
+        List<Long> first = LongStream.rangeClosed(1, 10).boxed().toList();
+        List<Long> second = LongStream.rangeClosed(11, 20).boxed().toList();
+        List<Long> third = List.of(21L, 25L);
+        PageRequest page = PageRequest.of(0, 10);
+        when(shipmentRepository.findIdsByOrderStatusAfter(OrderStatus.CONFIRMED, 0L, page)).thenReturn(first);
+        when(shipmentRepository.findIdsByOrderStatusAfter(OrderStatus.CONFIRMED, 10L, page)).thenReturn(second);
+        when(shipmentRepository.findIdsByOrderStatusAfter(OrderStatus.CONFIRMED, 20L, page)).thenReturn(third);
+        when(orderRepository.updateStatusByIdIn(eq(OrderStatus.CONFIRMED), eq(OrderStatus.SHIPPING), anyList()))
+                .thenReturn(4);
 
         autoShipmentService.autoBatchToSHIPPING();
 
-        verify(orderService).updateOrderStatus(eq(1L), any(OrderStatusUpdateRequest.class));
-        verify(shipmentService).updateShipmentDeliveredAt(eq(1L), any(LocalDateTime.class));
+        verify(shipmentRepository).updateDeliveredAtByIdIn(eq(OrderStatus.CONFIRMED), eq(first), any(LocalDateTime.class));
+        verify(shipmentRepository).updateDeliveredAtByIdIn(eq(OrderStatus.CONFIRMED), eq(second), any(LocalDateTime.class));
+        verify(shipmentRepository).updateDeliveredAtByIdIn(eq(OrderStatus.CONFIRMED), eq(third), any(LocalDateTime.class));
+        verify(orderRepository).updateStatusByIdIn(OrderStatus.CONFIRMED, OrderStatus.SHIPPING, third);
+        // 마지막 청크가 chunk-size보다 작으면 더 조회하지 않는다
+        verify(shipmentRepository, never()).findIdsByOrderStatusAfter(OrderStatus.CONFIRMED, 25L, page);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("shipment:auto_transition_lock:shipping")),
+                anyString());
+        assertThat(meterRegistry.counter("shipment.transition.rows", "from", "CONFIRMED", "to", "SHIPPING").count())
+                .isEqualTo(12.0);
     }
 
     @DisplayName("SHIPPING 상태의 주문을 DELIVERED 상태로 변경 (배송 예정일 당일)")
     @Test
     void autoBatchToDELIVERED_success() {
-        ShipmentResponse response = new ShipmentResponse(
-            1L,
-            1L,
-            LocalDate.now(),
-            null,                     // deliveredAt
-            "홍길동",                  // recipientName
-            "010-1234-5678",         // recipientPhone
-            12345,                   // postalCode
-            "서울시 강남구",           // defaultAddress
-            "101동 202호",            // detailAddress
-            "역삼동",                 // extraAddress
-            3000,                    // shippingFee
-            "CJ123456789"            // shippingCode
-        );
-        when(shipmentService.getShipmentByOrderStatus(OrderStatus.SHIPPING))
-            .thenReturn(List.of(response));
+        LocalDate today = LocalDate.now();
+        List<Long> ids = List.of(1L, 3L, 5L);
+        when(shipmentRepository.findIdsByOrderStatusDueBetweenAfter(
+                OrderStatus.SHIPPING, today, today, 0L, PageRequest.of(0, 10))).thenReturn(ids);
+        when(orderRepository.updateStatusByIdIn(OrderStatus.SHIPPING, OrderStatus.DELIVERED, ids)).thenReturn(2);
+
+        autoShipmentService.autoBatchToDELIVERED();
+
+        verify(shipmentRepository).updateDeliveredAtByIdIn(eq(OrderStatus.SHIPPING), eq(ids), any(LocalDateTime.class));
+        verify(orderRepository).updateStatusByIdIn(OrderStatus.SHIPPING, OrderStatus.DELIVERED, ids);
+        verify(catalogVersionService).rankingChanged();
+    }
+
+    @DisplayName("대상 주문이 없으면 UPDATE를 실행하지 않음")
+    @Test
+    void autoBatchToDELIVERED_empty() {
+        when(shipmentRepository.findIdsByOrderStatusDueBetweenAfter(any(), any(), any(), anyLong(), any()))
+                .thenReturn(List.of());
 
         autoShipmentService.autoBatchToDELIVERED();
 
-        verify(orderService).updateOrderStatus(eq(1L), any(OrderStatusUpdateRequest.class));
-        verify(shipmentService).updateShipmentDeliveredAt(eq(1L), any(LocalDateTime.class));
+        verify(orderRepository, never()).updateStatusByIdIn(any(), any(), anyList());
+        verify(catalogVersionService, never()).rankingChanged();
     }
 
-    @DisplayName("배송 예정일이 오늘이 아닌 경우 DELIVERED 변경 안 함")
+    @DisplayName("다른 노드가 락을 잡고 있으면 실행하지 않음")
     @Test
-    void autoBatchToDELIVERED_skip() {
-        ShipmentResponse response = new ShipmentResponse(
-            1L,
-            1L,
-            LocalDate.now().plusDays(1),
-        null,                     // deliveredAt
-            "홍길동",                  // recipientName
-            "010-1234-5678",         // recipientPhone
-            12345,                   // postalCode
-            "서울시 강남구",           // defaultAddress
-            "101동 202호",            // detailAddress
-            "역삼동",                 // extraAddress
-            3000,                    // shippingFee
-            "CJ123456789"            // shippingCode
-        );
-        when(shipmentService.getShipmentByOrderStatus(OrderStatus.SHIPPING))
-            .thenReturn(List.of(response));
+    @SuppressWarnings("unchecked")
+    void autoBatchToSHIPPING_locked() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        autoShipmentService.autoBatchToSHIPPING();
 
+        verify(shipmentRepository, never()).findIdsByOrderStatusAfter(any(), anyLong(), any());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), anyString());
+    }
+
+    @DisplayName("SHIPPING 전이와 DELIVERED 전이는 서로 다른 락을 사용")
+    @Test
+    void transitionsUseSeparateLocks() {
+        when(shipmentRepository.findIdsByOrderStatusAfter(any(), anyLong(), any())).thenReturn(List.of());
+        when(shipmentRepository.findIdsByOrderStatusDueBetweenAfter(any(), any(), any(), anyLong(), any()))
+                .thenReturn(List.of());
+
+        autoShipmentService.autoBatchToSHIPPING();
         autoShipmentService.autoBatchToDELIVERED();
 
-        verify(orderService, never()).updateOrderStatus(anyLong(), any());
-        verify(shipmentService, never()).updateShipmentDeliveredAt(anyLong(), any());
+        verify(valueOperations).setIfAbsent(eq("shipment:auto_transition_lock:shipping"), anyString(),
+                any(Duration.class));
+        verify(valueOperations).setIfAbsent(eq("shipment:auto_transition_lock:delivered"), anyString(),
+                any(Duration.class));
+    }
+
+    @DisplayName("누락된 기간의 배송 완료 처리를 백필")
+    @Test
+    void backfillDelivered() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        List<Long> ids = List.of(3L, 4L, 5L, 6L, 7L, 8L);
+        when(shipmentRepository.findIdsByOrderStatusDueBetweenAfter(
+                OrderStatus.SHIPPING, from, to, 0L, PageRequest.of(0, 10))).thenReturn(ids);
+        when(orderRepository.updateStatusByIdIn(OrderStatus.SHIPPING, OrderStatus.DELIVERED, ids)).thenReturn(6);
+
+        ShipmentTransitionResult result = autoShipmentService.backfillDelivered(from, to);
+
+        assertThat(result.updatedRows()).isEqualTo(6);
+        assertThat(result.chunks()).isEqualTo(1);
+        assertThat(result.skipped()).isFalse();
     }
 }
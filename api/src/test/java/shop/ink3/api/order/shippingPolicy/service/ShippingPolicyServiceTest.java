@@ -12,6 +12,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,11 +21,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.policy.PolicySnapshot;
+import shop.ink3.api.common.policy.PolicySnapshotRegistry;
 import shop.ink3.api.order.shippingPolicy.dto.ShippingPolicyCreateRequest;
 import shop.ink3.api.order.shippingPolicy.dto.ShippingPolicyResponse;
 import shop.ink3.api.order.shippingPolicy.dto.ShippingPolicyUpdateRequest;
@@ -37,6 +41,12 @@ class ShippingPolicyServiceTest {
     @Mock
     ShippingPolicyRepository shippingPolicyRepository;
 
+    @Mock
+    PolicySnapshotRegistry policySnapshotRegistry;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     ShippingPolicyService shippingPolicyService;
 
@@ -268,4 +278,17 @@ class ShippingPolicyServiceTest {
         assertThrows(ShippingPolicyNotFoundException.class,
                 () -> shippingPolicyService.activate(1L));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("배송비 계산 - 스냅샷의 활성 정책 사용")
+    void getShippingFee_스냅샷() {
+        // given
+        ShippingPolicyResponse active = new ShippingPolicyResponse(
+                1L, "기본", 30000, 3000, true, LocalDateTime.now());
+        when(policySnapshotRegistry.current()).thenReturn(new PolicySnapshot(1L, null, active, null, Map.of()));
+
+        // when, then
+        assertEquals(3000, shippingPolicyService.getShippingFee(20000));
+        assertEquals(0, shippingPolicyService.getShippingFee(30000));
+    }
+}
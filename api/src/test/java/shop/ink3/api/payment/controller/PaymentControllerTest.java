@@ -23,6 +23,7 @@ import shop.ink3.api.payment.dto.*;
 import shop.ink3.api.payment.entity.Payment;
 import shop.ink3.api.payment.entity.PaymentType;
 import shop.ink3.api.payment.paymentUtil.processor.PaymentProcessor;
+import shop.ink3.api.payment.service.PaymentConfirmService;
 import shop.ink3.api.payment.service.PaymentService;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -40,6 +41,9 @@ class PaymentControllerTest {
     @MockitoBean
     private PaymentService paymentService;
 
+    @MockitoBean
+    private PaymentConfirmService paymentConfirmService;
+
     private final long orderId = 1L;
     private final long userId = 100L;
 
@@ -50,7 +54,6 @@ class PaymentControllerTest {
                 orderId, userId, "paymentKey-123", "orderUUID-1",
                 0, 0, 10000, PaymentType.TOSS
         );
-        String approveResponse = "mock-approve-json";
         PaymentResponse response = new PaymentResponse(
                 1L,
                 orderId,
@@ -61,8 +64,7 @@ class PaymentControllerTest {
                 PaymentType.TOSS
                 , LocalDateTime.now(),
                 LocalDateTime.now());
-        Mockito.when(paymentService.callPaymentAPI(any())).thenReturn(approveResponse);
-        Mockito.when(paymentService.createPayment(eq(request), eq(approveResponse))).thenReturn(response);
+        Mockito.when(paymentConfirmService.confirmPayment(eq(request))).thenReturn(response);
 
         mockMvc.perform(post("/payments/confirm")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -78,12 +80,10 @@ class PaymentControllerTest {
         PaymentConfirmRequest request = new PaymentConfirmRequest(
             orderId, userId, null, "orderUUID-1", 0, 0, 10000, PaymentType.POINT);
 
-        String approveResponse = "mock-approve-json";
         PaymentResponse response = new PaymentResponse(1L, orderId, null, 0, 0, 10000, PaymentType.POINT,
             LocalDateTime.now(), LocalDateTime.now());
 
-        when(paymentService.callPaymentAPI(any())).thenReturn(approveResponse);
-        when(paymentService.createPayment(any(), any())).thenReturn(response);
+        when(paymentConfirmService.confirmPayment(any())).thenReturn(response);
 
         mockMvc.perform(post("/payments/confirm")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,190 @@
+package shop.ink3.api.payment.paymentUtil.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.Retryer;
+import feign.codec.Decoder;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import shop.ink3.api.common.resilience.BulkheadFullException;
+import shop.ink3.api.common.resilience.CircuitBreaker;
+import shop.ink3.api.common.resilience.CircuitOpenException;
+import shop.ink3.api.payment.dto.PaymentConfirmRequest;
+import shop.ink3.api.payment.entity.PaymentType;
+import shop.ink3.api.payment.exception.PaymentProcessorFailException;
+import shop.ink3.api.payment.paymentUtil.processor.impl.TossPaymentProcessor;
+
+/**
+ * 로컬 HTTP 스텁 서버에 지연/오류를 주입해 PaymentClient 설정과 TossPaymentProcessor의 보호 장치를 검증한다.
+ */
+class TossPaymentClientStubTest {
+    private static final String SECRET_KEY = "test_sk";
+
+    private HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicLong latencyMillis = new AtomicLong();
+    private final List<String> idempotencyKeys = new CopyOnWriteArrayList<>();
+    private final List<String> authorizations = new CopyOnWriteArrayList<>();
+
+    private PaymentClient paymentClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            hits.incrementAndGet();
+            idempotencyKeys.add(exchange.getRequestHeaders().getFirst(PaymentClient.IDEMPOTENCY_KEY_HEADER));
+            authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+            exchange.getRequestBody().readAllBytes();
+            sleep(latencyMillis.get());
+
+            byte[] body = "{\"status\":\"DONE\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status.get(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        PaymentClientConfig config = new PaymentClientConfig();
+        paymentClient = Feign.builder()
+                .client(config.paymentHttpClient("1s"))
+                .options(config.paymentRequestOptions("1s", "300ms"))
+                .retryer(Retryer.NEVER_RETRY)
+                .contract(new SpringMvcContract())
+                .encoder(new SpringEncoder(() -> new HttpMessageConverters(new MappingJackson2HttpMessageConverter())))
+                .decoder(new Decoder.Default())
+                .target(PaymentClient.class, "http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("같은 주문의 결제 승인 재시도는 같은 Idempotency-Key를 보낸다")
+    void confirmSendsStableIdempotencyKey() {
+        TossPaymentProcessor processor = processor(10, Duration.ofMillis(100), 5);
+
+        assertThat(processor.processPayment(confirmRequest("order-1-abc"))).contains("DONE");
+        processor.processPayment(confirmRequest("order-1-abc"));
+        processor.processPayment(confirmRequest("order-2-def"));
+
+        assertThat(idempotencyKeys.get(0)).isNotBlank().isEqualTo(idempotencyKeys.get(1));
+        assertThat(idempotencyKeys.get(2)).isNotEqualTo(idempotencyKeys.get(0));
+        String expectedAuth = "BASIC " + Base64.getEncoder()
+                .encodeToString((SECRET_KEY + ":").getBytes(StandardCharsets.UTF_8));
+        assertThat(authorizations).containsOnly(expectedAuth);
+    }
+
+    @Test
+    @DisplayName("응답이 read timeout보다 늦으면 기다리지 않고 실패한다")
+    void slowResponseTimesOut() {
+        latencyMillis.set(2_000);
+        TossPaymentProcessor processor = processor(10, Duration.ofMillis(100), 5);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> processor.processPayment(confirmRequest("order-1-abc")))
+                .isInstanceOf(PaymentProcessorFailException.class);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_500);
+    }
+
+    @Test
+    @DisplayName("연속된 5xx 응답 후에는 서킷이 열려 Toss를 호출하지 않는다")
+    void serverErrorsOpenCircuit() {
+        status.set(503);
+        TossPaymentProcessor processor = processor(10, Duration.ofMillis(100), 2);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> processor.processPayment(confirmRequest("order-1-abc")))
+                    .isInstanceOf(PaymentProcessorFailException.class);
+        }
+        assertThatThrownBy(() -> processor.processPayment(confirmRequest("order-1-abc")))
+                .isInstanceOf(PaymentProcessorFailException.class)
+                .hasMessageContaining(CircuitOpenException.class.getSimpleName());
+
+        assertThat(hits.get()).isEqualTo(2);
+        assertThat(processor.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 서킷을 열지 않는다")
+    void clientErrorsDoNotOpenCircuit() {
+        status.set(400);
+        TossPaymentProcessor processor = processor(10, Duration.ofMillis(100), 2);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> processor.processPayment(confirmRequest("order-1-abc")))
+                    .isInstanceOf(PaymentProcessorFailException.class);
+        }
+
+        assertThat(hits.get()).isEqualTo(3);
+        assertThat(processor.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수를 넘는 요청은 bulkhead에서 바로 거절된다")
+    void bulkheadRejectsExcessCalls() throws Exception {
+        latencyMillis.set(200);
+        TossPaymentProcessor processor = processor(1, Duration.ofMillis(20), 5);
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> {
+            started.countDown();
+            return processor.processPayment(confirmRequest("order-1-abc"));
+        });
+        started.await();
+        sleep(50);
+
+        assertThatThrownBy(() -> processor.processPayment(confirmRequest("order-2-def")))
+                .isInstanceOf(PaymentProcessorFailException.class)
+                .hasMessageContaining(BulkheadFullException.class.getSimpleName());
+        assertThat(first.get(1, TimeUnit.SECONDS)).contains("DONE");
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    private TossPaymentProcessor processor(int maxConcurrentCalls, Duration bulkheadWait, int failureThreshold) {
+        return new TossPaymentProcessor(
+                paymentClient, SECRET_KEY, maxConcurrentCalls, bulkheadWait, failureThreshold, Duration.ofSeconds(30));
+    }
+
+    private PaymentConfirmRequest confirmRequest(String orderUUID) {
+        return new PaymentConfirmRequest(1L, 1L, "payKey123", orderUUID, 0, 0, 1000, PaymentType.TOSS);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package shop.ink3.api.payment.paymentUtil.processor.impl;
 
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import shop.ink3.api.payment.dto.PaymentCancelRequest;
@@ -22,9 +23,14 @@ class TossPaymentProcessorTest {
     @Mock
     PaymentClient paymentClient;
 
-    @InjectMocks
     TossPaymentProcessor tossPaymentProcessor;
 
+    @BeforeEach
+    void setUp() {
+        tossPaymentProcessor = new TossPaymentProcessor(
+                paymentClient, "test_sk", 10, Duration.ofMillis(100), 5, Duration.ofSeconds(30));
+    }
+
     @Test
     @DisplayName("Toss 결제 확인 성공 - 회원")
     void processPayment_confirm_success() {
@@ -32,7 +38,7 @@ class TossPaymentProcessorTest {
         PaymentConfirmRequest request = new PaymentConfirmRequest(
                 1L, 1L, "payKey123", "orderUUID123", 0, 0, 1000, PaymentType.TOSS);
 
-        when(paymentClient.confirmPayment(anyString(), anyMap())).thenReturn(expectedResult);
+        when(paymentClient.confirmPayment(anyString(), anyString(), anyMap())).thenReturn(expectedResult);
 
         String result = tossPaymentProcessor.processPayment(request);
 
@@ -51,7 +57,7 @@ class TossPaymentProcessorTest {
                 .paymentType(PaymentType.TOSS)
                 .build();
 
-        when(paymentClient.confirmPayment(anyString(), anyMap())).thenReturn(expectedResult);
+        when(paymentClient.confirmPayment(anyString(), anyString(), anyMap())).thenReturn(expectedResult);
 
         String result = tossPaymentProcessor.processPayment(request);
 
@@ -64,7 +70,7 @@ class TossPaymentProcessorTest {
         PaymentConfirmRequest request = new PaymentConfirmRequest(
                 1L, 1L, "payKey123", "orderUUID123", 0, 0, 1000, PaymentType.TOSS);
 
-        when(paymentClient.confirmPayment(anyString(), anyMap()))
+        when(paymentClient.confirmPayment(anyString(), anyString(), anyMap()))
                 .thenThrow(new RuntimeException("Toss API error"));
 
         assertThrows(PaymentProcessorFailException.class, () -> {
@@ -79,7 +85,7 @@ class TossPaymentProcessorTest {
         PaymentCancelRequest cancelRequest = new PaymentCancelRequest(
                 1L, "payKey123", 1000, PaymentType.TOSS, "고객 요청");
 
-        when(paymentClient.cancelPayment(anyString(), eq("payKey123"), anyMap())).thenReturn(expectedResult);
+        when(paymentClient.cancelPayment(anyString(), anyString(), eq("payKey123"), anyMap())).thenReturn(expectedResult);
 
         String result = tossPaymentProcessor.cancelPayment(cancelRequest);
 
@@ -92,7 +98,7 @@ class TossPaymentProcessorTest {
         PaymentCancelRequest cancelRequest = new PaymentCancelRequest(
                 1L, "payKey123", 1000, PaymentType.TOSS, "고객 요청");
 
-        when(paymentClient.cancelPayment(anyString(), eq("payKey123"), anyMap()))
+        when(paymentClient.cancelPayment(anyString(), anyString(), eq("payKey123"), anyMap()))
                 .thenThrow(new RuntimeException("취소 실패"));
 
         assertThrows(PaymentProcessorFailException.class, () -> {
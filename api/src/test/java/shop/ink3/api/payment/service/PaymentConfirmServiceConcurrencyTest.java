@@ -0,0 +1,178 @@
+package shop.ink3.api.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.ink3.api.payment.dto.PaymentConfirmRequest;
+import shop.ink3.api.payment.dto.PaymentResponse;
+import shop.ink3.api.payment.entity.PaymentIdempotency;
+import shop.ink3.api.payment.entity.PaymentIdempotencyStatus;
+import shop.ink3.api.payment.entity.PaymentType;
+import shop.ink3.api.payment.exception.PaymentConfirmInProgressException;
+import shop.ink3.api.payment.exception.PaymentProcessorFailException;
+import shop.ink3.api.payment.repository.PaymentIdempotencyRepository;
+
+/**
+ * 같은 paymentKey로 승인 요청이 동시에 몰려도 결제 승인 API 호출과 결제 저장이 한 번만 일어나는지 확인한다.
+ * 유니크 제약이 실제로 동작해야 하므로 H2에 커밋되는 트랜잭션으로 실행한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PaymentIdempotencyService.class, PaymentConfirmService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentConfirmServiceConcurrencyTest {
+    private static final int THREADS = 16;
+
+    @Autowired
+    private PaymentConfirmService paymentConfirmService;
+
+    @Autowired
+    private PaymentIdempotencyService paymentIdempotencyService;
+
+    @Autowired
+    private PaymentIdempotencyRepository paymentIdempotencyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private PaymentService paymentService;
+
+    private final AtomicInteger tossCalls = new AtomicInteger();
+    private final PaymentConfirmRequest request = new PaymentConfirmRequest(
+            1L, 1L, "payKey-stress", "order-1-uuid", 0, 0, 10000, PaymentType.TOSS);
+    private final PaymentResponse response = new PaymentResponse(
+            1L, 1L, "payKey-stress", 0, 0, 10000, PaymentType.TOSS,
+            LocalDateTime.of(2025, 6, 1, 12, 0), LocalDateTime.of(2025, 6, 1, 12, 1));
+
+    @BeforeEach
+    void setUp() {
+        when(paymentService.callPaymentAPI(any())).thenAnswer(invocation -> {
+            tossCalls.incrementAndGet();
+            Thread.sleep(100);
+            return "approved";
+        });
+        // 실제 createPayment처럼 트랜잭션 안에서 멱등 기록을 완료 처리
+        when(paymentService.createPayment(any(), anyString(), anyString())).thenAnswer(invocation -> {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> paymentIdempotencyService.complete(
+                    PaymentIdempotencyService.keyOf(request), invocation.getArgument(2), response));
+            return response;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentIdempotencyRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 승인 요청 중 한 건만 결제 승인 API를 호출한다")
+    void concurrentConfirm() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PaymentResponse>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return paymentConfirmService.confirmPayment(request);
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        int succeeded = 0;
+        int rejected = 0;
+        for (Future<PaymentResponse> future : futures) {
+            try {
+                assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo(response);
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(PaymentConfirmInProgressException.class);
+                rejected++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(succeeded).isGreaterThanOrEqualTo(1);
+        assertThat(succeeded + rejected).isEqualTo(THREADS);
+        assertThat(tossCalls.get()).isEqualTo(1);
+        verify(paymentService, times(1)).createPayment(any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("완료된 승인을 다시 요청하면 결제 승인 API 호출 없이 저장된 응답을 돌려준다")
+    void duplicateConfirmReturnsCachedResponse() {
+        PaymentResponse first = paymentConfirmService.confirmPayment(request);
+        PaymentResponse second = paymentConfirmService.confirmPayment(request);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(tossCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("결제 승인 API가 실패하면 선점을 풀어 재시도할 수 있다")
+    void failedConfirmCanBeRetried() {
+        when(paymentService.callPaymentAPI(any()))
+                .thenThrow(new PaymentProcessorFailException("TOSS", new RuntimeException("timeout")))
+                .thenReturn("approved");
+
+        assertThatThrownBy(() -> paymentConfirmService.confirmPayment(request))
+                .isInstanceOf(PaymentProcessorFailException.class);
+
+        assertThat(paymentConfirmService.confirmPayment(request)).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("오래된 선점을 넘겨받은 뒤에는 이전 요청이 기록을 지우거나 완료하지 못한다")
+    void staleOwnerCannotReleaseOrComplete() {
+        String key = PaymentIdempotencyService.keyOf(request);
+        paymentIdempotencyRepository.saveAndFlush(PaymentIdempotency.builder()
+                .idempotencyKey(key)
+                .orderId(1L)
+                .owner("old-owner")
+                .status(PaymentIdempotencyStatus.IN_PROGRESS)
+                .startedAt(LocalDateTime.now().minusMinutes(10))
+                .build());
+
+        assertThat(paymentIdempotencyService.begin(key, "new-owner", 1L)).isEmpty();
+        paymentIdempotencyService.release(key, "old-owner");
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                paymentIdempotencyService.complete(key, "old-owner", response)))
+                .isInstanceOf(PaymentConfirmInProgressException.class);
+
+        PaymentIdempotency current = paymentIdempotencyRepository.findByIdempotencyKey(key).orElseThrow();
+        assertThat(current.getOwner()).isEqualTo("new-owner");
+        assertThat(current.getStatus()).isEqualTo(PaymentIdempotencyStatus.IN_PROGRESS);
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import shop.ink3.api.coupon.store.dto.CouponStoreUpdateRequest;
 import shop.ink3.api.coupon.store.service.CouponStoreService;
@@ -66,6 +67,8 @@ class PaymentServiceTest {
     private PaymentResponseParserResolver parserResolver;
     @Mock
     private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PaymentIdempotencyService paymentIdempotencyService;
 
     private final long orderId = 1L;
     private final long userId = 2L;
@@ -163,13 +166,48 @@ class PaymentServiceTest {
         when(parserResolver.getPaymentParser(any())).thenReturn(mockParser);
         when(orderService.updateOrderStatus(anyLong(), any())).thenReturn(OrderResponse.from(order));
         when(mockParser.paymentResponseParser((PaymentConfirmRequest) any(), anyString())).thenReturn(payment);
-        when(paymentRepository.save(payment)).thenReturn(payment);
+        when(paymentRepository.saveAndFlush(payment)).thenReturn(payment);
 
-        PaymentResponse response = paymentService.createPayment(request, responseBody);
+        PaymentResponse response = paymentService.createPayment(request, responseBody, "owner-1");
 
         assertThat(response).isNotNull();
         assertThat(response.orderId()).isEqualTo(orderId);
         verify(eventPublisher).publishEvent(any(PointHistoryAfterPaymentEven.class));
+        verify(paymentIdempotencyService).complete("abcdefg", "owner-1", response);
+    }
+
+    @Test
+    @DisplayName("결제 생성 - 동시 요청으로 order_id 유니크 제약 위반 시 실패")
+    void createPayment_유니크제약위반() {
+        Order order = Order.builder().id(1L).build();
+        PaymentConfirmRequest request = new PaymentConfirmRequest(
+                orderId,
+                userId,
+                "abcdefg",
+                "order-1-uuid",
+                0,
+                0,
+                10000,
+                PaymentType.TOSS);
+        Payment payment = Payment.builder()
+                .order(order)
+                .paymentKey("abcdefg")
+                .usedPoint(0)
+                .discountPrice(0)
+                .paymentAmount(10000)
+                .paymentType(PaymentType.TOSS)
+                .requestAt(LocalDateTime.now())
+                .build();
+        PaymentParser mockParser = mock(PaymentParser.class);
+        when(paymentRepository.findByOrderId(anyLong())).thenReturn(Optional.empty());
+        when(parserResolver.getPaymentParser(any())).thenReturn(mockParser);
+        when(mockParser.paymentResponseParser((PaymentConfirmRequest) any(), anyString())).thenReturn(payment);
+        when(paymentRepository.saveAndFlush(payment)).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertThatThrownBy(() -> paymentService.createPayment(request, "response", "owner-1"))
+                .isInstanceOf(PaymentAlreadyExistsException.class);
+        verify(orderService, never()).updateOrderStatus(anyLong(), any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -198,7 +236,7 @@ class PaymentServiceTest {
                 PaymentType.TOSS);
         when(paymentRepository.findByOrderId(anyLong())).thenReturn(Optional.of(payment));
 
-        assertThatThrownBy(() -> paymentService.createPayment(request, "irrelevant"))
+        assertThatThrownBy(() -> paymentService.createPayment(request, "irrelevant", "owner-1"))
                 .isInstanceOf(PaymentAlreadyExistsException.class);
     }
 
@@ -100,7 +100,7 @@ class ReviewServiceTest {
             .order(order)
             .build();
 
-        when(pointPolicyService.getPointPolicy(anyLong())).thenReturn(
+        when(pointPolicyService.getActivePointPolicy()).thenReturn(
             new PointPolicyResponse(
                 1L,
                 "기본정책",
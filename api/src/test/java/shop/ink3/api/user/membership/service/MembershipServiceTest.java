@@ -7,6 +7,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -21,6 +23,7 @@ import org.springframework.data.domain.Pageable;
 import shop.ink3.api.common.dto.PageResponse;
 import shop.ink3.api.user.membership.dto.MembershipCreateRequest;
 import shop.ink3.api.user.membership.dto.MembershipResponse;
+import shop.ink3.api.user.membership.dto.MembershipStatisticsResponse;
 import shop.ink3.api.user.membership.dto.MembershipUpdateRequest;
 import shop.ink3.api.user.membership.entity.Membership;
 import shop.ink3.api.user.membership.exception.CannotDeactivateDefaultMembershipException;
@@ -28,12 +31,20 @@ import shop.ink3.api.user.membership.exception.CannotDeleteDefaultMembershipExce
 import shop.ink3.api.user.membership.exception.DefaultMembershipNotFoundException;
 import shop.ink3.api.user.membership.exception.MembershipNotFoundException;
 import shop.ink3.api.user.membership.repository.MembershipRepository;
+import shop.ink3.api.user.statistics.entity.StatisticsCounterKey;
+import shop.ink3.api.user.statistics.service.StatisticsRollupService;
 
 @ExtendWith(MockitoExtension.class)
 class MembershipServiceTest {
     @Mock
     MembershipRepository membershipRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    StatisticsRollupService statisticsRollupService;
+
     @InjectMocks
     MembershipService membershipService;
 
@@ -172,6 +183,20 @@ class MembershipServiceTest {
         Assertions.assertEquals(membership.getPointRate(), membershipResponse.pointRate());
         Assertions.assertEquals(true, membershipResponse.isActive());
         Assertions.assertEquals(true, membershipResponse.isDefault());
+        verify(statisticsRollupService).add(StatisticsCounterKey.MEMBERSHIPS_TOTAL, 1);
+        verify(statisticsRollupService).toggle(StatisticsCounterKey.MEMBERSHIPS_ACTIVE, false, true);
+    }
+
+    @Test
+    void getMembershipStatistics() {
+        when(statisticsRollupService.getCounters(StatisticsCounterKey.MEMBERSHIP_KEYS)).thenReturn(Map.of(
+                StatisticsCounterKey.MEMBERSHIPS_TOTAL, 5L,
+                StatisticsCounterKey.MEMBERSHIPS_ACTIVE, 3L
+        ));
+
+        MembershipStatisticsResponse response = membershipService.getMembershipStatistics();
+
+        Assertions.assertEquals(new MembershipStatisticsResponse(5L, 3L, 2L), response);
     }
 
     @Test
@@ -235,6 +260,7 @@ class MembershipServiceTest {
         membershipService.activateMembership(1L);
 
         Assertions.assertTrue(membership.getIsActive());
+        verify(statisticsRollupService).toggle(StatisticsCounterKey.MEMBERSHIPS_ACTIVE, false, true);
     }
 
     @Test
@@ -260,6 +286,7 @@ class MembershipServiceTest {
         membershipService.deactivateMembership(1L);
 
         Assertions.assertFalse(membership.getIsActive());
+        verify(statisticsRollupService).toggle(StatisticsCounterKey.MEMBERSHIPS_ACTIVE, true, false);
     }
 
     @Test
@@ -362,6 +389,7 @@ class MembershipServiceTest {
         when(membershipRepository.findById(1L)).thenReturn(Optional.of(membership));
         membershipService.deleteMembership(1L);
         verify(membershipRepository).delete(membership);
+        verify(statisticsRollupService).add(StatisticsCounterKey.MEMBERSHIPS_TOTAL, -1);
     }
 
     @Test
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -12,20 +13,30 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import shop.ink3.api.common.policy.PolicySnapshot;
+import shop.ink3.api.common.policy.PolicySnapshotRegistry;
 import shop.ink3.api.user.point.policy.dto.PointPolicyCreateRequest;
 import shop.ink3.api.user.point.policy.dto.PointPolicyResponse;
 import shop.ink3.api.user.point.policy.dto.PointPolicyUpdateRequest;
 import shop.ink3.api.user.point.policy.entity.PointPolicy;
+import shop.ink3.api.user.point.policy.exception.PointPolicyNotFoundException;
 import shop.ink3.api.user.point.policy.repository.PointPolicyRepository;
+import shop.ink3.api.user.statistics.entity.StatisticsCounterKey;
+import shop.ink3.api.user.statistics.service.StatisticsRollupService;
 
 @ExtendWith(MockitoExtension.class)
 public class PointPolicyServiceTest {
 
     @Mock private PointPolicyRepository pointPolicyRepository;
+    @Mock private PolicySnapshotRegistry policySnapshotRegistry;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private StatisticsRollupService statisticsRollupService;
     @InjectMocks private PointPolicyService pointPolicyService;
 
     @Test
@@ -39,6 +50,27 @@ public class PointPolicyServiceTest {
         PointPolicyResponse response = pointPolicyService.createPointPolicy(request);
 
         assertThat(response.name()).isEqualTo("가입 포인트");
+        verify(statisticsRollupService).add(StatisticsCounterKey.POINT_POLICIES_TOTAL, 1);
+        verify(statisticsRollupService).toggle(StatisticsCounterKey.POINT_POLICIES_ACTIVE, false, true);
+    }
+
+    @Test
+    @DisplayName("포인트 정책 활성화 - 기존 활성 정책을 끄고 활성 정책 수는 그대로 유지")
+    void activatePointPolicy() {
+        PointPolicy current = new PointPolicy("현재", 1000, 500, 800, 5);
+        current.activate();
+        PointPolicy target = new PointPolicy("대상", 2000, 500, 800, 5);
+        ReflectionTestUtils.setField(current, "id", 1L);
+        ReflectionTestUtils.setField(target, "id", 2L);
+        when(pointPolicyRepository.findById(2L)).thenReturn(Optional.of(target));
+        when(pointPolicyRepository.findByIsActive(true)).thenReturn(Optional.of(current));
+
+        pointPolicyService.activatePointPolicy(2L);
+
+        assertThat(current.getIsActive()).isFalse();
+        assertThat(target.getIsActive()).isTrue();
+        verify(statisticsRollupService).add(StatisticsCounterKey.POINT_POLICIES_ACTIVE, -1);
+        verify(statisticsRollupService).add(StatisticsCounterKey.POINT_POLICIES_ACTIVE, 1);
     }
 
     @Test
@@ -52,6 +84,27 @@ public class PointPolicyServiceTest {
         assertThat(response.name()).isEqualTo("정책");
     }
 
+    @Test
+    @DisplayName("활성 포인트 정책은 스냅샷에서 조회")
+    void getActivePointPolicy() {
+        PointPolicyResponse active = PointPolicyResponse.from(new PointPolicy("활성", 1000, 500, 800, 5));
+        when(policySnapshotRegistry.current()).thenReturn(new PolicySnapshot(3L, active, null, null, Map.of()));
+
+        PointPolicyResponse response = pointPolicyService.getActivePointPolicy();
+
+        assertThat(response.name()).isEqualTo("활성");
+        verifyNoInteractions(pointPolicyRepository);
+    }
+
+    @Test
+    @DisplayName("활성 포인트 정책이 없으면 예외")
+    void getActivePointPolicy_notFound() {
+        when(policySnapshotRegistry.current()).thenReturn(new PolicySnapshot(3L, null, null, null, Map.of()));
+
+        assertThatThrownBy(() -> pointPolicyService.getActivePointPolicy())
+                .isInstanceOf(PointPolicyNotFoundException.class);
+    }
+
     @Test
     @DisplayName("포인트 정책 전체 조회")
     void getPointPolicies() {
@@ -87,6 +140,7 @@ public class PointPolicyServiceTest {
 
         pointPolicyService.deletePointPolicy(1L);
         verify(pointPolicyRepository).deleteById(1L);
+        verify(statisticsRollupService).add(StatisticsCounterKey.POINT_POLICIES_TOTAL, -1);
     }
 
     @Test
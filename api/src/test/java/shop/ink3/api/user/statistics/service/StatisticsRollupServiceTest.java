@@ -0,0 +1,149 @@
+package shop.ink3.api.user.statistics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import shop.ink3.api.common.exception.BadRequestException;
+import shop.ink3.api.user.membership.dto.MembershipStatisticsResponse;
+import shop.ink3.api.user.membership.repository.MembershipRepository;
+import shop.ink3.api.user.point.policy.dto.PointPolicyStatisticsResponse;
+import shop.ink3.api.user.point.policy.repository.PointPolicyRepository;
+import shop.ink3.api.user.statistics.entity.StatisticsCounter;
+import shop.ink3.api.user.statistics.entity.StatisticsCounterKey;
+import shop.ink3.api.user.statistics.repository.StatisticsCounterRepository;
+import shop.ink3.api.user.statistics.repository.StatisticsDailySnapshotRepository;
+import shop.ink3.api.user.user.dto.UserStatisticsResponse;
+import shop.ink3.api.user.user.repository.UserRepository;
+
+class StatisticsRollupServiceTest {
+
+    @Mock
+    private StatisticsCounterRepository statisticsCounterRepository;
+
+    @Mock
+    private StatisticsDailySnapshotRepository statisticsDailySnapshotRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MembershipRepository membershipRepository;
+
+    @Mock
+    private PointPolicyRepository pointPolicyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StatisticsRollupService statisticsRollupService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        statisticsRollupService = new StatisticsRollupService(statisticsCounterRepository,
+                statisticsDailySnapshotRepository, userRepository, membershipRepository, pointPolicyRepository,
+                transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        List.copyOf(TransactionSynchronizationManager.getResourceMap().keySet())
+                .forEach(TransactionSynchronizationManager::unbindResource);
+    }
+
+    @DisplayName("트랜잭션 밖의 변경은 바로 카운터에 반영")
+    @Test
+    void addWithoutTransaction() {
+        statisticsRollupService.add(StatisticsCounterKey.MEMBERSHIPS_TOTAL, 1);
+
+        verify(statisticsCounterRepository).add(eq(StatisticsCounterKey.MEMBERSHIPS_TOTAL), eq(1L), any());
+    }
+
+    @DisplayName("트랜잭션 안의 변경은 키별로 합쳐 두었다가 커밋 후 반영하고, 합이 0인 키는 건너뜀")
+    @Test
+    void applyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        statisticsRollupService.move(StatisticsCounterKey.USERS_ACTIVE, StatisticsCounterKey.USERS_DORMANT);
+        statisticsRollupService.move(StatisticsCounterKey.USERS_DORMANT, StatisticsCounterKey.USERS_WITHDRAWN);
+        verify(statisticsCounterRepository, never()).add(any(), anyLong(), any());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(statisticsCounterRepository).add(eq(StatisticsCounterKey.USERS_ACTIVE), eq(-1L), any());
+        verify(statisticsCounterRepository).add(eq(StatisticsCounterKey.USERS_WITHDRAWN), eq(1L), any());
+        verify(statisticsCounterRepository, never()).add(eq(StatisticsCounterKey.USERS_DORMANT), anyLong(), any());
+    }
+
+    @DisplayName("롤백되면 카운터를 바꾸지 않음")
+    @Test
+    void noApplyOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        statisticsRollupService.toggle(StatisticsCounterKey.MEMBERSHIPS_ACTIVE, false, true);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(statisticsCounterRepository, never()).add(any(), anyLong(), any());
+    }
+
+    @DisplayName("카운터 행이 없으면 원본 테이블을 세어 채운 뒤 반환")
+    @Test
+    void recountMissingCounters() {
+        when(statisticsCounterRepository.findAllById(any())).thenReturn(List.of(
+                new StatisticsCounter(StatisticsCounterKey.USERS_ACTIVE, 1L, LocalDateTime.now())));
+        when(userRepository.getUserStatistics()).thenReturn(new UserStatisticsResponse(12L, 10L, 2L, null));
+        when(membershipRepository.getMembershipStatistics()).thenReturn(MembershipStatisticsResponse.of(3L, 2L));
+        when(pointPolicyRepository.getPointPolicyStatistics()).thenReturn(PointPolicyStatisticsResponse.of(1L, 1L));
+
+        Map<StatisticsCounterKey, Long> counters = statisticsRollupService.getCounters(StatisticsCounterKey.USER_KEYS);
+
+        assertThat(counters).containsExactlyInAnyOrderEntriesOf(Map.of(
+                StatisticsCounterKey.USERS_ACTIVE, 10L,
+                StatisticsCounterKey.USERS_DORMANT, 2L,
+                StatisticsCounterKey.USERS_WITHDRAWN, 0L
+        ));
+        ArgumentCaptor<StatisticsCounter> saved = ArgumentCaptor.forClass(StatisticsCounter.class);
+        verify(statisticsCounterRepository, times(6)).save(saved.capture());
+        assertThat(saved.getAllValues()).extracting(StatisticsCounter::getKey)
+                .doesNotContain(StatisticsCounterKey.USERS_ACTIVE);
+    }
+
+    @DisplayName("추이 조회 기간이 거꾸로이거나 1년을 넘으면 400")
+    @Test
+    void invalidTrendPeriod() {
+        LocalDate today = LocalDate.of(2025, 6, 1);
+
+        assertThatThrownBy(() -> statisticsRollupService.getTrends(today, today.minusDays(1)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> statisticsRollupService.getTrends(today.minusDays(366), today))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Assertions;
@@ -21,12 +22,15 @@ import shop.ink3.api.user.common.exception.InvalidPasswordException;
 import shop.ink3.api.user.membership.entity.Membership;
 import shop.ink3.api.user.membership.exception.MembershipNotFoundException;
 import shop.ink3.api.user.membership.repository.MembershipRepository;
+import shop.ink3.api.user.statistics.entity.StatisticsCounterKey;
+import shop.ink3.api.user.statistics.service.StatisticsRollupService;
 import shop.ink3.api.user.user.dto.UserAuthResponse;
 import shop.ink3.api.user.user.dto.UserCreateRequest;
 import shop.ink3.api.user.user.dto.UserDetailResponse;
 import shop.ink3.api.user.user.dto.UserMembershipUpdateRequest;
 import shop.ink3.api.user.user.dto.UserPasswordUpdateRequest;
 import shop.ink3.api.user.user.dto.UserResponse;
+import shop.ink3.api.user.user.dto.UserStatisticsResponse;
 import shop.ink3.api.user.user.dto.UserUpdateRequest;
 import shop.ink3.api.user.user.entity.User;
 import shop.ink3.api.user.user.entity.UserStatus;
@@ -42,6 +46,9 @@ class UserServiceTest {
     @Mock
     MembershipRepository membershipRepository;
 
+    @Mock
+    StatisticsRollupService statisticsRollupService;
+
     @Spy
     PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
@@ -184,6 +191,7 @@ class UserServiceTest {
         UserResponse response = userService.createUser(request);
         Assertions.assertNotNull(response);
         Assertions.assertEquals(UserResponse.from(user), response);
+        verify(statisticsRollupService).add(StatisticsCounterKey.USERS_ACTIVE, 1);
     }
 
     @Test
@@ -269,6 +277,7 @@ class UserServiceTest {
         userService.activateUser(1L);
         Assertions.assertEquals(UserStatus.ACTIVE, user.getStatus());
         verify(userRepository).save(user);
+        verify(statisticsRollupService).move(StatisticsCounterKey.USERS_DORMANT, StatisticsCounterKey.USERS_ACTIVE);
     }
 
     @Test
@@ -284,6 +293,7 @@ class UserServiceTest {
         userService.markAsDormantUser(1L);
         Assertions.assertEquals(UserStatus.DORMANT, user.getStatus());
         verify(userRepository).save(user);
+        verify(statisticsRollupService).move(StatisticsCounterKey.USERS_ACTIVE, StatisticsCounterKey.USERS_DORMANT);
     }
 
     @Test
@@ -299,6 +309,7 @@ class UserServiceTest {
         userService.withdrawUser(1L);
         Assertions.assertEquals(UserStatus.WITHDRAWN, user.getStatus());
         verify(userRepository).save(user);
+        verify(statisticsRollupService).move(StatisticsCounterKey.USERS_ACTIVE, StatisticsCounterKey.USERS_WITHDRAWN);
     }
 
     @Test
@@ -349,10 +360,25 @@ class UserServiceTest {
 
     @Test
     void deleteUser() {
-        User user = User.builder().id(1L).build();
+        User user = User.builder().id(1L).status(UserStatus.DORMANT).build();
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         userService.deleteUser(1L);
         verify(userRepository).delete(user);
+        verify(statisticsRollupService).add(StatisticsCounterKey.USERS_DORMANT, -1);
+    }
+
+    @Test
+    void getUserStatistics() {
+        when(statisticsRollupService.getCounters(StatisticsCounterKey.USER_KEYS)).thenReturn(Map.of(
+                StatisticsCounterKey.USERS_ACTIVE, 7L,
+                StatisticsCounterKey.USERS_DORMANT, 2L,
+                StatisticsCounterKey.USERS_WITHDRAWN, 1L
+        ));
+
+        UserStatisticsResponse response = userService.getUserStatistics();
+
+        Assertions.assertEquals(new UserStatisticsResponse(10L, 7L, 2L, 1L), response);
+        verify(userRepository, never()).getUserStatistics();
     }
 
     @Test
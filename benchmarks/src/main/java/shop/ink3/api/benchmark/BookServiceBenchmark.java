@@ -0,0 +1,85 @@
+package shop.ink3.api.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import shop.ink3.api.benchmark.support.Fixtures;
+import shop.ink3.api.benchmark.support.RepositoryStubs;
+import shop.ink3.api.book.book.dto.BookAuthorDto;
+import shop.ink3.api.book.book.dto.BookPreviewResponse;
+import shop.ink3.api.book.book.entity.Book;
+import shop.ink3.api.book.book.repository.BookRepository;
+import shop.ink3.api.book.book.service.BookService;
+import shop.ink3.api.book.bookauthor.entity.BookAuthor;
+import shop.ink3.api.book.bookauthor.repository.BookAuthorRepository;
+import shop.ink3.api.common.dto.PageResponse;
+
+/**
+ * 도서 목록 미리보기 매핑과 알라딘 저자 문자열 파싱. 리포지토리는 메모리 스텁이라 DB 비용은 포함되지 않는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookServiceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class PreviewState {
+        @Param({"20", "100"})
+        public int pageSize;
+
+        BookService bookService;
+        Pageable pageable;
+
+        @Setup
+        public void setUp() {
+            List<Book> books = Fixtures.books(pageSize);
+            Map<Long, List<BookAuthor>> authorsByBook = books.stream()
+                    .collect(Collectors.toMap(Book::getId, Fixtures::bookAuthors));
+            pageable = PageRequest.of(0, pageSize);
+
+            BookRepository bookRepository = RepositoryStubs.stub(BookRepository.class, Map.of(
+                    "findAll", args -> new PageImpl<>(books, (Pageable) args[0], 100_000)));
+            BookAuthorRepository bookAuthorRepository = RepositoryStubs.stub(BookAuthorRepository.class, Map.of(
+                    "findAllByBookId", args -> authorsByBook.get((Long) args[0])));
+
+            // 목록 조회에 쓰이지 않는 의존성은 비워 둔다
+            bookService = new BookService(
+                    bookRepository, null, null, bookAuthorRepository, null, null, null, null, null, null);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class AuthorState {
+        @Param({"홍길동 (지은이), 김철수, 이영희 (옮긴이)", "A, B, C, D, E, F, G, H (지은이), I (그림), J (옮긴이)"})
+        public String rawAuthors;
+
+        final BookService bookService = new BookService(null, null, null, null, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public PageResponse<BookPreviewResponse> getBooks(PreviewState state) {
+        return state.bookService.getBooks(state.pageable);
+    }
+
+    @Benchmark
+    public List<BookAuthorDto> parseAuthors(AuthorState state) {
+        return state.bookService.parseAuthors(state.rawAuthors);
+    }
+}
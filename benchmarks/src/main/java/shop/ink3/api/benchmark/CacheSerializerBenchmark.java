@@ -0,0 +1,114 @@
+package shop.ink3.api.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import shop.ink3.api.benchmark.support.Fixtures;
+import shop.ink3.api.benchmark.support.RepositoryStubs;
+import shop.ink3.api.book.book.dto.BookPreviewResponse;
+import shop.ink3.api.book.category.dto.CategoryTreeDto;
+import shop.ink3.api.book.category.entity.Category;
+import shop.ink3.api.book.category.repository.CategoryRepository;
+import shop.ink3.api.book.category.service.CategoryService;
+import shop.ink3.api.common.cache.CompactCacheType;
+import shop.ink3.api.common.cache.VersionedSmileRedisSerializer;
+import shop.ink3.api.common.dto.PageResponse;
+
+/**
+ * 캐시 값 직렬화 비교: 버전 헤더가 붙은 Smile 포맷과 기존 클래스명 포함 JSON 포맷.
+ * 크기 차이는 setUp에서 한 번 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheSerializerBenchmark {
+    private final RedisSerializer<Object> jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final VersionedSmileRedisSerializer<List<CategoryTreeDto>> treeSerializer =
+            VersionedSmileRedisSerializer.forList(CompactCacheType.CATEGORY_TREE, CategoryTreeDto.class);
+    private final VersionedSmileRedisSerializer<PageResponse<BookPreviewResponse>> pageSerializer =
+            VersionedSmileRedisSerializer.forParametric(
+                    CompactCacheType.SEARCH_PAGE, PageResponse.class, BookPreviewResponse.class);
+
+    private List<CategoryTreeDto> tree;
+    private PageResponse<BookPreviewResponse> page;
+    private byte[] treeJson;
+    private byte[] treeSmile;
+    private byte[] pageJson;
+    private byte[] pageSmile;
+
+    @Setup
+    public void setUp() {
+        List<Category> categories = Fixtures.categories(10);
+        tree = new CategoryService(RepositoryStubs.stub(CategoryRepository.class, Map.of(
+                "findAll", args -> categories))).getCategoriesTree();
+        List<BookPreviewResponse> previews = Fixtures.books(20).stream()
+                .map(book -> BookPreviewResponse.from(book, book.getThumbnailUrl(),
+                        List.of("author-" + book.getId() + " (지은이)")))
+                .toList();
+        page = PageResponse.from(new PageImpl<>(previews, PageRequest.of(0, 20), 1_000));
+
+        treeJson = jsonSerializer.serialize(tree);
+        treeSmile = treeSerializer.serialize(tree);
+        pageJson = jsonSerializer.serialize(page);
+        pageSmile = pageSerializer.serialize(page);
+        System.out.printf("%ncategory tree bytes json=%d smile=%d, search page bytes json=%d smile=%d%n",
+                treeJson.length, treeSmile.length, pageJson.length, pageSmile.length);
+    }
+
+    @Benchmark
+    public byte[] categoryTreeSerializeJson() {
+        return jsonSerializer.serialize(tree);
+    }
+
+    @Benchmark
+    public byte[] categoryTreeSerializeSmile() {
+        return treeSerializer.serialize(tree);
+    }
+
+    @Benchmark
+    public Object categoryTreeDeserializeJson() {
+        return jsonSerializer.deserialize(treeJson);
+    }
+
+    @Benchmark
+    public List<CategoryTreeDto> categoryTreeDeserializeSmile() {
+        return treeSerializer.deserialize(treeSmile);
+    }
+
+    @Benchmark
+    public byte[] searchPageSerializeJson() {
+        return jsonSerializer.serialize(page);
+    }
+
+    @Benchmark
+    public byte[] searchPageSerializeSmile() {
+        return pageSerializer.serialize(page);
+    }
+
+    @Benchmark
+    public Object searchPageDeserializeJson() {
+        return jsonSerializer.deserialize(pageJson);
+    }
+
+    @Benchmark
+    public PageResponse<BookPreviewResponse> searchPageDeserializeSmile() {
+        return pageSerializer.deserialize(pageSmile);
+    }
+}
@@ -0,0 +1,53 @@
+package shop.ink3.api.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import shop.ink3.api.benchmark.support.Fixtures;
+import shop.ink3.api.benchmark.support.RepositoryStubs;
+import shop.ink3.api.book.category.dto.CategoryTreeDto;
+import shop.ink3.api.book.category.entity.Category;
+import shop.ink3.api.book.category.repository.CategoryRepository;
+import shop.ink3.api.book.category.service.CategoryService;
+
+/**
+ * 전체 카테고리 트리 조립 (캐시 미스 시 매번 실행되는 buildTree).
+ * fanOut 10은 1,110개, 30은 9,310개 카테고리다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryTreeBenchmark {
+
+    @Param({"10", "30"})
+    public int fanOut;
+
+    private CategoryService categoryService;
+
+    @Setup
+    public void setUp() {
+        List<Category> categories = Fixtures.categories(fanOut);
+        CategoryRepository categoryRepository = RepositoryStubs.stub(CategoryRepository.class, Map.of(
+                "findAll", args -> categories));
+        categoryService = new CategoryService(categoryRepository);
+    }
+
+    @Benchmark
+    public List<CategoryTreeDto> getCategoriesTree() {
+        return categoryService.getCategoriesTree();
+    }
+}
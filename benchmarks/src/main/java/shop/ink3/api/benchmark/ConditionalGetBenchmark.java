@@ -0,0 +1,118 @@
+package shop.ink3.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import shop.ink3.api.benchmark.support.Fixtures;
+import shop.ink3.api.benchmark.support.RepositoryStubs;
+import shop.ink3.api.book.book.dto.BookPreviewResponse;
+import shop.ink3.api.book.book.entity.Book;
+import shop.ink3.api.book.book.repository.BookRepository;
+import shop.ink3.api.book.book.service.BookService;
+import shop.ink3.api.book.bookauthor.entity.BookAuthor;
+import shop.ink3.api.book.bookauthor.repository.BookAuthorRepository;
+import shop.ink3.api.common.dto.CommonResponse;
+import shop.ink3.api.common.dto.PageResponse;
+import shop.ink3.api.common.httpcache.CatalogHttpCache;
+import shop.ink3.api.common.httpcache.CatalogVersionService;
+
+/**
+ * 도서 목록 조건부 GET: 버전이 바뀌어 본문을 만들고 JSON으로 직렬화하는 경우와 If-None-Match가 맞아 304로 끝나는 경우.
+ * 리포지토리는 메모리 스텁이고 버전 조회(Redis 왕복 한 번)도 고정값이라, 실제 절감 폭은 DB 조회 비용만큼 더 크다.
+ * 응답 본문 크기는 setUp에서 한 번 출력한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConditionalGetBenchmark {
+    private static final String ETAG = "\"l-1760000000123-1760000000045\"";
+
+    @State(Scope.Benchmark)
+    public static class ListState {
+        @Param({"20", "100"})
+        public int pageSize;
+
+        BookService bookService;
+        CatalogHttpCache catalogHttpCache;
+        ObjectMapper objectMapper;
+        Pageable pageable;
+
+        @Setup
+        public void setUp() throws JsonProcessingException {
+            List<Book> books = Fixtures.books(pageSize);
+            Map<Long, List<BookAuthor>> authorsByBook = books.stream()
+                    .collect(Collectors.toMap(Book::getId, Fixtures::bookAuthors));
+            pageable = PageRequest.of(0, pageSize);
+
+            BookRepository bookRepository = RepositoryStubs.stub(BookRepository.class, Map.of(
+                    "findAll", args -> new PageImpl<>(books, (Pageable) args[0], 100_000)));
+            BookAuthorRepository bookAuthorRepository = RepositoryStubs.stub(BookAuthorRepository.class, Map.of(
+                    "findAllByBookId", args -> authorsByBook.get((Long) args[0])));
+            bookService = new BookService(
+                    bookRepository, null, null, bookAuthorRepository, null, null, null, null, null, null);
+
+            CatalogVersionService versions = new CatalogVersionService(null) {
+                @Override
+                public String bookListTag() {
+                    return ETAG;
+                }
+            };
+            catalogHttpCache = new CatalogHttpCache(versions, Duration.ofSeconds(30), Duration.ofSeconds(60));
+            objectMapper = new ObjectMapper()
+                    .registerModule(new JavaTimeModule())
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+            System.out.printf("%nbooks page size=%d body bytes 200=%d 304=0%n",
+                    pageSize, objectMapper.writeValueAsBytes(CommonResponse.success(bookService.getBooks(pageable)))
+                            .length);
+        }
+    }
+
+    @Benchmark
+    public byte[] modified(ListState state) throws JsonProcessingException {
+        ResponseEntity<CommonResponse<PageResponse<BookPreviewResponse>>> response = state.catalogHttpCache.bookList(
+                request(null), () -> CommonResponse.success(state.bookService.getBooks(state.pageable)));
+        return state.objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    @Benchmark
+    public ResponseEntity<CommonResponse<PageResponse<BookPreviewResponse>>> notModified(ListState state) {
+        return state.catalogHttpCache.bookList(
+                request(ETAG), () -> CommonResponse.success(state.bookService.getBooks(state.pageable)));
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/books");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,120 @@
+package shop.ink3.api.benchmark;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import shop.ink3.api.benchmark.support.Fixtures;
+import shop.ink3.api.benchmark.support.RepositoryStubs;
+import shop.ink3.api.book.book.entity.Book;
+import shop.ink3.api.book.book.repository.BookRepository;
+import shop.ink3.api.book.bookcategory.entity.BookCategory;
+import shop.ink3.api.book.bookcategory.repository.BookCategoryRepository;
+import shop.ink3.api.book.category.entity.Category;
+import shop.ink3.api.book.category.repository.CategoryRepository;
+import shop.ink3.api.book.category.service.CategoryService;
+import shop.ink3.api.coupon.bookCoupon.entity.BookCouponRepository;
+import shop.ink3.api.coupon.categoryCoupon.entity.CategoryCoupon;
+import shop.ink3.api.coupon.categoryCoupon.entity.CategoryCouponRepository;
+import shop.ink3.api.coupon.categoryCoupon.entity.CategoryCouponService;
+import shop.ink3.api.coupon.store.dto.CouponStoreDto;
+import shop.ink3.api.coupon.store.entity.CouponStore;
+import shop.ink3.api.coupon.store.entity.OriginType;
+import shop.ink3.api.coupon.store.repository.CouponStoreRepository;
+import shop.ink3.api.coupon.store.service.CouponStoreService;
+
+/**
+ * 주문서의 도서별 적용 가능 쿠폰 조회. 조상 카테고리 수집, 출처별 병합, 기한 필터링과 DTO 변환을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CouponStoreBenchmark {
+    private static final long USER_ID = 1L;
+    private static final long BOOK_ID = 1L;
+
+    @Param({"10", "100"})
+    public int storesPerOrigin;
+
+    private CouponStoreService couponStoreService;
+
+    @Setup
+    public void setUp() {
+        Book book = Fixtures.book(BOOK_ID);
+        List<Category> categories = Fixtures.categories(10);
+        Map<Long, Category> categoryById = categories.stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        // 말단 카테고리 두 개에 연결된 도서
+        List<Category> leaves = categories.subList(categories.size() - 2, categories.size());
+        List<BookCategory> bookCategories = leaves.stream()
+                .map(category -> new BookCategory(book, category))
+                .toList();
+
+        Map<OriginType, List<CouponStore>> storesByOrigin = new EnumMap<>(OriginType.class);
+        for (OriginType originType : OriginType.values()) {
+            storesByOrigin.put(originType, Fixtures.couponStores(originType, storesPerOrigin));
+        }
+        List<CategoryCoupon> categoryCoupons = new ArrayList<>();
+        for (CouponStore store : storesByOrigin.get(OriginType.CATEGORY)) {
+            categoryCoupons.add(CategoryCoupon.builder()
+                    .id(store.getOriginId())
+                    .coupon(store.getCoupon())
+                    .category(leaves.getFirst())
+                    .build());
+        }
+
+        CategoryRepository categoryRepository = RepositoryStubs.stub(CategoryRepository.class, Map.of(
+                "findById", args -> Optional.ofNullable(categoryById.get((Long) args[0])),
+                "findAllById", args -> {
+                    List<Category> found = new ArrayList<>();
+                    ((Iterable<?>) args[0]).forEach(id -> found.add(categoryById.get((Long) id)));
+                    return found;
+                }));
+        CategoryCouponRepository categoryCouponRepository = RepositoryStubs.stub(CategoryCouponRepository.class,
+                Map.of("findAllByCategoryIdInWithFetch", args -> categoryCoupons));
+        CouponStoreRepository couponStoreRepository = RepositoryStubs.stub(CouponStoreRepository.class, Map.of(
+                "findWithCouponByUserAndOriginAndStatus", args -> storesByOrigin.get((OriginType) args[1])));
+        BookCouponRepository bookCouponRepository = RepositoryStubs.stub(BookCouponRepository.class, Map.of(
+                "findIdsByBookId", args -> LongStream.rangeClosed(1, storesPerOrigin).boxed().toList()));
+        BookRepository bookRepository = RepositoryStubs.stub(BookRepository.class, Map.of(
+                "findById", args -> Optional.of(book)));
+        BookCategoryRepository bookCategoryRepository = RepositoryStubs.stub(BookCategoryRepository.class, Map.of(
+                "findAllByBookId", args -> bookCategories));
+
+        couponStoreService = new CouponStoreService(
+                null,
+                null,
+                bookCouponRepository,
+                new CategoryCouponService(categoryCouponRepository),
+                couponStoreRepository,
+                bookRepository,
+                categoryRepository,
+                bookCategoryRepository,
+                new CategoryService(categoryRepository)
+        );
+    }
+
+    @Benchmark
+    public List<CouponStoreDto> getApplicableCouponStores() {
+        return couponStoreService.getApplicableCouponStores(USER_ID, BOOK_ID);
+    }
+}
@@ -0,0 +1,39 @@
+package shop.ink3.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import shop.ink3.api.order.order.service.OrderService;
+
+/**
+ * 주문 번호 생성. 주문 생성마다 호출되므로 여러 스레드에서 동시에 측정한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderUuidBenchmark {
+    private long orderId = 1_000_000L;
+
+    @Benchmark
+    @Threads(1)
+    public String generateOrderUUID() {
+        return OrderService.generateOrderUUID(orderId++);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateOrderUUIDContended() {
+        return OrderService.generateOrderUUID(orderId++);
+    }
+}
@@ -0,0 +1,62 @@
+package shop.ink3.api.benchmark.h2;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import shop.ink3.api.book.book.dto.BookBulkUpdateRow;
+import shop.ink3.api.book.book.entity.BookStatus;
+import shop.ink3.api.book.book.repository.BookBulkUpdateJdbcRepository;
+
+/**
+ * 관리자 일괄 수정 5만 행을 한 번의 JDBC 배치로 반영하는 시간. 반복마다 값이 바뀌도록 행을 새로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BookBulkUpdateH2Benchmark extends SeededH2State {
+    private static final int ROWS = 50_000;
+
+    private BookBulkUpdateJdbcRepository bookBulkUpdateJdbcRepository;
+    private List<BookBulkUpdateRow> rows;
+    private int round;
+
+    @Override
+    protected void afterSeed() {
+        bookBulkUpdateJdbcRepository = context.getBean(BookBulkUpdateJdbcRepository.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void prepareRows() {
+        round++;
+        int step = Math.max(1, H2Seeder.BOOKS / ROWS);
+        rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            long bookId = 1 + (long) i * step % H2Seeder.BOOKS;
+            // 일부 열은 비워 COALESCE 경로도 함께 지나가게 한다
+            Integer quantity = i % 3 == 0 ? null : 100 + round;
+            BookStatus status = i % 10 == 0 ? BookStatus.OUT_OF_STOCK : null;
+            rows.add(new BookBulkUpdateRow(i + 2, bookId, null, 20000 + round, 18000 + round, quantity, status, null));
+        }
+    }
+
+    @Benchmark
+    public void updateAll() {
+        writeTransaction.executeWithoutResult(status ->
+                bookBulkUpdateJdbcRepository.updateAll(rows, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,65 @@
+package shop.ink3.api.benchmark.h2;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import shop.ink3.api.book.book.dto.BookPreviewResponse;
+import shop.ink3.api.book.book.enums.SortType;
+import shop.ink3.api.book.book.repository.BookRepository;
+import shop.ink3.api.book.book.service.BookService;
+import shop.ink3.api.book.bookauthor.repository.BookAuthorRepository;
+import shop.ink3.api.book.category.service.CategoryService;
+import shop.ink3.api.common.dto.PageResponse;
+
+/**
+ * 도서 10만 건, 주문 도서 100만 건에서의 목록/베스트셀러 조회. 쿼리 수와 매핑 비용이 함께 측정된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BookQueryH2Benchmark extends SeededH2State {
+    private static final int PAGE_SIZE = 20;
+
+    private BookService bookService;
+
+    @Override
+    protected void afterSeed() {
+        // 목록 조회에 필요한 리포지토리만 연결하고 외부 연동(MinIO, 검색)은 비워 둔다
+        bookService = new BookService(
+                context.getBean(BookRepository.class),
+                null,
+                null,
+                context.getBean(BookAuthorRepository.class),
+                null,
+                null,
+                null,
+                null,
+                context.getBean(CategoryService.class),
+                null
+        );
+    }
+
+    @Benchmark
+    public PageResponse<BookPreviewResponse> getBooks() {
+        int page = ThreadLocalRandom.current().nextInt(H2Seeder.BOOKS / PAGE_SIZE);
+        return readOnlyTransaction.execute(status -> bookService.getBooks(PageRequest.of(page, PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public PageResponse<BookPreviewResponse> getBestSellerBooks() {
+        return readOnlyTransaction.execute(status ->
+                bookService.getBestSellerBooks(SortType.REVIEW, PageRequest.of(0, PAGE_SIZE)));
+    }
+}
@@ -0,0 +1,42 @@
+package shop.ink3.api.benchmark.h2;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import shop.ink3.api.coupon.store.dto.CouponStoreDto;
+import shop.ink3.api.coupon.store.service.CouponStoreService;
+
+/**
+ * 시드된 쿠폰함(2만 건)에서 적용 가능 쿠폰 조회. 도서 쿠폰이 걸린 도서 1~100 중 하나를 고른다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CouponStoreH2Benchmark extends SeededH2State {
+    private CouponStoreService couponStoreService;
+
+    @Override
+    protected void afterSeed() {
+        couponStoreService = context.getBean(CouponStoreService.class);
+    }
+
+    @Benchmark
+    public List<CouponStoreDto> getApplicableCouponStores() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long userId = 1 + random.nextInt(H2Seeder.USERS);
+        long bookId = 1 + random.nextInt(H2Seeder.COUPONS / 2);
+        return readOnlyTransaction.execute(status -> couponStoreService.getApplicableCouponStores(userId, bookId));
+    }
+}
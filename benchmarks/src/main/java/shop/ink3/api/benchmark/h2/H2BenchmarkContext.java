@@ -0,0 +1,66 @@
+package shop.ink3.api.benchmark.h2;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import shop.ink3.api.book.book.repository.BookBulkUpdateJdbcRepository;
+import shop.ink3.api.book.category.service.CategoryService;
+import shop.ink3.api.common.export.ExportQueryRunner;
+import shop.ink3.api.coupon.categoryCoupon.entity.CategoryCouponService;
+import shop.ink3.api.coupon.store.service.CouponStoreService;
+import shop.ink3.api.order.order.repository.OrderExportJdbcRepository;
+import shop.ink3.api.order.orderBook.service.OrderBookService;
+
+/**
+ * H2 위에 JPA 계층만 올린 벤치마크용 컨텍스트.
+ * 컴포넌트 스캔 없이 측정 대상 서비스만 등록하므로 Redis/RabbitMQ/Elasticsearch 연결은 생기지 않는다.
+ * 캐시를 켜지 않아 @Cacheable 메서드도 매번 DB를 조회한다.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan("shop.ink3.api")
+@EnableJpaRepositories("shop.ink3.api")
+@Import({
+        CategoryService.class,
+        CategoryCouponService.class,
+        CouponStoreService.class,
+        OrderBookService.class,
+        BookBulkUpdateJdbcRepository.class,
+        ExportQueryRunner.class,
+        OrderExportJdbcRepository.class
+})
+public class H2BenchmarkContext {
+
+    private H2BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName) {
+        return startWithUrl("jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+    }
+
+    public static ConfigurableApplicationContext startWithUrl(String url) {
+        return new SpringApplicationBuilder(H2BenchmarkContext.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .logStartupInfo(false)
+                .properties(
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "spring.cloud.config.enabled=false",
+                        "spring.cloud.bus.enabled=false",
+                        "eureka.client.enabled=false",
+                        "spring.data.redis.repositories.enabled=false",
+                        "spring.rabbitmq.listener.simple.auto-startup=false"
+                )
+                // 기본 프로퍼티는 application-test.yml의 testdb 주소에 덮이므로 명령행 인자로 넘긴다
+                .run("--spring.datasource.url=" + url);
+    }
+}
@@ -0,0 +1,154 @@
+package shop.ink3.api.benchmark.h2;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 벤치마크 데이터 적재. 행 단위 INSERT 대신 H2 SYSTEM_RANGE로 테이블마다 한 문장씩 채운다.
+ * 규모는 시스템 프로퍼티 bench.books, bench.order-books로 줄이거나 늘릴 수 있다.
+ */
+public final class H2Seeder {
+    public static final int BOOKS = Integer.getInteger("bench.books", 100_000);
+    public static final int ORDER_BOOKS = Integer.getInteger("bench.order-books", 1_000_000);
+    public static final int USERS = 1_000;
+    public static final int COUPONS = 200;
+
+    private static final int PUBLISHERS = 1_000;
+    private static final int AUTHORS = 5_000;
+    private static final int COUPON_STORES = 20_000;
+    private static final int ORDER_CHUNK = 100_000;
+
+    private H2Seeder() {
+    }
+
+    public static void seed(JdbcTemplate jdbc) {
+        jdbc.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        try {
+            seedCatalog(jdbc);
+            seedOrders(jdbc);
+            seedCoupons(jdbc);
+        } finally {
+            jdbc.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+        // id를 직접 넣었으므로 이후 INSERT가 겹치지 않게 채번 위치를 옮긴다
+        restartIdentity(jdbc, "orders");
+        restartIdentity(jdbc, "coupons");
+        restartSequence(jdbc, "books");
+        restartSequence(jdbc, "order_books");
+        restartSequence(jdbc, "coupon_stores");
+        jdbc.execute("ANALYZE");
+    }
+
+    private static void restartIdentity(JdbcTemplate jdbc, String table) {
+        long next = maxId(jdbc, table) + 1;
+        jdbc.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+    }
+
+    // pooled 최적화기는 읽은 값을 구간 상한으로 쓰므로 ddl.sql과 같이 최대 id + 50에서 시작한다
+    private static void restartSequence(JdbcTemplate jdbc, String table) {
+        long next = maxId(jdbc, table) + 50;
+        jdbc.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH " + next);
+    }
+
+    private static long maxId(JdbcTemplate jdbc, String table) {
+        Long max = jdbc.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max != null ? max : 0;
+    }
+
+    private static void seedCatalog(JdbcTemplate jdbc) {
+        jdbc.update("INSERT INTO publishers (id, name) SELECT X, CONCAT('publisher-', X) FROM SYSTEM_RANGE(1, ?)",
+                PUBLISHERS);
+        jdbc.update("INSERT INTO authors (id, name) SELECT X, CONCAT('author-', X) FROM SYSTEM_RANGE(1, ?)",
+                AUTHORS);
+
+        // 루트 10개 - 2단계 100개 - 3단계 1,000개
+        jdbc.update("INSERT INTO categories (id, name, parent_id, path) "
+                + "SELECT X, CONCAT('root-', X), NULL, '' FROM SYSTEM_RANGE(1, 10)");
+        jdbc.update("INSERT INTO categories (id, name, parent_id, path) "
+                + "SELECT X, CONCAT('cat-', X), 1 + MOD(X - 11, 10), CONCAT('/', 1 + MOD(X - 11, 10)) "
+                + "FROM SYSTEM_RANGE(11, 110)");
+        jdbc.update("INSERT INTO categories (id, name, parent_id, path) "
+                + "SELECT X, CONCAT('cat-', X), 11 + MOD(X - 111, 100), "
+                + "CONCAT('/', 1 + MOD(MOD(X - 111, 100), 10), '/', 11 + MOD(X - 111, 100)) "
+                + "FROM SYSTEM_RANGE(111, 1110)");
+
+        jdbc.update("""
+                INSERT INTO books (id, isbn, title, contents, description, publisher_id, published_at,
+                                   original_price, sale_price, quantity, is_packable, total_rating,
+                                   review_count, like_count, thumbnail_url, status, updated_at)
+                SELECT X, CONCAT('978', LPAD(CAST(X AS VARCHAR), 10, '0')), CONCAT('book-', X), '', '',
+                       1 + MOD(X, ?), DATEADD('DAY', -MOD(X, 3650), CURRENT_DATE),
+                       20000, 18000, 100, TRUE, MOD(X, 50), MOD(X, 10), MOD(X, 30),
+                       CONCAT('https://img.ink3.shop/books/', X, '.jpg'), 'AVAILABLE', CURRENT_TIMESTAMP
+                  FROM SYSTEM_RANGE(1, ?)
+                """, PUBLISHERS, BOOKS);
+        jdbc.update("INSERT INTO book_authors (id, book_id, author_id, role) "
+                + "SELECT X, X, 1 + MOD(X, ?), '지은이' FROM SYSTEM_RANGE(1, ?)", AUTHORS, BOOKS);
+        jdbc.update("INSERT INTO book_authors (id, book_id, author_id, role) "
+                + "SELECT ? + X, X, 1 + MOD(X * 7, ?), '옮긴이' FROM SYSTEM_RANGE(1, ?)", BOOKS, AUTHORS, BOOKS);
+        jdbc.update("INSERT INTO book_categories (id, book_id, category_id) "
+                + "SELECT X, X, 111 + MOD(X, 1000) FROM SYSTEM_RANGE(1, ?)", BOOKS);
+    }
+
+    private static void seedOrders(JdbcTemplate jdbc) {
+        int orders = Math.max(1, ORDER_BOOKS / 4);
+        seedOrders(jdbc, orders);
+        jdbc.update("INSERT INTO order_books (id, order_id, book_id, price, quantity) "
+                + "SELECT X, 1 + (X - 1) / 4, 1 + MOD(X * 31, ?), 18000, 1 FROM SYSTEM_RANGE(1, ?)",
+                BOOKS, orders * 4L);
+    }
+
+    /**
+     * 회원과 주문만 채운다. 주문 5건 중 1건은 배송 완료 전 상태다.
+     * 파일 DB에서도 한 트랜잭션이 너무 커지지 않게 10만 건씩 나눠 넣는다.
+     */
+    public static void seedOrders(JdbcTemplate jdbc, int orders) {
+        jdbc.update("INSERT INTO memberships (id, name, condition_amount, point_rate, is_active, is_default, created_at) "
+                + "VALUES (1, 'basic', 0, 1, TRUE, TRUE, CURRENT_TIMESTAMP)");
+        jdbc.update("""
+                INSERT INTO users (id, login_id, password, name, email, phone, birthday, status, point,
+                                   membership_id, created_at)
+                SELECT X, CONCAT('user', X), 'password', CONCAT('user', X), CONCAT('user', X, '@ink3.shop'),
+                       '010-0000-0000', DATE '1990-01-01', 'ACTIVE', 0, 1, CURRENT_TIMESTAMP
+                  FROM SYSTEM_RANGE(1, ?)
+                """, USERS);
+
+        for (int from = 1; from <= orders; from += ORDER_CHUNK) {
+            jdbc.update("""
+                    INSERT INTO orders (id, user_id, order_uuid, status, ordered_at, orderer_name, orderer_phone,
+                                        policy_version)
+                    SELECT X, 1 + MOD(X, ?), CONCAT('bench-', X),
+                           CASE WHEN MOD(X, 5) = 0 THEN 'CONFIRMED' ELSE 'DELIVERED' END,
+                           DATEADD('MINUTE', -X, CURRENT_TIMESTAMP), 'bench', '010-0000-0000', 0
+                      FROM SYSTEM_RANGE(?, ?)
+                    """, USERS, from, Math.min(orders, from + ORDER_CHUNK - 1));
+        }
+    }
+
+    private static void seedCoupons(JdbcTemplate jdbc) {
+        jdbc.update("INSERT INTO coupon_policies (id, name, minimum_order_amount, discount_type, "
+                + "discount_percentage, maximum_discount_amount, created_at) "
+                + "VALUES (1, '10%', 0, 'RATE', 10, 5000, CURRENT_TIMESTAMP)");
+        jdbc.update("""
+                INSERT INTO coupons (id, coupon_policy_id, name, issuable_from, expires_at, is_active, created_at)
+                SELECT X, 1, CONCAT('coupon-', X), DATEADD('DAY', -1, CURRENT_TIMESTAMP),
+                       DATEADD('DAY', CASE WHEN MOD(X, 5) = 0 THEN -1 ELSE 30 END, CURRENT_TIMESTAMP),
+                       TRUE, CURRENT_TIMESTAMP
+                  FROM SYSTEM_RANGE(1, ?)
+                """, COUPONS);
+
+        // 앞 절반은 도서 쿠폰(도서 1~100), 뒤 절반은 카테고리 쿠폰(2·3단계 카테고리)
+        int half = COUPONS / 2;
+        jdbc.update("INSERT INTO book_coupons (id, coupon_id, book_id) "
+                + "SELECT X, X, X FROM SYSTEM_RANGE(1, ?)", half);
+        jdbc.update("INSERT INTO category_coupons (id, coupon_id, category_id) "
+                + "SELECT X, ? + X, 11 + MOD(X * 13, 1100) FROM SYSTEM_RANGE(1, ?)", half, half);
+        jdbc.update("""
+                INSERT INTO coupon_stores (id, user_id, coupon_id, origin_type, origin_id, status, issued_at)
+                SELECT X, 1 + MOD(X, ?), 1 + MOD(X, ?),
+                       CASE WHEN MOD(X, ?) < ? THEN 'BOOK' ELSE 'CATEGORY' END,
+                       CASE WHEN MOD(X, ?) < ? THEN 1 + MOD(X, ?) ELSE 1 + MOD(X, ?) - ? END,
+                       'READY', DATEADD('DAY', -1, CURRENT_TIMESTAMP)
+                  FROM SYSTEM_RANGE(1, ?)
+                """, USERS, COUPONS, COUPONS, half, COUPONS, half, COUPONS, COUPONS, half, COUPON_STORES);
+    }
+}
@@ -0,0 +1,111 @@
+package shop.ink3.api.benchmark.h2;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import shop.ink3.api.coupon.coupon.entity.Coupon;
+import shop.ink3.api.coupon.coupon.repository.CouponRepository;
+import shop.ink3.api.coupon.policy.repository.PolicyRepository;
+import shop.ink3.api.coupon.store.entity.OriginType;
+import shop.ink3.api.coupon.store.service.CouponStoreService;
+import shop.ink3.api.order.order.entity.Order;
+import shop.ink3.api.order.order.entity.OrderStatus;
+import shop.ink3.api.order.order.repository.OrderRepository;
+import shop.ink3.api.order.orderBook.dto.OrderBookCreateRequest;
+import shop.ink3.api.order.orderBook.service.OrderBookService;
+import shop.ink3.api.user.user.repository.UserRepository;
+
+/**
+ * 쓰기 처리량: 주문 생성(주문 1건 + 주문 도서 5건)과 회원 1,000명 대상 쿠폰 일괄 발급.
+ * id 채번 전략을 바꾸기 전 커밋에서 같은 벤치마크를 돌려 BenchmarkComparison으로 비교한다.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class InsertThroughputH2Benchmark extends SeededH2State {
+    private static final int ORDER_BOOKS_PER_ORDER = 5;
+
+    private OrderRepository orderRepository;
+    private OrderBookService orderBookService;
+    private UserRepository userRepository;
+    private CouponRepository couponRepository;
+    private PolicyRepository policyRepository;
+    private CouponStoreService couponStoreService;
+    private JdbcTemplate jdbcTemplate;
+    private List<Long> userIds;
+
+    @Override
+    protected void afterSeed() {
+        orderRepository = context.getBean(OrderRepository.class);
+        orderBookService = context.getBean(OrderBookService.class);
+        userRepository = context.getBean(UserRepository.class);
+        couponRepository = context.getBean(CouponRepository.class);
+        policyRepository = context.getBean(PolicyRepository.class);
+        couponStoreService = context.getBean(CouponStoreService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        userIds = LongStream.rangeClosed(1, H2Seeder.USERS).boxed().toList();
+    }
+
+    // 일괄 발급은 READY 생일 쿠폰이 있는 회원을 건너뛰므로 반복마다 비운다
+    @Setup(Level.Iteration)
+    public void clearBirthdayCoupons() {
+        jdbcTemplate.update("DELETE FROM coupon_stores WHERE origin_type = 'BIRTHDAY'");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 2, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    public long createOrder() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return writeTransaction.execute(status -> {
+            Order order = orderRepository.save(Order.builder()
+                    .user(userRepository.getReferenceById(1 + (long) random.nextInt(H2Seeder.USERS)))
+                    .status(OrderStatus.CREATED)
+                    .orderedAt(LocalDateTime.now())
+                    .ordererName("bench")
+                    .ordererPhone("010-0000-0000")
+                    .build());
+            List<OrderBookCreateRequest> requests = new ArrayList<>(ORDER_BOOKS_PER_ORDER);
+            for (int i = 0; i < ORDER_BOOKS_PER_ORDER; i++) {
+                long bookId = 1 + random.nextInt(H2Seeder.BOOKS);
+                requests.add(new OrderBookCreateRequest(bookId, null, null, 18000, 1));
+            }
+            orderBookService.createOrderBook(order.getId(), requests);
+            return order.getId();
+        });
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public int issueBulkCoupons() {
+        return writeTransaction.execute(status -> {
+            Coupon coupon = couponRepository.save(Coupon.builder()
+                    .couponPolicy(policyRepository.getReferenceById(1L))
+                    .name("BIRTHDAY")
+                    .issuableFrom(LocalDateTime.now())
+                    .expiresAt(LocalDateTime.now().plusDays(30))
+                    .isActive(true)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            return couponStoreService.issueBulkCoupons(coupon.getId(), OriginType.BIRTHDAY, userIds);
+        });
+    }
+}
@@ -0,0 +1,125 @@
+package shop.ink3.api.benchmark.h2;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+import shop.ink3.api.common.export.ExportFormat;
+import shop.ink3.api.common.export.ExportPeriod;
+import shop.ink3.api.order.order.repository.OrderExportJdbcRepository;
+
+/**
+ * 주문 100만 건 내보내기의 힙 사용량 확인. JMH가 아닌 단독 실행으로, 작은 힙(-Xmx256m)에서 돌려
+ * 커서 스트리밍(ndjson, csv)은 끝까지 쓰고 전체를 List로 읽는 방식(--materialized)은 힙이 모자라는지 본다.
+ * DB 자체가 힙을 차지하지 않도록 H2 파일 DB에 적재하고, 응답 대신 바이트 수만 세는 스트림에 쓴다.
+ *
+ * <pre>
+ * java -Xmx256m -cp benchmarks/target/benchmarks.jar shop.ink3.api.benchmark.h2.OrderExportMemoryCheck \
+ *     [--orders=1000000] [--materialized]
+ * </pre>
+ */
+public final class OrderExportMemoryCheck {
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    record Report(String mode, long rows, long bytes, double seconds, long peakHeapMb, String result) {
+    }
+
+    private OrderExportMemoryCheck() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int orders = intArg(args, "--orders=", 1_000_000);
+        boolean materialized = Arrays.asList(args).contains("--materialized");
+
+        Path directory = Files.createTempDirectory("order-export");
+        String url = "jdbc:h2:file:" + directory.resolve("export") + ";LAZY_QUERY_EXECUTION=TRUE;CACHE_SIZE=8192";
+        List<Report> reports = new ArrayList<>();
+        try (ConfigurableApplicationContext context = H2BenchmarkContext.startWithUrl(url)) {
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            H2Seeder.seedOrders(jdbc, orders);
+            OrderExportJdbcRepository repository = context.getBean(OrderExportJdbcRepository.class);
+
+            for (ExportFormat format : ExportFormat.values()) {
+                reports.add(measure(format.getExtension(),
+                        out -> repository.export(ExportPeriod.unbounded(), null, format, out)));
+            }
+            if (materialized) {
+                reports.add(measure("materialized", out -> jdbc.queryForList(
+                        "SELECT id, order_uuid, user_id, status, ordered_at, orderer_name, orderer_phone "
+                                + "FROM orders ORDER BY ordered_at, id").size()));
+            }
+        } finally {
+            FileSystemUtils.deleteRecursively(directory);
+        }
+
+        System.out.printf("%norders=%d max heap=%dMB%n", orders, Runtime.getRuntime().maxMemory() >> 20);
+        System.out.printf("| mode | rows | bytes | seconds | peak heap (MB) | result |%n");
+        System.out.printf("|---|---:|---:|---:|---:|---|%n");
+        reports.forEach(report -> System.out.printf("| %s | %d | %d | %.2f | %d | %s |%n",
+                report.mode(), report.rows(), report.bytes(), report.seconds(), report.peakHeapMb(),
+                report.result()));
+    }
+
+    private static Report measure(String mode, ToLongFunction<OutputStream> export) throws InterruptedException {
+        System.gc();
+        AtomicLong peak = new AtomicLong(MEMORY.getHeapMemoryUsage().getUsed());
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+            while (running.get()) {
+                peak.accumulateAndGet(MEMORY.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        CountingOutputStream out = new CountingOutputStream();
+        long started = System.nanoTime();
+        long rows = 0;
+        String result = "ok";
+        try {
+            rows = export.applyAsLong(out);
+        } catch (OutOfMemoryError e) {
+            result = "OutOfMemoryError";
+        } finally {
+            running.set(false);
+            sampler.join();
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        return new Report(mode, rows, out.count, seconds, peak.get() >> 20, result);
+    }
+
+    private static int intArg(String[] args, String prefix, int defaultValue) {
+        return Arrays.stream(args)
+                .filter(arg -> arg.startsWith(prefix))
+                .map(arg -> Integer.parseInt(arg.substring(prefix.length())))
+                .findFirst()
+                .orElse(defaultValue);
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
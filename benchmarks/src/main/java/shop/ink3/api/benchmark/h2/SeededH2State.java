@@ -0,0 +1,39 @@
+package shop.ink3.api.benchmark.h2;
+
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 벤치마크 클래스마다 컨텍스트를 띄우고 시드를 한 번 적재한다. 포크마다 별도의 메모리 DB를 쓴다.
+ */
+public abstract class SeededH2State {
+    protected ConfigurableApplicationContext context;
+    protected TransactionTemplate readOnlyTransaction;
+    protected TransactionTemplate writeTransaction;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = H2BenchmarkContext.start(getClass().getSimpleName());
+        H2Seeder.seed(new JdbcTemplate(context.getBean(DataSource.class)));
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        afterSeed();
+    }
+
+    protected void afterSeed() {
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+}
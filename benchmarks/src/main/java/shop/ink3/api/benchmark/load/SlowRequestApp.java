@@ -0,0 +1,62 @@
+package shop.ink3.api.benchmark.load;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import shop.ink3.api.common.advice.GlobalExceptionHandler;
+import shop.ink3.api.common.resilience.Bulkhead;
+
+/**
+ * 느린 외부 호출 하나만 하는 웹 앱. 외부 호출은 서비스와 같은 Bulkhead로 감싸 동시 실행 수를 제한한다.
+ * 웹 계층 자동 설정만 가져오므로 DB/Redis/RabbitMQ 연결은 생기지 않는다.
+ */
+@SpringBootConfiguration
+@ImportAutoConfiguration({
+        ServletWebServerFactoryAutoConfiguration.class,
+        EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+        DispatcherServletAutoConfiguration.class,
+        WebMvcAutoConfiguration.class,
+        HttpMessageConvertersAutoConfiguration.class,
+        JacksonAutoConfiguration.class
+})
+@Import({SlowRequestApp.SlowController.class, GlobalExceptionHandler.class})
+public class SlowRequestApp {
+
+    @Bean
+    public Bulkhead downstreamBulkhead(
+            @Value("${load.downstream-limit:500}") int downstreamLimit,
+            @Value("${load.downstream-wait:5s}") Duration downstreamWait
+    ) {
+        return new Bulkhead("downstream", downstreamLimit, downstreamWait);
+    }
+
+    @RestController
+    static class SlowController {
+        private final Bulkhead downstreamBulkhead;
+        private final long latencyMillis;
+
+        SlowController(Bulkhead downstreamBulkhead, @Value("${load.latency:200ms}") Duration latency) {
+            this.downstreamBulkhead = downstreamBulkhead;
+            this.latencyMillis = latency.toMillis();
+        }
+
+        @GetMapping("/slow")
+        public String slow() throws InterruptedException {
+            return downstreamBulkhead.call(() -> {
+                Thread.sleep(latencyMillis);
+                return "ok";
+            });
+        }
+    }
+}
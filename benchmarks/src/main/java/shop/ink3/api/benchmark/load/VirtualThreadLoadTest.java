@@ -0,0 +1,153 @@
+package shop.ink3.api.benchmark.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 느린 요청을 동시에 많이 보냈을 때 플랫폼 스레드(Tomcat 기본 200개) 모드와 가상 스레드 모드의 처리량을 비교한다.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar shop.ink3.api.benchmark.load.VirtualThreadLoadTest \
+ *     [--concurrency=2000] [--rounds=3] [--latency=200ms] [--downstream-limit=500]
+ * </pre>
+ */
+public final class VirtualThreadLoadTest {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    record Report(String mode, int requests, int failed, double seconds, long p50Millis, long p99Millis) {
+        double throughput() {
+            return requests / seconds;
+        }
+    }
+
+    private VirtualThreadLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = intArg(args, "--concurrency=", 2000);
+        int rounds = intArg(args, "--rounds=", 3);
+        String latency = stringArg(args, "--latency=", "200ms");
+        int downstreamLimit = intArg(args, "--downstream-limit=", 500);
+
+        List<Report> reports = new ArrayList<>();
+        for (boolean virtual : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext context = start(virtual, latency, downstreamLimit)) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                URI uri = URI.create("http://localhost:" + port + "/slow");
+                // 첫 라운드는 JIT/커넥션 준비용으로 버린다
+                fire(uri, Math.min(concurrency, 200), virtual ? "virtual" : "platform");
+                for (int round = 0; round < rounds; round++) {
+                    reports.add(fire(uri, concurrency, virtual ? "virtual" : "platform"));
+                }
+            }
+        }
+
+        System.out.printf("%n| mode | requests | failed | seconds | req/s | p50 (ms) | p99 (ms) |%n");
+        System.out.printf("|---|---:|---:|---:|---:|---:|---:|%n");
+        reports.forEach(report -> System.out.printf("| %s | %d | %d | %.2f | %.1f | %d | %d |%n",
+                report.mode(), report.requests(), report.failed(), report.seconds(), report.throughput(),
+                report.p50Millis(), report.p99Millis()));
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtual, String latency, int downstreamLimit) {
+        return new SpringApplicationBuilder(SlowRequestApp.class)
+                .web(WebApplicationType.SERVLET)
+                .logStartupInfo(false)
+                .properties(
+                        // api 모듈의 application.yml(config server 등)을 읽지 않도록 설정 파일 이름을 바꾼다
+                        "spring.config.name=vthreads-load",
+                        "spring.main.banner-mode=off",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "server.port=0",
+                        "server.tomcat.threads.max=200",
+                        "server.tomcat.max-connections=10000",
+                        "server.tomcat.accept-count=2000",
+                        "load.latency=" + latency,
+                        "load.downstream-limit=" + downstreamLimit,
+                        "logging.level.root=WARN"
+                )
+                .run();
+    }
+
+    private static Report fire(URI uri, int concurrency, String mode) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build();
+        AtomicInteger failed = new AtomicInteger();
+        long[] latencies = new long[concurrency];
+        CountDownLatch ready = new CountDownLatch(1);
+
+        long startedAt;
+        long finishedAt;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    long begin = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            failed.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        failed.incrementAndGet();
+                    }
+                    latencies[index] = (System.nanoTime() - begin) / 1_000_000;
+                    return null;
+                }));
+            }
+            startedAt = System.nanoTime();
+            ready.countDown();
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                }
+            }
+            finishedAt = System.nanoTime();
+        }
+
+        Arrays.sort(latencies);
+        return new Report(
+                mode,
+                concurrency,
+                failed.get(),
+                (finishedAt - startedAt) / 1_000_000_000.0,
+                latencies[concurrency / 2],
+                latencies[Math.min(concurrency - 1, (int) Math.ceil(concurrency * 0.99) - 1)]
+        );
+    }
+
+    private static int intArg(String[] args, String prefix, int defaultValue) {
+        return Integer.parseInt(stringArg(args, prefix, String.valueOf(defaultValue)));
+    }
+
+    private static String stringArg(String[] args, String prefix, String defaultValue) {
+        return Arrays.stream(args)
+                .filter(arg -> arg.startsWith(prefix))
+                .map(arg -> arg.substring(prefix.length()))
+                .findFirst()
+                .orElse(defaultValue);
+    }
+}
@@ -0,0 +1,176 @@
+package shop.ink3.api.benchmark.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JMH JSON 결과(-rf json)를 기준선과 비교해 마크다운 표로 출력한다.
+ * 기준선보다 threshold(%) 넘게 나빠진 항목이 있으면 종료 코드 1을 반환한다.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar shop.ink3.api.benchmark.report.BenchmarkComparison \
+ *     jmh-result.json benchmarks/baseline/baseline.json [--threshold=10] [--report=report.md] [--update-baseline]
+ * </pre>
+ */
+public final class BenchmarkComparison {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final double DEFAULT_THRESHOLD = 10.0;
+
+    record Result(String key, String mode, double score, double error, String unit) {
+        // 처리량(thrpt)만 값이 클수록 좋다
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+
+    record Row(String key, Result baseline, Result current, double changePercent, Verdict verdict) {
+    }
+
+    enum Verdict {
+        NEW, SAME, IMPROVED, REGRESSED, REMOVED
+    }
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<String> positional = new ArrayList<>();
+        double threshold = DEFAULT_THRESHOLD;
+        Path reportPath = null;
+        boolean updateBaseline = false;
+        for (String arg : args) {
+            if (arg.startsWith("--threshold=")) {
+                threshold = Double.parseDouble(arg.substring("--threshold=".length()));
+            } else if (arg.startsWith("--report=")) {
+                reportPath = Path.of(arg.substring("--report=".length()));
+            } else if (arg.equals("--update-baseline")) {
+                updateBaseline = true;
+            } else {
+                positional.add(arg);
+            }
+        }
+        if (positional.isEmpty()) {
+            System.err.println("usage: BenchmarkComparison <jmh-result.json> [baseline.json] "
+                    + "[--threshold=10] [--report=report.md] [--update-baseline]");
+            System.exit(2);
+        }
+
+        Path resultPath = Path.of(positional.getFirst());
+        Path baselinePath = Path.of(positional.size() > 1 ? positional.get(1) : "benchmarks/baseline/baseline.json");
+        Map<String, Result> current = read(resultPath);
+        Map<String, Result> baseline = Files.exists(baselinePath) ? read(baselinePath) : Map.of();
+
+        List<Row> rows = compare(baseline, current, threshold);
+        String report = render(rows, threshold);
+        System.out.println(report);
+        if (reportPath != null) {
+            Files.writeString(reportPath, report);
+        }
+
+        if (updateBaseline) {
+            Files.copy(resultPath, baselinePath, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("baseline updated: " + baselinePath);
+            return;
+        }
+        if (rows.stream().anyMatch(row -> row.verdict() == Verdict.REGRESSED)) {
+            System.exit(1);
+        }
+    }
+
+    static Map<String, Result> read(Path path) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode node : OBJECT_MAPPER.readTree(path.toFile())) {
+            String key = node.path("benchmark").asText() + params(node.path("params"));
+            JsonNode metric = node.path("primaryMetric");
+            results.put(key, new Result(
+                    key,
+                    node.path("mode").asText(),
+                    metric.path("score").asDouble(),
+                    metric.path("scoreError").asDouble(Double.NaN),
+                    metric.path("scoreUnit").asText()
+            ));
+        }
+        return results;
+    }
+
+    static List<Row> compare(Map<String, Result> baseline, Map<String, Result> current, double threshold) {
+        List<Row> rows = new ArrayList<>();
+        current.forEach((key, now) -> {
+            Result before = baseline.get(key);
+            if (before == null || before.score() == 0 || !before.mode().equals(now.mode())) {
+                rows.add(new Row(key, before, now, Double.NaN, Verdict.NEW));
+                return;
+            }
+            double change = (now.score() - before.score()) / before.score() * 100;
+            // 개선 방향이 양수가 되도록 맞춘다
+            double gain = now.higherIsBetter() ? change : -change;
+            Verdict verdict = gain < -threshold ? Verdict.REGRESSED
+                    : gain > threshold ? Verdict.IMPROVED
+                    : Verdict.SAME;
+            rows.add(new Row(key, before, now, change, verdict));
+        });
+        baseline.forEach((key, before) -> {
+            if (!current.containsKey(key)) {
+                rows.add(new Row(key, before, null, Double.NaN, Verdict.REMOVED));
+            }
+        });
+        return rows;
+    }
+
+    static String render(List<Row> rows, double threshold) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("## Benchmark comparison (threshold ").append(threshold).append("%)\n\n");
+        sb.append("| benchmark | mode | baseline | current | change | verdict |\n");
+        sb.append("|---|---|---:|---:|---:|---|\n");
+        for (Row row : rows) {
+            Result any = row.current() != null ? row.current() : row.baseline();
+            sb.append("| ").append(shorten(row.key()))
+                    .append(" | ").append(any.mode())
+                    .append(" | ").append(format(row.baseline()))
+                    .append(" | ").append(format(row.current()))
+                    .append(" | ").append(Double.isNaN(row.changePercent()) ? "-" : "%+.1f%%".formatted(row.changePercent()))
+                    .append(" | ").append(row.verdict())
+                    .append(" |\n");
+        }
+        long regressed = rows.stream().filter(row -> row.verdict() == Verdict.REGRESSED).count();
+        sb.append("\nregressions: ").append(regressed).append(" / ").append(rows.size()).append('\n');
+        return sb.toString();
+    }
+
+    private static String params(JsonNode params) {
+        if (params.isMissingNode() || params.isEmpty()) {
+            return "";
+        }
+        Map<String, String> sorted = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            sorted.put(field.getKey(), field.getValue().asText());
+        }
+        return sorted.toString();
+    }
+
+    private static String format(Result result) {
+        if (result == null) {
+            return "-";
+        }
+        if (Double.isNaN(result.error())) {
+            return "%.3f %s".formatted(result.score(), result.unit());
+        }
+        return "%.3f ± %.3f %s".formatted(result.score(), result.error(), result.unit());
+    }
+
+    private static String shorten(String key) {
+        return key.replace("shop.ink3.api.benchmark.", "");
+    }
+}
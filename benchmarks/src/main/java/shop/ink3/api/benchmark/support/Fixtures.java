@@ -0,0 +1,129 @@
+package shop.ink3.api.benchmark.support;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import shop.ink3.api.book.author.entity.Author;
+import shop.ink3.api.book.book.entity.Book;
+import shop.ink3.api.book.book.entity.BookStatus;
+import shop.ink3.api.book.bookauthor.entity.BookAuthor;
+import shop.ink3.api.book.category.entity.Category;
+import shop.ink3.api.book.publisher.entity.Publisher;
+import shop.ink3.api.coupon.coupon.entity.Coupon;
+import shop.ink3.api.coupon.policy.entity.CouponPolicy;
+import shop.ink3.api.coupon.policy.entity.DiscountType;
+import shop.ink3.api.coupon.store.entity.CouponStatus;
+import shop.ink3.api.coupon.store.entity.CouponStore;
+import shop.ink3.api.coupon.store.entity.OriginType;
+
+/**
+ * 메모리 벤치마크용 엔티티 묶음. 값은 고정 규칙으로 만들어 실행마다 같은 입력이 되게 한다.
+ */
+public final class Fixtures {
+    private static final Publisher PUBLISHER = Publisher.builder().id(1L).name("ink3").build();
+
+    private Fixtures() {
+    }
+
+    public static List<Book> books(int count) {
+        List<Book> books = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            books.add(book(id));
+        }
+        return books;
+    }
+
+    public static Book book(long id) {
+        return Book.builder()
+                .id(id)
+                .isbn("978%010d".formatted(id))
+                .title("book-" + id)
+                .contents("")
+                .description("")
+                .publisher(PUBLISHER)
+                .publishedAt(LocalDate.of(2024, 1, 1).minusDays(id % 3650))
+                .originalPrice(20000)
+                .salePrice(18000)
+                .quantity(100)
+                .isPackable(true)
+                .totalRating(id % 50)
+                .reviewCount(id % 10)
+                .likeCount(id % 30)
+                .thumbnailUrl("https://img.ink3.shop/books/" + id + ".jpg")
+                .status(BookStatus.AVAILABLE)
+                .build();
+    }
+
+    public static List<BookAuthor> bookAuthors(Book book) {
+        return List.of(
+                new BookAuthor(book, Author.builder().id(book.getId()).name("author-" + book.getId()).build(), "지은이"),
+                new BookAuthor(book, Author.builder().id(-book.getId()).name("trans-" + book.getId()).build(), "옮긴이")
+        );
+    }
+
+    /**
+     * 루트 10개 아래로 fanOut개씩 자식을 두는 3단계 카테고리. path 오름차순으로 반환한다.
+     */
+    public static List<Category> categories(int fanOut) {
+        List<Category> roots = new ArrayList<>();
+        List<Category> all = new ArrayList<>();
+        long id = 1;
+        for (int r = 0; r < 10; r++) {
+            Category root = Category.builder().id(id++).name("root-" + r).path("").build();
+            roots.add(root);
+            all.add(root);
+        }
+        List<Category> seconds = new ArrayList<>();
+        for (Category root : roots) {
+            for (int c = 0; c < fanOut; c++) {
+                Category child = Category.builder().id(id).name("cat-" + id).parent(root)
+                        .path("/" + root.getId()).build();
+                id++;
+                seconds.add(child);
+                all.add(child);
+            }
+        }
+        for (Category second : seconds) {
+            for (int c = 0; c < fanOut; c++) {
+                all.add(Category.builder().id(id).name("cat-" + id).parent(second)
+                        .path(second.getPath() + "/" + second.getId()).build());
+                id++;
+            }
+        }
+        all.sort((a, b) -> a.getPath().compareTo(b.getPath()));
+        return all;
+    }
+
+    public static List<CouponStore> couponStores(OriginType originType, int count) {
+        CouponPolicy policy = CouponPolicy.builder()
+                .id(1L)
+                .name("10%")
+                .discountType(DiscountType.RATE)
+                .discountPercentage(10)
+                .maximumDiscountAmount(5000)
+                .build();
+        LocalDateTime now = LocalDateTime.now();
+        List<CouponStore> stores = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            Coupon coupon = Coupon.builder()
+                    .id(id)
+                    .couponPolicy(policy)
+                    .name("coupon-" + id)
+                    // 일부는 기한이 지나 필터링되게 한다
+                    .issuableFrom(now.minusDays(1))
+                    .expiresAt(id % 5 == 0 ? now.minusDays(1) : now.plusDays(30))
+                    .isActive(true)
+                    .build();
+            stores.add(CouponStore.builder()
+                    .id(id)
+                    .coupon(coupon)
+                    .originType(originType)
+                    .originId(id)
+                    .status(CouponStatus.READY)
+                    .issuedAt(now.minusDays(1))
+                    .build());
+        }
+        return stores;
+    }
+}
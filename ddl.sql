@@ -40,12 +40,13 @@ CREATE TABLE `users`
 CREATE TABLE `publishers`
 (
     `id`   bigint      NOT NULL PRIMARY KEY AUTO_INCREMENT,
-    `name` varchar(20) NOT NULL
+    `name` varchar(20) NOT NULL,
+    UNIQUE KEY `uk_publisher_name` (`name`)
 );
 
 CREATE TABLE `books`
 (
-    `id`             bigint       NOT NULL PRIMARY KEY AUTO_INCREMENT,
+    `id`             bigint       NOT NULL PRIMARY KEY,
     `isbn`           varchar(20)  NOT NULL,
     `title`          varchar(255) NOT NULL,
     `contents`       text         NOT NULL,
@@ -59,7 +60,9 @@ CREATE TABLE `books`
     `status`         varchar(20)  NOT NULL,
     `is_packable`    boolean      NOT NULL,
     `thumbnail_url`  varchar(255) NOT NULL,
-    FOREIGN KEY (`publisher_id`) REFERENCES `publishers` (`id`)
+    `updated_at`     datetime     NULL,
+    FOREIGN KEY (`publisher_id`) REFERENCES `publishers` (`id`),
+    INDEX `idx_books_updated_at` (`updated_at`, `id`)
 );
 
 CREATE TABLE `likes`
@@ -102,7 +105,7 @@ CREATE TABLE `coupons`
 
 CREATE TABLE `coupon_stores`
 (
-    `id`          bigint      NOT NULL PRIMARY KEY AUTO_INCREMENT,
+    `id`          bigint      NOT NULL PRIMARY KEY,
     `user_id`     bigint      NOT NULL,
     `coupon_id`   bigint      NOT NULL,
     `created_at`  DateTime    NOT NULL,
@@ -111,7 +114,8 @@ CREATE TABLE `coupon_stores`
     `valid_until` datetime    NOT NULL,
     `status`      varchar(20) NOT NULL,
     FOREIGN KEY (`user_id`) REFERENCES `users` (`id`),
-    FOREIGN KEY (`coupon_id`) REFERENCES `coupons` (`id`)
+    FOREIGN KEY (`coupon_id`) REFERENCES `coupons` (`id`),
+    INDEX `idx_coupon_stores_user_status` (`user_id`, `status`)
 );
 
 CREATE TABLE `category_coupons`
@@ -142,7 +146,8 @@ CREATE TABLE `authors`
     `name`        varchar(20)  NOT NULL,
     `birth`       date         NOT NULL,
     `nationality` varchar(20)  NOT NULL,
-    `biography`   varchar(255) NOT NULL
+    `biography`   varchar(255) NOT NULL,
+    UNIQUE KEY `uk_author_name` (`name`)
 );
 
 CREATE TABLE `book_authors`
@@ -150,6 +155,7 @@ CREATE TABLE `book_authors`
     `id`        bigint NOT NULL PRIMARY KEY AUTO_INCREMENT,
     `book_id`   bigint NOT NULL,
     `author_id` bigint NOT NULL,
+    `role`      varchar(255) NOT NULL,
     FOREIGN KEY (`book_id`) REFERENCES `books` (`id`),
     FOREIGN KEY (`author_id`) REFERENCES `authors` (`id`)
 );
@@ -171,8 +177,11 @@ CREATE TABLE `orders`
     `orderer_phone`   varchar(20) NOT NULL,
     `user_id`         bigint      NULL,
     `coupon_store_id` bigint      NULL,
+    `policy_version`  bigint      NULL,
     FOREIGN KEY (`user_id`) REFERENCES `users` (`id`),
-    FOREIGN KEY (`coupon_store_id`) REFERENCES `coupon_stores` (`id`)
+    FOREIGN KEY (`coupon_store_id`) REFERENCES `coupon_stores` (`id`),
+    INDEX `idx_orders_status` (`status`, `id`),
+    INDEX `idx_orders_ordered_at` (`ordered_at`)
 );
 
 CREATE TABLE `guest_order_accesses`
@@ -195,7 +204,7 @@ CREATE TABLE `book_coupons`
 
 CREATE TABLE `order_books`
 (
-    `id`              bigint NOT NULL PRIMARY KEY AUTO_INCREMENT,
+    `id`              bigint NOT NULL PRIMARY KEY,
     `order_id`        bigint NOT NULL,
     `book_id`         bigint NOT NULL,
     `packaging_id`    bigint NULL,
@@ -230,6 +239,14 @@ CREATE TABLE `reviews`
     FOREIGN KEY (`order_book_id`) REFERENCES `order_books` (`id`)
 );
 
+CREATE TABLE `review_images`
+(
+    `id`        bigint       NOT NULL PRIMARY KEY,
+    `image_url` varchar(255) NULL,
+    `review_id` bigint       NOT NULL,
+    FOREIGN KEY (`review_id`) REFERENCES `reviews` (`id`)
+);
+
 CREATE TABLE `shipments`
 (
     `id`                      bigint       NOT NULL PRIMARY KEY AUTO_INCREMENT,
@@ -269,7 +286,8 @@ CREATE TABLE `point_policies`
 CREATE TABLE `tags`
 (
     `id`   bigint      NOT NULL PRIMARY KEY AUTO_INCREMENT,
-    `name` varchar(20) NOT NULL
+    `name` varchar(20) NOT NULL,
+    UNIQUE KEY `uk_tag_name` (`name`)
 );
 
 CREATE TABLE `book_categories`
@@ -302,7 +320,7 @@ CREATE TABLE `book_tags`
 
 CREATE TABLE `point_histories`
 (
-    `id`         bigint      NOT NULL PRIMARY KEY AUTO_INCREMENT,
+    `id`         bigint      NOT NULL PRIMARY KEY,
     `user_id`    bigint      NOT NULL,
     `delta`      int         NULL,
     `status`     varchar(20) NULL,
@@ -316,7 +334,20 @@ CREATE TABLE `payments`
     `order_id`       bigint       NOT NULL,
     `payment_key`    varchar(100) NOT NULL,
     `payment_amount` int          NOT NULL,
-    FOREIGN KEY (`order_id`) REFERENCES `orders` (`id`)
+    FOREIGN KEY (`order_id`) REFERENCES `orders` (`id`),
+    UNIQUE KEY `uk_payments_order_id` (`order_id`)
+);
+
+CREATE TABLE `payment_idempotency`
+(
+    `id`              bigint       NOT NULL PRIMARY KEY AUTO_INCREMENT,
+    `idempotency_key` varchar(200) NOT NULL,
+    `order_id`        bigint       NOT NULL,
+    `owner`           varchar(36)  NOT NULL,
+    `status`          varchar(20)  NOT NULL,
+    `response`        text         NULL,
+    `started_at`      datetime     NOT NULL,
+    UNIQUE KEY `uk_payment_idempotency_key` (`idempotency_key`)
 );
 
 CREATE TABLE `carts`
@@ -337,3 +368,53 @@ CREATE TABLE `socials`
     `provider_user_id` varchar(100) NOT NULL,
     FOREIGN KEY (`user_id`) REFERENCES `users` (`id`)
 );
+
+-- 실패한 @Async 작업. AsyncTaskReplayWorker가 next_attempt_at이 지난 PENDING 행을 다시 실행한다
+CREATE TABLE `async_task_failures`
+(
+    `id`              bigint        NOT NULL PRIMARY KEY AUTO_INCREMENT,
+    `task_name`       varchar(200)  NOT NULL,
+    `parameter_types` varchar(500)  NOT NULL,
+    `payload`         text          NOT NULL,
+    `attempts`        int           NOT NULL,
+    `status`          varchar(20)   NOT NULL,
+    `last_error`      varchar(1000) NULL,
+    `next_attempt_at` datetime      NOT NULL,
+    `claimed_at`      datetime      NULL,
+    `created_at`      datetime      NOT NULL,
+    KEY `idx_async_task_failures_status` (`status`, `next_attempt_at`)
+);
+
+-- 관리자 대시보드 통계 카운터 (변경 커밋 후 증감, 매시 재계산)
+CREATE TABLE `statistics_counters`
+(
+    `counter_key`   varchar(40) NOT NULL PRIMARY KEY,
+    `counter_value` bigint      NOT NULL,
+    `updated_at`    datetime    NOT NULL
+);
+
+-- 통계 카운터 일별 스냅샷 (추이 조회용)
+CREATE TABLE `statistics_daily_snapshots`
+(
+    `id`            bigint      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    `snapshot_date` date        NOT NULL,
+    `counter_key`   varchar(40) NOT NULL,
+    `counter_value` bigint      NOT NULL,
+    UNIQUE KEY `uk_statistics_daily_snapshots_date_key` (`snapshot_date`, `counter_key`)
+);
+
+-- 쓰기가 많은 테이블의 id 채번 (Hibernate pooled 최적화기, allocationSize 50)
+-- MySQL에는 시퀀스가 없어 Hibernate가 next_val 한 행짜리 테이블로 대신한다.
+-- 읽은 값을 할당 구간의 상한으로 쓰므로 기존 최대 id + 50에서 시작한다.
+-- 이 테이블들의 id는 위 CREATE TABLE에서 AUTO_INCREMENT 없이 만든다 (기존 DB는 migration/pooled_sequence_ids.sql)
+CREATE TABLE `books_seq` (`next_val` bigint NOT NULL);
+CREATE TABLE `order_books_seq` (`next_val` bigint NOT NULL);
+CREATE TABLE `coupon_stores_seq` (`next_val` bigint NOT NULL);
+CREATE TABLE `point_histories_seq` (`next_val` bigint NOT NULL);
+CREATE TABLE `review_images_seq` (`next_val` bigint NOT NULL);
+
+INSERT INTO `books_seq` SELECT COALESCE(MAX(`id`), 0) + 50 FROM `books`;
+INSERT INTO `order_books_seq` SELECT COALESCE(MAX(`id`), 0) + 50 FROM `order_books`;
+INSERT INTO `coupon_stores_seq` SELECT COALESCE(MAX(`id`), 0) + 50 FROM `coupon_stores`;
+INSERT INTO `point_histories_seq` SELECT COALESCE(MAX(`id`), 0) + 50 FROM `point_histories`;
+INSERT INTO `review_images_seq` SELECT COALESCE(MAX(`id`), 0) + 50 FROM `review_images`;
@@ -0,0 +1,60 @@
+-- 기존 DB에 저자/태그/출판사 이름 유니크 키를 거는 마이그레이션 (새로 만드는 DB는 ddl.sql에 이미 들어 있다)
+-- 이름 비교는 컬럼 정렬 규칙(대소문자 무시)을 따르므로 GROUP BY/JOIN도 같은 기준으로 중복을 묶는다.
+-- 중복된 이름은 가장 작은 id만 남기고, 연결 행을 그 id로 옮긴 뒤 나머지를 지운다.
+
+-- 저자
+CREATE TEMPORARY TABLE `author_merges` AS
+SELECT a.`id` AS `old_id`, k.`keep_id`
+FROM `authors` a
+         JOIN (SELECT `name`, MIN(`id`) AS `keep_id` FROM `authors` GROUP BY `name` HAVING COUNT(*) > 1) k
+              ON a.`name` = k.`name` AND a.`id` <> k.`keep_id`;
+
+UPDATE `book_authors` ba
+    JOIN `author_merges` m ON ba.`author_id` = m.`old_id`
+SET ba.`author_id` = m.`keep_id`;
+
+-- 합친 결과 같은 도서/저자/역할이 두 번 연결되면 하나만 남긴다
+DELETE ba
+FROM `book_authors` ba
+         JOIN `book_authors` dup
+              ON ba.`book_id` = dup.`book_id` AND ba.`author_id` = dup.`author_id`
+                  AND ba.`role` = dup.`role` AND ba.`id` > dup.`id`;
+
+DELETE a FROM `authors` a JOIN `author_merges` m ON a.`id` = m.`old_id`;
+DROP TEMPORARY TABLE `author_merges`;
+ALTER TABLE `authors` ADD UNIQUE KEY `uk_author_name` (`name`);
+
+-- 태그
+CREATE TEMPORARY TABLE `tag_merges` AS
+SELECT t.`id` AS `old_id`, k.`keep_id`
+FROM `tags` t
+         JOIN (SELECT `name`, MIN(`id`) AS `keep_id` FROM `tags` GROUP BY `name` HAVING COUNT(*) > 1) k
+              ON t.`name` = k.`name` AND t.`id` <> k.`keep_id`;
+
+UPDATE `book_tags` bt
+    JOIN `tag_merges` m ON bt.`tag_id` = m.`old_id`
+SET bt.`tag_id` = m.`keep_id`;
+
+DELETE bt
+FROM `book_tags` bt
+         JOIN `book_tags` dup
+              ON bt.`book_id` = dup.`book_id` AND bt.`tag_id` = dup.`tag_id` AND bt.`id` > dup.`id`;
+
+DELETE t FROM `tags` t JOIN `tag_merges` m ON t.`id` = m.`old_id`;
+DROP TEMPORARY TABLE `tag_merges`;
+ALTER TABLE `tags` ADD UNIQUE KEY `uk_tag_name` (`name`);
+
+-- 출판사
+CREATE TEMPORARY TABLE `publisher_merges` AS
+SELECT p.`id` AS `old_id`, k.`keep_id`
+FROM `publishers` p
+         JOIN (SELECT `name`, MIN(`id`) AS `keep_id` FROM `publishers` GROUP BY `name` HAVING COUNT(*) > 1) k
+              ON p.`name` = k.`name` AND p.`id` <> k.`keep_id`;
+
+UPDATE `books` b
+    JOIN `publisher_merges` m ON b.`publisher_id` = m.`old_id`
+SET b.`publisher_id` = m.`keep_id`;
+
+DELETE p FROM `publishers` p JOIN `publisher_merges` m ON p.`id` = m.`old_id`;
+DROP TEMPORARY TABLE `publisher_merges`;
+ALTER TABLE `publishers` ADD UNIQUE KEY `uk_publisher_name` (`name`);
@@ -0,0 +1,4 @@
+-- 기존 DB의 결제 멱등 기록에 선점 토큰 컬럼을 추가하는 마이그레이션 (새로 만드는 DB는 ddl.sql에 이미 들어 있다)
+-- 기존 행은 빈 토큰으로 채운다. 처리 중으로 남은 행은 오래된 선점 넘겨받기로 새 토큰을 받는다.
+ALTER TABLE `payment_idempotency` ADD COLUMN `owner` varchar(36) NOT NULL DEFAULT '' AFTER `order_id`;
+ALTER TABLE `payment_idempotency` ALTER COLUMN `owner` DROP DEFAULT;
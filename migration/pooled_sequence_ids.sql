@@ -0,0 +1,19 @@
+-- 기존 DB의 쓰기가 많은 테이블을 pooled 시퀀스 채번으로 바꾸는 마이그레이션 (새로 만드는 DB는 ddl.sql에 이미 들어 있다)
+-- id의 AUTO_INCREMENT를 떼고, 기존 최대 id + 50에서 시작하는 next_val 테이블을 만든다.
+ALTER TABLE `books` MODIFY `id` bigint NOT NULL;
+ALTER TABLE `order_books` MODIFY `id` bigint NOT NULL;
+ALTER TABLE `coupon_stores` MODIFY `id` bigint NOT NULL;
+ALTER TABLE `point_histories` MODIFY `id` bigint NOT NULL;
+ALTER TABLE `review_images` MODIFY `id` bigint NOT NULL;
+
+CREATE TABLE `books_seq` (`next_val` bigint NOT NULL);
+CREATE TABLE `order_books_seq` (`next_val` bigint NOT NULL);
+CREATE TABLE `coupon_stores_seq` (`next_val` bigint NOT NULL);
+CREATE TABLE `point_histories_seq` (`next_val` bigint NOT NULL);
+CREATE TABLE `review_images_seq` (`next_val` bigint NOT NULL);
+
+INSERT INTO `books_seq` SELECT COALESCE(MAX(`id`), 0) + 50 FROM `books`;
+INSERT INTO `order_books_seq` SELECT COALESCE(MAX(`id`), 0) + 50 FROM `order_books`;
+INSERT INTO `coupon_stores_seq` SELECT COALESCE(MAX(`id`), 0) + 50 FROM `coupon_stores`;
+INSERT INTO `point_histories_seq` SELECT COALESCE(MAX(`id`), 0) + 50 FROM `point_histories`;
+INSERT INTO `review_images_seq` SELECT COALESCE(MAX(`id`), 0) + 50 FROM `review_images`;